@@ -229,6 +229,21 @@ public class RaftError {
       PrimitiveException createException(final String message) {
         return message != null ? new PrimitiveException.Unavailable(message) : createException();
       }
+    },
+
+    /** Snapshot chunk content missing error. */
+    SNAPSHOT_CHUNK_CONTENT_MISSING {
+      @Override
+      PrimitiveException createException() {
+        return createException("The referenced content of the snapshot chunk is missing");
+      }
+
+      @Override
+      PrimitiveException createException(final String message) {
+        return message != null
+            ? new PrimitiveException.ServiceException(message)
+            : createException();
+      }
     };
 
     /**
@@ -576,6 +576,7 @@ public interface RaftServer {
     protected ThreadContextFactory threadContextFactory;
     protected Supplier<JournalIndex> journalIndexFactory;
     protected EntryValidator entryValidator = new NoopEntryValidator();
+    protected boolean optimizedSnapshotReplication;
 
     protected Builder(final MemberId localMemberId) {
       this.localMemberId = checkNotNull(localMemberId, "localMemberId cannot be null");
@@ -713,6 +714,19 @@ public interface RaftServer {
       this.entryValidator = entryValidator;
       return this;
     }
+
+    /**
+     * Sets whether snapshots are replicated with content references and file blocks. Followers of
+     * previous versions can't receive such snapshots, so it is disabled by default.
+     *
+     * @param optimizedSnapshotReplication whether snapshots are replicated with content references
+     *     and file blocks
+     * @return The server builder.
+     */
+    public Builder withOptimizedSnapshotReplication(final boolean optimizedSnapshotReplication) {
+      this.optimizedSnapshotReplication = optimizedSnapshotReplication;
+      return this;
+    }
   }
 
   /**
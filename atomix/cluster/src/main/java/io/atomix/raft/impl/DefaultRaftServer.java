@@ -319,6 +319,7 @@ public class DefaultRaftServer implements RaftServer {
       raft.setElectionTimeout(electionTimeout);
       raft.setHeartbeatInterval(heartbeatInterval);
       raft.setEntryValidator(entryValidator);
+      raft.setOptimizedSnapshotReplication(optimizedSnapshotReplication);
 
       return new DefaultRaftServer(raft);
     }
@@ -113,6 +113,7 @@ public class RaftContext implements AutoCloseable {
   private volatile long firstCommitIndex;
   private volatile boolean started;
   private EntryValidator entryValidator;
+  private boolean optimizedSnapshotReplication;
 
   @SuppressWarnings("unchecked")
   public RaftContext(
@@ -735,6 +736,25 @@ public class RaftContext implements AutoCloseable {
     entryValidator = validator;
   }
 
+  /**
+   * Returns whether snapshots are replicated with content references and file blocks.
+   *
+   * @return whether snapshots are replicated with content references and file blocks
+   */
+  public boolean isOptimizedSnapshotReplication() {
+    return optimizedSnapshotReplication;
+  }
+
+  /**
+   * Sets whether snapshots are replicated with content references and file blocks.
+   *
+   * @param optimizedSnapshotReplication whether snapshots are replicated with content references
+   *     and file blocks
+   */
+  public void setOptimizedSnapshotReplication(final boolean optimizedSnapshotReplication) {
+    this.optimizedSnapshotReplication = optimizedSnapshotReplication;
+  }
+
   /**
    * Returns the state last voted for candidate.
    *
@@ -472,6 +472,51 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets whether only the last segment of the logs is read when they are opened.
+     *
+     * @param lazySegmentRecovery whether the segments of the logs are recovered lazily
+     * @return the Raft partition group builder
+     */
+    public Builder withLazySegmentRecovery(final boolean lazySegmentRecovery) {
+      config.getStorageConfig().setLazySegmentRecovery(lazySegmentRecovery);
+      return this;
+    }
+
+    /**
+     * Sets whether the Zeebe entries are written with a fixed binary layout instead of Kryo.
+     *
+     * @param fixedEntryLayout whether the Zeebe entries are written with a fixed binary layout
+     * @return the Raft partition group builder
+     */
+    public Builder withFixedEntryLayout(final boolean fixedEntryLayout) {
+      config.getStorageConfig().setFixedEntryLayout(fixedEntryLayout);
+      return this;
+    }
+
+    /**
+     * Sets whether new log segments are verified with CRC32C instead of CRC32 checksums.
+     *
+     * @param crc32cChecksumEnabled whether new log segments are verified with CRC32C checksums
+     * @return the Raft partition group builder
+     */
+    public Builder withCrc32cChecksumEnabled(final boolean crc32cChecksumEnabled) {
+      config.getStorageConfig().setCrc32cChecksumEnabled(crc32cChecksumEnabled);
+      return this;
+    }
+
+    /**
+     * Sets whether snapshots are replicated with content references and file blocks.
+     *
+     * @param optimizedSnapshotReplication whether snapshots are replicated with content references
+     *     and file blocks
+     * @return the Raft partition group builder
+     */
+    public Builder withOptimizedSnapshotReplication(final boolean optimizedSnapshotReplication) {
+      config.setOptimizedSnapshotReplication(optimizedSnapshotReplication);
+      return this;
+    }
+
     /**
      * Sets the Raft snapshot store factory to use.
      *
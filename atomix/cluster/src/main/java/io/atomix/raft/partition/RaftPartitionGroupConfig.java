@@ -31,6 +31,7 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
   private static final int DEFAULT_PARTITIONS = 7;
   private static final Duration DEFAULT_ELECTION_TIMEOUT = Duration.ofMillis(2500);
   private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
+  private static final boolean DEFAULT_OPTIMIZED_SNAPSHOT_REPLICATION = false;
 
   private Set<String> members = new HashSet<>();
   private int partitionSize;
@@ -41,6 +42,8 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
   @Optional("EntryValidator")
   private EntryValidator entryValidator = new NoopEntryValidator();
 
+  private boolean optimizedSnapshotReplication = DEFAULT_OPTIMIZED_SNAPSHOT_REPLICATION;
+
   @Override
   protected int getDefaultPartitions() {
     return DEFAULT_PARTITIONS;
@@ -166,6 +169,31 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
     return this;
   }
 
+  /**
+   * Returns whether snapshots are replicated with content references and file blocks.
+   *
+   * @return whether snapshots are replicated with content references and file blocks
+   */
+  public boolean isOptimizedSnapshotReplication() {
+    return optimizedSnapshotReplication;
+  }
+
+  /**
+   * Sets whether snapshots are replicated with content references and file blocks, i.e. whether the
+   * SST files a follower most likely has already are sent without their content and large files are
+   * sent in several blocks. Followers of previous versions can't receive such snapshots, so it must
+   * only be enabled if all members support it.
+   *
+   * @param optimizedSnapshotReplication whether snapshots are replicated with content references
+   *     and file blocks
+   * @return the Raft Partition group configuration
+   */
+  public RaftPartitionGroupConfig setOptimizedSnapshotReplication(
+      final boolean optimizedSnapshotReplication) {
+    this.optimizedSnapshotReplication = optimizedSnapshotReplication;
+    return this;
+  }
+
   @Override
   public PartitionGroup.Type getType() {
     return RaftPartitionGroup.TYPE;
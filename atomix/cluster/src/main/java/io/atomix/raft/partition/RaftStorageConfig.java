@@ -32,6 +32,9 @@ public class RaftStorageConfig {
   private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+  private static final boolean DEFAULT_LAZY_SEGMENT_RECOVERY = false;
+  private static final boolean DEFAULT_FIXED_ENTRY_LAYOUT = false;
+  private static final boolean DEFAULT_CRC32C_CHECKSUM_ENABLED = false;
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024 * 1; // 1GB
   private static final ReceivableSnapshotStoreFactory DEFAULT_SNAPSHOT_STORE_FACTORY =
       new FileBasedSnapshotStoreFactory();
@@ -41,6 +44,9 @@ public class RaftStorageConfig {
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+  private boolean lazySegmentRecovery = DEFAULT_LAZY_SEGMENT_RECOVERY;
+  private boolean fixedEntryLayout = DEFAULT_FIXED_ENTRY_LAYOUT;
+  private boolean crc32cChecksumEnabled = DEFAULT_CRC32C_CHECKSUM_ENABLED;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
 
   @Optional("SnapshotStoreFactory")
@@ -139,6 +145,69 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns whether only the last segment of the logs is read when they are opened.
+   *
+   * @return whether the segments of the logs are recovered lazily
+   */
+  public boolean isLazySegmentRecovery() {
+    return lazySegmentRecovery;
+  }
+
+  /**
+   * Sets whether only the last segment of the logs is read when they are opened. The other segments
+   * are read when they are used for the first time.
+   *
+   * @param lazySegmentRecovery whether the segments of the logs are recovered lazily
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setLazySegmentRecovery(final boolean lazySegmentRecovery) {
+    this.lazySegmentRecovery = lazySegmentRecovery;
+    return this;
+  }
+
+  /**
+   * Returns whether the Zeebe entries are written with a fixed binary layout instead of Kryo.
+   *
+   * @return whether the Zeebe entries are written with a fixed binary layout
+   */
+  public boolean isFixedEntryLayout() {
+    return fixedEntryLayout;
+  }
+
+  /**
+   * Sets whether the Zeebe entries are written with a fixed binary layout instead of Kryo. Logs
+   * which contain such entries can't be read by previous versions.
+   *
+   * @param fixedEntryLayout whether the Zeebe entries are written with a fixed binary layout
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setFixedEntryLayout(final boolean fixedEntryLayout) {
+    this.fixedEntryLayout = fixedEntryLayout;
+    return this;
+  }
+
+  /**
+   * Returns whether new log segments are verified with CRC32C instead of CRC32 checksums.
+   *
+   * @return whether new log segments are verified with CRC32C checksums
+   */
+  public boolean isCrc32cChecksumEnabled() {
+    return crc32cChecksumEnabled;
+  }
+
+  /**
+   * Sets whether new log segments are verified with CRC32C instead of CRC32 checksums. Segments
+   * with CRC32C checksums can't be read by previous versions.
+   *
+   * @param crc32cChecksumEnabled whether new log segments are verified with CRC32C checksums
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setCrc32cChecksumEnabled(final boolean crc32cChecksumEnabled) {
+    this.crc32cChecksumEnabled = crc32cChecksumEnabled;
+    return this;
+  }
+
   /**
    * Sets the partition data directory.
    *
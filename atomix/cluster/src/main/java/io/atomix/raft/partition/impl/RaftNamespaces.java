@@ -39,6 +39,7 @@ import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.raft.storage.log.entry.ConfigurationEntry;
 import io.atomix.raft.storage.log.entry.InitializeEntry;
+import io.atomix.raft.storage.log.entry.RaftEntryNamespace;
 import io.atomix.raft.storage.system.Configuration;
 import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.utils.serializer.FallbackNamespace;
@@ -125,18 +126,35 @@ public final class RaftNamespaces {
           .build("RaftProtocol");
 
   /**
-   * Raft storage namespace.
+   * Kryo based raft storage namespace. It is used for all entries except {@link ZeebeEntry}, and to
+   * read entries written by previous versions.
    *
    * <p>*Be aware* we use the Void type for replaced/removed types to keep the id's of used types,
    * otherwise we break compatibility.
    */
-  public static final FallbackNamespace RAFT_STORAGE;
+  public static final FallbackNamespace RAFT_STORAGE_KRYO;
+
+  /**
+   * Raft storage namespace, which writes all entries with {@link #RAFT_STORAGE_KRYO}, such that the
+   * logs can still be read by previous versions. It reads {@link ZeebeEntry} written with the fixed
+   * binary layout as well.
+   */
+  public static final Namespace RAFT_STORAGE;
+
+  /**
+   * Raft storage namespace, which writes {@link ZeebeEntry} with a fixed binary layout and falls
+   * back to {@link #RAFT_STORAGE_KRYO} for all other entries. Logs written with it can't be read by
+   * previous versions anymore.
+   */
+  public static final Namespace RAFT_STORAGE_FIXED_ENTRY_LAYOUT;
 
   static {
     final Namespace legacy = registerStorageClasses().build("RaftStorage");
     final Namespace compatible =
         registerStorageClasses().setCompatible(true).build("RaftStorage-compatible");
-    RAFT_STORAGE = new FallbackNamespace(legacy, compatible);
+    RAFT_STORAGE_KRYO = new FallbackNamespace(legacy, compatible);
+    RAFT_STORAGE = new RaftEntryNamespace(RAFT_STORAGE_KRYO, false);
+    RAFT_STORAGE_FIXED_ENTRY_LAYOUT = new RaftEntryNamespace(RAFT_STORAGE_KRYO, true);
   }
 
   private RaftNamespaces() {}
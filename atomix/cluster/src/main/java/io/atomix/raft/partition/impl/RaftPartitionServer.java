@@ -33,6 +33,7 @@ import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.zeebe.ZeebeLogAppender;
 import io.atomix.storage.StorageException;
+import io.atomix.storage.journal.ChecksumType;
 import io.atomix.storage.journal.JournalReader.Mode;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.utils.Managed;
@@ -181,6 +182,7 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withThreadContextFactory(threadContextFactory)
         .withJournalIndexFactory(journalIndexFactory)
         .withEntryValidator(config.getEntryValidator())
+        .withOptimizedSnapshotReplication(config.isOptimizedSnapshotReplication())
         .build();
   }
 
@@ -316,8 +318,14 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withMaxSegmentSize((int) storageConfig.getSegmentSize().bytes())
         .withMaxEntrySize((int) storageConfig.getMaxEntrySize().bytes())
         .withFlushOnCommit(storageConfig.isFlushOnCommit())
+        .withLazySegmentRecovery(storageConfig.isLazySegmentRecovery())
+        .withChecksumType(
+            storageConfig.isCrc32cChecksumEnabled() ? ChecksumType.CRC32C : ChecksumType.CRC32)
         .withFreeDiskSpace(storageConfig.getFreeDiskSpace())
-        .withNamespace(RaftNamespaces.RAFT_STORAGE)
+        .withNamespace(
+            storageConfig.isFixedEntryLayout()
+                ? RaftNamespaces.RAFT_STORAGE_FIXED_ENTRY_LAYOUT
+                : RaftNamespaces.RAFT_STORAGE)
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexFactory(journalIndexFactory)
         .build();
@@ -18,6 +18,7 @@ package io.atomix.raft.roles;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.RaftError;
 import io.atomix.raft.RaftServer;
 import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
@@ -458,6 +459,13 @@ abstract class AbstractAppender implements AutoCloseable {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        // followers of previous versions can't receive references or blocks, so they are only
+        // sent if enabled; the member most likely has most of the immutable files already, it
+        // asks for the content of those it doesn't have
+        if (raft.isOptimizedSnapshotReplication()) {
+          snapshotChunkReader.enableContentReferences();
+          snapshotChunkReader.enableFileBlocks();
+        }
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         log.warn(
@@ -476,6 +484,9 @@ abstract class AbstractAppender implements AutoCloseable {
     }
 
     try {
+      // the ID must be taken before reading the chunk, since a file may be split into several
+      // chunks whose IDs differ from the chunk name
+      final ByteBuffer chunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
@@ -491,7 +502,7 @@ abstract class AbstractAppender implements AutoCloseable {
               .withTimestamp(persistedSnapshot.getTimestamp().unixTimestamp())
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
+              .withChunkId(chunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
@@ -540,10 +551,17 @@ abstract class AbstractAppender implements AutoCloseable {
   /** Handles an install response failure. */
   protected void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
-    // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
-    member.setNextSnapshotIndex(0);
-    member.setNextSnapshotChunk(null);
+    if (member.getNextSnapshotIndex() == request.index()) {
+      // Resend the chunk once a connection to the member is re-established, instead of the whole
+      // snapshot. If the member has already received it, or lost the pending snapshot, it tells
+      // us so with the response.
+      member.getSnapshotChunkReader().seek(request.chunkId());
+    } else {
+      // Reset the member's snapshot index and offset to resend the snapshot from the start
+      // once a connection to the member is re-established.
+      member.setNextSnapshotIndex(0);
+      member.setNextSnapshotChunk(null);
+    }
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -594,6 +612,19 @@ abstract class AbstractAppender implements AutoCloseable {
       final RaftMemberContext member,
       final InstallRequest request,
       final InstallResponse response) {
+    if (response.error() != null
+        && response.error().type() == RaftError.Type.SNAPSHOT_CHUNK_CONTENT_MISSING
+        && member.getNextSnapshotIndex() == request.index()) {
+      log.debug(
+          "Member {} does not have the content of snapshot chunk {}, resend it with content.",
+          member.getMember().memberId(),
+          request.chunkId());
+      succeedAttempt(member);
+      member.getSnapshotChunkReader().seekWithContent(request.chunkId());
+      appendEntries(member);
+      return;
+    }
+
     log.warn(
         "Failed to send {} to member {}, with {}. Restart sending snapshot.",
         request,
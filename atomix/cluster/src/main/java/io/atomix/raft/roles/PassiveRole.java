@@ -240,6 +240,21 @@ public class PassiveRole extends InactiveRole {
       }
     }
 
+    // the leader sends immutable files as references, if we don't have them it has to send the
+    // content; the chunk is expected again
+    if (snapshotChunk.isContentReference()
+        && !pendingSnapshot.hasReferencedContent(snapshotChunk)) {
+      pendingSnapshot.setNextExpected(request.chunkId());
+      return CompletableFuture.completedFuture(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(RaftResponse.Status.ERROR)
+                  .withError(
+                      RaftError.Type.SNAPSHOT_CHUNK_CONTENT_MISSING,
+                      "Referenced content of snapshot chunk is missing")
+                  .build()));
+    }
+
     boolean snapshotChunkConsumptionFailed;
     try {
       snapshotChunkConsumptionFailed = !pendingSnapshot.apply(snapshotChunk);
@@ -35,6 +35,9 @@ public final class SnapshotChunkImpl
   private String chunkName;
   private long checksum;
   private long snapshotChecksum;
+  private boolean contentReference;
+  private long fileBlockPosition;
+  private long totalFileSize;
 
   public SnapshotChunkImpl() {}
 
@@ -44,6 +47,9 @@ public final class SnapshotChunkImpl
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
     snapshotChecksum = chunk.getSnapshotChecksum();
+    contentReference = chunk.isContentReference();
+    fileBlockPosition = chunk.getFileBlockPosition();
+    totalFileSize = chunk.getTotalFileSize();
     content.wrap(chunk.getContent());
   }
 
@@ -64,6 +70,9 @@ public final class SnapshotChunkImpl
     totalCount = SnapshotChunkDecoder.totalCountNullValue();
     checksum = SnapshotChunkDecoder.checksumNullValue();
     snapshotChecksum = SnapshotChunkDecoder.snapshotChecksumNullValue();
+    contentReference = false;
+    fileBlockPosition = 0;
+    totalFileSize = 0;
 
     snapshotId = "";
     chunkName = "";
@@ -91,6 +100,9 @@ public final class SnapshotChunkImpl
         .chunkName(chunkName)
         .checksum(checksum)
         .snapshotChecksum(snapshotChecksum)
+        .contentReference(contentReference ? BooleanType.TRUE : BooleanType.FALSE)
+        .fileBlockPosition(fileBlockPosition)
+        .totalFileSize(totalFileSize)
         .putContent(content, 0, content.capacity());
   }
 
@@ -103,10 +115,21 @@ public final class SnapshotChunkImpl
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
     snapshotChecksum = decoder.snapshotChecksum();
+    contentReference = decoder.contentReference() == BooleanType.TRUE;
+    fileBlockPosition = decoder.fileBlockPosition();
+    totalFileSize = decoder.totalFileSize();
 
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
     }
+
+    // chunks of older versions always contain the whole file
+    if (fileBlockPosition == SnapshotChunkDecoder.fileBlockPositionNullValue()) {
+      fileBlockPosition = 0;
+    }
+    if (totalFileSize == SnapshotChunkDecoder.totalFileSizeNullValue()) {
+      totalFileSize = content.capacity();
+    }
   }
 
   @Override
@@ -139,6 +162,21 @@ public final class SnapshotChunkImpl
     return snapshotChecksum;
   }
 
+  @Override
+  public boolean isContentReference() {
+    return contentReference;
+  }
+
+  @Override
+  public long getFileBlockPosition() {
+    return fileBlockPosition;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return totalFileSize;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -153,6 +191,12 @@ public final class SnapshotChunkImpl
         + checksum
         + ", snapshotChecksum="
         + snapshotChecksum
+        + ", contentReference="
+        + contentReference
+        + ", fileBlockPosition="
+        + fileBlockPosition
+        + ", totalFileSize="
+        + totalFileSize
         + "} "
         + super.toString();
   }
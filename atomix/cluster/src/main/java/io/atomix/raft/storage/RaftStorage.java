@@ -26,6 +26,7 @@ import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.storage.StorageException;
 import io.atomix.storage.StorageLevel;
 import io.atomix.storage.buffer.FileBuffer;
+import io.atomix.storage.journal.ChecksumType;
 import io.atomix.storage.journal.JournalSegmentDescriptor;
 import io.atomix.storage.journal.JournalSegmentFile;
 import io.atomix.storage.journal.index.JournalIndex;
@@ -69,6 +70,8 @@ public final class RaftStorage {
   private final int maxEntriesPerSegment;
   private final long freeDiskSpace;
   private final boolean flushOnCommit;
+  private final boolean lazySegmentRecovery;
+  private final ChecksumType checksumType;
   private final boolean retainStaleSnapshots;
   private final StorageStatistics statistics;
   private final ReceivableSnapshotStore persistedSnapshotStore;
@@ -84,6 +87,8 @@ public final class RaftStorage {
       final int maxEntriesPerSegment,
       final long freeDiskSpace,
       final boolean flushOnCommit,
+      final boolean lazySegmentRecovery,
+      final ChecksumType checksumType,
       final boolean retainStaleSnapshots,
       final StorageStatistics storageStatistics,
       final ReceivableSnapshotStore persistedSnapshotStore,
@@ -97,6 +102,8 @@ public final class RaftStorage {
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.freeDiskSpace = freeDiskSpace;
     this.flushOnCommit = flushOnCommit;
+    this.lazySegmentRecovery = lazySegmentRecovery;
+    this.checksumType = checksumType;
     this.retainStaleSnapshots = retainStaleSnapshots;
     statistics = storageStatistics;
     this.persistedSnapshotStore = persistedSnapshotStore;
@@ -296,6 +303,8 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withMaxEntriesPerSegment(maxEntriesPerSegment)
         .withFlushOnCommit(flushOnCommit)
+        .withLazySegmentRecovery(lazySegmentRecovery)
+        .withChecksumType(checksumType)
         .withJournalIndexFactory(journalIndexFactory)
         .build();
   }
@@ -308,7 +317,10 @@ public final class RaftStorage {
    * memory.
    */
   public void deleteLog() {
-    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    deleteFiles(
+        f ->
+            JournalSegmentFile.isSegmentFile(prefix, f)
+                || JournalSegmentFile.isIndexFile(prefix, f));
   }
 
   @Override
@@ -338,6 +350,24 @@ public final class RaftStorage {
     return flushOnCommit;
   }
 
+  /**
+   * Returns whether only the last segment of the log is read when the log is opened.
+   *
+   * @return Indicates whether the segments of the log are recovered lazily.
+   */
+  public boolean isLazySegmentRecovery() {
+    return lazySegmentRecovery;
+  }
+
+  /**
+   * Returns the checksum type which is used to verify the entries of new log segments.
+   *
+   * @return The checksum type of new log segments.
+   */
+  public ChecksumType getChecksumType() {
+    return checksumType;
+  }
+
   /**
    * Returns a boolean value indicating whether to retain stale snapshots on disk.
    *
@@ -379,6 +409,8 @@ public final class RaftStorage {
     private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024; // 1GB
     private static final double DEFAULT_FREE_MEMORY_BUFFER = .2;
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = true;
+    private static final boolean DEFAULT_LAZY_SEGMENT_RECOVERY = false;
+    private static final ChecksumType DEFAULT_CHECKSUM_TYPE = ChecksumType.CRC32;
     private static final boolean DEFAULT_RETAIN_STALE_SNAPSHOTS = false;
 
     private String prefix = DEFAULT_PREFIX;
@@ -390,6 +422,8 @@ public final class RaftStorage {
     private int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
     private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private boolean lazySegmentRecovery = DEFAULT_LAZY_SEGMENT_RECOVERY;
+    private ChecksumType checksumType = DEFAULT_CHECKSUM_TYPE;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
     private StorageStatistics storageStatistics;
     private ReceivableSnapshotStore persistedSnapshotStore;
@@ -569,6 +603,36 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether to read only the last segment of the log when it is opened, returning the
+     * builder for method chaining.
+     *
+     * <p>When lazy segment recovery is enabled, the other segments are read when they are used for
+     * the first time, which reduces the time to open a log with many segments.
+     *
+     * @param lazySegmentRecovery Whether to read only the last segment when opening the log.
+     * @return The storage builder.
+     */
+    public Builder withLazySegmentRecovery(final boolean lazySegmentRecovery) {
+      this.lazySegmentRecovery = lazySegmentRecovery;
+      return this;
+    }
+
+    /**
+     * Sets the checksum type which is used to verify the entries of new log segments, returning the
+     * builder for method chaining.
+     *
+     * <p>Segments with CRC32C checksums can't be read by previous versions, so CRC32 is used by
+     * default.
+     *
+     * @param checksumType The checksum type of new log segments.
+     * @return The storage builder.
+     */
+    public Builder withChecksumType(final ChecksumType checksumType) {
+      this.checksumType = checkNotNull(checksumType, "checksumType cannot be null");
+      return this;
+    }
+
     /**
      * Enables retaining stale snapshots on disk, returning the builder for method chaining.
      *
@@ -641,6 +705,8 @@ public final class RaftStorage {
           maxEntriesPerSegment,
           freeDiskSpace,
           flushOnCommit,
+          lazySegmentRecovery,
+          checksumType,
           retainStaleSnapshots,
           Optional.ofNullable(storageStatistics).orElse(new StorageStatistics(directory)),
           persistedSnapshotStore,
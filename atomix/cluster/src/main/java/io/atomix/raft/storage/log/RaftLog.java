@@ -18,6 +18,7 @@ package io.atomix.raft.storage.log;
 
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.ChecksumType;
 import io.atomix.storage.journal.DelegatingJournal;
 import io.atomix.storage.journal.JournalReader;
 import io.atomix.storage.journal.SegmentedJournal;
@@ -271,6 +272,33 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
       return this;
     }
 
+    /**
+     * Sets whether to read only the last segment when the log is opened, returning the builder for
+     * method chaining.
+     *
+     * <p>When lazy segment recovery is enabled, the other segments are read when they are used for
+     * the first time.
+     *
+     * @param lazySegmentRecovery Whether to read only the last segment when opening the log.
+     * @return The log builder.
+     */
+    public Builder withLazySegmentRecovery(final boolean lazySegmentRecovery) {
+      journalBuilder.withLazySegmentRecovery(lazySegmentRecovery);
+      return this;
+    }
+
+    /**
+     * Sets the checksum type which is used to verify the entries of new segments, returning the
+     * builder for method chaining.
+     *
+     * @param checksumType The checksum type of new segments.
+     * @return The log builder.
+     */
+    public Builder withChecksumType(final ChecksumType checksumType) {
+      journalBuilder.withChecksumType(checksumType);
+      return this;
+    }
+
     @Override
     public RaftLog build() {
       return new RaftLog(journalBuilder.build());
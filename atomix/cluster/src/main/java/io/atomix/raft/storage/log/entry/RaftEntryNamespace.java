@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log.entry;
+
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.utils.serializer.Namespace;
+import java.nio.ByteBuffer;
+
+/**
+ * Storage namespace which writes all entries, like configuration or initialize entries, with the
+ * given Kryo based namespace. If the fixed entry layout is enabled, {@link ZeebeEntry} are written
+ * with the {@link ZeebeEntryCodec} instead; previous versions can't read these entries, so it must
+ * only be enabled once no broker is downgraded anymore.
+ *
+ * <p>On read, the format is detected per entry, regardless of whether the fixed entry layout is
+ * enabled, such that segments written by previous versions, where every entry was serialized by
+ * Kryo, can still be read, and the fixed entry layout can be disabled again. Those segments are
+ * migrated over time, as new entries are only written with the codec and old segments are
+ * eventually compacted.
+ */
+public final class RaftEntryNamespace implements Namespace {
+
+  private final Namespace fallback;
+  private final boolean fixedEntryLayout;
+
+  public RaftEntryNamespace(final Namespace fallback, final boolean fixedEntryLayout) {
+    this.fallback = fallback;
+    this.fixedEntryLayout = fixedEntryLayout;
+  }
+
+  @Override
+  public byte[] serialize(final Object obj) {
+    if (isEncoded(obj)) {
+      return encode((ZeebeEntry) obj);
+    }
+
+    return fallback.serialize(obj);
+  }
+
+  @Override
+  public byte[] serialize(final Object obj, final int bufferSize) {
+    if (isEncoded(obj)) {
+      return encode((ZeebeEntry) obj);
+    }
+
+    return fallback.serialize(obj, bufferSize);
+  }
+
+  @Override
+  public void serialize(final Object obj, final ByteBuffer buffer) {
+    if (isEncoded(obj)) {
+      ZeebeEntryCodec.encode((ZeebeEntry) obj, buffer);
+    } else {
+      fallback.serialize(obj, buffer);
+    }
+  }
+
+  @Override
+  public <T> T deserialize(final byte[] bytes) {
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    if (ZeebeEntryCodec.isEncoded(buffer)) {
+      return decode(buffer);
+    }
+
+    return fallback.deserialize(bytes);
+  }
+
+  @Override
+  public <T> T deserialize(final ByteBuffer buffer) {
+    if (ZeebeEntryCodec.isEncoded(buffer)) {
+      return decode(buffer);
+    }
+
+    return fallback.deserialize(buffer);
+  }
+
+  private boolean isEncoded(final Object obj) {
+    return fixedEntryLayout && obj instanceof ZeebeEntry;
+  }
+
+  private static byte[] encode(final ZeebeEntry entry) {
+    final byte[] bytes = new byte[ZeebeEntryCodec.encodedLength(entry)];
+    ZeebeEntryCodec.encode(entry, ByteBuffer.wrap(bytes));
+    return bytes;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T decode(final ByteBuffer buffer) {
+    return (T) ZeebeEntryCodec.decode(buffer);
+  }
+}
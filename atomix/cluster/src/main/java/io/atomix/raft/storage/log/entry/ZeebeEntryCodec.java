@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log.entry;
+
+import io.atomix.raft.zeebe.ZeebeEntry;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed layout binary codec for {@link ZeebeEntry}, which are by far the most common entries in the
+ * log. Encoding and decoding works on absolute offsets and does not need any reflection or class
+ * registration, so the header of an encoded entry can be read directly from the segment buffer.
+ *
+ * <p>The format of an encoded entry is as follows (big endian):
+ *
+ * <ul>
+ *   <li>8-bit entry type, always {@link #ZEEBE_ENTRY_TYPE}
+ *   <li>8-bit format version
+ *   <li>64-bit term
+ *   <li>64-bit timestamp
+ *   <li>64-bit lowest position
+ *   <li>64-bit highest position
+ *   <li>32-bit data length
+ *   <li>n-bit data
+ * </ul>
+ *
+ * <p>The entry type is chosen such that it is never the first byte of an entry serialized by Kryo:
+ * Kryo starts every entry with the var-int encoded class id + 2, where 1 is only used for
+ * unregistered classes, which the storage namespace does not allow.
+ */
+public final class ZeebeEntryCodec {
+
+  public static final byte ZEEBE_ENTRY_TYPE = 1;
+  public static final byte VERSION = 1;
+
+  private static final int TYPE_OFFSET = 0;
+  private static final int VERSION_OFFSET = TYPE_OFFSET + Byte.BYTES;
+  private static final int TERM_OFFSET = VERSION_OFFSET + Byte.BYTES;
+  private static final int TIMESTAMP_OFFSET = TERM_OFFSET + Long.BYTES;
+  private static final int LOWEST_POSITION_OFFSET = TIMESTAMP_OFFSET + Long.BYTES;
+  private static final int HIGHEST_POSITION_OFFSET = LOWEST_POSITION_OFFSET + Long.BYTES;
+  private static final int DATA_LENGTH_OFFSET = HIGHEST_POSITION_OFFSET + Long.BYTES;
+  public static final int HEADER_LENGTH = DATA_LENGTH_OFFSET + Integer.BYTES;
+
+  private ZeebeEntryCodec() {}
+
+  /**
+   * Returns true if the buffer contains an entry encoded by this codec at its current position.
+   *
+   * @param buffer the buffer to check
+   * @return true if the entry at the current position is an encoded {@link ZeebeEntry}
+   */
+  public static boolean isEncoded(final ByteBuffer buffer) {
+    return buffer.remaining() >= HEADER_LENGTH
+        && buffer.get(buffer.position() + TYPE_OFFSET) == ZEEBE_ENTRY_TYPE;
+  }
+
+  /**
+   * Returns the number of bytes required to encode the given entry.
+   *
+   * @param entry the entry to encode
+   * @return the encoded length of the entry
+   */
+  public static int encodedLength(final ZeebeEntry entry) {
+    return HEADER_LENGTH + entry.data().remaining();
+  }
+
+  /**
+   * Encodes the entry at the current position of the buffer and moves the position after the
+   * encoded entry. The position of the entry data is not changed.
+   *
+   * @param entry the entry to encode
+   * @param buffer the buffer to write to
+   * @throws java.nio.BufferOverflowException if the remaining buffer is too small
+   */
+  public static void encode(final ZeebeEntry entry, final ByteBuffer buffer) {
+    final ByteBuffer data = entry.data();
+    final int offset = buffer.position();
+    final int dataLength = data.remaining();
+    if (buffer.remaining() < HEADER_LENGTH + dataLength) {
+      throw new BufferOverflowException();
+    }
+
+    buffer.put(offset + TYPE_OFFSET, ZEEBE_ENTRY_TYPE);
+    buffer.put(offset + VERSION_OFFSET, VERSION);
+    buffer.putLong(offset + TERM_OFFSET, entry.term());
+    buffer.putLong(offset + TIMESTAMP_OFFSET, entry.timestamp());
+    buffer.putLong(offset + LOWEST_POSITION_OFFSET, entry.lowestPosition());
+    buffer.putLong(offset + HIGHEST_POSITION_OFFSET, entry.highestPosition());
+    buffer.putInt(offset + DATA_LENGTH_OFFSET, dataLength);
+
+    buffer.position(offset + HEADER_LENGTH);
+    buffer.put(data.duplicate());
+  }
+
+  /**
+   * Decodes the entry at the current position of the buffer and moves the position after the
+   * encoded entry. The entry data is copied once into a new buffer, since the segment buffers are
+   * reused by the readers or unmapped when the segment is released, while decoded entries may be
+   * kept around longer.
+   *
+   * @param buffer the buffer to read from
+   * @return the decoded entry
+   * @throws IllegalStateException if the entry was written with an unknown format version
+   */
+  public static ZeebeEntry decode(final ByteBuffer buffer) {
+    final int offset = buffer.position();
+    final byte version = buffer.get(offset + VERSION_OFFSET);
+    if (version != VERSION) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected entry to be encoded with version %d, but was %d", VERSION, version));
+    }
+
+    final int dataLength = buffer.getInt(offset + DATA_LENGTH_OFFSET);
+    final byte[] data = new byte[dataLength];
+    buffer.position(offset + HEADER_LENGTH);
+    buffer.get(data);
+
+    return new ZeebeEntry(
+        buffer.getLong(offset + TERM_OFFSET),
+        buffer.getLong(offset + TIMESTAMP_OFFSET),
+        buffer.getLong(offset + LOWEST_POSITION_OFFSET),
+        buffer.getLong(offset + HIGHEST_POSITION_OFFSET),
+        ByteBuffer.wrap(data));
+  }
+}
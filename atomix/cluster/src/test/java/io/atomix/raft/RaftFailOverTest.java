@@ -18,6 +18,7 @@ package io.atomix.raft;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.atomix.raft.snapshot.InMemorySnapshot;
 import io.atomix.storage.journal.Indexed;
 import java.util.Collection;
 import java.util.List;
@@ -190,6 +191,25 @@ public class RaftFailOverTest {
     assertThat(snapshot.getTerm()).isEqualTo(snapshot.getTerm());
   }
 
+  @Test
+  public void shouldReplicateSnapshotWithChunkLargerThanOneBlockOnJoin() throws Exception {
+    // given
+    final var follower = raftRule.shutdownFollower();
+    raftRule.appendEntries(20);
+    final long snapshotIndex = 10L;
+    raftRule.doSnapshotWithLargeChunk(snapshotIndex, InMemorySnapshot.MAX_BLOCK_SIZE * 3 + 1);
+    final var leaderSnapshot = raftRule.getSnapshotFromLeader();
+
+    // when
+    raftRule.joinCluster(follower);
+
+    // then
+    assertThat(raftRule.allNodesHaveSnapshotWithIndex(snapshotIndex)).isTrue();
+    final var snapshot = raftRule.getSnapshotOnNode(follower);
+
+    assertThat(snapshot).isEqualTo(leaderSnapshot);
+  }
+
   @Test
   public void shouldReplicateEntriesAfterSnapshotOnJoin() throws Exception {
     // given
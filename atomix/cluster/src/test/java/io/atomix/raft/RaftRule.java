@@ -64,6 +64,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -275,6 +276,20 @@ public final class RaftRule extends ExternalResource {
   }
 
   public void doSnapshot(final long index, final int size) throws Exception {
+    doSnapshot(
+        (term, snapshotStore) ->
+            InMemorySnapshot.newPersistedSnapshot(index, term, size, snapshotStore));
+  }
+
+  public void doSnapshotWithLargeChunk(final long index, final int chunkSize) throws Exception {
+    doSnapshot(
+        (term, snapshotStore) ->
+            InMemorySnapshot.newPersistedSnapshotWithLargeChunk(
+                index, term, chunkSize, snapshotStore));
+  }
+
+  private void doSnapshot(final BiConsumer<Long, TestSnapshotStore> snapshotWriter)
+      throws Exception {
     awaitNewLeader();
 
     // we write on all nodes the same snapshot
@@ -288,7 +303,7 @@ public final class RaftRule extends ExternalResource {
             getSnapshotStore(raftServer.cluster().getMember().memberId().id());
 
         compactAwaiters.get(raftServer.name()).set(new CountDownLatch(1));
-        InMemorySnapshot.newPersistedSnapshot(index, raftContext.getTerm(), size, snapshotStore);
+        snapshotWriter.accept(raftContext.getTerm(), snapshotStore);
       }
     }
 
@@ -448,7 +463,8 @@ public final class RaftRule extends ExternalResource {
         RaftServer.builder(memberId)
             .withMembershipService(mock(ClusterMembershipService.class))
             .withProtocol(protocol)
-            .withEntryValidator(entryValidator);
+            .withEntryValidator(entryValidator)
+            .withOptimizedSnapshotReplication(true);
     final RaftServer server = configurator.apply(defaults).build();
 
     servers.put(memberId.id(), server);
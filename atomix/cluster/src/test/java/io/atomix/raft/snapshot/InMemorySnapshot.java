@@ -25,6 +25,7 @@ import io.zeebe.util.buffer.BufferUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.TreeMap;
@@ -32,6 +33,15 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
 
+  /**
+   * If file blocks are enabled, chunks larger than this are read in several blocks, with the same
+   * chunk IDs as the file based snapshots use: the chunk name for the first block, and the chunk
+   * name and the position of the block for the following ones.
+   */
+  public static final int MAX_BLOCK_SIZE = 64;
+
+  private static final char ID_POSITION_SEPARATOR = '/';
+
   private final TestSnapshotStore testSnapshotStore;
   private final long index;
   private final long term;
@@ -71,6 +81,21 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
     return snapshot;
   }
 
+  public static InMemorySnapshot newPersistedSnapshotWithLargeChunk(
+      final long index,
+      final long term,
+      final int chunkSize,
+      final TestSnapshotStore snapshotStore) {
+    final var snapshot = new InMemorySnapshot(snapshotStore, index, term, new WallClockTimestamp());
+    final var content = new StringBuilder(chunkSize);
+    for (int i = 0; i < chunkSize; i++) {
+      content.append((char) ('a' + i % 26));
+    }
+    snapshot.writeChunks("chunk-0", content.toString().getBytes());
+    snapshot.persist();
+    return snapshot;
+  }
+
   void writeChunks(final String id, final byte[] chunk) {
     chunks.put(id, StringUtil.fromBytes(chunk));
   }
@@ -99,11 +124,27 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
   public SnapshotChunkReader newChunkReader() {
     return new SnapshotChunkReader() {
       private NavigableMap<String, String> iterator = chunks;
+      private int nextBlockPosition;
+      private boolean fileBlocksEnabled;
 
       @Override
       public void seek(final ByteBuffer id) {
         final var chunkId = BufferUtil.bufferAsString(new UnsafeBuffer(id));
-        iterator = chunks.tailMap(chunkId, true);
+        iterator = chunks.tailMap(getChunkName(chunkId), true);
+        nextBlockPosition = getBlockPosition(chunkId);
+      }
+
+      @Override
+      public void seekWithContent(final ByteBuffer id) {
+        seek(id);
+      }
+
+      @Override
+      public void enableContentReferences() {}
+
+      @Override
+      public void enableFileBlocks() {
+        fileBlocksEnabled = true;
       }
 
       @Override
@@ -111,7 +152,12 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
         if (!hasNext()) {
           return null;
         }
-        return ByteBuffer.wrap(iterator.firstEntry().getKey().getBytes());
+        final var chunkName = iterator.firstEntry().getKey();
+        final var chunkId =
+            nextBlockPosition == 0
+                ? chunkName
+                : chunkName + ID_POSITION_SEPARATOR + nextBlockPosition;
+        return ByteBuffer.wrap(chunkId.getBytes());
       }
 
       @Override
@@ -127,9 +173,27 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
       @Override
       public SnapshotChunk next() {
         final var nextEntry = iterator.firstEntry();
-        iterator = chunks.tailMap(nextEntry.getKey(), false);
+        final var content = StringUtil.getBytes(nextEntry.getValue());
+        final var blockPosition = nextBlockPosition;
+        final var blockEnd =
+            fileBlocksEnabled
+                ? Math.min(blockPosition + MAX_BLOCK_SIZE, content.length)
+                : content.length;
+
+        if (blockEnd < content.length) {
+          nextBlockPosition = blockEnd;
+        } else {
+          iterator = chunks.tailMap(nextEntry.getKey(), false);
+          nextBlockPosition = 0;
+        }
+
         return new TestSnapshotChunkImpl(
-            id, nextEntry.getKey(), StringUtil.getBytes(nextEntry.getValue()), chunks.size());
+            id,
+            nextEntry.getKey(),
+            Arrays.copyOfRange(content, blockPosition, blockEnd),
+            chunks.size(),
+            blockPosition,
+            content.length);
       }
     };
   }
@@ -162,7 +226,9 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
 
   @Override
   public boolean containsChunk(final ByteBuffer chunkId) {
-    return chunks.containsKey(BufferUtil.bufferAsString(new UnsafeBuffer(chunkId)));
+    final var id = BufferUtil.bufferAsString(new UnsafeBuffer(chunkId));
+    final var content = chunks.get(getChunkName(id));
+    return content != null && content.length() > getBlockPosition(id);
   }
 
   @Override
@@ -175,9 +241,20 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
     nextExpected = nextChunkId;
   }
 
+  @Override
+  public boolean hasReferencedContent(final SnapshotChunk chunk) {
+    return false;
+  }
+
   @Override
   public boolean apply(final SnapshotChunk chunk) throws IOException {
-    chunks.put(chunk.getChunkName(), StringUtil.fromBytes(chunk.getContent()));
+    final var content = StringUtil.fromBytes(chunk.getContent());
+    if (chunk.getFileBlockPosition() == 0) {
+      chunks.put(chunk.getChunkName(), content);
+    } else {
+      chunks.computeIfPresent(
+          chunk.getChunkName(), (name, previousBlocks) -> previousBlocks + content);
+    }
     return true;
   }
 
@@ -190,6 +267,16 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
     return this;
   }
 
+  private static String getChunkName(final String chunkId) {
+    final var separatorIndex = chunkId.lastIndexOf(ID_POSITION_SEPARATOR);
+    return separatorIndex < 0 ? chunkId : chunkId.substring(0, separatorIndex);
+  }
+
+  private static int getBlockPosition(final String chunkId) {
+    final var separatorIndex = chunkId.lastIndexOf(ID_POSITION_SEPARATOR);
+    return separatorIndex < 0 ? 0 : Integer.parseInt(chunkId.substring(separatorIndex + 1));
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(index, term, id);
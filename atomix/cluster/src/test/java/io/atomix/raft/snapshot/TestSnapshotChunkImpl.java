@@ -23,13 +23,27 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
   final String chunkName;
   private final byte[] content;
   private final String snapshotId;
+  private final long fileBlockPosition;
+  private final long totalFileSize;
 
   TestSnapshotChunkImpl(
       final String snapshotId, final String chunkName, final byte[] content, final int totalCount) {
+    this(snapshotId, chunkName, content, totalCount, 0, content.length);
+  }
+
+  TestSnapshotChunkImpl(
+      final String snapshotId,
+      final String chunkName,
+      final byte[] content,
+      final int totalCount,
+      final long fileBlockPosition,
+      final long totalFileSize) {
     this.content = content;
     this.snapshotId = snapshotId;
     this.totalCount = totalCount;
     this.chunkName = chunkName;
+    this.fileBlockPosition = fileBlockPosition;
+    this.totalFileSize = totalFileSize;
   }
 
   @Override
@@ -61,4 +75,19 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
   public long getSnapshotChecksum() {
     return 0;
   }
+
+  @Override
+  public boolean isContentReference() {
+    return false;
+  }
+
+  @Override
+  public long getFileBlockPosition() {
+    return fileBlockPosition;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return totalFileSize;
+  }
 }
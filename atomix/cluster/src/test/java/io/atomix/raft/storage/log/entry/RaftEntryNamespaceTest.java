@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log.entry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalReader;
+import io.atomix.storage.journal.SegmentedJournal;
+import io.atomix.utils.serializer.Namespace;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RaftEntryNamespaceTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final Namespace namespace = RaftNamespaces.RAFT_STORAGE_FIXED_ENTRY_LAYOUT;
+
+  @Test
+  public void shouldEncodeZeebeEntryWithoutKryo() {
+    // given
+    final ZeebeEntry entry = zeebeEntry(1, "foo");
+
+    // when
+    final byte[] bytes = namespace.serialize(entry);
+
+    // then
+    assertThat(bytes).hasSize(ZeebeEntryCodec.HEADER_LENGTH + 3);
+    assertThat(bytes[0]).isEqualTo(ZeebeEntryCodec.ZEEBE_ENTRY_TYPE);
+    assertThat((ZeebeEntry) namespace.deserialize(bytes)).isEqualTo(entry);
+  }
+
+  @Test
+  public void shouldWriteZeebeEntryWithKryoByDefault() {
+    // given
+    final ZeebeEntry entry = zeebeEntry(1, "foo");
+
+    // when
+    final byte[] bytes = RaftNamespaces.RAFT_STORAGE.serialize(entry);
+
+    // then
+    assertThat(bytes).isEqualTo(RaftNamespaces.RAFT_STORAGE_KRYO.serialize(entry));
+    assertThat((ZeebeEntry) RaftNamespaces.RAFT_STORAGE.deserialize(namespace.serialize(entry)))
+        .isEqualTo(entry);
+  }
+
+  @Test
+  public void shouldDecodeZeebeEntryFromBuffer() {
+    // given
+    final ZeebeEntry entry = zeebeEntry(1, "foo");
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(128);
+    buffer.position(7);
+    namespace.serialize(entry, buffer);
+    final int endOfEntry = buffer.position();
+
+    // when
+    buffer.flip().position(7);
+    final ZeebeEntry decoded = namespace.deserialize(buffer);
+
+    // then
+    assertThat(endOfEntry).isEqualTo(7 + ZeebeEntryCodec.encodedLength(entry));
+    assertThat(buffer.position()).isEqualTo(endOfEntry);
+    assertThat(decoded.term()).isEqualTo(entry.term());
+    assertThat(decoded.timestamp()).isEqualTo(entry.timestamp());
+    assertThat(decoded.lowestPosition()).isEqualTo(entry.lowestPosition());
+    assertThat(decoded.highestPosition()).isEqualTo(entry.highestPosition());
+    assertThat(decoded.data()).isEqualTo(entry.data());
+  }
+
+  @Test
+  public void shouldNotChangeDataOfEncodedEntry() {
+    // given
+    final ZeebeEntry entry = zeebeEntry(1, "foo");
+
+    // when
+    namespace.serialize(entry, ByteBuffer.allocate(128));
+
+    // then
+    assertThat(entry.data().remaining()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldSerializeOtherEntriesWithKryo() {
+    // given
+    final InitializeEntry entry = new InitializeEntry(3, 1234);
+
+    // when
+    final byte[] bytes = namespace.serialize(entry);
+
+    // then
+    assertThat(bytes).isEqualTo(RaftNamespaces.RAFT_STORAGE_KRYO.serialize(entry));
+    assertThat((InitializeEntry) namespace.deserialize(bytes)).isEqualTo(entry);
+    assertThat((InitializeEntry) namespace.deserialize(ByteBuffer.wrap(bytes))).isEqualTo(entry);
+  }
+
+  @Test
+  public void shouldDeserializeZeebeEntryWrittenWithKryo() {
+    // given
+    final ZeebeEntry entry = zeebeEntry(1, "foo");
+    final byte[] bytes = RaftNamespaces.RAFT_STORAGE_KRYO.serialize(entry);
+
+    // when
+    final ZeebeEntry decoded = namespace.deserialize(ByteBuffer.wrap(bytes));
+
+    // then
+    assertThat(decoded).isEqualTo(entry);
+  }
+
+  @Test
+  public void shouldReadSegmentsWrittenWithKryo() {
+    // given
+    final File directory = temporaryFolder.getRoot();
+    try (final SegmentedJournal<RaftLogEntry> journal =
+        openJournal(directory, RaftNamespaces.RAFT_STORAGE_KRYO)) {
+      journal.writer().append(new InitializeEntry(1, 1));
+      journal.writer().append(zeebeEntry(1, "foo"));
+      journal.writer().flush();
+    }
+
+    // when
+    final List<RaftLogEntry> entries = new ArrayList<>();
+    try (final SegmentedJournal<RaftLogEntry> journal = openJournal(directory, namespace)) {
+      journal.writer().append(zeebeEntry(2, "bar"));
+      journal.writer().flush();
+
+      final JournalReader<RaftLogEntry> reader = journal.openReader(1);
+      while (reader.hasNext()) {
+        entries.add(reader.next().entry());
+      }
+    }
+
+    // then
+    assertThat(entries)
+        .containsExactly(new InitializeEntry(1, 1), zeebeEntry(1, "foo"), zeebeEntry(2, "bar"));
+  }
+
+  @Test
+  public void shouldReadEntriesFromMappedSegment() {
+    // given
+    final File directory = temporaryFolder.getRoot();
+    try (final SegmentedJournal<RaftLogEntry> journal =
+        SegmentedJournal.<RaftLogEntry>builder()
+            .withDirectory(directory)
+            .withNamespace(namespace)
+            .withStorageLevel(StorageLevel.MAPPED)
+            .build()) {
+      final Indexed<RaftLogEntry> first = journal.writer().append(zeebeEntry(1, "foo"));
+      journal.writer().append(zeebeEntry(2, "bar"));
+
+      // when
+      final JournalReader<RaftLogEntry> reader = journal.openReader(first.index());
+      final Indexed<RaftLogEntry> firstRead = reader.next();
+      final Indexed<RaftLogEntry> secondRead = reader.next();
+
+      // then
+      assertThat(firstRead.entry()).isEqualTo(zeebeEntry(1, "foo"));
+      assertThat(secondRead.entry()).isEqualTo(zeebeEntry(2, "bar"));
+    }
+  }
+
+  private SegmentedJournal<RaftLogEntry> openJournal(
+      final File directory, final Namespace namespace) {
+    return SegmentedJournal.<RaftLogEntry>builder()
+        .withDirectory(directory)
+        .withNamespace(namespace)
+        .withStorageLevel(StorageLevel.DISK)
+        .build();
+  }
+
+  private static ZeebeEntry zeebeEntry(final long position, final String data) {
+    return new ZeebeEntry(
+        1,
+        1000 + position,
+        position,
+        position,
+        ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+  }
+}
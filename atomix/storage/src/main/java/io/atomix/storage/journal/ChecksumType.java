@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/** Checksum algorithms which are used to verify the entries of a journal segment. */
+public enum ChecksumType {
+
+  /** Used by segments which were written with version 1 of the segment descriptor. */
+  CRC32 {
+    @Override
+    public Checksum newChecksum() {
+      return new CRC32();
+    }
+  },
+
+  /**
+   * Used by segments which were written with version 2 of the segment descriptor; it is
+   * intrinsified by the JVM on most platforms, but can't be read by previous versions.
+   */
+  CRC32C {
+    @Override
+    public Checksum newChecksum() {
+      return new CRC32C();
+    }
+  };
+
+  /**
+   * Creates a new checksum instance of this type.
+   *
+   * @return a new checksum instance
+   */
+  public abstract Checksum newChecksum();
+}
@@ -25,8 +25,6 @@ import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.NoSuchElementException;
-import java.util.zip.CRC32;
-import java.util.zip.Checksum;
 
 /**
  * Log segment reader.
@@ -40,6 +38,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
   private final Namespace namespace;
   private final ByteBuffer memory;
   private final JournalSegment<E> segment;
+  private final JournalChecksum checksum;
   private Indexed<E> currentEntry;
   private Indexed<E> nextEntry;
 
@@ -55,6 +54,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     this.namespace = namespace;
     memory = ByteBuffer.allocate((maxEntrySize + Integer.BYTES + Integer.BYTES) * 2);
     this.segment = segment;
+    checksum = JournalChecksum.forSegment(segment.descriptor());
     reset();
   }
 
@@ -185,7 +185,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
         return;
       }
 
-      // we using a CRC32 - which is 32 byte checksum
+      // the checksum is a 32-bit CRC32 or CRC32C
       // remaining bytes need to be larger or equals to entry length + checksum length
       final var cantReadEntry = memory.remaining() < (length + Integer.BYTES);
       if (cantReadEntry) {
@@ -227,10 +227,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     final long checksum = memory.getInt() & 0xFFFFFFFFL;
 
     // Compute the checksum for the entry bytes.
-    final Checksum crc32 = new CRC32();
-    crc32.update(memory.array(), memory.position(), length);
-
-    return checksum != crc32.getValue();
+    return checksum != this.checksum.compute(memory, memory.position(), length);
   }
 
   private boolean isLengthInvalid(final int length) {
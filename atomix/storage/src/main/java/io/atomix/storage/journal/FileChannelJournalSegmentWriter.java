@@ -25,8 +25,6 @@ import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
-import java.util.zip.CRC32;
-import java.util.zip.Checksum;
 
 /**
  * Segment writer.
@@ -52,6 +50,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
   private final JournalIndex index;
   private final Namespace namespace;
   private final ByteBuffer memory;
+  private final JournalChecksum checksum;
   private final long firstIndex;
   private Indexed<E> lastEntry;
 
@@ -68,6 +67,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
     memory = ByteBuffer.allocate((maxEntrySize + Integer.BYTES + Integer.BYTES) * 2);
     memory.limit(0);
     this.namespace = namespace;
+    checksum = JournalChecksum.forSegment(segment.descriptor());
     firstIndex = segment.index();
     reset(0);
   }
@@ -103,7 +103,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       memory.position(Integer.BYTES + Integer.BYTES);
       try {
         namespace.serialize(entry, memory);
-      } catch (final KryoException e) {
+      } catch (final KryoException | BufferOverflowException e) {
         throw new StorageException.TooLarge(
             "Entry size exceeds maximum allowed bytes (" + maxEntrySize + ")");
       }
@@ -125,12 +125,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       }
 
       // Compute the checksum for the entry.
-      final Checksum crc32 = new CRC32();
-      crc32.update(
-          memory.array(),
-          Integer.BYTES + Integer.BYTES,
-          memory.limit() - (Integer.BYTES + Integer.BYTES));
-      final long checksum = crc32.getValue();
+      final long checksum = this.checksum.compute(memory, Integer.BYTES + Integer.BYTES, length);
 
       // Create a single byte[] in memory for the entire entry and write it as a batch to the
       // underlying buffer.
@@ -198,12 +193,8 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
         // Read the checksum of the entry.
         final long checksum = memory.getInt() & 0xFFFFFFFFL;
 
-        // Compute the checksum for the entry bytes.
-        final Checksum crc32 = new CRC32();
-        crc32.update(memory.array(), memory.position(), length);
-
         // If the stored checksum equals the computed checksum, return the entry.
-        if (checksum == crc32.getValue()) {
+        if (checksum == this.checksum.compute(memory, memory.position(), length)) {
           final int limit = memory.limit();
           memory.limit(memory.position() + length);
           final E entry = namespace.deserialize(memory);
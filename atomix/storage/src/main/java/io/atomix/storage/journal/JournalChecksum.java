@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+
+/**
+ * Computes the checksums of journal entries directly on heap, direct or mapped buffers. The
+ * underlying checksum instance is reused, so a journal checksum must not be shared between threads;
+ * every segment reader and writer owns its own instance.
+ */
+public final class JournalChecksum {
+
+  private final ChecksumType type;
+  private final Checksum checksum;
+
+  public JournalChecksum(final ChecksumType type) {
+    this.type = type;
+    checksum = type.newChecksum();
+  }
+
+  /**
+   * Returns a checksum for the entries of the given segment.
+   *
+   * @param descriptor the descriptor of the segment
+   * @return a checksum of the segment's checksum type
+   */
+  public static JournalChecksum forSegment(final JournalSegmentDescriptor descriptor) {
+    return new JournalChecksum(descriptor.checksumType());
+  }
+
+  /**
+   * Computes the checksum of the given range of the buffer. The position and limit of the buffer
+   * are not changed.
+   *
+   * @param buffer the buffer to read from
+   * @param offset the offset of the first byte in the buffer
+   * @param length the number of bytes to read
+   * @return the 32-bit checksum of the range
+   */
+  public long compute(final ByteBuffer buffer, final int offset, final int length) {
+    final int position = buffer.position();
+    final int limit = buffer.limit();
+
+    checksum.reset();
+    buffer.limit(offset + length).position(offset);
+    checksum.update(buffer);
+    buffer.limit(limit).position(position);
+
+    return checksum.getValue();
+  }
+
+  public ChecksumType type() {
+    return type;
+  }
+}
@@ -46,7 +46,8 @@ public class JournalSegment<E> implements AutoCloseable {
   private final int maxEntrySize;
   private final JournalIndex index;
   private final Namespace namespace;
-  private final MappableJournalSegmentWriter<E> writer;
+  private final long recoveredLastIndex;
+  private volatile MappableJournalSegmentWriter<E> writer;
   private final Set<MappableJournalSegmentReader<E>> readers = Sets.newConcurrentHashSet();
   private final AtomicInteger references = new AtomicInteger();
   private boolean open = true;
@@ -58,15 +59,57 @@ public class JournalSegment<E> implements AutoCloseable {
       final int maxEntrySize,
       final Namespace namespace,
       final JournalIndex journalIndex) {
+    this(file, descriptor, storageLevel, maxEntrySize, namespace, journalIndex, -1);
+  }
+
+  /**
+   * Creates a segment whose entries are only read when the segment is used for the first time. The
+   * last index of the segment is known from the next segment, so the segment is not read to find
+   * it. If the index can't look up the entries of the segment without reading them, the segment is
+   * read immediately.
+   *
+   * @param lastIndex the last index of the segment, or -1 to read the segment immediately
+   */
+  JournalSegment(
+      final JournalSegmentFile file,
+      final JournalSegmentDescriptor descriptor,
+      final StorageLevel storageLevel,
+      final int maxEntrySize,
+      final Namespace namespace,
+      final JournalIndex journalIndex,
+      final long lastIndex) {
     this.file = file;
     this.descriptor = descriptor;
     this.storageLevel = storageLevel;
     this.maxEntrySize = maxEntrySize;
     index = journalIndex;
     this.namespace = namespace;
-    writer =
-        new MappableJournalSegmentWriter<>(
-            openChannel(file.file()), this, maxEntrySize, index, namespace);
+    recoveredLastIndex = lastIndex;
+    index.openSegment(file, descriptor);
+
+    if (lastIndex < 0 || !index.recoverSegment(descriptor, lastIndex)) {
+      writer = openWriter();
+    }
+  }
+
+  private MappableJournalSegmentWriter<E> openWriter() {
+    return new MappableJournalSegmentWriter<>(
+        openChannel(file.file()), this, maxEntrySize, index, namespace);
+  }
+
+  /** Returns the writer of the segment, which reads the segment if it was not read yet. */
+  private MappableJournalSegmentWriter<E> getOrOpenWriter() {
+    MappableJournalSegmentWriter<E> currentWriter = writer;
+    if (currentWriter == null) {
+      synchronized (this) {
+        currentWriter = writer;
+        if (currentWriter == null) {
+          currentWriter = openWriter();
+          writer = currentWriter;
+        }
+      }
+    }
+    return currentWriter;
   }
 
   private FileChannel openChannel(final File file) {
@@ -114,7 +157,8 @@ public class JournalSegment<E> implements AutoCloseable {
    * @return The last index in the segment.
    */
   public long lastIndex() {
-    return writer.getLastIndex();
+    final MappableJournalSegmentWriter<E> currentWriter = writer;
+    return currentWriter != null ? currentWriter.getLastIndex() : recoveredLastIndex;
   }
 
   /**
@@ -123,7 +167,8 @@ public class JournalSegment<E> implements AutoCloseable {
    * @return the size of the segment
    */
   public int size() {
-    return writer.size();
+    final MappableJournalSegmentWriter<E> currentWriter = writer;
+    return currentWriter != null ? currentWriter.size() : (int) file.file().length();
   }
 
   /**
@@ -159,7 +204,7 @@ public class JournalSegment<E> implements AutoCloseable {
    * @return The segment length.
    */
   public long length() {
-    return writer.getNextIndex() - index();
+    return lastIndex() + 1 - index();
   }
 
   /** Acquires a reference to the log segment. */
@@ -179,14 +224,14 @@ public class JournalSegment<E> implements AutoCloseable {
   /** Maps the log segment into memory. */
   private void map() {
     if (storageLevel == StorageLevel.MAPPED) {
-      final MappedByteBuffer buffer = writer.map();
+      final MappedByteBuffer buffer = getOrOpenWriter().map();
       readers.forEach(reader -> reader.map(buffer));
     }
   }
 
   /** Unmaps the log segment from memory. */
   private void unmap() {
-    if (storageLevel == StorageLevel.MAPPED) {
+    if (storageLevel == StorageLevel.MAPPED && writer != null) {
       writer.unmap();
       readers.forEach(reader -> reader.unmap());
     }
@@ -199,7 +244,7 @@ public class JournalSegment<E> implements AutoCloseable {
    */
   public MappableJournalSegmentWriter<E> writer() {
     checkOpen();
-    return writer;
+    return getOrOpenWriter();
   }
 
   /**
@@ -209,10 +254,10 @@ public class JournalSegment<E> implements AutoCloseable {
    */
   MappableJournalSegmentReader<E> createReader() {
     checkOpen();
+    final MappedByteBuffer buffer = getOrOpenWriter().buffer();
     final MappableJournalSegmentReader<E> reader =
         new MappableJournalSegmentReader<>(
             openChannel(file.file()), this, maxEntrySize, index, namespace);
-    final MappedByteBuffer buffer = writer.buffer();
     if (buffer != null) {
       reader.map(buffer);
     }
@@ -247,8 +292,11 @@ public class JournalSegment<E> implements AutoCloseable {
   @Override
   public void close() {
     unmap();
-    writer.close();
+    if (writer != null) {
+      writer.close();
+    }
     readers.forEach(reader -> reader.close());
+    index.closeSegment(descriptor);
     open = false;
   }
 
@@ -260,6 +308,7 @@ public class JournalSegment<E> implements AutoCloseable {
   public void delete() {
     try {
       Files.deleteIfExists(file.file().toPath());
+      Files.deleteIfExists(file.indexFile().toPath());
     } catch (final IOException e) {
       throw new StorageException(e);
     }
@@ -35,9 +35,10 @@ import java.nio.ByteBuffer;
  *   <li>{@code index} (64-bit signed integer) - The effective first index of the segment. This
  *       indicates the index at which the first entry should be written to the segment. Indexes are
  *       monotonically increasing thereafter.
- *   <li>{@code version} (64-bit signed integer) - The version of the segment. Versions are
- *       monotonically increasing starting at {@code 1}. Versions will only be incremented whenever
- *       the segment is rewritten to another memory/disk space, e.g. after log compaction.
+ *   <li>{@code version} (32-bit signed integer) - The format version of the segment. Segments of
+ *       version {@code 1} verify their entries with CRC32 checksums, segments of version {@code 2}
+ *       with CRC32C checksums. New segments are written with version {@code 1} unless CRC32C
+ *       checksums are enabled, since previous versions can't read segments of version {@code 2}.
  *   <li>{@code maxSegmentSize} (32-bit unsigned integer) - The maximum number of bytes allowed in
  *       the segment.
  *   <li>{@code maxEntries} (32-bit signed integer) - The total number of expected entries in the
@@ -61,9 +62,12 @@ import java.nio.ByteBuffer;
 public final class JournalSegmentDescriptor {
   public static final int BYTES = 64;
 
-  // Current segment version.
+  // Default segment version, which uses CRC32 checksums.
   @VisibleForTesting static final int VERSION = 1;
 
+  // First segment version which uses CRC32C checksums.
+  @VisibleForTesting static final int CRC32C_VERSION = 2;
+
   // The lengths of each field in the header.
   private static final int VERSION_LENGTH = Integer.BYTES; // 32-bit signed integer
   private static final int ID_LENGTH = Long.BYTES; // 64-bit signed integer
@@ -132,6 +136,16 @@ public final class JournalSegmentDescriptor {
     return version;
   }
 
+  /**
+   * Returns the checksum type used to verify the entries of the segment, which depends on the
+   * version of the segment.
+   *
+   * @return the checksum type of the segment
+   */
+  public ChecksumType checksumType() {
+    return version >= CRC32C_VERSION ? ChecksumType.CRC32C : ChecksumType.CRC32;
+  }
+
   /**
    * Returns the segment identifier.
    *
@@ -226,6 +240,30 @@ public final class JournalSegmentDescriptor {
       buffer.putInt(VERSION_POSITION, VERSION);
     }
 
+    /**
+     * Sets the segment version. New segments are written with the version of their checksum type,
+     * so this is only used to create segments of other versions.
+     *
+     * @param version The segment version.
+     * @return The segment descriptor builder.
+     */
+    @VisibleForTesting
+    Builder withVersion(final int version) {
+      buffer.putInt(VERSION_POSITION, version);
+      return this;
+    }
+
+    /**
+     * Sets the checksum type which is used to verify the entries of the segment, by setting the
+     * first segment version which uses it.
+     *
+     * @param checksumType The checksum type of the segment.
+     * @return The segment descriptor builder.
+     */
+    public Builder withChecksumType(final ChecksumType checksumType) {
+      return withVersion(checksumType == ChecksumType.CRC32C ? CRC32C_VERSION : VERSION);
+    }
+
     /**
      * Sets the segment identifier.
      *
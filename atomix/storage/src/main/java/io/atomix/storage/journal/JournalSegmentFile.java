@@ -29,6 +29,7 @@ public final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private final File file;
 
   /** @throws IllegalArgumentException if {@code file} is not a valid segment file */
@@ -77,6 +78,23 @@ public final class JournalSegmentFile {
     return fileName.startsWith(journalName);
   }
 
+  /**
+   * Returns a boolean value indicating whether the given file appears to be an index file of a
+   * segment.
+   *
+   * @param journalName the name of the journal
+   * @param file the file to check
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static boolean isIndexFile(final String journalName, final File file) {
+    checkNotNull(journalName, "journalName cannot be null");
+    final String fileName = file.getName();
+    return fileName.endsWith(EXTENSION_SEPARATOR + INDEX_EXTENSION)
+        && isSegmentFile(
+            journalName,
+            fileName.substring(0, fileName.length() - INDEX_EXTENSION.length()) + EXTENSION);
+  }
+
   /** Creates a segment file for the given directory, log name, segment ID, and segment version. */
   static File createSegmentFile(final String name, final File directory, final long id) {
     return new File(
@@ -91,4 +109,17 @@ public final class JournalSegmentFile {
   public File file() {
     return file;
   }
+
+  /**
+   * Returns the file in which a journal index can persist its entries of the segment. It lives next
+   * to the segment file and is deleted together with the segment.
+   *
+   * @return The index file of the segment.
+   */
+  public File indexFile() {
+    final String name = file.getName();
+    final int extensionSeparator = name.lastIndexOf(EXTENSION_SEPARATOR);
+    return new File(
+        file.getParentFile(), name.substring(0, extensionSeparator + 1) + INDEX_EXTENSION);
+  }
 }
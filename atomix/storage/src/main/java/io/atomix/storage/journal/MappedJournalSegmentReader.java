@@ -22,7 +22,6 @@ import io.atomix.utils.serializer.Namespace;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
-import java.util.zip.CRC32;
 
 /**
  * Log segment reader.
@@ -35,6 +34,7 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
   private final JournalIndex index;
   private final Namespace namespace;
   private final JournalSegment<E> segment;
+  private final JournalChecksum checksum;
   private Indexed<E> currentEntry;
   private Indexed<E> nextEntry;
 
@@ -49,6 +49,7 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
     this.index = index;
     this.namespace = namespace;
     this.segment = segment;
+    checksum = JournalChecksum.forSegment(segment.descriptor());
     reset();
   }
 
@@ -167,15 +168,10 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
       // Read the checksum of the entry.
       final long checksum = buffer.getInt() & 0xFFFFFFFFL;
 
-      // Compute the checksum for the entry bytes.
-      final CRC32 crc32 = new CRC32();
-      final ByteBuffer slice = buffer.slice();
-      slice.limit(length);
-      crc32.update(slice);
-
       // If the stored checksum equals the computed checksum, return the entry.
-      if (checksum == crc32.getValue()) {
-        slice.rewind();
+      if (checksum == this.checksum.compute(buffer, buffer.position(), length)) {
+        final ByteBuffer slice = buffer.slice();
+        slice.limit(length);
         final E entry = namespace.deserialize(slice);
         nextEntry = new Indexed<>(index, entry, length);
         buffer.position(buffer.position() + length);
@@ -26,7 +26,6 @@ import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
-import java.util.zip.CRC32;
 
 /**
  * Segment writer.
@@ -52,6 +51,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
   private final int maxEntrySize;
   private final JournalIndex index;
   private final Namespace namespace;
+  private final JournalChecksum checksum;
   private final long firstIndex;
   private Indexed<E> lastEntry;
 
@@ -67,6 +67,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     this.maxEntrySize = maxEntrySize;
     this.index = index;
     this.namespace = namespace;
+    checksum = JournalChecksum.forSegment(segment.descriptor());
     firstIndex = segment.index();
     reset(0);
   }
@@ -131,12 +132,8 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     }
 
     // Compute the checksum for the entry.
-    final CRC32 crc32 = new CRC32();
-    buffer.position(position + Integer.BYTES + Integer.BYTES);
-    final ByteBuffer slice = buffer.slice();
-    slice.limit(length);
-    crc32.update(slice);
-    final long checksum = crc32.getValue();
+    final long checksum =
+        this.checksum.compute(buffer, position + Integer.BYTES + Integer.BYTES, length);
 
     // Create a single byte[] in memory for the entire entry and write it as a batch to the
     // underlying buffer.
@@ -194,15 +191,10 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
         // Read the checksum of the entry.
         final long checksum = buffer.getInt() & 0xFFFFFFFFL;
 
-        // Compute the checksum for the entry bytes.
-        final CRC32 crc32 = new CRC32();
-        final ByteBuffer slice = buffer.slice();
-        slice.limit(length);
-        crc32.update(slice);
-
         // If the stored checksum equals the computed checksum, return the entry.
-        if (checksum == crc32.getValue()) {
-          slice.rewind();
+        if (checksum == this.checksum.compute(buffer, buffer.position(), length)) {
+          final ByteBuffer slice = buffer.slice();
+          slice.limit(length);
           final E entry = namespace.deserialize(slice);
           lastEntry = new Indexed<>(nextIndex, entry, length);
           this.index.index(lastEntry, position);
@@ -26,20 +26,28 @@ import io.atomix.storage.StorageLevel;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.SparseJournalIndex;
 import io.atomix.storage.statistics.JournalMetrics;
+import io.atomix.utils.concurrent.Threads;
 import io.atomix.utils.serializer.Namespace;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +56,7 @@ import org.slf4j.LoggerFactory;
 public class SegmentedJournal<E> implements Journal<E> {
   private static final int DEFAULT_INDEX_DENSITY = 200;
   private static final int SEGMENT_BUFFER_FACTOR = 3;
+  private static final int MAX_RECOVERY_THREADS = 4;
   private final JournalMetrics journalMetrics;
   private final Supplier<JournalIndex> journalIndexFactory;
   private final Logger log = LoggerFactory.getLogger(getClass());
@@ -59,6 +68,8 @@ public class SegmentedJournal<E> implements Journal<E> {
   private final int maxEntrySize;
   private final int maxEntriesPerSegment;
   private final boolean flushOnCommit;
+  private final boolean lazySegmentRecovery;
+  private final ChecksumType checksumType;
   private final SegmentedJournalWriter<E> writer;
   private volatile long commitIndex;
   private final NavigableMap<Long, JournalSegment<E>> segments = new ConcurrentSkipListMap<>();
@@ -77,7 +88,9 @@ public class SegmentedJournal<E> implements Journal<E> {
       final int maxEntriesPerSegment,
       final boolean flushOnCommit,
       final Supplier<JournalIndex> journalIndexFactory,
-      final long minFreeSpace) {
+      final long minFreeSpace,
+      final boolean lazySegmentRecovery,
+      final ChecksumType checksumType) {
     this.name = checkNotNull(name, "name cannot be null");
     this.storageLevel = checkNotNull(storageLevel, "storageLevel cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
@@ -86,6 +99,8 @@ public class SegmentedJournal<E> implements Journal<E> {
     this.maxEntrySize = maxEntrySize;
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.flushOnCommit = flushOnCommit;
+    this.lazySegmentRecovery = lazySegmentRecovery;
+    this.checksumType = checkNotNull(checksumType, "checksumType cannot be null");
     journalMetrics = new JournalMetrics(name);
     this.journalIndexFactory =
         journalIndexFactory == null
@@ -274,6 +289,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     } else {
       final JournalSegmentDescriptor descriptor =
           JournalSegmentDescriptor.builder()
+              .withChecksumType(checksumType)
               .withId(1)
               .withIndex(1)
               .withMaxSegmentSize(maxSegmentSize)
@@ -315,6 +331,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     } else {
       final JournalSegmentDescriptor descriptor =
           JournalSegmentDescriptor.builder()
+              .withChecksumType(checksumType)
               .withId(1)
               .withIndex(1)
               .withMaxSegmentSize(maxSegmentSize)
@@ -352,6 +369,7 @@ public class SegmentedJournal<E> implements Journal<E> {
 
     final JournalSegmentDescriptor descriptor =
         JournalSegmentDescriptor.builder()
+            .withChecksumType(checksumType)
             .withId(1)
             .withIndex(index)
             .withMaxSegmentSize(maxSegmentSize)
@@ -398,6 +416,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     final JournalSegment lastSegment = getLastSegment();
     final JournalSegmentDescriptor descriptor =
         JournalSegmentDescriptor.builder()
+            .withChecksumType(checksumType)
             .withId(lastSegment != null ? lastSegment.descriptor().id() + 1 : 1)
             .withIndex(currentSegment.lastIndex() + 1)
             .withMaxSegmentSize(maxSegmentSize)
@@ -505,19 +524,21 @@ public class SegmentedJournal<E> implements Journal<E> {
   }
 
   /** Loads a segment. */
-  private JournalSegment<E> loadSegment(final long segmentId) {
-    final File segmentFile = JournalSegmentFile.createSegmentFile(name, directory, segmentId);
-    final ByteBuffer buffer = ByteBuffer.allocate(JournalSegmentDescriptor.BYTES);
-    try (final FileChannel channel = openChannel(segmentFile)) {
-      channel.read(buffer);
-      buffer.flip();
-      final JournalSegmentDescriptor descriptor = new JournalSegmentDescriptor(buffer);
-      final JournalSegment<E> segment = newSegment(new JournalSegmentFile(segmentFile), descriptor);
-      log.debug("Loaded disk segment: {} ({})", descriptor.id(), segmentFile.getName());
-      return segment;
-    } catch (final IOException e) {
-      throw new StorageException(e);
-    }
+  private JournalSegment<E> loadSegment(
+      final File segmentFile, final JournalSegmentDescriptor descriptor, final long lastIndex) {
+    final JournalSegment<E> segment =
+        journalMetrics.observeSegmentRecovery(
+            () ->
+                new JournalSegment<>(
+                    new JournalSegmentFile(segmentFile),
+                    descriptor,
+                    storageLevel,
+                    maxEntrySize,
+                    namespace,
+                    journalIndexFactory.get(),
+                    lastIndex));
+    log.debug("Loaded disk segment: {} ({})", descriptor.id(), segmentFile.getName());
+    return segment;
   }
 
   private FileChannel openChannel(final File file) {
@@ -535,6 +556,11 @@ public class SegmentedJournal<E> implements Journal<E> {
   /**
    * Loads all segments from disk.
    *
+   * <p>If the lazy segment recovery is enabled, only the last segment is read. The other segments
+   * are read when they are used for the first time, only their descriptors are verified to align
+   * with one another. Otherwise, all segments are read in parallel and verified to align with one
+   * another.
+   *
    * @return A collection of segments for the log.
    */
   protected Collection<JournalSegment<E>> loadSegments() {
@@ -542,13 +568,14 @@ public class SegmentedJournal<E> implements Journal<E> {
     directory.mkdirs();
 
     final TreeMap<Long, JournalSegment<E>> segments = new TreeMap<>();
+    final TreeMap<Long, File> segmentFiles = new TreeMap<>();
+    final Map<Long, JournalSegmentDescriptor> descriptors = new TreeMap<>();
 
     // Iterate through all files in the log directory.
     for (final File file : directory.listFiles(File::isFile)) {
 
-      // If the file looks like a segment file, attempt to load the segment.
+      // If the file looks like a segment file, read the descriptor of the segment.
       if (JournalSegmentFile.isSegmentFile(name, file)) {
-        final JournalSegmentFile segmentFile = new JournalSegmentFile(file);
         final ByteBuffer buffer = ByteBuffer.allocate(JournalSegmentDescriptor.BYTES);
         try (final FileChannel channel = openChannel(file)) {
           channel.read(buffer);
@@ -558,15 +585,30 @@ public class SegmentedJournal<E> implements Journal<E> {
         }
 
         final JournalSegmentDescriptor descriptor = new JournalSegmentDescriptor(buffer);
+        log.debug("Found segment: {} ({})", descriptor.id(), file.getName());
+        segmentFiles.put(descriptor.index(), file);
+        descriptors.put(descriptor.index(), descriptor);
+      }
+    }
 
-        // Load the segment.
-        final JournalSegment<E> segment = loadSegment(descriptor.id());
+    if (lazySegmentRecovery) {
+      // The entries are not read, but the descriptors must still align with one another.
+      removeMisalignedSegmentFiles(segmentFiles, descriptors);
 
-        // Add the segment to the segments list.
-        log.debug(
-            "Found segment: {} ({})", segment.descriptor().id(), segmentFile.file().getName());
+      // Only the last segment is read, the other segments end before the next segment starts.
+      for (final Map.Entry<Long, File> segmentFile : segmentFiles.entrySet()) {
+        final Long nextIndex = segmentFiles.higherKey(segmentFile.getKey());
+        final long lastIndex = nextIndex != null ? nextIndex - 1 : -1;
+        final JournalSegment<E> segment =
+            loadSegment(segmentFile.getValue(), descriptors.get(segmentFile.getKey()), lastIndex);
         segments.put(segment.index(), segment);
       }
+
+      return segments.values();
+    }
+
+    for (final JournalSegment<E> segment : recoverSegments(segmentFiles, descriptors)) {
+      segments.put(segment.index(), segment);
     }
 
     // Verify that all the segments in the log align with one another.
@@ -593,6 +635,96 @@ public class SegmentedJournal<E> implements Journal<E> {
     return segments.values();
   }
 
+  /** Reads the given segments in parallel, on a pool which is bounded by the available CPUs. */
+  /**
+   * Verifies that the segment descriptors align with one another, without reading the entries of
+   * the segments. Each segment must directly follow the previous one and start within the number of
+   * entries the previous segment can hold. The first segment which doesn't align, and all segments
+   * after it, are deleted.
+   */
+  private void removeMisalignedSegmentFiles(
+      final TreeMap<Long, File> segmentFiles,
+      final Map<Long, JournalSegmentDescriptor> descriptors) {
+    JournalSegmentDescriptor previousDescriptor = null;
+    boolean corrupted = false;
+    final Iterator<Map.Entry<Long, File>> iterator = segmentFiles.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<Long, File> segmentFile = iterator.next();
+      final long index = segmentFile.getKey();
+      final File file = segmentFile.getValue();
+      final JournalSegmentDescriptor descriptor = descriptors.get(index);
+      if (previousDescriptor != null && !isAligned(previousDescriptor, descriptor)) {
+        log.warn(
+            "Journal is inconsistent. {} is not aligned with prior segment {}",
+            file,
+            segmentFiles.get(previousDescriptor.index()));
+        corrupted = true;
+      }
+      if (corrupted) {
+        final JournalSegmentFile segment = new JournalSegmentFile(file);
+        try {
+          Files.deleteIfExists(segment.file().toPath());
+          Files.deleteIfExists(segment.indexFile().toPath());
+        } catch (final IOException e) {
+          throw new StorageException(e);
+        }
+        iterator.remove();
+        descriptors.remove(index);
+      } else {
+        previousDescriptor = descriptor;
+      }
+    }
+  }
+
+  private static boolean isAligned(
+      final JournalSegmentDescriptor previous, final JournalSegmentDescriptor next) {
+    final long previousLength = next.index() - previous.index();
+    return next.id() == previous.id() + 1
+        && previousLength > 0
+        && previousLength <= previous.maxEntries();
+  }
+
+  private List<JournalSegment<E>> recoverSegments(
+      final Map<Long, File> segmentFiles, final Map<Long, JournalSegmentDescriptor> descriptors) {
+    final List<JournalSegment<E>> segments = new ArrayList<>(segmentFiles.size());
+    final int threads =
+        Math.min(
+            segmentFiles.size(),
+            Math.min(MAX_RECOVERY_THREADS, Runtime.getRuntime().availableProcessors()));
+
+    if (threads <= 1) {
+      segmentFiles.forEach(
+          (index, file) -> segments.add(loadSegment(file, descriptors.get(index), -1)));
+      return segments;
+    }
+
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threads, Threads.namedThreads("raft-segment-recovery-" + name + "-%d", log));
+    try {
+      final List<Future<JournalSegment<E>>> recoveries = new ArrayList<>(segmentFiles.size());
+      segmentFiles.forEach(
+          (index, file) ->
+              recoveries.add(executor.submit(() -> loadSegment(file, descriptors.get(index), -1))));
+
+      for (final Future<JournalSegment<E>> recovery : recoveries) {
+        segments.add(recovery.get());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new StorageException(e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof StorageException) {
+        throw (StorageException) e.getCause();
+      }
+      throw new StorageException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    return segments;
+  }
+
   /**
    * Resets journal readers to the given head.
    *
@@ -707,6 +839,8 @@ public class SegmentedJournal<E> implements Journal<E> {
   public static class Builder<E> implements io.atomix.utils.Builder<SegmentedJournal<E>> {
 
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+    private static final boolean DEFAULT_LAZY_SEGMENT_RECOVERY = false;
+    private static final ChecksumType DEFAULT_CHECKSUM_TYPE = ChecksumType.CRC32;
     private static final String DEFAULT_NAME = "atomix";
     private static final String DEFAULT_DIRECTORY = System.getProperty("user.dir");
     private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
@@ -724,6 +858,8 @@ public class SegmentedJournal<E> implements Journal<E> {
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
     private Supplier<JournalIndex> journalIndexFactory;
     private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
+    private boolean lazySegmentRecovery = DEFAULT_LAZY_SEGMENT_RECOVERY;
+    private ChecksumType checksumType = DEFAULT_CHECKSUM_TYPE;
 
     protected Builder() {}
 
@@ -898,6 +1034,37 @@ public class SegmentedJournal<E> implements Journal<E> {
       return this;
     }
 
+    /**
+     * Sets whether to read only the last segment when the journal is opened, returning the builder
+     * for method chaining.
+     *
+     * <p>When lazy segment recovery is enabled, the other segments are read when they are used for
+     * the first time. Their last index is taken from the next segment, so they are not verified to
+     * align with one another. When it is disabled, all segments are read and verified in parallel.
+     *
+     * @param lazySegmentRecovery Whether to read only the last segment when opening the journal.
+     * @return The storage builder.
+     */
+    public Builder<E> withLazySegmentRecovery(final boolean lazySegmentRecovery) {
+      this.lazySegmentRecovery = lazySegmentRecovery;
+      return this;
+    }
+
+    /**
+     * Sets the checksum type which is used to verify the entries of new segments, returning the
+     * builder for method chaining.
+     *
+     * <p>Existing segments keep the checksum type they were written with. Segments with CRC32C
+     * checksums can't be read by previous versions, so CRC32 is used by default.
+     *
+     * @param checksumType The checksum type of new segments.
+     * @return The storage builder.
+     */
+    public Builder<E> withChecksumType(final ChecksumType checksumType) {
+      this.checksumType = checksumType;
+      return this;
+    }
+
     @Override
     public SegmentedJournal<E> build() {
       return new SegmentedJournal<>(
@@ -910,7 +1077,9 @@ public class SegmentedJournal<E> implements Journal<E> {
           maxEntriesPerSegment,
           flushOnCommit,
           journalIndexFactory,
-          freeDiskSpace);
+          freeDiskSpace,
+          lazySegmentRecovery,
+          checksumType);
     }
   }
 }
@@ -17,8 +17,15 @@
 package io.atomix.storage.journal.index;
 
 import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegmentDescriptor;
+import io.atomix.storage.journal.JournalSegmentFile;
 
-/** Journal index. */
+/**
+ * Journal index.
+ *
+ * <p>An index which is shared between the segments of a journal must support indexing different
+ * segments concurrently, since the segments are recovered in parallel when the journal is opened.
+ */
 public interface JournalIndex {
 
   /**
@@ -56,4 +63,40 @@ public interface JournalIndex {
    * @param index the index to which to compact the index
    */
   void compact(long index);
+
+  /**
+   * Notifies the index that the given segment is opened, before the entries of the segment are
+   * indexed. An index which persists its entries can reuse the entries it stored in the {@link
+   * JournalSegmentFile#indexFile() index file} of the segment.
+   *
+   * @param file the file of the opened segment
+   * @param descriptor the descriptor of the opened segment
+   */
+  default void openSegment(
+      final JournalSegmentFile file, final JournalSegmentDescriptor descriptor) {}
+
+  /**
+   * Notifies the index that the given segment is recovered without reading its entries, since the
+   * segment is only read when it is used for the first time. The entries are indexed when the
+   * segment is read.
+   *
+   * <p>By default the index can't serve lookups for entries it didn't index, so the segment is read
+   * immediately.
+   *
+   * @param descriptor the descriptor of the recovered segment
+   * @param lastIndex the last index of the recovered segment
+   * @return {@code true} if the index can serve lookups for the entries of the segment before they
+   *     are indexed, otherwise {@code false} to read the segment immediately
+   */
+  default boolean recoverSegment(final JournalSegmentDescriptor descriptor, final long lastIndex) {
+    return false;
+  }
+
+  /**
+   * Notifies the index that the given segment is closed, e.g. when the journal is closed or before
+   * the segment is deleted. An index which persists its entries must flush them to the index file.
+   *
+   * @param descriptor the descriptor of the closed segment
+   */
+  default void closeSegment(final JournalSegmentDescriptor descriptor) {}
 }
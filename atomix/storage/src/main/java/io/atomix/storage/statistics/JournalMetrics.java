@@ -18,6 +18,7 @@ package io.atomix.storage.statistics;
 
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import java.util.function.Supplier;
 
 public class JournalMetrics {
 
@@ -47,6 +48,14 @@ public class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram SEGMENT_RECOVERY_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_recovery_time")
+          .help("Time spend to read a segment when the journal is opened")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -80,6 +89,15 @@ public class JournalMetrics {
     SEGMENT_TRUNCATE_TIME.labels(logName).time(segmentTruncation);
   }
 
+  public <T> T observeSegmentRecovery(final Supplier<T> segmentRecovery) {
+    final Histogram.Timer timer = SEGMENT_RECOVERY_TIME.labels(logName).startTimer();
+    try {
+      return segmentRecovery.get();
+    } finally {
+      timer.observeDuration();
+    }
+  }
+
   public void observeJournalOpenDuration(final long durationMillis) {
     JOURNAL_OPEN_DURATION.labels(logName).set(durationMillis);
   }
@@ -84,6 +84,16 @@ public abstract class AbstractJournalTest {
   }
 
   protected SegmentedJournal<TestEntry> createJournal() throws IOException {
+    return createJournal(false);
+  }
+
+  protected SegmentedJournal<TestEntry> createJournal(final boolean lazySegmentRecovery)
+      throws IOException {
+    return createJournal(lazySegmentRecovery, ChecksumType.CRC32);
+  }
+
+  protected SegmentedJournal<TestEntry> createJournal(
+      final boolean lazySegmentRecovery, final ChecksumType checksumType) throws IOException {
     final SparseJournalIndex index = new SparseJournalIndex(5);
     return SegmentedJournal.<TestEntry>builder()
         .withName("test")
@@ -93,6 +103,8 @@ public abstract class AbstractJournalTest {
         .withMaxSegmentSize(maxSegmentSize)
         .withMaxEntrySize(48)
         .withJournalIndexFactory(() -> index)
+        .withLazySegmentRecovery(lazySegmentRecovery)
+        .withChecksumType(checksumType)
         .build();
   }
 
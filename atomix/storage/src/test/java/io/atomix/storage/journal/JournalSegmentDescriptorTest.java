@@ -74,4 +74,21 @@ public class JournalSegmentDescriptorTest {
     assertEquals(2048, descriptor.maxEntries());
     assertEquals(time, descriptor.updated());
   }
+
+  /** Tests the checksum type of the segment versions. */
+  @Test
+  public void testChecksumType() {
+    final JournalSegmentDescriptor descriptor =
+        JournalSegmentDescriptor.builder().withId(2).build();
+    final JournalSegmentDescriptor crc32cDescriptor =
+        JournalSegmentDescriptor.builder().withChecksumType(ChecksumType.CRC32C).withId(2).build();
+    final JournalSegmentDescriptor crc32Descriptor =
+        JournalSegmentDescriptor.builder().withChecksumType(ChecksumType.CRC32).withId(2).build();
+
+    assertEquals(ChecksumType.CRC32, descriptor.checksumType());
+    assertEquals(JournalSegmentDescriptor.CRC32C_VERSION, crc32cDescriptor.version());
+    assertEquals(ChecksumType.CRC32C, crc32cDescriptor.checksumType());
+    assertEquals(JournalSegmentDescriptor.VERSION, crc32Descriptor.version());
+    assertEquals(ChecksumType.CRC32, crc32Descriptor.checksumType());
+  }
 }
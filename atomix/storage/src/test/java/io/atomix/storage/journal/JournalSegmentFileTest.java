@@ -16,6 +16,7 @@
  */
 package io.atomix.storage.journal;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -38,4 +39,18 @@ public class JournalSegmentFileTest {
         JournalSegmentFile.createSegmentFile("foo", new File(System.getProperty("user.dir")), 1);
     assertTrue(JournalSegmentFile.isSegmentFile("foo", file));
   }
+
+  @Test
+  public void testIndexFile() throws Exception {
+    final File file =
+        JournalSegmentFile.createSegmentFile("foo", new File(System.getProperty("user.dir")), 1);
+    final File indexFile = new JournalSegmentFile(file).indexFile();
+
+    assertEquals("foo-1.idx", indexFile.getName());
+    assertEquals(file.getParentFile(), indexFile.getParentFile());
+    assertTrue(JournalSegmentFile.isIndexFile("foo", indexFile));
+    assertFalse(JournalSegmentFile.isIndexFile("bar", indexFile));
+    assertFalse(JournalSegmentFile.isSegmentFile("foo", indexFile));
+    assertFalse(JournalSegmentFile.isIndexFile("foo", file));
+  }
 }
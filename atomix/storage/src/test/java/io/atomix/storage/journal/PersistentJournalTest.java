@@ -17,8 +17,10 @@
 package io.atomix.storage.journal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import org.junit.Test;
 
 /** Persistent journal test base. */
@@ -60,4 +62,107 @@ public abstract class PersistentJournalTest extends AbstractJournalTest {
     assertEquals(reader.getFirstIndex(), reader.getNextIndex());
     assertEquals(entriesPerSegment + 1, reader.next().index());
   }
+
+  /** Tests reading from a journal whose segments are recovered lazily. */
+  @Test
+  public void testLazySegmentRecovery() throws Exception {
+    // Write three segments and a few more entries to the journal.
+    final int entries = entriesPerSegment * 3 + 2;
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entries; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    // Reopen the journal, reading only the last segment.
+    journal = createJournal(true);
+    writer = journal.writer();
+
+    // Ensure all entries can be read and the journal can be appended to.
+    assertEquals(entries, writer.getLastIndex());
+    assertEquals(entries + 1, writer.append(ENTRY).index());
+
+    final JournalReader<TestEntry> reader = journal.openReader(1, JournalReader.Mode.ALL);
+    for (int i = 1; i <= entries + 1; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(i, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+
+    // Ensure a lazily recovered segment can be read from the middle.
+    reader.reset(entriesPerSegment + 2);
+    assertEquals(entriesPerSegment + 2, reader.next().index());
+  }
+
+  /** Tests that misaligned segments are removed when the segments are recovered lazily. */
+  @Test
+  public void testLazySegmentRecoveryRemovesMisalignedSegments() throws Exception {
+    // Write three segments and a few more entries to the journal.
+    final int entries = entriesPerSegment * 3 + 2;
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entries; i++) {
+      writer.append(ENTRY);
+    }
+    final File directory = journal.directory();
+    journal.close();
+
+    // Remove the second segment, such that the following segments don't align anymore.
+    final File secondSegment = JournalSegmentFile.createSegmentFile("test", directory, 2);
+    assertTrue(secondSegment.delete());
+
+    // Reopen the journal, reading only the last segment.
+    journal = createJournal(true);
+
+    // Ensure only the first segment is kept.
+    assertEquals(entriesPerSegment, journal.writer().getLastIndex());
+    assertFalse(JournalSegmentFile.createSegmentFile("test", directory, 3).exists());
+    assertFalse(JournalSegmentFile.createSegmentFile("test", directory, 4).exists());
+  }
+
+  /** Tests that new segments are written with CRC32 checksums by default. */
+  @Test
+  public void testWriteCrc32SegmentsByDefault() {
+    // when
+    journal.writer().append(ENTRY);
+
+    // then
+    assertEquals(JournalSegmentDescriptor.VERSION, journal.getLastSegment().descriptor().version());
+    assertEquals(ChecksumType.CRC32, journal.getLastSegment().descriptor().checksumType());
+  }
+
+  /** Tests reading from and writing to segments written with CRC32C checksums. */
+  @Test
+  public void testReadWriteCrc32cSegments() throws Exception {
+    // Write two segments with CRC32C checksums enabled.
+    journal.close();
+    journal = createJournal(false, ChecksumType.CRC32C);
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment + 2; i++) {
+      writer.append(ENTRY);
+    }
+
+    // Ensure only the new segment is written with CRC32C checksums.
+    assertEquals(ChecksumType.CRC32, journal.getFirstSegment().descriptor().checksumType());
+    assertEquals(
+        JournalSegmentDescriptor.CRC32C_VERSION, journal.getLastSegment().descriptor().version());
+    assertEquals(ChecksumType.CRC32C, journal.getLastSegment().descriptor().checksumType());
+    journal.close();
+
+    // Reopen the journal without CRC32C checksums and append to the CRC32C segment.
+    journal = createJournal();
+    writer = journal.writer();
+    assertEquals(ChecksumType.CRC32C, journal.getLastSegment().descriptor().checksumType());
+    assertEquals(entriesPerSegment + 2, writer.getLastIndex());
+    writer.append(ENTRY);
+    journal.close();
+
+    // Ensure all entries can be read after reopening the journal.
+    journal = createJournal();
+    final JournalReader<TestEntry> reader = journal.openReader(1, JournalReader.Mode.ALL);
+    for (int i = 1; i <= entriesPerSegment + 3; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(i, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+  }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.benchmarks.dispatcher;
+
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+
+import io.zeebe.dispatcher.BlockPeek;
+import io.zeebe.dispatcher.ClaimedFragment;
+import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.dispatcher.Dispatchers;
+import io.zeebe.dispatcher.Subscription;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Claims and commits a fragment, and consumes it by peeking a block of the subscription, as the log
+ * storage appender does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatcherBenchmark {
+
+  private static final int MAX_BLOCK_SIZE = (int) ByteValue.ofKilobytes(512);
+
+  @Param({"64", "1024"})
+  private int fragmentLength;
+
+  private final ClaimedFragment claimedFragment = new ClaimedFragment();
+  private final BlockPeek blockPeek = new BlockPeek();
+
+  private ActorScheduler actorScheduler;
+  private Dispatcher dispatcher;
+  private Subscription subscription;
+
+  @Setup
+  public void setUp() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    dispatcher =
+        Dispatchers.create("benchmark")
+            .maxFragmentLength((int) ByteValue.ofMegabytes(4))
+            .actorScheduler(actorScheduler)
+            .build();
+    subscription = dispatcher.openSubscription("benchmark");
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    dispatcher.close();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  public int claimAndPeek() {
+    claim();
+    return consume();
+  }
+
+  private void claim() {
+    long position = dispatcher.claimSingleFragment(claimedFragment, fragmentLength);
+    while (position < 0) {
+      if (position != RESULT_PADDING_AT_END_OF_PARTITION) {
+        // the next partition is not cleaned yet by the dispatcher
+        Thread.yield();
+      }
+      position = dispatcher.claimSingleFragment(claimedFragment, fragmentLength);
+    }
+
+    claimedFragment.getBuffer().setMemory(claimedFragment.getOffset(), fragmentLength, (byte) 1);
+    claimedFragment.commit();
+  }
+
+  private int consume() {
+    final int bytes = subscription.peekBlock(blockPeek, MAX_BLOCK_SIZE, true);
+    if (bytes > 0) {
+      blockPeek.markCompleted();
+      dispatcher.updatePublisherLimit();
+    }
+    return bytes;
+  }
+}
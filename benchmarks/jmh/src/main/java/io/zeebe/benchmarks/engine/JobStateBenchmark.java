@@ -0,0 +1,99 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.benchmarks.engine;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Iterates over the activatable jobs of one type, as the job batch activation does. The state
+ * contains activatable jobs of other types too, which are not visited.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JobStateBenchmark {
+
+  private static final int JOBS_PER_TYPE = 1_000;
+  private static final String[] JOB_TYPES = {"payment", "shipping", "invoice"};
+  private static final DirectBuffer ACTIVATED_TYPE = wrapString(JOB_TYPES[1]);
+
+  @Param({"1", "32"})
+  private int maxJobsToActivate;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private JobState jobState;
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("job-state");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory(new Properties()).createDb(directory.toFile());
+    final ZeebeState zeebeState = new ZeebeState(zeebeDb, zeebeDb.createContext());
+    jobState = zeebeState.getJobState();
+
+    long key = 1;
+    for (final String type : JOB_TYPES) {
+      for (int i = 0; i < JOBS_PER_TYPE; i++) {
+        final JobRecord job =
+            new JobRecord()
+                .setType(type)
+                .setRetries(3)
+                .setBpmnProcessId("process")
+                .setElementId("task")
+                .setWorkflowInstanceKey(key);
+        jobState.create(key++, job);
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public void forEachActivatableJobs(final Blackhole blackhole) {
+    final int[] visitedJobs = {0};
+    jobState.forEachActivatableJobs(
+        ACTIVATED_TYPE,
+        (key, job) -> {
+          blackhole.consume(job.getRetries());
+          return ++visitedJobs[0] < maxJobsToActivate;
+        });
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.benchmarks.engine;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.instance.VariablesState;
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looks up a variable from the innermost scope of a scope hierarchy with the given depth. The
+ * variable is only present in the root scope, so each lookup visits all scopes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class VariablesStateBenchmark {
+
+  private static final long WORKFLOW_KEY = 1;
+  private static final long ROOT_SCOPE_KEY = 100;
+  private static final int VARIABLES_PER_SCOPE = 10;
+
+  private static final DirectBuffer VARIABLE_NAME = wrapString("order");
+  private static final DirectBuffer VARIABLE_VALUE =
+      new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"id\":\"o-123\",\"amount\":1234}"));
+
+  @Param({"1", "4", "16"})
+  private int scopeDepth;
+
+  @Param({"0", "1024"})
+  private int columnFamilyCacheSize;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private VariablesState variablesState;
+  private long innermostScopeKey;
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("variables-state");
+    zeebeDb =
+        DefaultZeebeDbFactory.defaultFactory(new Properties(), columnFamilyCacheSize)
+            .createDb(directory.toFile());
+    final ZeebeState zeebeState = new ZeebeState(zeebeDb, zeebeDb.createContext());
+    variablesState = zeebeState.getWorkflowState().getElementInstanceState().getVariablesState();
+
+    long scopeKey = ROOT_SCOPE_KEY;
+    variablesState.createScope(scopeKey, -1);
+    variablesState.setVariableLocal(scopeKey, WORKFLOW_KEY, VARIABLE_NAME, VARIABLE_VALUE);
+
+    for (int depth = 1; depth <= scopeDepth; depth++) {
+      for (int i = 0; i < VARIABLES_PER_SCOPE; i++) {
+        variablesState.setVariableLocal(
+            scopeKey, WORKFLOW_KEY, wrapString("variable-" + i), VARIABLE_VALUE);
+      }
+
+      if (depth < scopeDepth) {
+        variablesState.createScope(scopeKey + 1, scopeKey);
+        scopeKey += 1;
+      }
+    }
+
+    innermostScopeKey = scopeKey;
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public DirectBuffer getVariable() {
+    return variablesState.getVariable(innermostScopeKey, VARIABLE_NAME);
+  }
+}
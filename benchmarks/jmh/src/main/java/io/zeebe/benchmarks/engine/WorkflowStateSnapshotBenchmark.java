@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.benchmarks.engine;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.deployment.WorkflowState;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Takes a snapshot of a state which contains the given count of deployed workflows, and reads all
+ * files of the snapshot, as the snapshot replication does. The size of the snapshot is reported as
+ * the secondary result {@code snapshotBytes}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WorkflowStateSnapshotBenchmark {
+
+  private static final int TASKS_PER_WORKFLOW = 50;
+
+  @Param({"100", "1000"})
+  private int deployedWorkflows;
+
+  private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private Path snapshotDirectory;
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("workflow-state");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory(new Properties()).createDb(directory.toFile());
+    final ZeebeState zeebeState = new ZeebeState(zeebeDb, zeebeDb.createContext());
+    final WorkflowState workflowState = zeebeState.getWorkflowState();
+
+    final String resource = createResource();
+    for (int i = 0; i < deployedWorkflows; i++) {
+      final int version = workflowState.getNextWorkflowVersion("process");
+      final DeploymentRecord deployment = new DeploymentRecord();
+      deployment
+          .resources()
+          .add()
+          .setResourceName(wrapString("process.bpmn"))
+          .setResource(wrapString(resource));
+      deployment
+          .workflows()
+          .add()
+          .setBpmnProcessId("process")
+          .setVersion(version)
+          .setKey(zeebeState.getKeyGenerator().nextKey())
+          .setResourceName("process.bpmn");
+
+      workflowState.putDeployment(i, deployment);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteSnapshot() throws IOException {
+    FileUtil.deleteFolder(snapshotDirectory);
+  }
+
+  @Benchmark
+  public long takeAndReadSnapshot(final SnapshotSize snapshotSize) throws IOException {
+    snapshotDirectory = directory.resolveSibling(directory.getFileName() + "-snapshot");
+    zeebeDb.createSnapshot(snapshotDirectory.toFile());
+
+    final List<Path> files;
+    try (final var stream = Files.list(snapshotDirectory)) {
+      files = stream.collect(Collectors.toList());
+    }
+
+    long size = 0;
+    for (final Path file : files) {
+      try (final FileChannel channel = FileChannel.open(file)) {
+        int read;
+        while ((read = channel.read(readBuffer.clear())) > 0) {
+          size += read;
+        }
+      }
+    }
+
+    snapshotSize.snapshotBytes = size;
+    return size;
+  }
+
+  private static String createResource() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+    for (int i = 0; i < TASKS_PER_WORKFLOW; i++) {
+      builder = builder.serviceTask("task-" + i, t -> t.zeebeJobType("type"));
+    }
+    return Bpmn.convertToString(builder.endEvent().done());
+  }
+
+  /** Reports the size of the last snapshot, instead of summing up the sizes of all snapshots. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class SnapshotSize {
+    public long snapshotBytes;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.benchmarks.journal;
+
+import io.atomix.storage.journal.ChecksumType;
+import io.atomix.storage.journal.JournalChecksum;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the checksums of journal entries: a new CRC32 instance per entry over a slice of the
+ * buffer, as the segment readers and writers used to do, against a reused {@link JournalChecksum}
+ * of either type, on heap and direct buffers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalChecksumBenchmark {
+
+  private static final int OFFSET = 8;
+
+  @Param({"128", "4096", "65536"})
+  private int entrySize;
+
+  @Param({"true", "false"})
+  private boolean direct;
+
+  private ByteBuffer buffer;
+  private JournalChecksum crc32;
+  private JournalChecksum crc32c;
+
+  @Setup
+  public void setUp() {
+    final byte[] bytes = new byte[OFFSET + entrySize];
+    ThreadLocalRandom.current().nextBytes(bytes);
+
+    buffer = direct ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+    buffer.put(bytes).clear();
+
+    crc32 = new JournalChecksum(ChecksumType.CRC32);
+    crc32c = new JournalChecksum(ChecksumType.CRC32C);
+  }
+
+  @Benchmark
+  public long newCrc32PerEntry() {
+    final CRC32 checksum = new CRC32();
+    buffer.position(OFFSET);
+    final ByteBuffer slice = buffer.slice();
+    slice.limit(entrySize);
+    checksum.update(slice);
+    buffer.position(0);
+    return checksum.getValue();
+  }
+
+  @Benchmark
+  public long reusedCrc32() {
+    return crc32.compute(buffer, OFFSET, entrySize);
+  }
+
+  @Benchmark
+  public long reusedCrc32c() {
+    return crc32c.compute(buffer, OFFSET, entrySize);
+  }
+}
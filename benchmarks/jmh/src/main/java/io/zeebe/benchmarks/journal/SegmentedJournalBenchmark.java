@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.benchmarks.journal;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalReader;
+import io.atomix.storage.journal.JournalWriter;
+import io.atomix.storage.journal.SegmentedJournal;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.FileUtil;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Appends Zeebe entries to a segmented journal and reads them, using the namespace of the Raft
+ * storage. The journal is truncated regularly, to keep its size bounded while appending.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SegmentedJournalBenchmark {
+
+  private static final int MAX_SEGMENT_SIZE = (int) ByteValue.ofMegabytes(64);
+  private static final int MAX_ENTRIES = 50_000;
+  private static final int PREFILLED_ENTRIES = 10_000;
+
+  @Param({"128", "4096"})
+  private int entrySize;
+
+  private Path directory;
+  private SegmentedJournal<RaftLogEntry> journal;
+  private JournalWriter<RaftLogEntry> writer;
+  private JournalReader<RaftLogEntry> reader;
+  private ZeebeEntry entry;
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("segmented-journal");
+    journal =
+        SegmentedJournal.<RaftLogEntry>builder()
+            .withName("benchmark")
+            .withDirectory(directory.toFile())
+            .withNamespace(RaftNamespaces.RAFT_STORAGE_FIXED_ENTRY_LAYOUT)
+            .withStorageLevel(StorageLevel.MAPPED)
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withMaxEntrySize(entrySize * 2)
+            .build();
+    writer = journal.writer();
+    entry = new ZeebeEntry(1, System.currentTimeMillis(), 1, 1, ByteBuffer.allocate(entrySize));
+
+    for (int i = 0; i < PREFILLED_ENTRIES; i++) {
+      writer.append(entry);
+    }
+    reader = journal.openReader(1, JournalReader.Mode.ALL);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    reader.close();
+    journal.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public Indexed<ZeebeEntry> append() {
+    if (writer.getLastIndex() >= MAX_ENTRIES) {
+      writer.truncate(PREFILLED_ENTRIES);
+    }
+
+    return writer.append(entry);
+  }
+
+  @Benchmark
+  public Indexed<RaftLogEntry> read() {
+    if (!reader.hasNext()) {
+      reader.reset();
+    }
+
+    return reader.next();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.benchmarks.msgpack;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackToken;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Writes and reads a flat document of string, integer and boolean entries. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MsgPackBenchmark {
+
+  private static final DirectBuffer STRING_VALUE = wrapString("some-string-value");
+
+  @Param({"4", "32"})
+  private int entryCount;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final UnsafeBuffer writeBuffer = new UnsafeBuffer(new byte[64 * 1024]);
+  private final UnsafeBuffer document = new UnsafeBuffer(0, 0);
+
+  private DirectBuffer[] keys;
+
+  @Setup
+  public void setUp() {
+    keys = new DirectBuffer[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      keys[i] = wrapString("key-" + i);
+    }
+
+    final int length = writeDocument();
+    final byte[] bytes = new byte[length];
+    writeBuffer.getBytes(0, bytes);
+    document.wrap(bytes);
+  }
+
+  @Benchmark
+  public int write() {
+    return writeDocument();
+  }
+
+  @Benchmark
+  public void read(final Blackhole blackhole) {
+    reader.wrap(document, 0, document.capacity());
+
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final MsgPackToken key = reader.readToken();
+      final MsgPackToken value = reader.readToken();
+      blackhole.consume(key.getValueBuffer());
+      blackhole.consume(value.getType());
+    }
+  }
+
+  @Benchmark
+  public void skip(final Blackhole blackhole) {
+    reader.wrap(document, 0, document.capacity());
+
+    final int size = reader.readMapHeader();
+    reader.skipValues(2L * size);
+    blackhole.consume(reader.getOffset());
+  }
+
+  private int writeDocument() {
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(entryCount);
+
+    for (int i = 0; i < entryCount; i++) {
+      writer.writeString(keys[i]);
+
+      switch (i % 3) {
+        case 0:
+          writer.writeString(STRING_VALUE);
+          break;
+        case 1:
+          writer.writeInteger(i * 1_000_000L);
+          break;
+        default:
+          writer.writeBoolean(i % 2 == 0);
+          break;
+      }
+    }
+
+    return writer.getOffset();
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.benchmarks.msgpack;
+
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads and writes a job record, which is one of the records with the most properties, and reads a
+ * workflow instance record, which is the most frequent record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ObjectValueBenchmark {
+
+  private final JobRecord record = new JobRecord();
+  private final UnsafeBuffer writeBuffer = new UnsafeBuffer(new byte[64 * 1024]);
+  private final UnsafeBuffer document = new UnsafeBuffer(0, 0);
+  private final WorkflowInstanceRecord workflowInstanceRecord = new WorkflowInstanceRecord();
+  private final UnsafeBuffer workflowInstanceDocument = new UnsafeBuffer(0, 0);
+
+  @Setup
+  public void setUp() {
+    final JobRecord source =
+        new JobRecord()
+            .setType("payment-service")
+            .setWorker("payment-worker-1")
+            .setRetries(3)
+            .setDeadline(1_600_000_000_000L)
+            .setBpmnProcessId("order-process")
+            .setWorkflowKey(2251799813685249L)
+            .setWorkflowInstanceKey(2251799813685251L)
+            .setWorkflowDefinitionVersion(1)
+            .setElementId("collect-payment")
+            .setElementInstanceKey(2251799813685262L)
+            .setVariables(
+                new UnsafeBuffer(
+                    MsgPackConverter.convertToMsgPack("{\"orderId\":\"o-123\",\"amount\":1234}")));
+
+    document.wrap(serialize(source));
+
+    final WorkflowInstanceRecord workflowInstance =
+        new WorkflowInstanceRecord()
+            .setBpmnProcessId("order-process")
+            .setVersion(1)
+            .setWorkflowKey(2251799813685249L)
+            .setWorkflowInstanceKey(2251799813685251L)
+            .setElementId("collect-payment")
+            .setFlowScopeKey(2251799813685251L);
+    workflowInstanceDocument.wrap(serialize(workflowInstance));
+  }
+
+  private byte[] serialize(final BufferWriter source) {
+    final byte[] bytes = new byte[source.getLength()];
+    source.write(writeBuffer, 0);
+    writeBuffer.getBytes(0, bytes);
+    return bytes;
+  }
+
+  @Benchmark
+  public JobRecord read() {
+    record.wrap(document);
+    return record;
+  }
+
+  @Benchmark
+  public WorkflowInstanceRecord readWorkflowInstanceRecord() {
+    workflowInstanceRecord.wrap(workflowInstanceDocument);
+    return workflowInstanceRecord;
+  }
+
+  @Benchmark
+  public int write() {
+    record.write(writeBuffer, 0);
+    return record.getLength();
+  }
+}
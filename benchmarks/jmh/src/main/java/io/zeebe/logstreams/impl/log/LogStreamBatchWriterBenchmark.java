@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.impl.log;
+
+import io.zeebe.dispatcher.BlockPeek;
+import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.dispatcher.Dispatchers;
+import io.zeebe.dispatcher.Subscription;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes a batch of events to the dispatcher of a log stream, as the stream processor does for the
+ * follow-up events of a command. It lives in the package of the writer to create it without a log
+ * stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LogStreamBatchWriterBenchmark {
+
+  private static final int MAX_BLOCK_SIZE = (int) ByteValue.ofMegabytes(4);
+  private static final int VALUE_LENGTH = 256;
+  private static final int METADATA_LENGTH = 32;
+
+  @Param({"1", "8"})
+  private int eventsPerBatch;
+
+  private final UnsafeBuffer value = new UnsafeBuffer(new byte[VALUE_LENGTH]);
+  private final UnsafeBuffer metadata = new UnsafeBuffer(new byte[METADATA_LENGTH]);
+  private final BlockPeek blockPeek = new BlockPeek();
+
+  private ActorScheduler actorScheduler;
+  private Dispatcher dispatcher;
+  private Subscription subscription;
+  private LogStreamBatchWriterImpl writer;
+
+  @Setup
+  public void setUp() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    dispatcher =
+        Dispatchers.create("benchmark")
+            .maxFragmentLength((int) ByteValue.ofMegabytes(4))
+            .actorScheduler(actorScheduler)
+            .build();
+    subscription = dispatcher.openSubscription("benchmark");
+    writer = new LogStreamBatchWriterImpl(1, dispatcher);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    dispatcher.close();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  public long tryWrite() {
+    for (int i = 0; i < eventsPerBatch; i++) {
+      writer.event().key(i).sourceIndex(0).metadata(metadata).value(value).done();
+    }
+
+    long position = writer.tryWrite();
+    while (position < 0) {
+      // the publisher limit is reached, the events are kept by the writer for the retry
+      consume();
+      Thread.yield();
+      position = writer.tryWrite();
+    }
+
+    // consume the written batch, to keep space in the dispatcher for the next one
+    consume();
+
+    return position;
+  }
+
+  private void consume() {
+    while (subscription.peekBlock(blockPeek, MAX_BLOCK_SIZE, true) > 0) {
+      blockPeek.markCompleted();
+    }
+    dispatcher.updatePublisherLimit();
+  }
+}
@@ -284,6 +284,19 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows reading a {@link BpmnModelInstance} from an {@link InputStream}, without validating it
+   * against the BPMN schema. Use this only for models which were already validated, e.g. because
+   * they were read with {@link #readModelFromStream(InputStream)} before.
+   *
+   * @param stream the {@link InputStream} to read the {@link BpmnModelInstance} from
+   * @return the model read
+   * @throws ModelParseException if the model cannot be read
+   */
+  public static BpmnModelInstance readModelFromStreamWithoutValidation(final InputStream stream) {
+    return INSTANCE.doReadModelFromInputStreamWithoutValidation(stream);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be validated before writing.
    *
@@ -390,6 +403,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadModelFromInputStreamWithoutValidation(final InputStream is) {
+    return bpmnParser.parseModelFromStreamWithoutValidation(is);
+  }
+
   protected void doWriteModelToFile(final File file, final BpmnModelInstance modelInstance) {
     OutputStream os = null;
     try {
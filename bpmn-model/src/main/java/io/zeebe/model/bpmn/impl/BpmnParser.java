@@ -17,6 +17,7 @@
 package io.zeebe.model.bpmn.impl;
 
 import static io.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN20_NS;
+import static io.zeebe.model.bpmn.impl.BpmnModelConstants.BPMNDI_NS;
 import static io.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_20_SCHEMA_LOCATION;
 
 import io.zeebe.model.bpmn.Bpmn;
@@ -25,8 +26,12 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.validation.SchemaFactory;
 import org.camunda.bpm.model.xml.impl.ModelImpl;
 import org.camunda.bpm.model.xml.impl.parser.AbstractModelParser;
+import org.camunda.bpm.model.xml.impl.util.DomUtil;
 import org.camunda.bpm.model.xml.impl.util.ReflectUtil;
 import org.camunda.bpm.model.xml.instance.DomDocument;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 
 /**
  * The parser used when parsing BPMN Files
@@ -41,10 +46,17 @@ public class BpmnParser extends AbstractModelParser {
       "http://java.sun.com/xml/jaxp/properties/schemaLanguage";
 
   private static final String W3C_XML_SCHEMA = "http://www.w3.org/2001/XMLSchema";
+  private static final String ID_ATTRIBUTE = "id";
+
+  private final DocumentBuilderFactory nonValidatingDocumentBuilderFactory;
 
   public BpmnParser() {
     schemaFactory = SchemaFactory.newInstance(W3C_XML_SCHEMA);
     addSchema(BPMN20_NS, createSchema(BPMN_20_SCHEMA_LOCATION, BpmnParser.class.getClassLoader()));
+
+    nonValidatingDocumentBuilderFactory = DocumentBuilderFactory.newInstance();
+    super.configureFactory(nonValidatingDocumentBuilderFactory);
+    nonValidatingDocumentBuilderFactory.setValidating(false);
   }
 
   @Override
@@ -62,6 +74,40 @@ public class BpmnParser extends AbstractModelParser {
     return (BpmnModelInstanceImpl) super.parseModelFromStream(inputStream);
   }
 
+  /**
+   * Parses the model without validating it against the BPMN schema. This skips the most expensive
+   * part of the parsing and must only be used for models which were already validated before.
+   */
+  public BpmnModelInstanceImpl parseModelFromStreamWithoutValidation(
+      final InputStream inputStream) {
+    final DomDocument document;
+    synchronized (nonValidatingDocumentBuilderFactory) {
+      document = DomUtil.parseInputStream(nonValidatingDocumentBuilderFactory, inputStream);
+    }
+    // without the schema, the parser doesn't know which attributes are IDs
+    markIdAttributes((Document) document.getDomSource().getNode());
+    return createModelInstance(document);
+  }
+
+  /**
+   * Marks the id attributes of the BPMN elements, i.e. of the elements of the BPMN model and the
+   * BPMN DI namespace, which the schema declares as IDs. Elements of other namespaces, like
+   * extension elements, may have an id attribute which is not an ID.
+   */
+  private static void markIdAttributes(final Document document) {
+    markIdAttributes(document.getElementsByTagNameNS(BPMN20_NS, "*"));
+    markIdAttributes(document.getElementsByTagNameNS(BPMNDI_NS, "*"));
+  }
+
+  private static void markIdAttributes(final NodeList elements) {
+    for (int i = 0; i < elements.getLength(); i++) {
+      final Element element = (Element) elements.item(i);
+      if (element.hasAttribute(ID_ATTRIBUTE)) {
+        element.setIdAttribute(ID_ATTRIBUTE, true);
+      }
+    }
+  }
+
   @Override
   public BpmnModelInstanceImpl getEmptyModel() {
     return (BpmnModelInstanceImpl) super.getEmptyModel();
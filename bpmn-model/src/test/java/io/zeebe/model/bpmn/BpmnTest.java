@@ -17,7 +17,15 @@
 package io.zeebe.model.bpmn;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.zeebe.model.bpmn.instance.BoundaryEvent;
+import io.zeebe.model.bpmn.instance.Process;
+import io.zeebe.model.bpmn.instance.ServiceTask;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.camunda.bpm.model.xml.ModelParseException;
+import org.camunda.bpm.model.xml.instance.ModelElementInstance;
 import org.junit.Test;
 
 /** @author Sebastian Menski */
@@ -27,4 +35,73 @@ public class BpmnTest {
   public void testBpmn() {
     assertThat(Bpmn.INSTANCE).isNotNull();
   }
+
+  @Test
+  public void shouldReadModelWithoutValidation() {
+    // given
+    final String xml =
+        Bpmn.convertToString(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask("task", t -> t.zeebeJobType("type"))
+                .boundaryEvent("boundary")
+                .timerWithDuration("PT1M")
+                .endEvent()
+                .done());
+
+    // when
+    final BpmnModelInstance modelInstance =
+        Bpmn.readModelFromStreamWithoutValidation(toStream(xml));
+
+    // then
+    final BoundaryEvent boundaryEvent = modelInstance.getModelElementById("boundary");
+    assertThat(boundaryEvent.getAttachedTo())
+        .isEqualTo(modelInstance.<ServiceTask>getModelElementById("task"));
+    // the default values of the schema are applied
+    assertThat(boundaryEvent.cancelActivity()).isTrue();
+    assertThat(boundaryEvent.isParallelMultiple()).isFalse();
+  }
+
+  @Test
+  public void shouldNotValidateModelAgainstSchema() {
+    // given
+    final String xml =
+        "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">"
+            + "<process id=\"process\"><unknownElement/></process>"
+            + "</definitions>";
+
+    // when
+    final BpmnModelInstance modelInstance =
+        Bpmn.readModelFromStreamWithoutValidation(toStream(xml));
+
+    // then
+    final Process process = modelInstance.getModelElementById("process");
+    assertThat(process).isNotNull();
+    assertThatThrownBy(() -> Bpmn.readModelFromStream(toStream(xml)))
+        .isInstanceOf(ModelParseException.class);
+  }
+
+  @Test
+  public void shouldOnlyMarkIdsOfBpmnElementsWithoutValidation() {
+    // given
+    final String xml =
+        "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">"
+            + "<process id=\"process\">"
+            + "<extensionElements><custom:element xmlns:custom=\"http://example.com\" "
+            + "id=\"process\"/></extensionElements>"
+            + "</process>"
+            + "</definitions>";
+
+    // when
+    final BpmnModelInstance modelInstance =
+        Bpmn.readModelFromStreamWithoutValidation(toStream(xml));
+
+    // then
+    assertThat(modelInstance.<ModelElementInstance>getModelElementById("process"))
+        .isInstanceOf(Process.class);
+  }
+
+  private static ByteArrayInputStream toStream(final String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
 }
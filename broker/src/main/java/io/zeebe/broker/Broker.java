@@ -388,7 +388,7 @@ public final class Broker implements AutoCloseable {
           requestHandler.getPushDeploymentRequestHandler();
 
       final LongPollingJobNotification jobsAvailableNotification =
-          new LongPollingJobNotification(atomix.getEventService());
+          new LongPollingJobNotification(atomix.getEventService(), actor, stream.getPartitionId());
 
       return EngineProcessors.createEngineProcessors(
           processingContext,
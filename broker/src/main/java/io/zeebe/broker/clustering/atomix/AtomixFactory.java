@@ -108,6 +108,10 @@ public final class AtomixFactory {
             .withStorageLevel(dataCfg.getAtomixStorageLevel())
             .withEntryValidator(new ZeebeEntryValidator())
             .withFlushOnCommit()
+            .withLazySegmentRecovery(dataCfg.isLazySegmentRecovery())
+            .withFixedEntryLayout(dataCfg.isFixedEntryLayout())
+            .withCrc32cChecksumEnabled(dataCfg.isCrc32cChecksumEnabled())
+            .withOptimizedSnapshotReplication(dataCfg.isOptimizedSnapshotReplication())
             .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark());
 
     // by default, the Atomix max entry size is 1 MB
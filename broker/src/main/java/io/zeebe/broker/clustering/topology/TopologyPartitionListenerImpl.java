@@ -11,10 +11,12 @@ import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.protocol.record.PartitionRole;
 import io.zeebe.util.sched.ActorControl;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 
 public final class TopologyPartitionListenerImpl implements TopologyPartitionListener {
 
   private final Int2IntHashMap partitionLeaders = new Int2IntHashMap(-1);
+  private final Int2ObjectHashMap<String> partitionLeaderVersions = new Int2ObjectHashMap<>();
   private final ActorControl actor;
 
   public TopologyPartitionListenerImpl(final ActorControl actor) {
@@ -34,9 +36,20 @@ public final class TopologyPartitionListenerImpl implements TopologyPartitionLis
     if (currentLeader != member.getNodeId()) {
       partitionLeaders.put(partitionId, member.getNodeId());
     }
+    // the leader may have been restarted with another version
+    partitionLeaderVersions.put(partitionId, member.getVersion());
   }
 
   public Int2IntHashMap getPartitionLeaders() {
     return partitionLeaders;
   }
+
+  /**
+   * @param partitionId the id of the partition
+   * @return the version of the broker which leads the given partition, or {@code null} if the
+   *     leader is not known
+   */
+  public String getPartitionLeaderVersion(final int partitionId) {
+    return partitionLeaderVersions.get(partitionId);
+  }
 }
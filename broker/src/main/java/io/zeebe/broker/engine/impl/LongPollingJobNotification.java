@@ -8,16 +8,64 @@
 package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.messaging.ClusterEventService;
+import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
 
+/**
+ * Notifies the gateways that jobs of a type became available on this partition. The notification is
+ * only sent to gateways which subscribed to the job type, i.e. which have long polling requests for
+ * it, and it carries the partition id so the gateway can activate the jobs from there first.
+ *
+ * <p>The first notification for a job type is sent immediately. Further notifications for the same
+ * type within the {@link #DEBOUNCE_WINDOW} are coalesced into a single one at the end of the
+ * window, to avoid sending a message for every created job under load.
+ *
+ * <p>The notification must be used from the actor thread of the given actor control only.
+ */
 public final class LongPollingJobNotification {
-  private static final String TOPIC = "jobsAvailable";
+  static final Duration DEBOUNCE_WINDOW = Duration.ofMillis(50);
+  private static final String TOPIC_PREFIX = "jobsAvailable-";
+
   private final ClusterEventService eventService;
+  private final ActorControl actor;
+  private final Integer partitionId;
+
+  private final Set<String> notifiedJobTypes = new HashSet<>();
+  private final Set<String> pendingJobTypes = new HashSet<>();
 
-  public LongPollingJobNotification(final ClusterEventService eventService) {
+  public LongPollingJobNotification(
+      final ClusterEventService eventService, final ActorControl actor, final int partitionId) {
     this.eventService = eventService;
+    this.actor = actor;
+    this.partitionId = partitionId;
   }
 
   public void onJobsAvailable(final String jobType) {
-    eventService.broadcast(TOPIC, jobType);
+    if (notifiedJobTypes.isEmpty()) {
+      actor.runDelayed(DEBOUNCE_WINDOW, this::onDebounceWindowEnded);
+    }
+
+    if (notifiedJobTypes.add(jobType)) {
+      notify(jobType);
+    } else {
+      pendingJobTypes.add(jobType);
+    }
+  }
+
+  private void onDebounceWindowEnded() {
+    notifiedJobTypes.clear();
+    if (!pendingJobTypes.isEmpty()) {
+      actor.runDelayed(DEBOUNCE_WINDOW, this::onDebounceWindowEnded);
+
+      pendingJobTypes.forEach(this::notify);
+      notifiedJobTypes.addAll(pendingJobTypes);
+      pendingJobTypes.clear();
+    }
+  }
+
+  private void notify(final String jobType) {
+    eventService.broadcast(TOPIC_PREFIX + jobType, partitionId);
   }
 }
@@ -12,40 +12,106 @@ import io.atomix.core.Atomix;
 import io.zeebe.broker.clustering.topology.TopologyManager;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
 import io.zeebe.engine.processing.message.command.PartitionCommandSender;
+import io.zeebe.engine.processing.message.command.SubscriptionCommandBatch;
+import io.zeebe.util.VersionUtil;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.ActorControl;
-import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
-import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 
+/**
+ * Sends the subscription commands to the leaders of the receiver partitions. The commands are not
+ * sent one by one, but collected per receiver partition and sent as one {@link
+ * SubscriptionCommandBatch} when the current actor job is done, or earlier if the batch reached its
+ * max size.
+ *
+ * <p>A batch is only sent on the {@link #SUBSCRIPTION_BATCH_TOPIC} if it contains more than one
+ * command and the leader runs the same version as this broker. Otherwise, e.g. during a rolling
+ * upgrade where the leader may not subscribe to the batch topic yet, the commands are sent one by
+ * one on the {@link #SUBSCRIPTION_TOPIC}.
+ */
 public final class PartitionCommandSenderImpl implements PartitionCommandSender {
 
+  public static final String SUBSCRIPTION_TOPIC = "subscription";
+  public static final String SUBSCRIPTION_BATCH_TOPIC = "subscription-batch";
+  static final int MAX_BATCH_SIZE = 32 * 1024;
+
   private final Atomix atomix;
+  private final ActorControl actor;
 
   private final TopologyPartitionListenerImpl partitionListener;
 
+  private final Int2ObjectHashMap<SubscriptionCommandBatch> pendingBatches =
+      new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<MemberId> memberIds = new Int2ObjectHashMap<>();
+  private boolean isFlushScheduled;
+
   public PartitionCommandSenderImpl(
       final Atomix atomix, final TopologyManager topologyManager, final ActorControl actor) {
     this.atomix = atomix;
+    this.actor = actor;
     partitionListener = new TopologyPartitionListenerImpl(actor);
     topologyManager.addTopologyPartitionListener(partitionListener);
   }
 
+  @Override
   public boolean sendCommand(final int receiverPartitionId, final BufferWriter command) {
 
     final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
     if (!partitionLeaders.containsKey(receiverPartitionId)) {
       return true;
     }
-    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
 
-    final byte bytes[] = new byte[command.getLength()];
-    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
-    command.write(buffer, 0);
+    final SubscriptionCommandBatch batch =
+        pendingBatches.computeIfAbsent(receiverPartitionId, p -> new SubscriptionCommandBatch());
+    batch.add(command);
 
-    atomix
-        .getCommunicationService()
-        .send("subscription", bytes, MemberId.from("" + partitionLeader));
+    if (batch.getLength() >= MAX_BATCH_SIZE) {
+      flush(receiverPartitionId, batch);
+
+    } else if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      actor.submit(this::flushAll);
+    }
     return true;
   }
+
+  private void flushAll() {
+    isFlushScheduled = false;
+    pendingBatches.forEach(this::flush);
+  }
+
+  private void flush(final int receiverPartitionId, final SubscriptionCommandBatch batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    // the leader may have changed since the commands were added
+    final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
+    if (partitionLeaders.containsKey(receiverPartitionId)) {
+      final int partitionLeader = partitionLeaders.get(receiverPartitionId);
+      final MemberId memberId =
+          memberIds.computeIfAbsent(partitionLeader, id -> MemberId.from(String.valueOf(id)));
+
+      if (batch.getCommandCount() > 1 && supportsBatches(receiverPartitionId)) {
+        atomix
+            .getCommunicationService()
+            .send(SUBSCRIPTION_BATCH_TOPIC, batch.toByteArray(), memberId);
+      } else {
+        batch.forEachCommand(
+            (buffer, offset, length) -> {
+              final byte[] bytes = new byte[length];
+              buffer.getBytes(offset, bytes);
+              atomix.getCommunicationService().send(SUBSCRIPTION_TOPIC, bytes, memberId);
+            });
+      }
+    }
+
+    batch.reset();
+  }
+
+  private boolean supportsBatches(final int receiverPartitionId) {
+    final String leaderVersion = partitionListener.getPartitionLeaderVersion(receiverPartitionId);
+    return VersionUtil.getVersion().equals(leaderVersion);
+  }
 }
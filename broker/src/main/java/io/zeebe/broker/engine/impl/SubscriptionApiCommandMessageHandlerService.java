@@ -25,7 +25,9 @@ import org.slf4j.Logger;
 public final class SubscriptionApiCommandMessageHandlerService extends Actor
     implements PartitionListener, DiskSpaceUsageListener {
 
-  private static final String SUBSCRIPTION_TOPIC = "subscription";
+  private static final String SUBSCRIPTION_TOPIC = PartitionCommandSenderImpl.SUBSCRIPTION_TOPIC;
+  private static final String SUBSCRIPTION_BATCH_TOPIC =
+      PartitionCommandSenderImpl.SUBSCRIPTION_BATCH_TOPIC;
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
   private final Int2ObjectHashMap<LogStreamRecordWriter> leaderPartitions =
       new Int2ObjectHashMap<>();
@@ -48,6 +50,9 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
   protected void onActorStarting() {
     messageHandler = new SubscriptionCommandMessageHandler(actor::call, leaderPartitions::get);
     atomix.getCommunicationService().subscribe(SUBSCRIPTION_TOPIC, messageHandler);
+    atomix
+        .getCommunicationService()
+        .subscribe(SUBSCRIPTION_BATCH_TOPIC, messageHandler::applyBatch);
   }
 
   @Override
@@ -88,13 +93,18 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
     actor.call(
         () -> {
           LOG.debug(
-              "Broker is out of disk space. All requests with topic {} will be rejected.",
-              SUBSCRIPTION_TOPIC);
+              "Broker is out of disk space. All requests with topics {} and {} will be rejected.",
+              SUBSCRIPTION_TOPIC,
+              SUBSCRIPTION_BATCH_TOPIC);
           atomix.getCommunicationService().unsubscribe(SUBSCRIPTION_TOPIC);
+          atomix.getCommunicationService().unsubscribe(SUBSCRIPTION_BATCH_TOPIC);
+          // SubscriptionMessageHandler does not send any response
           atomix
               .getCommunicationService()
-              // SubscriptionMessageHandler does not send any response
               .subscribe(SUBSCRIPTION_TOPIC, b -> CompletableFuture.completedFuture(null));
+          atomix
+              .getCommunicationService()
+              .subscribe(SUBSCRIPTION_BATCH_TOPIC, b -> CompletableFuture.completedFuture(null));
         });
   }
 
@@ -103,10 +113,16 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
     actor.call(
         () -> {
           LOG.debug(
-              "Broker has disk space available again. All requests with topic {} will be accepted.",
-              SUBSCRIPTION_TOPIC);
+              "Broker has disk space available again. All requests with topics {} and {} will be"
+                  + " accepted.",
+              SUBSCRIPTION_TOPIC,
+              SUBSCRIPTION_BATCH_TOPIC);
           atomix.getCommunicationService().unsubscribe(SUBSCRIPTION_TOPIC);
+          atomix.getCommunicationService().unsubscribe(SUBSCRIPTION_BATCH_TOPIC);
           atomix.getCommunicationService().subscribe(SUBSCRIPTION_TOPIC, messageHandler);
+          atomix
+              .getCommunicationService()
+              .subscribe(SUBSCRIPTION_BATCH_TOPIC, messageHandler::applyBatch);
         });
   }
 }
@@ -42,6 +42,10 @@ public final class DataCfg implements ConfigurationEntry {
   private int logIndexDensity = 100;
 
   private boolean useMmap = false;
+  private boolean lazySegmentRecovery = false;
+  private boolean fixedEntryLayout = false;
+  private boolean optimizedSnapshotReplication = false;
+  private boolean crc32cChecksumEnabled = false;
   private boolean diskUsageMonitoringEnabled = DEFAULT_DISK_USAGE_MONITORING_ENABLED;
   private double diskUsageReplicationWatermark = DEFAULT_DISK_USAGE_REPLICATION_WATERMARK;
   private double diskUsageCommandWatermark = DEFAULT_DISK_USAGE_COMMAND_WATERMARK;
@@ -104,6 +108,38 @@ public final class DataCfg implements ConfigurationEntry {
     this.useMmap = useMmap;
   }
 
+  public boolean isLazySegmentRecovery() {
+    return lazySegmentRecovery;
+  }
+
+  public void setLazySegmentRecovery(final boolean lazySegmentRecovery) {
+    this.lazySegmentRecovery = lazySegmentRecovery;
+  }
+
+  public boolean isFixedEntryLayout() {
+    return fixedEntryLayout;
+  }
+
+  public void setFixedEntryLayout(final boolean fixedEntryLayout) {
+    this.fixedEntryLayout = fixedEntryLayout;
+  }
+
+  public boolean isOptimizedSnapshotReplication() {
+    return optimizedSnapshotReplication;
+  }
+
+  public void setOptimizedSnapshotReplication(final boolean optimizedSnapshotReplication) {
+    this.optimizedSnapshotReplication = optimizedSnapshotReplication;
+  }
+
+  public boolean isCrc32cChecksumEnabled() {
+    return crc32cChecksumEnabled;
+  }
+
+  public void setCrc32cChecksumEnabled(final boolean crc32cChecksumEnabled) {
+    this.crc32cChecksumEnabled = crc32cChecksumEnabled;
+  }
+
   public StorageLevel getAtomixStorageLevel() {
     return useMmap() ? StorageLevel.MAPPED : StorageLevel.DISK;
   }
@@ -171,6 +207,14 @@ public final class DataCfg implements ConfigurationEntry {
         + logIndexDensity
         + ", useMmap="
         + useMmap
+        + ", lazySegmentRecovery="
+        + lazySegmentRecovery
+        + ", fixedEntryLayout="
+        + fixedEntryLayout
+        + ", optimizedSnapshotReplication="
+        + optimizedSnapshotReplication
+        + ", crc32cChecksumEnabled="
+        + crc32cChecksumEnabled
         + ", diskUsageMonitoringEnabled="
         + diskUsageMonitoringEnabled
         + ", diskUsageReplicationWatermark="
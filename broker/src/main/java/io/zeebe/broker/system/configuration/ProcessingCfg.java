@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import org.springframework.util.unit.DataSize;
+
+public final class ProcessingCfg implements ConfigurationEntry {
+
+  private static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 1;
+  private static final Duration DEFAULT_MAX_BATCH_PROCESSING_DURATION = Duration.ofMillis(10);
+  private static final DataSize DEFAULT_WORKFLOW_CACHE_SIZE = DataSize.ofMegabytes(64);
+
+  private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private Duration maxBatchProcessingDuration = DEFAULT_MAX_BATCH_PROCESSING_DURATION;
+  private boolean enablePipelining = false;
+  private int maxTriggeredTimersInBatch = 0;
+  private DataSize workflowCacheSize = DEFAULT_WORKFLOW_CACHE_SIZE;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (maxCommandsInBatch < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected maxCommandsInBatch to be at least 1, but was %d", maxCommandsInBatch));
+    }
+
+    if (maxTriggeredTimersInBatch < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected maxTriggeredTimersInBatch to be at least 0, but was %d",
+              maxTriggeredTimersInBatch));
+    }
+
+    if (workflowCacheSize.toBytes() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected workflowCacheSize to be at least 1 byte, but was %s", workflowCacheSize));
+    }
+  }
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public void setMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+  }
+
+  public Duration getMaxBatchProcessingDuration() {
+    return maxBatchProcessingDuration;
+  }
+
+  public void setMaxBatchProcessingDuration(final Duration maxBatchProcessingDuration) {
+    this.maxBatchProcessingDuration = maxBatchProcessingDuration;
+  }
+
+  public boolean isEnablePipelining() {
+    return enablePipelining;
+  }
+
+  public void setEnablePipelining(final boolean enablePipelining) {
+    this.enablePipelining = enablePipelining;
+  }
+
+  public int getMaxTriggeredTimersInBatch() {
+    return maxTriggeredTimersInBatch;
+  }
+
+  public void setMaxTriggeredTimersInBatch(final int maxTriggeredTimersInBatch) {
+    this.maxTriggeredTimersInBatch = maxTriggeredTimersInBatch;
+  }
+
+  public DataSize getWorkflowCacheSize() {
+    return workflowCacheSize;
+  }
+
+  public void setWorkflowCacheSize(final DataSize workflowCacheSize) {
+    this.workflowCacheSize = workflowCacheSize;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessingCfg{"
+        + "maxCommandsInBatch="
+        + maxCommandsInBatch
+        + ", maxBatchProcessingDuration="
+        + maxBatchProcessingDuration
+        + ", enablePipelining="
+        + enablePipelining
+        + ", maxTriggeredTimersInBatch="
+        + maxTriggeredTimersInBatch
+        + ", workflowCacheSize="
+        + workflowCacheSize
+        + '}';
+  }
+}
@@ -7,11 +7,15 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.util.Optional;
 import java.util.Properties;
+import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg {
 
   private Properties columnFamilyOptions;
+  private int columnFamilyCacheSize = 0;
+  private DataSize blockCacheSize;
 
   public Properties getColumnFamilyOptions() {
     if (columnFamilyOptions == null) {
@@ -23,4 +27,24 @@ public final class RocksdbCfg {
   public void setColumnFamilyOptions(final Properties columnFamilyOptions) {
     this.columnFamilyOptions = columnFamilyOptions;
   }
+
+  public int getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public void setColumnFamilyCacheSize(final int columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+  }
+
+  public long getBlockCacheSizeInBytes() {
+    return Optional.ofNullable(blockCacheSize).map(DataSize::toBytes).orElse(0L);
+  }
+
+  public DataSize getBlockCacheSize() {
+    return blockCacheSize;
+  }
+
+  public void setBlockCacheSize(final DataSize blockCacheSize) {
+    this.blockCacheSize = blockCacheSize;
+  }
 }
@@ -438,7 +438,10 @@ public final class ZeebePartition extends Actor
     final var databaseCfg = brokerCfg.getData().getRocksdb();
     return new StateControllerImpl(
         partitionId,
-        DefaultZeebeDbFactory.defaultFactory(databaseCfg.getColumnFamilyOptions()),
+        DefaultZeebeDbFactory.defaultFactory(
+            databaseCfg.getColumnFamilyOptions(),
+            databaseCfg.getColumnFamilyCacheSize(),
+            databaseCfg.getBlockCacheSizeInBytes()),
         snapshotStoreSupplier.getConstructableSnapshotStore(atomixRaftPartition.name()),
         snapshotStoreSupplier.getReceivableSnapshotStore(atomixRaftPartition.name()),
         runtimeDirectory,
@@ -517,6 +520,7 @@ public final class ZeebePartition extends Actor
   }
 
   private StreamProcessor createStreamProcessor(final ZeebeDb zeebeDb) {
+    final var processingCfg = brokerCfg.getProcessing();
     return StreamProcessor.builder()
         .logStream(logStream)
         .actorScheduler(scheduler)
@@ -524,6 +528,11 @@ public final class ZeebePartition extends Actor
         .nodeId(localBroker.getNodeId())
         .commandResponseWriter(commandApiService.newCommandResponseWriter())
         .onProcessedListener(commandApiService.getOnProcessedListener(partitionId))
+        .maxCommandsInBatch(processingCfg.getMaxCommandsInBatch())
+        .maxBatchProcessingDuration(processingCfg.getMaxBatchProcessingDuration())
+        .enablePipelining(processingCfg.isEnablePipelining())
+        .maxTriggeredTimersInBatch(processingCfg.getMaxTriggeredTimersInBatch())
+        .workflowCacheSize(processingCfg.getWorkflowCacheSize().toBytes())
         .streamProcessorFactory(
             (processingContext) -> {
               final ActorControl actor = processingContext.getActor();
@@ -35,6 +35,7 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
 
   private static final ReplicationContext INVALID_SNAPSHOT = new ReplicationContext(null, -1, null);
   private static final Logger LOG = Loggers.SNAPSHOT_LOGGER;
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
 
   private final SnapshotReplication replication;
   private final Map<String, ReplicationContext> receivedSnapshots =
@@ -118,7 +119,8 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
       final var snapshot = optLatestSnapshot.get();
       LOG.debug("Available snapshot: {}", snapshot);
 
-      FileUtil.copySnapshot(runtimeDirectory, snapshot.getPath());
+      // the SST files are never modified by RocksDB, so they can be shared with the snapshot
+      FileUtil.linkSnapshot(runtimeDirectory, snapshot.getPath(), IMMUTABLE_FILE_SUFFIX);
 
       try {
         // open database to verify that the snapshot is recoverable
@@ -243,6 +245,11 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
 
   private void validateWhenReceivedAllChunks(
       final SnapshotChunk snapshotChunk, final ReplicationContext context) {
+    // large files are split into several chunks, but the total count is the count of files
+    if (!isLastChunkOfFile(snapshotChunk)) {
+      return;
+    }
+
     final int totalChunkCount = snapshotChunk.getTotalCount();
 
     if (context.incrementCount() == totalChunkCount) {
@@ -263,6 +270,12 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
     }
   }
 
+  private static boolean isLastChunkOfFile(final SnapshotChunk snapshotChunk) {
+    return snapshotChunk.isContentReference()
+        || snapshotChunk.getFileBlockPosition() + snapshotChunk.getContent().length
+            >= snapshotChunk.getTotalFileSize();
+  }
+
   private boolean tryToMarkSnapshotAsValid(
       final SnapshotChunk snapshotChunk, final ReplicationContext context) {
     try {
@@ -60,6 +60,66 @@ public final class AtomixFactoryTest {
     assertThat(config.getStorageConfig().getLevel()).isEqualTo(StorageLevel.DISK);
   }
 
+  @Test
+  public void shouldRecoverSegmentsLazily() {
+    // given
+    final var brokerConfig = newConfig();
+    brokerConfig.getData().setLazySegmentRecovery(true);
+
+    // when
+    final var atomix =
+        AtomixFactory.fromConfiguration(brokerConfig, new FileBasedSnapshotStoreFactory());
+
+    // then
+    final var config = getPartitionGroupConfig(atomix);
+    assertThat(config.getStorageConfig().isLazySegmentRecovery()).isTrue();
+  }
+
+  @Test
+  public void shouldWriteFixedEntryLayout() {
+    // given
+    final var brokerConfig = newConfig();
+    brokerConfig.getData().setFixedEntryLayout(true);
+
+    // when
+    final var atomix =
+        AtomixFactory.fromConfiguration(brokerConfig, new FileBasedSnapshotStoreFactory());
+
+    // then
+    final var config = getPartitionGroupConfig(atomix);
+    assertThat(config.getStorageConfig().isFixedEntryLayout()).isTrue();
+  }
+
+  @Test
+  public void shouldEnableCrc32cChecksums() {
+    // given
+    final var brokerConfig = newConfig();
+    brokerConfig.getData().setCrc32cChecksumEnabled(true);
+
+    // when
+    final var atomix =
+        AtomixFactory.fromConfiguration(brokerConfig, new FileBasedSnapshotStoreFactory());
+
+    // then
+    final var config = getPartitionGroupConfig(atomix);
+    assertThat(config.getStorageConfig().isCrc32cChecksumEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldReplicateOptimizedSnapshots() {
+    // given
+    final var brokerConfig = newConfig();
+    brokerConfig.getData().setOptimizedSnapshotReplication(true);
+
+    // when
+    final var atomix =
+        AtomixFactory.fromConfiguration(brokerConfig, new FileBasedSnapshotStoreFactory());
+
+    // then
+    final var config = getPartitionGroupConfig(atomix);
+    assertThat(config.isOptimizedSnapshotReplication()).isTrue();
+  }
+
   private RaftPartitionGroup getPartitionGroup(final Atomix atomix) {
     return (RaftPartitionGroup)
         atomix.getPartitionService().getPartitionGroup(AtomixFactory.GROUP_NAME);
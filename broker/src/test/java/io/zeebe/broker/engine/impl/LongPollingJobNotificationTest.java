@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.atomix.cluster.messaging.ClusterEventService;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class LongPollingJobNotificationTest {
+
+  private static final int PARTITION_ID = 2;
+
+  @Rule
+  public final ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  private final ClusterEventService eventService = mock(ClusterEventService.class);
+  private final NotifyingActor actor = new NotifyingActor();
+
+  @Before
+  public void setUp() {
+    schedulerRule.submitActor(actor);
+    schedulerRule.workUntilDone();
+  }
+
+  @Test
+  public void shouldNotifyFirstJobsImmediately() {
+    // when
+    actor.notifyJobsAvailable("foo", "bar");
+
+    // then
+    verify(eventService).broadcast("jobsAvailable-foo", PARTITION_ID);
+    verify(eventService).broadcast("jobsAvailable-bar", PARTITION_ID);
+    verifyNoMoreInteractions(eventService);
+  }
+
+  @Test
+  public void shouldCoalesceNotificationsWithinDebounceWindow() {
+    // given
+    actor.notifyJobsAvailable("foo");
+
+    // when
+    actor.notifyJobsAvailable("foo", "foo", "foo");
+    verify(eventService, times(1)).broadcast("jobsAvailable-foo", PARTITION_ID);
+
+    schedulerRule.getClock().addTime(LongPollingJobNotification.DEBOUNCE_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // then
+    verify(eventService, times(2)).broadcast("jobsAvailable-foo", PARTITION_ID);
+    verifyNoMoreInteractions(eventService);
+  }
+
+  @Test
+  public void shouldNotifyImmediatelyAfterQuietDebounceWindow() {
+    // given
+    actor.notifyJobsAvailable("foo");
+    schedulerRule.getClock().addTime(LongPollingJobNotification.DEBOUNCE_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // when
+    actor.notifyJobsAvailable("foo");
+
+    // then
+    verify(eventService, times(2)).broadcast("jobsAvailable-foo", PARTITION_ID);
+  }
+
+  private final class NotifyingActor extends Actor {
+    private LongPollingJobNotification notification;
+
+    @Override
+    protected void onActorStarted() {
+      notification = new LongPollingJobNotification(eventService, actor, PARTITION_ID);
+    }
+
+    void notifyJobsAvailable(final String... jobTypes) {
+      actor.run(
+          () -> {
+            for (final String jobType : jobTypes) {
+              notification.onJobsAvailable(jobType);
+            }
+          });
+      schedulerRule.workUntilDone();
+    }
+  }
+}
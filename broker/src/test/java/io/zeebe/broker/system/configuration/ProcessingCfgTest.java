@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.springframework.util.unit.DataSize;
+
+public final class ProcessingCfgTest {
+
+  public final Map<String, String> environment = new HashMap<>();
+
+  @Test
+  public void shouldDisableBatchProcessingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var processing = cfg.getProcessing();
+
+    // then
+    assertThat(processing.getMaxCommandsInBatch()).isEqualTo(1);
+    assertThat(processing.isEnablePipelining()).isFalse();
+    assertThat(processing.getMaxTriggeredTimersInBatch()).isZero();
+    assertThat(processing.getWorkflowCacheSize()).isEqualTo(DataSize.ofMegabytes(64));
+  }
+
+  @Test
+  public void shouldSetBatchProcessingConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("processing-cfg", environment);
+    final var processing = cfg.getProcessing();
+
+    // then
+    assertThat(processing.getMaxCommandsInBatch()).isEqualTo(100);
+    assertThat(processing.getMaxBatchProcessingDuration()).isEqualTo(Duration.ofMillis(25));
+    assertThat(processing.isEnablePipelining()).isTrue();
+    assertThat(processing.getMaxTriggeredTimersInBatch()).isEqualTo(200);
+    assertThat(processing.getWorkflowCacheSize()).isEqualTo(DataSize.ofMegabytes(32));
+  }
+
+  @Test
+  public void shouldSetMaxCommandsInBatchFromEnv() {
+    // given
+    environment.put("zeebe.broker.processing.maxCommandsInBatch", "50");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("processing-cfg", environment);
+
+    // then
+    assertThat(cfg.getProcessing().getMaxCommandsInBatch()).isEqualTo(50);
+  }
+
+  @Test
+  public void shouldSetEnablePipeliningFromEnv() {
+    // given
+    environment.put("zeebe.broker.processing.enablePipelining", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("processing-cfg", environment);
+
+    // then
+    assertThat(cfg.getProcessing().isEnablePipelining()).isFalse();
+  }
+
+  @Test
+  public void shouldSetMaxTriggeredTimersInBatchFromEnv() {
+    // given
+    environment.put("zeebe.broker.processing.maxTriggeredTimersInBatch", "50");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("processing-cfg", environment);
+
+    // then
+    assertThat(cfg.getProcessing().getMaxTriggeredTimersInBatch()).isEqualTo(50);
+  }
+
+  @Test
+  public void shouldSetWorkflowCacheSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.processing.workflowCacheSize", "16MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("processing-cfg", environment);
+
+    // then
+    assertThat(cfg.getProcessing().getWorkflowCacheSize()).isEqualTo(DataSize.ofMegabytes(16));
+  }
+}
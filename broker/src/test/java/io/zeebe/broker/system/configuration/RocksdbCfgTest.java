@@ -28,4 +28,40 @@ public final class RocksdbCfgTest {
     assertThat(columnFamilyOptions).containsEntry("compaction_pri", "kOldestSmallestSeqFirst");
     assertThat(columnFamilyOptions).containsEntry("write_buffer_size", "67108864");
   }
+
+  @Test
+  public void shouldDisableColumnFamilyCacheByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getData().getRocksdb().getColumnFamilyCacheSize()).isZero();
+  }
+
+  @Test
+  public void shouldSetColumnFamilyCacheSize() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+
+    // then
+    assertThat(cfg.getData().getRocksdb().getColumnFamilyCacheSize()).isEqualTo(1000);
+  }
+
+  @Test
+  public void shouldUseDefaultBlockCacheSizeByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getData().getRocksdb().getBlockCacheSizeInBytes()).isZero();
+  }
+
+  @Test
+  public void shouldSetBlockCacheSize() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+
+    // then
+    assertThat(cfg.getData().getRocksdb().getBlockCacheSizeInBytes()).isEqualTo(64 * 1024 * 1024L);
+  }
 }
@@ -207,5 +207,20 @@ public final class FailingSnapshotChunkReplicationTest {
     public long getSnapshotChecksum() {
       return snapshotChunk.getSnapshotChecksum();
     }
+
+    @Override
+    public boolean isContentReference() {
+      return snapshotChunk.isContentReference();
+    }
+
+    @Override
+    public long getFileBlockPosition() {
+      return snapshotChunk.getFileBlockPosition();
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return snapshotChunk.getTotalFileSize();
+    }
   }
 }
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.netflix.concurrency.limits.limit.SettableLimit;
 import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceCreationIntent;
 import java.util.stream.IntStream;
@@ -78,6 +79,16 @@ public final class CommandRateLimiterTest {
     assertThat(rateLimiter.tryAcquire(0, 1, JobIntent.COMPLETE)).isTrue();
   }
 
+  @Test
+  public void shouldAcquireWhenJobBatchCompleteCommandAfterLimit() {
+    // given
+    IntStream.range(0, limit.getLimit())
+        .forEach(i -> assertThat(rateLimiter.tryAcquire(0, 1, context)).isTrue());
+
+    // then
+    assertThat(rateLimiter.tryAcquire(0, 1, JobBatchIntent.COMPLETE)).isTrue();
+  }
+
   @Test
   public void shouldAcquireWhenJobFailCommandAfterLimit() {
     // given
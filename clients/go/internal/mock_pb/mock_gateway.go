@@ -89,6 +89,24 @@ func (_mr *MockGatewayClientMockRecorder) CompleteJob(arg0, arg1 interface{}, ar
 	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "CompleteJob", reflect.TypeOf((*MockGatewayClient)(nil).CompleteJob), _s...)
 }
 
+// CompleteJobs mocks base method
+func (_m *MockGatewayClient) CompleteJobs(_param0 context.Context, _param1 *pb.CompleteJobsRequest, _param2 ...grpc.CallOption) (*pb.CompleteJobsResponse, error) {
+	_s := []interface{}{_param0, _param1}
+	for _, _x := range _param2 {
+		_s = append(_s, _x)
+	}
+	ret := _m.ctrl.Call(_m, "CompleteJobs", _s...)
+	ret0, _ := ret[0].(*pb.CompleteJobsResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CompleteJobs indicates an expected call of CompleteJobs
+func (_mr *MockGatewayClientMockRecorder) CompleteJobs(arg0, arg1 interface{}, arg2 ...interface{}) *gomock.Call {
+	_s := append([]interface{}{arg0, arg1}, arg2...)
+	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "CompleteJobs", reflect.TypeOf((*MockGatewayClient)(nil).CompleteJobs), _s...)
+}
+
 // CreateWorkflowInstance mocks base method
 func (_m *MockGatewayClient) CreateWorkflowInstance(_param0 context.Context, _param1 *pb.CreateWorkflowInstanceRequest, _param2 ...grpc.CallOption) (*pb.CreateWorkflowInstanceResponse, error) {
 	_s := []interface{}{_param0, _param1}
@@ -215,6 +233,24 @@ func (_mr *MockGatewayClientMockRecorder) SetVariables(arg0, arg1 interface{}, a
 	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "SetVariables", reflect.TypeOf((*MockGatewayClient)(nil).SetVariables), _s...)
 }
 
+// StreamActivatedJobs mocks base method
+func (_m *MockGatewayClient) StreamActivatedJobs(_param0 context.Context, _param1 ...grpc.CallOption) (pb.Gateway_StreamActivatedJobsClient, error) {
+	_s := []interface{}{_param0}
+	for _, _x := range _param1 {
+		_s = append(_s, _x)
+	}
+	ret := _m.ctrl.Call(_m, "StreamActivatedJobs", _s...)
+	ret0, _ := ret[0].(pb.Gateway_StreamActivatedJobsClient)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// StreamActivatedJobs indicates an expected call of StreamActivatedJobs
+func (_mr *MockGatewayClientMockRecorder) StreamActivatedJobs(arg0 interface{}, arg1 ...interface{}) *gomock.Call {
+	_s := append([]interface{}{arg0}, arg1...)
+	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "StreamActivatedJobs", reflect.TypeOf((*MockGatewayClient)(nil).StreamActivatedJobs), _s...)
+}
+
 // ThrowError mocks base method
 func (_m *MockGatewayClient) ThrowError(_param0 context.Context, _param1 *pb.ThrowErrorRequest, _param2 ...grpc.CallOption) (*pb.ThrowErrorResponse, error) {
 	_s := []interface{}{_param0, _param1}
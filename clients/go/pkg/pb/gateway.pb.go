@@ -51,7 +51,7 @@ func (x WorkflowRequestObject_ResourceType) String() string {
 }
 
 func (WorkflowRequestObject_ResourceType) EnumDescriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{12, 0}
+	return fileDescriptor_f1a937782ebbded5, []int{15, 0}
 }
 
 // Describes the Raft role of the broker for a given partition
@@ -77,7 +77,7 @@ func (x Partition_PartitionBrokerRole) String() string {
 }
 
 func (Partition_PartitionBrokerRole) EnumDescriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{26, 0}
+	return fileDescriptor_f1a937782ebbded5, []int{29, 0}
 }
 
 type ActivateJobsRequest struct {
@@ -513,6 +513,145 @@ func (m *CompleteJobResponse) XXX_DiscardUnknown() {
 
 var xxx_messageInfo_CompleteJobResponse proto.InternalMessageInfo
 
+type CompleteJobsRequest struct {
+	// the jobs to complete; the jobs may belong to different partitions
+	Jobs                 []*CompleteJobRequest `protobuf:"bytes,1,rep,name=jobs,proto3" json:"jobs,omitempty"`
+	XXX_NoUnkeyedLiteral struct{}              `json:"-"`
+	XXX_unrecognized     []byte                `json:"-"`
+	XXX_sizecache        int32                 `json:"-"`
+}
+
+func (m *CompleteJobsRequest) Reset()         { *m = CompleteJobsRequest{} }
+func (m *CompleteJobsRequest) String() string { return proto.CompactTextString(m) }
+func (*CompleteJobsRequest) ProtoMessage()    {}
+func (*CompleteJobsRequest) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{7}
+}
+
+func (m *CompleteJobsRequest) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_CompleteJobsRequest.Unmarshal(m, b)
+}
+func (m *CompleteJobsRequest) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_CompleteJobsRequest.Marshal(b, m, deterministic)
+}
+func (m *CompleteJobsRequest) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_CompleteJobsRequest.Merge(m, src)
+}
+func (m *CompleteJobsRequest) XXX_Size() int {
+	return xxx_messageInfo_CompleteJobsRequest.Size(m)
+}
+func (m *CompleteJobsRequest) XXX_DiscardUnknown() {
+	xxx_messageInfo_CompleteJobsRequest.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_CompleteJobsRequest proto.InternalMessageInfo
+
+func (m *CompleteJobsRequest) GetJobs() []*CompleteJobRequest {
+	if m != nil {
+		return m.Jobs
+	}
+	return nil
+}
+
+type CompleteJobsResponse struct {
+	// the result of each job, in the same order as the jobs of the request
+	Results              []*CompleteJobResult `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+	XXX_NoUnkeyedLiteral struct{}             `json:"-"`
+	XXX_unrecognized     []byte               `json:"-"`
+	XXX_sizecache        int32                `json:"-"`
+}
+
+func (m *CompleteJobsResponse) Reset()         { *m = CompleteJobsResponse{} }
+func (m *CompleteJobsResponse) String() string { return proto.CompactTextString(m) }
+func (*CompleteJobsResponse) ProtoMessage()    {}
+func (*CompleteJobsResponse) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{8}
+}
+
+func (m *CompleteJobsResponse) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_CompleteJobsResponse.Unmarshal(m, b)
+}
+func (m *CompleteJobsResponse) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_CompleteJobsResponse.Marshal(b, m, deterministic)
+}
+func (m *CompleteJobsResponse) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_CompleteJobsResponse.Merge(m, src)
+}
+func (m *CompleteJobsResponse) XXX_Size() int {
+	return xxx_messageInfo_CompleteJobsResponse.Size(m)
+}
+func (m *CompleteJobsResponse) XXX_DiscardUnknown() {
+	xxx_messageInfo_CompleteJobsResponse.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_CompleteJobsResponse proto.InternalMessageInfo
+
+func (m *CompleteJobsResponse) GetResults() []*CompleteJobResult {
+	if m != nil {
+		return m.Results
+	}
+	return nil
+}
+
+type CompleteJobResult struct {
+	// the key of the job
+	JobKey int64 `protobuf:"varint,1,opt,name=jobKey,proto3" json:"jobKey,omitempty"`
+	// the gRPC status code of the completion, i.e. OK (0) if the job was completed, or the
+	// code the CompleteJob RPC would have failed with otherwise
+	Code int32 `protobuf:"varint,2,opt,name=code,proto3" json:"code,omitempty"`
+	// the reason why the job could not be completed
+	Message              string   `protobuf:"bytes,3,opt,name=message,proto3" json:"message,omitempty"`
+	XXX_NoUnkeyedLiteral struct{} `json:"-"`
+	XXX_unrecognized     []byte   `json:"-"`
+	XXX_sizecache        int32    `json:"-"`
+}
+
+func (m *CompleteJobResult) Reset()         { *m = CompleteJobResult{} }
+func (m *CompleteJobResult) String() string { return proto.CompactTextString(m) }
+func (*CompleteJobResult) ProtoMessage()    {}
+func (*CompleteJobResult) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{9}
+}
+
+func (m *CompleteJobResult) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_CompleteJobResult.Unmarshal(m, b)
+}
+func (m *CompleteJobResult) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_CompleteJobResult.Marshal(b, m, deterministic)
+}
+func (m *CompleteJobResult) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_CompleteJobResult.Merge(m, src)
+}
+func (m *CompleteJobResult) XXX_Size() int {
+	return xxx_messageInfo_CompleteJobResult.Size(m)
+}
+func (m *CompleteJobResult) XXX_DiscardUnknown() {
+	xxx_messageInfo_CompleteJobResult.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_CompleteJobResult proto.InternalMessageInfo
+
+func (m *CompleteJobResult) GetJobKey() int64 {
+	if m != nil {
+		return m.JobKey
+	}
+	return 0
+}
+
+func (m *CompleteJobResult) GetCode() int32 {
+	if m != nil {
+		return m.Code
+	}
+	return 0
+}
+
+func (m *CompleteJobResult) GetMessage() string {
+	if m != nil {
+		return m.Message
+	}
+	return ""
+}
+
 type CreateWorkflowInstanceRequest struct {
 	// the unique key identifying the workflow definition (e.g. returned from a workflow
 	// in the DeployWorkflowResponse message)
@@ -536,7 +675,7 @@ func (m *CreateWorkflowInstanceRequest) Reset()         { *m = CreateWorkflowIns
 func (m *CreateWorkflowInstanceRequest) String() string { return proto.CompactTextString(m) }
 func (*CreateWorkflowInstanceRequest) ProtoMessage()    {}
 func (*CreateWorkflowInstanceRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{7}
+	return fileDescriptor_f1a937782ebbded5, []int{10}
 }
 
 func (m *CreateWorkflowInstanceRequest) XXX_Unmarshal(b []byte) error {
@@ -605,7 +744,7 @@ func (m *CreateWorkflowInstanceResponse) Reset()         { *m = CreateWorkflowIn
 func (m *CreateWorkflowInstanceResponse) String() string { return proto.CompactTextString(m) }
 func (*CreateWorkflowInstanceResponse) ProtoMessage()    {}
 func (*CreateWorkflowInstanceResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{8}
+	return fileDescriptor_f1a937782ebbded5, []int{11}
 }
 
 func (m *CreateWorkflowInstanceResponse) XXX_Unmarshal(b []byte) error {
@@ -674,7 +813,7 @@ func (m *CreateWorkflowInstanceWithResultRequest) Reset() {
 func (m *CreateWorkflowInstanceWithResultRequest) String() string { return proto.CompactTextString(m) }
 func (*CreateWorkflowInstanceWithResultRequest) ProtoMessage()    {}
 func (*CreateWorkflowInstanceWithResultRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{9}
+	return fileDescriptor_f1a937782ebbded5, []int{12}
 }
 
 func (m *CreateWorkflowInstanceWithResultRequest) XXX_Unmarshal(b []byte) error {
@@ -741,7 +880,7 @@ func (m *CreateWorkflowInstanceWithResultResponse) Reset() {
 func (m *CreateWorkflowInstanceWithResultResponse) String() string { return proto.CompactTextString(m) }
 func (*CreateWorkflowInstanceWithResultResponse) ProtoMessage()    {}
 func (*CreateWorkflowInstanceWithResultResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{10}
+	return fileDescriptor_f1a937782ebbded5, []int{13}
 }
 
 func (m *CreateWorkflowInstanceWithResultResponse) XXX_Unmarshal(b []byte) error {
@@ -809,7 +948,7 @@ func (m *DeployWorkflowRequest) Reset()         { *m = DeployWorkflowRequest{} }
 func (m *DeployWorkflowRequest) String() string { return proto.CompactTextString(m) }
 func (*DeployWorkflowRequest) ProtoMessage()    {}
 func (*DeployWorkflowRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{11}
+	return fileDescriptor_f1a937782ebbded5, []int{14}
 }
 
 func (m *DeployWorkflowRequest) XXX_Unmarshal(b []byte) error {
@@ -854,7 +993,7 @@ func (m *WorkflowRequestObject) Reset()         { *m = WorkflowRequestObject{} }
 func (m *WorkflowRequestObject) String() string { return proto.CompactTextString(m) }
 func (*WorkflowRequestObject) ProtoMessage()    {}
 func (*WorkflowRequestObject) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{12}
+	return fileDescriptor_f1a937782ebbded5, []int{15}
 }
 
 func (m *WorkflowRequestObject) XXX_Unmarshal(b []byte) error {
@@ -910,7 +1049,7 @@ func (m *DeployWorkflowResponse) Reset()         { *m = DeployWorkflowResponse{}
 func (m *DeployWorkflowResponse) String() string { return proto.CompactTextString(m) }
 func (*DeployWorkflowResponse) ProtoMessage()    {}
 func (*DeployWorkflowResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{13}
+	return fileDescriptor_f1a937782ebbded5, []int{16}
 }
 
 func (m *DeployWorkflowResponse) XXX_Unmarshal(b []byte) error {
@@ -965,7 +1104,7 @@ func (m *WorkflowMetadata) Reset()         { *m = WorkflowMetadata{} }
 func (m *WorkflowMetadata) String() string { return proto.CompactTextString(m) }
 func (*WorkflowMetadata) ProtoMessage()    {}
 func (*WorkflowMetadata) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{14}
+	return fileDescriptor_f1a937782ebbded5, []int{17}
 }
 
 func (m *WorkflowMetadata) XXX_Unmarshal(b []byte) error {
@@ -1032,7 +1171,7 @@ func (m *FailJobRequest) Reset()         { *m = FailJobRequest{} }
 func (m *FailJobRequest) String() string { return proto.CompactTextString(m) }
 func (*FailJobRequest) ProtoMessage()    {}
 func (*FailJobRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{15}
+	return fileDescriptor_f1a937782ebbded5, []int{18}
 }
 
 func (m *FailJobRequest) XXX_Unmarshal(b []byte) error {
@@ -1084,7 +1223,7 @@ func (m *FailJobResponse) Reset()         { *m = FailJobResponse{} }
 func (m *FailJobResponse) String() string { return proto.CompactTextString(m) }
 func (*FailJobResponse) ProtoMessage()    {}
 func (*FailJobResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{16}
+	return fileDescriptor_f1a937782ebbded5, []int{19}
 }
 
 func (m *FailJobResponse) XXX_Unmarshal(b []byte) error {
@@ -1121,7 +1260,7 @@ func (m *ThrowErrorRequest) Reset()         { *m = ThrowErrorRequest{} }
 func (m *ThrowErrorRequest) String() string { return proto.CompactTextString(m) }
 func (*ThrowErrorRequest) ProtoMessage()    {}
 func (*ThrowErrorRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{17}
+	return fileDescriptor_f1a937782ebbded5, []int{20}
 }
 
 func (m *ThrowErrorRequest) XXX_Unmarshal(b []byte) error {
@@ -1173,7 +1312,7 @@ func (m *ThrowErrorResponse) Reset()         { *m = ThrowErrorResponse{} }
 func (m *ThrowErrorResponse) String() string { return proto.CompactTextString(m) }
 func (*ThrowErrorResponse) ProtoMessage()    {}
 func (*ThrowErrorResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{18}
+	return fileDescriptor_f1a937782ebbded5, []int{21}
 }
 
 func (m *ThrowErrorResponse) XXX_Unmarshal(b []byte) error {
@@ -1216,7 +1355,7 @@ func (m *PublishMessageRequest) Reset()         { *m = PublishMessageRequest{} }
 func (m *PublishMessageRequest) String() string { return proto.CompactTextString(m) }
 func (*PublishMessageRequest) ProtoMessage()    {}
 func (*PublishMessageRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{19}
+	return fileDescriptor_f1a937782ebbded5, []int{22}
 }
 
 func (m *PublishMessageRequest) XXX_Unmarshal(b []byte) error {
@@ -1282,7 +1421,7 @@ func (m *PublishMessageResponse) Reset()         { *m = PublishMessageResponse{}
 func (m *PublishMessageResponse) String() string { return proto.CompactTextString(m) }
 func (*PublishMessageResponse) ProtoMessage()    {}
 func (*PublishMessageResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{20}
+	return fileDescriptor_f1a937782ebbded5, []int{23}
 }
 
 func (m *PublishMessageResponse) XXX_Unmarshal(b []byte) error {
@@ -1315,7 +1454,7 @@ func (m *ResolveIncidentRequest) Reset()         { *m = ResolveIncidentRequest{}
 func (m *ResolveIncidentRequest) String() string { return proto.CompactTextString(m) }
 func (*ResolveIncidentRequest) ProtoMessage()    {}
 func (*ResolveIncidentRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{21}
+	return fileDescriptor_f1a937782ebbded5, []int{24}
 }
 
 func (m *ResolveIncidentRequest) XXX_Unmarshal(b []byte) error {
@@ -1353,7 +1492,7 @@ func (m *ResolveIncidentResponse) Reset()         { *m = ResolveIncidentResponse
 func (m *ResolveIncidentResponse) String() string { return proto.CompactTextString(m) }
 func (*ResolveIncidentResponse) ProtoMessage()    {}
 func (*ResolveIncidentResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{22}
+	return fileDescriptor_f1a937782ebbded5, []int{25}
 }
 
 func (m *ResolveIncidentResponse) XXX_Unmarshal(b []byte) error {
@@ -1384,7 +1523,7 @@ func (m *TopologyRequest) Reset()         { *m = TopologyRequest{} }
 func (m *TopologyRequest) String() string { return proto.CompactTextString(m) }
 func (*TopologyRequest) ProtoMessage()    {}
 func (*TopologyRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{23}
+	return fileDescriptor_f1a937782ebbded5, []int{26}
 }
 
 func (m *TopologyRequest) XXX_Unmarshal(b []byte) error {
@@ -1425,7 +1564,7 @@ func (m *TopologyResponse) Reset()         { *m = TopologyResponse{} }
 func (m *TopologyResponse) String() string { return proto.CompactTextString(m) }
 func (*TopologyResponse) ProtoMessage()    {}
 func (*TopologyResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{24}
+	return fileDescriptor_f1a937782ebbded5, []int{27}
 }
 
 func (m *TopologyResponse) XXX_Unmarshal(b []byte) error {
@@ -1501,7 +1640,7 @@ func (m *BrokerInfo) Reset()         { *m = BrokerInfo{} }
 func (m *BrokerInfo) String() string { return proto.CompactTextString(m) }
 func (*BrokerInfo) ProtoMessage()    {}
 func (*BrokerInfo) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{25}
+	return fileDescriptor_f1a937782ebbded5, []int{28}
 }
 
 func (m *BrokerInfo) XXX_Unmarshal(b []byte) error {
@@ -1571,7 +1710,7 @@ func (m *Partition) Reset()         { *m = Partition{} }
 func (m *Partition) String() string { return proto.CompactTextString(m) }
 func (*Partition) ProtoMessage()    {}
 func (*Partition) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{26}
+	return fileDescriptor_f1a937782ebbded5, []int{29}
 }
 
 func (m *Partition) XXX_Unmarshal(b []byte) error {
@@ -1620,7 +1759,7 @@ func (m *UpdateJobRetriesRequest) Reset()         { *m = UpdateJobRetriesRequest
 func (m *UpdateJobRetriesRequest) String() string { return proto.CompactTextString(m) }
 func (*UpdateJobRetriesRequest) ProtoMessage()    {}
 func (*UpdateJobRetriesRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{27}
+	return fileDescriptor_f1a937782ebbded5, []int{30}
 }
 
 func (m *UpdateJobRetriesRequest) XXX_Unmarshal(b []byte) error {
@@ -1665,7 +1804,7 @@ func (m *UpdateJobRetriesResponse) Reset()         { *m = UpdateJobRetriesRespon
 func (m *UpdateJobRetriesResponse) String() string { return proto.CompactTextString(m) }
 func (*UpdateJobRetriesResponse) ProtoMessage()    {}
 func (*UpdateJobRetriesResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{28}
+	return fileDescriptor_f1a937782ebbded5, []int{31}
 }
 
 func (m *UpdateJobRetriesResponse) XXX_Unmarshal(b []byte) error {
@@ -1711,7 +1850,7 @@ func (m *SetVariablesRequest) Reset()         { *m = SetVariablesRequest{} }
 func (m *SetVariablesRequest) String() string { return proto.CompactTextString(m) }
 func (*SetVariablesRequest) ProtoMessage()    {}
 func (*SetVariablesRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{29}
+	return fileDescriptor_f1a937782ebbded5, []int{32}
 }
 
 func (m *SetVariablesRequest) XXX_Unmarshal(b []byte) error {
@@ -1765,7 +1904,7 @@ func (m *SetVariablesResponse) Reset()         { *m = SetVariablesResponse{} }
 func (m *SetVariablesResponse) String() string { return proto.CompactTextString(m) }
 func (*SetVariablesResponse) ProtoMessage()    {}
 func (*SetVariablesResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{30}
+	return fileDescriptor_f1a937782ebbded5, []int{33}
 }
 
 func (m *SetVariablesResponse) XXX_Unmarshal(b []byte) error {
@@ -1793,6 +1932,88 @@ func (m *SetVariablesResponse) GetKey() int64 {
 	return 0
 }
 
+type StreamActivatedJobsRequest struct {
+	// the job type, as defined in the BPMN process (e.g. <zeebe:taskDefinition
+	// type="payment-service" />); only read from the first request of a stream
+	Type string `protobuf:"bytes,1,opt,name=type,proto3" json:"type,omitempty"`
+	// the name of the worker activating the jobs, mostly used for logging purposes; only read
+	// from the first request of a stream
+	Worker string `protobuf:"bytes,2,opt,name=worker,proto3" json:"worker,omitempty"`
+	// a job pushed on this stream will not be activated by another worker until the
+	// timeout (in ms) has been reached; only read from the first request of a stream
+	Timeout int64 `protobuf:"varint,3,opt,name=timeout,proto3" json:"timeout,omitempty"`
+	// a list of variables to fetch as the job variables; if empty, all visible variables at
+	// the time of activation for the scope of the job will be returned; only read from the first
+	// request of a stream
+	FetchVariable []string `protobuf:"bytes,4,rep,name=fetchVariable,proto3" json:"fetchVariable,omitempty"`
+	// the amount of additional jobs the worker is able to handle; the gateway pushes at most as
+	// many jobs on the stream as the sum of the capacities sent by the worker
+	Capacity             int32    `protobuf:"varint,5,opt,name=capacity,proto3" json:"capacity,omitempty"`
+	XXX_NoUnkeyedLiteral struct{} `json:"-"`
+	XXX_unrecognized     []byte   `json:"-"`
+	XXX_sizecache        int32    `json:"-"`
+}
+
+func (m *StreamActivatedJobsRequest) Reset()         { *m = StreamActivatedJobsRequest{} }
+func (m *StreamActivatedJobsRequest) String() string { return proto.CompactTextString(m) }
+func (*StreamActivatedJobsRequest) ProtoMessage()    {}
+func (*StreamActivatedJobsRequest) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{34}
+}
+
+func (m *StreamActivatedJobsRequest) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_StreamActivatedJobsRequest.Unmarshal(m, b)
+}
+func (m *StreamActivatedJobsRequest) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_StreamActivatedJobsRequest.Marshal(b, m, deterministic)
+}
+func (m *StreamActivatedJobsRequest) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_StreamActivatedJobsRequest.Merge(m, src)
+}
+func (m *StreamActivatedJobsRequest) XXX_Size() int {
+	return xxx_messageInfo_StreamActivatedJobsRequest.Size(m)
+}
+func (m *StreamActivatedJobsRequest) XXX_DiscardUnknown() {
+	xxx_messageInfo_StreamActivatedJobsRequest.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_StreamActivatedJobsRequest proto.InternalMessageInfo
+
+func (m *StreamActivatedJobsRequest) GetType() string {
+	if m != nil {
+		return m.Type
+	}
+	return ""
+}
+
+func (m *StreamActivatedJobsRequest) GetWorker() string {
+	if m != nil {
+		return m.Worker
+	}
+	return ""
+}
+
+func (m *StreamActivatedJobsRequest) GetTimeout() int64 {
+	if m != nil {
+		return m.Timeout
+	}
+	return 0
+}
+
+func (m *StreamActivatedJobsRequest) GetFetchVariable() []string {
+	if m != nil {
+		return m.FetchVariable
+	}
+	return nil
+}
+
+func (m *StreamActivatedJobsRequest) GetCapacity() int32 {
+	if m != nil {
+		return m.Capacity
+	}
+	return 0
+}
+
 func init() {
 	proto.RegisterEnum("gateway_protocol.WorkflowRequestObject_ResourceType", WorkflowRequestObject_ResourceType_name, WorkflowRequestObject_ResourceType_value)
 	proto.RegisterEnum("gateway_protocol.Partition_PartitionBrokerRole", Partition_PartitionBrokerRole_name, Partition_PartitionBrokerRole_value)
@@ -1803,6 +2024,9 @@ func init() {
 	proto.RegisterType((*CancelWorkflowInstanceResponse)(nil), "gateway_protocol.CancelWorkflowInstanceResponse")
 	proto.RegisterType((*CompleteJobRequest)(nil), "gateway_protocol.CompleteJobRequest")
 	proto.RegisterType((*CompleteJobResponse)(nil), "gateway_protocol.CompleteJobResponse")
+	proto.RegisterType((*CompleteJobsRequest)(nil), "gateway_protocol.CompleteJobsRequest")
+	proto.RegisterType((*CompleteJobsResponse)(nil), "gateway_protocol.CompleteJobsResponse")
+	proto.RegisterType((*CompleteJobResult)(nil), "gateway_protocol.CompleteJobResult")
 	proto.RegisterType((*CreateWorkflowInstanceRequest)(nil), "gateway_protocol.CreateWorkflowInstanceRequest")
 	proto.RegisterType((*CreateWorkflowInstanceResponse)(nil), "gateway_protocol.CreateWorkflowInstanceResponse")
 	proto.RegisterType((*CreateWorkflowInstanceWithResultRequest)(nil), "gateway_protocol.CreateWorkflowInstanceWithResultRequest")
@@ -1827,106 +2051,115 @@ func init() {
 	proto.RegisterType((*UpdateJobRetriesResponse)(nil), "gateway_protocol.UpdateJobRetriesResponse")
 	proto.RegisterType((*SetVariablesRequest)(nil), "gateway_protocol.SetVariablesRequest")
 	proto.RegisterType((*SetVariablesResponse)(nil), "gateway_protocol.SetVariablesResponse")
+	proto.RegisterType((*StreamActivatedJobsRequest)(nil), "gateway_protocol.StreamActivatedJobsRequest")
 }
 
 func init() { proto.RegisterFile("gateway.proto", fileDescriptor_f1a937782ebbded5) }
 
 var fileDescriptor_f1a937782ebbded5 = []byte{
-	// 1497 bytes of a gzipped FileDescriptorProto
-	0x1f, 0x8b, 0x08, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02, 0xff, 0xcc, 0x58, 0xdd, 0x6e, 0x1b, 0xc5,
-	0x17, 0xcf, 0xda, 0xce, 0x87, 0x4f, 0xdc, 0xc4, 0x99, 0x7c, 0x74, 0xeb, 0x7f, 0x1b, 0xb9, 0xfb,
-	0xef, 0x87, 0x41, 0x95, 0x5b, 0x05, 0x84, 0x44, 0xe1, 0x82, 0x36, 0x4d, 0xa8, 0xd3, 0xa4, 0x0d,
-	0xdb, 0xd0, 0xaa, 0x08, 0x51, 0xad, 0xd7, 0x93, 0x66, 0x9b, 0xf5, 0xce, 0xb2, 0x3b, 0x4e, 0x70,
-	0x25, 0xde, 0x03, 0x89, 0x0b, 0x2e, 0x78, 0x00, 0x6e, 0x78, 0x03, 0xb8, 0xe4, 0x9e, 0x1b, 0x1e,
-	0x01, 0xf1, 0x0c, 0x68, 0x66, 0x67, 0xd6, 0xfb, 0x31, 0x6b, 0x9b, 0x4a, 0x48, 0xdc, 0xcd, 0x9c,
-	0x3d, 0xdf, 0xe7, 0xcc, 0x39, 0x3f, 0x1b, 0x2e, 0xbc, 0xb2, 0x28, 0x3e, 0xb7, 0x86, 0x6d, 0x3f,
-	0x20, 0x94, 0xa0, 0xba, 0xb8, 0xbe, 0xe4, 0x57, 0x9b, 0xb8, 0xc6, 0xef, 0x1a, 0xac, 0xde, 0xb3,
-	0xa9, 0x73, 0x66, 0x51, 0xbc, 0x47, 0xba, 0xa1, 0x89, 0xbf, 0x1e, 0xe0, 0x90, 0x22, 0x04, 0x15,
-	0x3a, 0xf4, 0xb1, 0xae, 0x35, 0xb5, 0x56, 0xd5, 0xe4, 0x67, 0xb4, 0x01, 0x73, 0xe7, 0x24, 0x38,
-	0xc5, 0x81, 0x5e, 0xe2, 0x54, 0x71, 0x43, 0x3a, 0xcc, 0x53, 0xa7, 0x8f, 0xc9, 0x80, 0xea, 0xe5,
-	0xa6, 0xd6, 0x2a, 0x9b, 0xf2, 0x8a, 0x6e, 0xc1, 0x4a, 0xdf, 0xfa, 0x86, 0xe9, 0x3d, 0x22, 0xd2,
-	0x8a, 0x5e, 0x69, 0x6a, 0xad, 0x59, 0x33, 0xff, 0x01, 0x5d, 0x83, 0x0b, 0xc7, 0x98, 0xda, 0x27,
-	0xcf, 0xac, 0xc0, 0xb1, 0xba, 0x2e, 0xd6, 0x67, 0x9b, 0xe5, 0x56, 0xd5, 0x4c, 0x13, 0xd1, 0x0d,
-	0x58, 0x0a, 0x22, 0x27, 0x8f, 0x84, 0xd1, 0x39, 0x6e, 0x34, 0x43, 0x35, 0xf6, 0x60, 0x2d, 0x1d,
-	0x58, 0xe8, 0x13, 0x2f, 0xc4, 0x68, 0x0b, 0x2a, 0xaf, 0x49, 0x37, 0xd4, 0xb5, 0x66, 0xb9, 0xb5,
-	0xb8, 0xb5, 0xd9, 0xce, 0xa6, 0xa4, 0x2d, 0xa5, 0x7a, 0x7b, 0xa4, 0x6b, 0x72, 0x5e, 0xe3, 0xb7,
-	0x32, 0xd4, 0x92, 0x64, 0x54, 0x87, 0xf2, 0x29, 0x1e, 0xf2, 0xec, 0x94, 0x4d, 0x76, 0x8c, 0x13,
-	0x56, 0x4a, 0x24, 0xec, 0x0e, 0xac, 0xb2, 0x14, 0x1d, 0xbb, 0xe4, 0xbc, 0xe3, 0x85, 0xd4, 0xf2,
-	0x6c, 0xfc, 0x08, 0x0f, 0x45, 0x92, 0x54, 0x9f, 0x58, 0x0a, 0xba, 0x7e, 0xdf, 0x3b, 0x0c, 0x88,
-	0x8d, 0xc3, 0xb0, 0xd3, 0xe3, 0xc9, 0xaa, 0x9a, 0x69, 0x22, 0xfa, 0x18, 0x2e, 0x49, 0xe1, 0x07,
-	0xf8, 0xd8, 0xf1, 0x1c, 0xea, 0x10, 0xef, 0x19, 0x0e, 0x42, 0x87, 0x78, 0xfa, 0x2c, 0x4f, 0x6f,
-	0x31, 0x03, 0x6a, 0xc2, 0xa2, 0xfc, 0xc8, 0xbc, 0x89, 0xb2, 0x97, 0x24, 0xa1, 0xcb, 0x50, 0xc5,
-	0x2e, 0xee, 0x63, 0x8f, 0x76, 0x7a, 0xfa, 0x3c, 0xf7, 0x60, 0x44, 0x40, 0x6d, 0x40, 0xf2, 0x92,
-	0x08, 0x6a, 0x81, 0xab, 0x51, 0x7c, 0x61, 0x31, 0xd9, 0x83, 0x90, 0x92, 0xfe, 0x43, 0x6c, 0xf5,
-	0x70, 0x10, 0xea, 0xd5, 0x28, 0xa6, 0x14, 0x31, 0xd1, 0x5c, 0x90, 0x6d, 0xae, 0x00, 0xd3, 0xc0,
-	0xc1, 0xa1, 0xbe, 0xc8, 0x23, 0x93, 0x57, 0xd4, 0x80, 0x85, 0x1e, 0xb6, 0x7a, 0xae, 0xe3, 0x61,
-	0xbd, 0xc6, 0xad, 0xc7, 0x77, 0x16, 0xc1, 0x99, 0x68, 0x98, 0x50, 0xbf, 0x10, 0x45, 0x10, 0x13,
-	0x8c, 0xcf, 0xe0, 0xca, 0x36, 0xf3, 0xce, 0x7d, 0x9e, 0x29, 0x81, 0xec, 0xfe, 0x82, 0xc2, 0x69,
-	0x85, 0x85, 0x33, 0x9a, 0xb0, 0x59, 0xa4, 0x32, 0xea, 0x3b, 0x63, 0x0f, 0xd0, 0x36, 0xe9, 0xfb,
-	0x2e, 0xe6, 0xfd, 0x28, 0x2d, 0x6d, 0xc0, 0xdc, 0x6b, 0xd2, 0x1d, 0x29, 0x17, 0xb7, 0x74, 0x00,
-	0xa5, 0x6c, 0x00, 0xeb, 0xb0, 0x9a, 0xd2, 0x25, 0x4c, 0xfc, 0xa0, 0xc1, 0x95, 0xed, 0x00, 0x5b,
-	0x14, 0x17, 0x05, 0x96, 0xa9, 0xbd, 0x96, 0xaf, 0x7d, 0xae, 0x03, 0x4b, 0xaa, 0x0e, 0xd4, 0x61,
-	0xfe, 0x4c, 0xf4, 0x5b, 0x39, 0xaa, 0x8a, 0xb8, 0xa6, 0x1d, 0xaf, 0x64, 0x1d, 0xff, 0x59, 0x83,
-	0xcd, 0x22, 0x0f, 0xc5, 0xfb, 0xfc, 0xf7, 0x5d, 0x2c, 0xa8, 0x6e, 0xa5, 0xb8, 0xba, 0xbf, 0x6a,
-	0x70, 0x53, 0xed, 0xf6, 0x73, 0x87, 0x9e, 0x98, 0x38, 0x1c, 0xb8, 0x54, 0xa6, 0xb8, 0xc3, 0x1a,
-	0x96, 0x1f, 0xb9, 0xef, 0x8b, 0x5b, 0xb7, 0xf3, 0x23, 0x66, 0x6c, 0x91, 0x4c, 0x29, 0xaf, 0x18,
-	0x75, 0x25, 0xd5, 0xa8, 0x63, 0x7c, 0xa9, 0x19, 0x19, 0xea, 0x65, 0x3e, 0x39, 0x33, 0x54, 0xe3,
-	0x0f, 0x0d, 0x5a, 0x93, 0xc3, 0xf8, 0xef, 0xd6, 0x21, 0xdd, 0x5c, 0xb3, 0xd9, 0xe6, 0xfa, 0x0a,
-	0xd6, 0x1f, 0x60, 0xdf, 0x25, 0x43, 0x19, 0x9d, 0x2c, 0xc9, 0x0e, 0x54, 0xa5, 0x36, 0x39, 0xf7,
-	0x6f, 0xe6, 0x8b, 0x92, 0x91, 0x7a, 0xd2, 0x7d, 0x8d, 0x6d, 0x6a, 0x8e, 0x24, 0x8d, 0x5f, 0x34,
-	0x58, 0x57, 0x32, 0xb1, 0xe1, 0xef, 0x59, 0xfd, 0x78, 0x5b, 0xb2, 0x33, 0x7a, 0x98, 0x58, 0x08,
-	0x4b, 0x5b, 0xef, 0x4f, 0x69, 0xaf, 0x6d, 0xe2, 0x90, 0x0c, 0x02, 0x1b, 0x1f, 0x0d, 0x7d, 0x2c,
-	0xd6, 0xc8, 0x26, 0x40, 0x2f, 0x9e, 0xe2, 0x3c, 0x89, 0x35, 0x33, 0x41, 0x31, 0x6e, 0x41, 0x2d,
-	0x29, 0x85, 0x16, 0xa0, 0xb2, 0xdb, 0xd9, 0xdf, 0xa9, 0xcf, 0xb0, 0xd3, 0xfd, 0xc3, 0x83, 0xc7,
-	0x75, 0x8d, 0x9d, 0x5e, 0xdc, 0x3b, 0xd8, 0xaf, 0x97, 0x0c, 0x17, 0x36, 0xb2, 0x59, 0x12, 0x15,
-	0xcf, 0x2f, 0xb5, 0x4f, 0x92, 0x89, 0x2b, 0xf1, 0xc4, 0x19, 0xc5, 0x81, 0x1c, 0x60, 0x6a, 0xf5,
-	0x2c, 0x6a, 0x25, 0x73, 0xf6, 0x9d, 0x06, 0xf5, 0xec, 0xf7, 0x7c, 0xe3, 0x68, 0x13, 0x1a, 0xa7,
-	0x94, 0x6e, 0x9c, 0x4c, 0x6b, 0x96, 0xf3, 0xad, 0x69, 0x40, 0x2d, 0x10, 0x29, 0x79, 0xcc, 0x0a,
-	0x13, 0x0d, 0xa2, 0x14, 0xcd, 0x38, 0x86, 0xa5, 0x5d, 0xcb, 0x71, 0xa7, 0x18, 0xc6, 0x89, 0x1d,
-	0x54, 0x4a, 0xef, 0x20, 0x03, 0x6a, 0x38, 0x08, 0x48, 0x70, 0x80, 0xc3, 0xd0, 0x7a, 0x85, 0xb9,
-	0x2b, 0x55, 0x33, 0x45, 0x33, 0x56, 0x60, 0x39, 0xb6, 0x23, 0x06, 0x75, 0x1f, 0x56, 0x8e, 0x4e,
-	0x02, 0x72, 0xbe, 0xc3, 0xf8, 0xa6, 0x58, 0x05, 0x5c, 0xdf, 0x36, 0xe9, 0x49, 0x78, 0x31, 0x22,
-	0x4c, 0xe5, 0xc1, 0x1a, 0xa0, 0xa4, 0x39, 0xe1, 0xc4, 0x4f, 0x1a, 0xac, 0x1f, 0x0e, 0xba, 0xae,
-	0x13, 0x9e, 0x08, 0xc6, 0x04, 0xf8, 0xcb, 0xb5, 0xf3, 0x0d, 0x58, 0xb2, 0x49, 0x10, 0x60, 0xd7,
-	0x62, 0x3d, 0xc7, 0xbc, 0x8c, 0x5c, 0xc9, 0x50, 0x59, 0xb3, 0x32, 0xf4, 0x77, 0x44, 0xf6, 0x9d,
-	0x33, 0x2c, 0x4a, 0x93, 0xa0, 0xb0, 0x68, 0xfa, 0x91, 0xb5, 0x18, 0xdd, 0x8c, 0x08, 0x13, 0x1e,
-	0xb8, 0x0e, 0x1b, 0x59, 0x87, 0x45, 0x2c, 0x77, 0x61, 0x83, 0x3d, 0x01, 0xf7, 0x0c, 0x77, 0x3c,
-	0xdb, 0xe9, 0x61, 0x8f, 0x26, 0x36, 0x9e, 0x23, 0x48, 0x89, 0x31, 0x96, 0x20, 0x19, 0x97, 0xe0,
-	0x62, 0x4e, 0x56, 0xa8, 0x5d, 0x81, 0xe5, 0x23, 0xe2, 0x13, 0x97, 0xbc, 0x1a, 0x0a, 0x7d, 0xc6,
-	0x9f, 0x1a, 0xd4, 0x47, 0x34, 0xf1, 0x72, 0x3e, 0x80, 0xf9, 0x6e, 0x40, 0x4e, 0x19, 0xb8, 0x89,
-	0xc6, 0xcb, 0xe5, 0xfc, 0x2b, 0xb9, 0xcf, 0x19, 0x3a, 0xde, 0x31, 0x31, 0x25, 0x33, 0x73, 0xce,
-	0x76, 0x07, 0x21, 0xc5, 0xc1, 0x53, 0xe7, 0x0d, 0x16, 0xcd, 0x95, 0x24, 0xa1, 0x16, 0x2c, 0xfb,
-	0x56, 0x40, 0xf9, 0x43, 0x0f, 0xb7, 0xc9, 0xc0, 0xa3, 0x62, 0x8a, 0x66, 0xc9, 0x0c, 0x6b, 0x07,
-	0xd8, 0x77, 0x1d, 0x9b, 0x97, 0x62, 0xd7, 0xb2, 0x29, 0x09, 0x24, 0xd6, 0xce, 0x7d, 0x60, 0xe5,
-	0x14, 0x1e, 0x26, 0x71, 0x63, 0xd5, 0xcc, 0x50, 0x8d, 0x1f, 0x35, 0x80, 0x91, 0xe7, 0xac, 0x47,
-	0x3d, 0xd2, 0xc3, 0xe2, 0xc9, 0xce, 0x9a, 0xe2, 0xc6, 0x3a, 0xe6, 0x84, 0x84, 0x54, 0xa2, 0x5f,
-	0x76, 0x66, 0x34, 0x9f, 0x04, 0xd2, 0x5f, 0x7e, 0x46, 0x1f, 0x01, 0x8c, 0xfc, 0xd6, 0x2b, 0x3c,
-	0x57, 0xff, 0xcb, 0xe7, 0xea, 0x50, 0xf2, 0x98, 0x09, 0xf6, 0xe4, 0x40, 0x88, 0x9c, 0x95, 0x57,
-	0xe6, 0x65, 0x35, 0x96, 0x61, 0x59, 0x8d, 0xa5, 0x62, 0x4f, 0x93, 0x24, 0xb4, 0x0d, 0x95, 0x80,
-	0xb8, 0x72, 0x36, 0xdf, 0x1e, 0xe3, 0xc0, 0xe8, 0x14, 0x65, 0xc1, 0x24, 0x2e, 0x36, 0xb9, 0xb0,
-	0x71, 0x1b, 0x56, 0x15, 0x1f, 0x11, 0xc0, 0xdc, 0xfe, 0xce, 0xbd, 0x07, 0x3b, 0x66, 0x7d, 0x06,
-	0xd5, 0x60, 0x61, 0xf7, 0xc9, 0xfe, 0xfe, 0x93, 0xe7, 0x3b, 0x66, 0x5d, 0x33, 0x1e, 0xc1, 0xc5,
-	0xcf, 0xfd, 0x9e, 0x25, 0x30, 0x1b, 0x1f, 0x20, 0x6f, 0x3d, 0x79, 0x8c, 0x06, 0xe8, 0x79, 0x65,
-	0xa2, 0x6d, 0x87, 0xb0, 0xfa, 0x14, 0xd3, 0x78, 0xef, 0x4b, 0x23, 0x6a, 0xe0, 0xae, 0x15, 0x02,
-	0xf7, 0xb1, 0x18, 0x14, 0xad, 0xc1, 0xac, 0x4b, 0x6c, 0xcb, 0xe5, 0xf5, 0x5d, 0x30, 0xa3, 0x8b,
-	0xd1, 0x82, 0xb5, 0xb4, 0xe9, 0xa2, 0xdd, 0xb2, 0xf5, 0x17, 0xc0, 0xfc, 0xa7, 0x51, 0xde, 0x91,
-	0x35, 0xfa, 0x79, 0xc5, 0x7e, 0xab, 0xa1, 0xeb, 0xc5, 0xbf, 0xca, 0x12, 0x3f, 0x52, 0x1b, 0x37,
-	0x26, 0xb1, 0x89, 0x7c, 0xcc, 0xdc, 0xd1, 0xd0, 0xb7, 0xb0, 0xa1, 0x06, 0xe8, 0x48, 0x85, 0xcf,
-	0xc6, 0xfd, 0x3a, 0x68, 0xdc, 0x99, 0x5e, 0x40, 0x3a, 0x80, 0xbe, 0x84, 0xc5, 0x04, 0x62, 0x47,
-	0xd7, 0x14, 0x2a, 0x72, 0x3f, 0x0e, 0x1a, 0xd7, 0x27, 0x70, 0xc5, 0xda, 0x59, 0x70, 0x4a, 0x5c,
-	0x87, 0xfe, 0x29, 0xf8, 0x54, 0x06, 0x37, 0x16, 0xb0, 0x1b, 0x33, 0xe8, 0x7b, 0x0d, 0x9a, 0x93,
-	0x70, 0x25, 0xfa, 0x70, 0x5a, 0xc5, 0x39, 0x48, 0xdd, 0xb8, 0xfb, 0x36, 0xa2, 0xb1, 0x77, 0x18,
-	0x96, 0xd2, 0x80, 0x07, 0x29, 0xc0, 0x9f, 0x12, 0x38, 0x36, 0x5a, 0x93, 0x19, 0x63, 0x33, 0x87,
-	0x30, 0x2f, 0xd6, 0x3c, 0x6a, 0xe6, 0xc5, 0xd2, 0x48, 0xa3, 0x71, 0x75, 0x0c, 0x47, 0xac, 0xf1,
-	0x05, 0xc0, 0x68, 0x6d, 0xa3, 0xff, 0xe7, 0x45, 0x72, 0x18, 0xa2, 0x71, 0x6d, 0x3c, 0x53, 0x32,
-	0x27, 0xe9, 0x4d, 0xaa, 0xca, 0x89, 0x12, 0x1c, 0xa8, 0x72, 0x52, 0xb0, 0x94, 0x67, 0xd0, 0x09,
-	0x2c, 0x67, 0x56, 0x2b, 0x52, 0x88, 0xab, 0x37, 0x77, 0xe3, 0x9d, 0x29, 0x38, 0x63, 0x4b, 0x2f,
-	0xa1, 0x96, 0x9c, 0x3b, 0xaa, 0x09, 0xa2, 0x18, 0x89, 0xaa, 0x09, 0xa2, 0x1a, 0x5f, 0xc6, 0x0c,
-	0x7a, 0x0a, 0x0b, 0x72, 0xed, 0x23, 0x45, 0xf5, 0x32, 0x30, 0xa1, 0x61, 0x8c, 0x63, 0x89, 0x95,
-	0x9e, 0x42, 0x3d, 0x3b, 0xc4, 0x91, 0x22, 0xec, 0x82, 0xad, 0xd1, 0x78, 0x77, 0x1a, 0x56, 0x69,
-	0xec, 0xfe, 0x55, 0xb8, 0xe4, 0x90, 0xf6, 0x1b, 0x8c, 0xbb, 0xb8, 0x9d, 0xfa, 0x5b, 0xd0, 0x26,
-	0xee, 0xe1, 0xcc, 0x17, 0x25, 0xbf, 0xdb, 0x9d, 0xe3, 0xf7, 0xf7, 0xfe, 0x0e, 0x00, 0x00, 0xff,
-	0xff, 0xc4, 0xca, 0x2d, 0x2f, 0x37, 0x14, 0x00, 0x00,
+	// 1617 bytes of a gzipped FileDescriptorProto
+	0x1f, 0x8b, 0x08, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02, 0xff, 0xcd, 0x58, 0xcd, 0x6f, 0x1b, 0x45,
+	0x14, 0xcf, 0xda, 0xce, 0xd7, 0x8b, 0x9b, 0x3a, 0x93, 0x34, 0x75, 0x17, 0xa8, 0xd2, 0xa5, 0x1f,
+	0x06, 0x55, 0x6e, 0x15, 0x10, 0x82, 0x02, 0x12, 0x6d, 0x9a, 0xd0, 0xb4, 0x49, 0x13, 0x36, 0x69,
+	0xab, 0x22, 0x44, 0xb5, 0x5e, 0x4f, 0x9a, 0x6d, 0xd6, 0x1e, 0xb3, 0xbb, 0x4e, 0x48, 0x25, 0xfe,
+	0x0f, 0x24, 0x0e, 0x1c, 0xe0, 0xce, 0x85, 0x13, 0x57, 0x38, 0x72, 0xe7, 0xc2, 0x9f, 0xc0, 0x1f,
+	0xc1, 0xcc, 0xec, 0xcc, 0x7a, 0x76, 0x77, 0xd6, 0x36, 0x15, 0x48, 0x9c, 0xbc, 0xf3, 0xe6, 0xbd,
+	0x99, 0x37, 0xef, 0xfd, 0xde, 0x97, 0xe1, 0xcc, 0x73, 0x27, 0xc2, 0x27, 0xce, 0x69, 0xb3, 0x17,
+	0x90, 0x88, 0xa0, 0x9a, 0x58, 0x3e, 0xe3, 0x4b, 0x97, 0xf8, 0xd6, 0x1f, 0x06, 0x2c, 0xde, 0x76,
+	0x23, 0xef, 0x98, 0x6e, 0xdc, 0x27, 0xad, 0xd0, 0xc6, 0x5f, 0xf5, 0x71, 0x18, 0x21, 0x04, 0x95,
+	0xe8, 0xb4, 0x87, 0xeb, 0xc6, 0x8a, 0xd1, 0x98, 0xb5, 0xf9, 0x37, 0x5a, 0x86, 0xa9, 0x13, 0x12,
+	0x1c, 0xe1, 0xa0, 0x5e, 0xe2, 0x54, 0xb1, 0x42, 0x75, 0x98, 0x8e, 0xbc, 0x0e, 0x26, 0xfd, 0xa8,
+	0x5e, 0xa6, 0x1b, 0x65, 0x5b, 0x2e, 0xd1, 0x75, 0x58, 0xe8, 0x38, 0x5f, 0xb3, 0x73, 0xf7, 0x89,
+	0xbc, 0xa5, 0x5e, 0xa1, 0x3c, 0x93, 0x76, 0x7e, 0x03, 0x5d, 0x86, 0x33, 0x07, 0x38, 0x72, 0x0f,
+	0x1f, 0x3b, 0x81, 0xe7, 0xb4, 0x7c, 0x5c, 0x9f, 0x5c, 0x29, 0xd3, 0x6b, 0xd2, 0x44, 0x74, 0x15,
+	0xe6, 0x83, 0x58, 0xc9, 0x7d, 0x71, 0xe9, 0x14, 0xbf, 0x34, 0x43, 0xb5, 0xee, 0xc3, 0x52, 0xfa,
+	0x61, 0x61, 0x8f, 0x74, 0x43, 0x8c, 0x56, 0xa1, 0xf2, 0x82, 0xae, 0xe9, 0xcb, 0xca, 0x8d, 0xb9,
+	0xd5, 0x8b, 0xcd, 0xac, 0x49, 0x9a, 0x52, 0xaa, 0x4d, 0xc5, 0x6c, 0xce, 0x6b, 0xfd, 0x5e, 0x86,
+	0xaa, 0x4a, 0x46, 0x35, 0x28, 0x1f, 0xe1, 0x53, 0x6e, 0x9d, 0xb2, 0xcd, 0x3e, 0x13, 0x83, 0x95,
+	0x14, 0x83, 0xdd, 0x84, 0x45, 0x66, 0xa2, 0x03, 0x9f, 0x9c, 0x6c, 0x76, 0xc3, 0xc8, 0xe9, 0xba,
+	0xf8, 0x01, 0x95, 0x8a, 0x8d, 0xa4, 0xdb, 0x62, 0x26, 0x68, 0xf5, 0x3a, 0xdd, 0xdd, 0x80, 0xb8,
+	0x38, 0x0c, 0x37, 0xdb, 0xdc, 0x58, 0xd4, 0x04, 0x29, 0x22, 0xfa, 0x08, 0x2e, 0x48, 0xe1, 0xbb,
+	0xf8, 0xc0, 0xeb, 0x7a, 0x91, 0x47, 0xba, 0x8f, 0x71, 0x10, 0xd2, 0x1f, 0x6a, 0x34, 0x66, 0xde,
+	0x62, 0x06, 0xb4, 0x02, 0x73, 0x72, 0x93, 0x69, 0x13, 0x5b, 0x4f, 0x25, 0xa1, 0xd7, 0x61, 0x16,
+	0xfb, 0xb8, 0x83, 0xbb, 0x11, 0xd5, 0x60, 0x9a, 0x6b, 0x30, 0x20, 0xa0, 0x26, 0x20, 0xb9, 0x50,
+	0x1e, 0x35, 0xc3, 0x8f, 0xd1, 0xec, 0xb0, 0x37, 0xb9, 0xfd, 0x30, 0x22, 0x9d, 0x7b, 0xd8, 0x69,
+	0x53, 0x1d, 0xea, 0xb3, 0xf1, 0x9b, 0x52, 0x44, 0x05, 0x5c, 0x90, 0x05, 0x57, 0x80, 0xa3, 0xc0,
+	0xc3, 0x61, 0x7d, 0x8e, 0xbf, 0x4c, 0x2e, 0x91, 0x09, 0x33, 0x6d, 0x2a, 0xec, 0x7b, 0x5d, 0x5c,
+	0xaf, 0xf2, 0xdb, 0x93, 0x35, 0x7b, 0xc1, 0xb1, 0x00, 0x4c, 0x58, 0x3f, 0x13, 0xbf, 0x20, 0x21,
+	0x58, 0x9f, 0xc1, 0x1b, 0x6b, 0x4c, 0x3b, 0xff, 0x49, 0xc6, 0x05, 0x12, 0xfd, 0x05, 0x8e, 0x33,
+	0x0a, 0x1d, 0x67, 0xad, 0xc0, 0xc5, 0xa2, 0x23, 0x63, 0xdc, 0x51, 0x3c, 0xa2, 0x35, 0xd2, 0xe9,
+	0xf9, 0x98, 0xe3, 0x51, 0xde, 0x44, 0x9f, 0x4d, 0x11, 0x36, 0x38, 0x5c, 0xac, 0xd2, 0x0f, 0x28,
+	0x65, 0x1f, 0x70, 0x0e, 0x16, 0x53, 0x67, 0x89, 0x2b, 0x76, 0x52, 0xe4, 0x24, 0x96, 0xdf, 0x4f,
+	0x21, 0xfe, 0x72, 0x1e, 0xf1, 0x79, 0xbd, 0x04, 0xee, 0x1f, 0xc1, 0x52, 0xfa, 0x40, 0x11, 0x43,
+	0x1f, 0x33, 0xa7, 0x84, 0x7d, 0x3f, 0x92, 0x87, 0xbe, 0x39, 0xe2, 0x50, 0xc6, 0x6b, 0x4b, 0x19,
+	0xeb, 0x29, 0x2c, 0xe4, 0x76, 0x0b, 0x2d, 0x41, 0x03, 0xcb, 0x25, 0xed, 0x38, 0xb0, 0x26, 0x6d,
+	0xfe, 0xcd, 0x40, 0xd1, 0xa1, 0xa1, 0xe0, 0x3c, 0xc7, 0x3c, 0x98, 0x66, 0x6d, 0xb9, 0xb4, 0xbe,
+	0x37, 0xa8, 0x6f, 0x03, 0x4c, 0x95, 0x29, 0xf2, 0x6d, 0x06, 0xfe, 0x46, 0x1e, 0xfe, 0xb9, 0x20,
+	0x2c, 0xe9, 0x82, 0x90, 0xea, 0x70, 0x2c, 0x42, 0xae, 0x1c, 0x03, 0x53, 0x2c, 0xd3, 0xbe, 0xab,
+	0x64, 0x7d, 0xf7, 0xb3, 0x41, 0xa1, 0x52, 0xa0, 0xa1, 0x30, 0xef, 0x7f, 0xaf, 0x62, 0x01, 0xc0,
+	0x2b, 0xc5, 0x00, 0xff, 0xcd, 0x80, 0x6b, 0x7a, 0xb5, 0x9f, 0x78, 0xd1, 0xa1, 0xf0, 0xb0, 0x30,
+	0xf1, 0x26, 0x83, 0x07, 0xff, 0xe4, 0xba, 0xcf, 0xad, 0xde, 0xd0, 0xc0, 0x63, 0x98, 0x93, 0x6c,
+	0x29, 0xaf, 0xc9, 0xf6, 0x25, 0x5d, 0xb6, 0x67, 0x7c, 0xa9, 0x32, 0x11, 0xd2, 0x17, 0xb3, 0xe2,
+	0x91, 0xa1, 0x5a, 0x7f, 0x1a, 0xd0, 0x18, 0xfd, 0x8c, 0xff, 0xaf, 0x1f, 0xd2, 0xe0, 0x9a, 0xcc,
+	0x82, 0xeb, 0x4b, 0x38, 0x77, 0x17, 0xf7, 0x7c, 0x72, 0x2a, 0x5f, 0x27, 0x5d, 0xb2, 0x0e, 0xb3,
+	0xf2, 0x34, 0x19, 0xb3, 0xd7, 0xf2, 0x4e, 0xc9, 0x48, 0xed, 0xb4, 0x5e, 0x60, 0x37, 0xb2, 0x07,
+	0x92, 0xd6, 0xaf, 0x06, 0x9c, 0xd3, 0x32, 0xb1, 0x30, 0xed, 0x3a, 0x9d, 0xa4, 0x61, 0x60, 0xdf,
+	0xe8, 0x9e, 0x52, 0x13, 0xe7, 0x57, 0xdf, 0x1d, 0xf3, 0xbe, 0x26, 0xb5, 0x3f, 0xe9, 0x07, 0x2e,
+	0xde, 0xa7, 0xb2, 0xa2, 0x92, 0x5e, 0x04, 0x68, 0x27, 0x85, 0x8c, 0x1b, 0xb1, 0x6a, 0x2b, 0x14,
+	0xeb, 0x3a, 0x54, 0x55, 0x29, 0x34, 0x03, 0x95, 0x8d, 0xcd, 0xad, 0xf5, 0xda, 0x04, 0xfb, 0xba,
+	0xb3, 0xbb, 0xfd, 0xb0, 0x66, 0xb0, 0xaf, 0xa7, 0xb7, 0xb7, 0xb7, 0x6a, 0x25, 0xcb, 0x87, 0xe5,
+	0xac, 0x95, 0x84, 0xc7, 0xf3, 0x75, 0xfd, 0x13, 0xd5, 0x70, 0x25, 0x6e, 0x38, 0xab, 0xf8, 0x21,
+	0xdb, 0x38, 0x72, 0xda, 0x4e, 0xe4, 0xa8, 0x36, 0xfb, 0xd6, 0x80, 0x5a, 0x76, 0x3f, 0x0f, 0x1c,
+	0x63, 0x04, 0x70, 0x4a, 0x69, 0xe0, 0x64, 0xa0, 0x59, 0xce, 0x43, 0xd3, 0x82, 0x6a, 0x20, 0x4c,
+	0xf2, 0x90, 0x39, 0x26, 0x4e, 0x44, 0x29, 0x9a, 0x75, 0x00, 0xf3, 0x1b, 0x8e, 0xe7, 0x8f, 0x51,
+	0x8f, 0x94, 0x32, 0x5c, 0x4a, 0x97, 0x61, 0x7a, 0x0f, 0x0e, 0x02, 0x12, 0x6c, 0xa7, 0x12, 0x72,
+	0x8a, 0x66, 0x2d, 0xc0, 0xd9, 0xe4, 0x1e, 0x51, 0xab, 0x3a, 0xb0, 0xb0, 0x7f, 0x18, 0x90, 0x93,
+	0x75, 0xc6, 0x37, 0x46, 0x35, 0xe4, 0xe7, 0xad, 0xc9, 0x42, 0xc0, 0x1a, 0x12, 0x49, 0x18, 0x4b,
+	0x83, 0x25, 0x40, 0xea, 0x75, 0x42, 0x89, 0x9f, 0x28, 0x9c, 0x77, 0xfb, 0x2d, 0xdf, 0x0b, 0x0f,
+	0x05, 0xa3, 0xd2, 0xff, 0xe6, 0xe0, 0x4c, 0x73, 0x8c, 0x4b, 0x82, 0x00, 0xfb, 0x0e, 0xc3, 0x1c,
+	0xd3, 0x32, 0x56, 0x25, 0x43, 0x65, 0x60, 0x65, 0x0d, 0xf0, 0x3e, 0xd9, 0xf2, 0x8e, 0xb1, 0x70,
+	0x8d, 0x42, 0x61, 0xaf, 0x11, 0xe5, 0x2a, 0x69, 0xf0, 0x06, 0x84, 0x11, 0x01, 0x5e, 0x87, 0xe5,
+	0xac, 0xc2, 0xe2, 0x2d, 0xb7, 0x60, 0x99, 0x85, 0x80, 0x7f, 0x8c, 0x37, 0xbb, 0xae, 0xd7, 0xa6,
+	0x4d, 0x98, 0x52, 0xf1, 0x3c, 0x41, 0x52, 0xd2, 0x98, 0x42, 0xb2, 0x2e, 0xc0, 0xf9, 0x9c, 0xac,
+	0x38, 0x96, 0xba, 0x6e, 0x9f, 0xf4, 0x88, 0x4f, 0x9e, 0x9f, 0x8a, 0xf3, 0xac, 0xbf, 0x28, 0xa0,
+	0x07, 0x34, 0x11, 0x39, 0xef, 0xc1, 0x74, 0x2b, 0x20, 0x47, 0xac, 0xbf, 0x8b, 0xd3, 0xcb, 0xeb,
+	0xf9, 0x28, 0xb9, 0xc3, 0x19, 0x36, 0xbb, 0x07, 0xc4, 0x96, 0xcc, 0x4c, 0x39, 0xd7, 0xa7, 0x9d,
+	0x20, 0x0e, 0xf6, 0xbc, 0x97, 0xb2, 0xca, 0xab, 0x24, 0xd4, 0x80, 0xb3, 0x3d, 0x27, 0x88, 0x78,
+	0xa0, 0x87, 0x6b, 0xa4, 0xdf, 0x8d, 0x44, 0x16, 0xcd, 0x92, 0xd9, 0xb8, 0x11, 0xd0, 0xb8, 0xf6,
+	0x5c, 0xee, 0x8a, 0x0d, 0xc7, 0x8d, 0x48, 0x20, 0xc7, 0x8d, 0xdc, 0x06, 0x73, 0xa7, 0xd0, 0x50,
+	0x6d, 0x9d, 0xa9, 0x3b, 0xd3, 0x54, 0xeb, 0x07, 0x03, 0x60, 0xa0, 0x39, 0xc3, 0x68, 0x97, 0xa2,
+	0x4e, 0x84, 0xec, 0xa4, 0x2d, 0x56, 0x0c, 0x31, 0x87, 0x24, 0x8c, 0xe4, 0x00, 0xc0, 0xbe, 0x19,
+	0xad, 0x47, 0x02, 0xa9, 0x2f, 0xff, 0x46, 0x1f, 0x02, 0x0c, 0xf4, 0xa6, 0xda, 0x31, 0x5b, 0xbd,
+	0x96, 0xb7, 0xd5, 0xae, 0xe4, 0xb1, 0x15, 0x76, 0x35, 0x21, 0xc4, 0xca, 0xca, 0x25, 0xd3, 0x72,
+	0x36, 0x91, 0x61, 0x56, 0x4d, 0xa4, 0x12, 0x4d, 0x55, 0x12, 0x5a, 0x83, 0x4a, 0x40, 0x7c, 0x99,
+	0x9b, 0x6f, 0x0c, 0x51, 0x60, 0xf0, 0x15, 0x5b, 0xc1, 0xa6, 0x62, 0x36, 0x17, 0xb6, 0x6e, 0xc0,
+	0xa2, 0x66, 0x13, 0x01, 0x4c, 0x6d, 0xad, 0xdf, 0xbe, 0xbb, 0x6e, 0xd3, 0xfc, 0x5b, 0x85, 0x99,
+	0x8d, 0x9d, 0xad, 0xad, 0x9d, 0x27, 0x74, 0x65, 0x58, 0x0f, 0xe0, 0xfc, 0xa3, 0x5e, 0xdb, 0x11,
+	0x7d, 0x1f, 0x4f, 0x20, 0xaf, 0x9c, 0x79, 0x2c, 0x13, 0xea, 0xf9, 0xc3, 0x04, 0x6c, 0x4f, 0x61,
+	0x71, 0x0f, 0x47, 0x49, 0xdd, 0x97, 0x97, 0xe8, 0x67, 0x17, 0xa3, 0x70, 0x76, 0x19, 0xda, 0x86,
+	0xa3, 0x25, 0x98, 0xf4, 0x89, 0xeb, 0xf8, 0xdc, 0xbf, 0x33, 0x76, 0xbc, 0xb0, 0x1a, 0xb0, 0x94,
+	0xbe, 0xba, 0xa8, 0xb6, 0x58, 0x3f, 0x1a, 0x60, 0xee, 0x45, 0xb4, 0x1b, 0xe9, 0xa8, 0xc3, 0xe5,
+	0xbf, 0x3c, 0x83, 0xe7, 0xa6, 0xea, 0x8a, 0x6e, 0xaa, 0xa6, 0xc3, 0x94, 0xeb, 0xf4, 0x1c, 0xd7,
+	0x8b, 0x4e, 0xc5, 0x04, 0x99, 0xac, 0x57, 0x7f, 0xa9, 0xc2, 0xf4, 0xa7, 0x31, 0x3c, 0x90, 0x33,
+	0x18, 0x84, 0x99, 0xaa, 0xe8, 0x4a, 0xf1, 0xfc, 0xac, 0x3c, 0xc5, 0xbc, 0x3a, 0x8a, 0x4d, 0xb8,
+	0x6d, 0xe2, 0xa6, 0x81, 0xbe, 0x81, 0x65, 0xfd, 0x28, 0x85, 0x74, 0x6d, 0xe4, 0xb0, 0x39, 0xce,
+	0xbc, 0x39, 0xbe, 0x80, 0x54, 0x00, 0x7d, 0x01, 0x73, 0xca, 0x70, 0x82, 0xc6, 0x1a, 0x97, 0xcc,
+	0x2b, 0xa3, 0xe6, 0x1f, 0x79, 0xfa, 0x33, 0xa8, 0xaa, 0x13, 0x15, 0x1a, 0x2e, 0x38, 0xcc, 0x7e,
+	0xba, 0xc1, 0x8c, 0x5e, 0xc0, 0xac, 0xa7, 0xed, 0x6f, 0xd1, 0x3f, 0x6d, 0xc2, 0xb5, 0xd6, 0x1b,
+	0x3a, 0xb8, 0xd0, 0xeb, 0xbf, 0x33, 0x60, 0x65, 0x54, 0x7f, 0x8d, 0x3e, 0x18, 0xf7, 0xe0, 0xdc,
+	0x68, 0x61, 0xde, 0x7a, 0x15, 0xd1, 0x44, 0x3b, 0x0c, 0xf3, 0xe9, 0xc6, 0x0f, 0x69, 0x9a, 0x60,
+	0x6d, 0x03, 0x6d, 0x36, 0x46, 0x33, 0x26, 0xd7, 0xec, 0xc2, 0xb4, 0x68, 0x77, 0xd0, 0x4a, 0x5e,
+	0x2c, 0xdd, 0x71, 0x99, 0x97, 0x86, 0x70, 0x24, 0x27, 0x3e, 0x05, 0x18, 0xb4, 0x2f, 0x48, 0x33,
+	0x6d, 0xe7, 0x7a, 0x29, 0xf3, 0xf2, 0x70, 0x26, 0xd5, 0x26, 0xe9, 0x8e, 0x42, 0x67, 0x13, 0x6d,
+	0x93, 0xa4, 0xb3, 0x49, 0x41, 0x73, 0x32, 0x81, 0x0e, 0xe1, 0x6c, 0xa6, 0xc5, 0x40, 0x1a, 0x71,
+	0x7d, 0x07, 0x63, 0xbe, 0x35, 0x06, 0xa7, 0x1a, 0x62, 0x6a, 0xfe, 0xd5, 0x85, 0x98, 0xa6, 0x34,
+	0xe8, 0x42, 0x4c, 0x97, 0xc6, 0xe9, 0x05, 0x1e, 0xad, 0x2d, 0xf9, 0xac, 0x8d, 0xae, 0x6b, 0x0e,
+	0x28, 0x4c, 0xee, 0xe6, 0x88, 0x3f, 0x1e, 0xad, 0x89, 0x86, 0x41, 0x73, 0xe1, 0x1e, 0xcc, 0xc8,
+	0x4e, 0x0b, 0x69, 0x80, 0x92, 0xe9, 0xcc, 0x4c, 0x6b, 0x18, 0x4b, 0xa2, 0xff, 0x11, 0xd4, 0xb2,
+	0x75, 0x13, 0x69, 0x2c, 0x5c, 0x50, 0xa8, 0xcd, 0xb7, 0xc7, 0x61, 0x95, 0x97, 0xdd, 0xb9, 0x04,
+	0x17, 0x3c, 0xd2, 0x7c, 0x89, 0x71, 0x0b, 0x37, 0x53, 0x7f, 0x46, 0x53, 0xb9, 0xdd, 0x89, 0xcf,
+	0x4b, 0xbd, 0x56, 0x6b, 0x8a, 0xaf, 0xdf, 0xf9, 0x1b, 0x55, 0xa3, 0xf9, 0x51, 0xad, 0x16, 0x00,
+	0x00,
 }
 
 // Reference imports to suppress errors if they are not otherwise used.
@@ -1972,6 +2205,16 @@ type GatewayClient interface {
 	//the job can be activated again and completed.
 	CompleteJob(ctx context.Context, in *CompleteJobRequest, opts ...grpc.CallOption) (*CompleteJobResponse, error)
 	//
+	//Completes a batch of jobs with the given variables. The jobs are sent to their partitions
+	//in one command per partition, but every job is completed independently of the others: the
+	//response contains the result of each job, with the same codes as returned by CompleteJob if
+	//the job could not be completed.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- the variables of a job are not a valid JSON document
+	CompleteJobs(ctx context.Context, in *CompleteJobsRequest, opts ...grpc.CallOption) (*CompleteJobsResponse, error)
+	//
 	//Creates and starts an instance of the specified workflow. The workflow definition to use to
 	//create the instance can be specified either using its unique key (as returned by
 	//DeployWorkflow), or using the BPMN process ID and a version. Pass -1 as the version to use the
@@ -2060,6 +2303,20 @@ type GatewayClient interface {
 	//be JSON documents where the root node is an object.
 	SetVariables(ctx context.Context, in *SetVariablesRequest, opts ...grpc.CallOption) (*SetVariablesResponse, error)
 	//
+	//Opens a stream on which the gateway pushes jobs of the given type as soon as they are
+	//activated. The first request of the stream defines the job type and the activation
+	//parameters, as well as the initial capacity of the worker. Every following request only
+	//grants additional capacity, e.g. when the worker finished handling a job. The gateway never
+	//pushes more jobs than the granted capacity.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- type is blank (empty string, null)
+	//- worker is blank (empty string, null)
+	//- timeout less than 1
+	//- capacity is less than 0
+	StreamActivatedJobs(ctx context.Context, opts ...grpc.CallOption) (Gateway_StreamActivatedJobsClient, error)
+	//
 	//Obtains the current topology of the cluster the gateway is part of.
 	Topology(ctx context.Context, in *TopologyRequest, opts ...grpc.CallOption) (*TopologyResponse, error)
 	//
@@ -2133,6 +2390,15 @@ func (c *gatewayClient) CompleteJob(ctx context.Context, in *CompleteJobRequest,
 	return out, nil
 }
 
+func (c *gatewayClient) CompleteJobs(ctx context.Context, in *CompleteJobsRequest, opts ...grpc.CallOption) (*CompleteJobsResponse, error) {
+	out := new(CompleteJobsResponse)
+	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/CompleteJobs", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
 func (c *gatewayClient) CreateWorkflowInstance(ctx context.Context, in *CreateWorkflowInstanceRequest, opts ...grpc.CallOption) (*CreateWorkflowInstanceResponse, error) {
 	out := new(CreateWorkflowInstanceResponse)
 	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/CreateWorkflowInstance", in, out, opts...)
@@ -2205,6 +2471,37 @@ func (c *gatewayClient) SetVariables(ctx context.Context, in *SetVariablesReques
 	return out, nil
 }
 
+func (c *gatewayClient) StreamActivatedJobs(ctx context.Context, opts ...grpc.CallOption) (Gateway_StreamActivatedJobsClient, error) {
+	stream, err := c.cc.NewStream(ctx, &_Gateway_serviceDesc.Streams[1], "/gateway_protocol.Gateway/StreamActivatedJobs", opts...)
+	if err != nil {
+		return nil, err
+	}
+	x := &gatewayStreamActivatedJobsClient{stream}
+	return x, nil
+}
+
+type Gateway_StreamActivatedJobsClient interface {
+	Send(*StreamActivatedJobsRequest) error
+	Recv() (*ActivatedJob, error)
+	grpc.ClientStream
+}
+
+type gatewayStreamActivatedJobsClient struct {
+	grpc.ClientStream
+}
+
+func (x *gatewayStreamActivatedJobsClient) Send(m *StreamActivatedJobsRequest) error {
+	return x.ClientStream.SendMsg(m)
+}
+
+func (x *gatewayStreamActivatedJobsClient) Recv() (*ActivatedJob, error) {
+	m := new(ActivatedJob)
+	if err := x.ClientStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 func (c *gatewayClient) Topology(ctx context.Context, in *TopologyRequest, opts ...grpc.CallOption) (*TopologyResponse, error) {
 	out := new(TopologyResponse)
 	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/Topology", in, out, opts...)
@@ -2256,6 +2553,16 @@ type GatewayServer interface {
 	//the job can be activated again and completed.
 	CompleteJob(context.Context, *CompleteJobRequest) (*CompleteJobResponse, error)
 	//
+	//Completes a batch of jobs with the given variables. The jobs are sent to their partitions
+	//in one command per partition, but every job is completed independently of the others: the
+	//response contains the result of each job, with the same codes as returned by CompleteJob if
+	//the job could not be completed.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- the variables of a job are not a valid JSON document
+	CompleteJobs(context.Context, *CompleteJobsRequest) (*CompleteJobsResponse, error)
+	//
 	//Creates and starts an instance of the specified workflow. The workflow definition to use to
 	//create the instance can be specified either using its unique key (as returned by
 	//DeployWorkflow), or using the BPMN process ID and a version. Pass -1 as the version to use the
@@ -2344,6 +2651,20 @@ type GatewayServer interface {
 	//be JSON documents where the root node is an object.
 	SetVariables(context.Context, *SetVariablesRequest) (*SetVariablesResponse, error)
 	//
+	//Opens a stream on which the gateway pushes jobs of the given type as soon as they are
+	//activated. The first request of the stream defines the job type and the activation
+	//parameters, as well as the initial capacity of the worker. Every following request only
+	//grants additional capacity, e.g. when the worker finished handling a job. The gateway never
+	//pushes more jobs than the granted capacity.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- type is blank (empty string, null)
+	//- worker is blank (empty string, null)
+	//- timeout less than 1
+	//- capacity is less than 0
+	StreamActivatedJobs(Gateway_StreamActivatedJobsServer) error
+	//
 	//Obtains the current topology of the cluster the gateway is part of.
 	Topology(context.Context, *TopologyRequest) (*TopologyResponse, error)
 	//
@@ -2372,6 +2693,9 @@ func (*UnimplementedGatewayServer) CancelWorkflowInstance(ctx context.Context, r
 func (*UnimplementedGatewayServer) CompleteJob(ctx context.Context, req *CompleteJobRequest) (*CompleteJobResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method CompleteJob not implemented")
 }
+func (*UnimplementedGatewayServer) CompleteJobs(ctx context.Context, req *CompleteJobsRequest) (*CompleteJobsResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method CompleteJobs not implemented")
+}
 func (*UnimplementedGatewayServer) CreateWorkflowInstance(ctx context.Context, req *CreateWorkflowInstanceRequest) (*CreateWorkflowInstanceResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method CreateWorkflowInstance not implemented")
 }
@@ -2396,6 +2720,9 @@ func (*UnimplementedGatewayServer) ResolveIncident(ctx context.Context, req *Res
 func (*UnimplementedGatewayServer) SetVariables(ctx context.Context, req *SetVariablesRequest) (*SetVariablesResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method SetVariables not implemented")
 }
+func (*UnimplementedGatewayServer) StreamActivatedJobs(srv Gateway_StreamActivatedJobsServer) error {
+	return status.Errorf(codes.Unimplemented, "method StreamActivatedJobs not implemented")
+}
 func (*UnimplementedGatewayServer) Topology(ctx context.Context, req *TopologyRequest) (*TopologyResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method Topology not implemented")
 }
@@ -2464,6 +2791,24 @@ func _Gateway_CompleteJob_Handler(srv interface{}, ctx context.Context, dec func
 	return interceptor(ctx, in, info, handler)
 }
 
+func _Gateway_CompleteJobs_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(CompleteJobsRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(GatewayServer).CompleteJobs(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/gateway_protocol.Gateway/CompleteJobs",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(GatewayServer).CompleteJobs(ctx, req.(*CompleteJobsRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
 func _Gateway_CreateWorkflowInstance_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
 	in := new(CreateWorkflowInstanceRequest)
 	if err := dec(in); err != nil {
@@ -2608,6 +2953,32 @@ func _Gateway_SetVariables_Handler(srv interface{}, ctx context.Context, dec fun
 	return interceptor(ctx, in, info, handler)
 }
 
+func _Gateway_StreamActivatedJobs_Handler(srv interface{}, stream grpc.ServerStream) error {
+	return srv.(GatewayServer).StreamActivatedJobs(&gatewayStreamActivatedJobsServer{stream})
+}
+
+type Gateway_StreamActivatedJobsServer interface {
+	Send(*ActivatedJob) error
+	Recv() (*StreamActivatedJobsRequest, error)
+	grpc.ServerStream
+}
+
+type gatewayStreamActivatedJobsServer struct {
+	grpc.ServerStream
+}
+
+func (x *gatewayStreamActivatedJobsServer) Send(m *ActivatedJob) error {
+	return x.ServerStream.SendMsg(m)
+}
+
+func (x *gatewayStreamActivatedJobsServer) Recv() (*StreamActivatedJobsRequest, error) {
+	m := new(StreamActivatedJobsRequest)
+	if err := x.ServerStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 func _Gateway_Topology_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
 	in := new(TopologyRequest)
 	if err := dec(in); err != nil {
@@ -2656,6 +3027,10 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
 			MethodName: "CompleteJob",
 			Handler:    _Gateway_CompleteJob_Handler,
 		},
+		{
+			MethodName: "CompleteJobs",
+			Handler:    _Gateway_CompleteJobs_Handler,
+		},
 		{
 			MethodName: "CreateWorkflowInstance",
 			Handler:    _Gateway_CreateWorkflowInstance_Handler,
@@ -2703,6 +3078,12 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
 			Handler:       _Gateway_ActivateJobs_Handler,
 			ServerStreams: true,
 		},
+		{
+			StreamName:    "StreamActivatedJobs",
+			Handler:       _Gateway_StreamActivatedJobs_Handler,
+			ServerStreams: true,
+			ClientStreams: true,
+		},
 	},
 	Metadata: "gateway.proto",
 }
@@ -43,6 +43,12 @@ public final class ClientProperties {
   /** @see ZeebeClientBuilder#defaultJobPollInterval(Duration) */
   public static final String DEFAULT_JOB_POLL_INTERVAL = "zeebe.client.job.pollinterval";
 
+  /** @see ZeebeClientBuilder#jobCompletionBatchSize(int) */
+  public static final String JOB_COMPLETION_BATCH_SIZE = "zeebe.client.job.completion.batchSize";
+
+  /** @see ZeebeClientBuilder#jobCompletionBatchDelay(Duration) */
+  public static final String JOB_COMPLETION_BATCH_DELAY = "zeebe.client.job.completion.batchDelay";
+
   /** @see ZeebeClientBuilder#defaultMessageTimeToLive(java.time.Duration) */
   public static final String DEFAULT_MESSAGE_TIME_TO_LIVE = "zeebe.client.message.timeToLive";
 
@@ -72,6 +72,20 @@ public interface ZeebeClientBuilder {
    */
   ZeebeClientBuilder defaultJobPollInterval(Duration pollInterval);
 
+  /**
+   * The maximum amount of job completions which are sent together in one request, when jobs are
+   * completed with {@link io.zeebe.client.api.worker.JobClient#newBatchedCompleteCommand(long)}.
+   * Default is 100.
+   */
+  ZeebeClientBuilder jobCompletionBatchSize(int batchSize);
+
+  /**
+   * The maximum time a batched job completion waits for other completions to be sent with, see
+   * {@link io.zeebe.client.api.worker.JobClient#newBatchedCompleteCommand(long)}. Default is 10
+   * milliseconds.
+   */
+  ZeebeClientBuilder jobCompletionBatchDelay(Duration batchDelay);
+
   /** The time-to-live which is used when none is provided for a message. Default is 1 hour. */
   ZeebeClientBuilder defaultMessageTimeToLive(Duration timeToLive);
 
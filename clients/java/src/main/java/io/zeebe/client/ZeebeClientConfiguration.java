@@ -46,6 +46,12 @@ public interface ZeebeClientConfiguration {
   /** @see ZeebeClientBuilder#defaultJobPollInterval(Duration) */
   Duration getDefaultJobPollInterval();
 
+  /** @see ZeebeClientBuilder#jobCompletionBatchSize(int) */
+  int getJobCompletionBatchSize();
+
+  /** @see ZeebeClientBuilder#jobCompletionBatchDelay(Duration) */
+  Duration getJobCompletionBatchDelay();
+
   /** @see ZeebeClientBuilder#defaultMessageTimeToLive(Duration) */
   Duration getDefaultMessageTimeToLive();
 
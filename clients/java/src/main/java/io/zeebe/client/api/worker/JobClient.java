@@ -47,6 +47,30 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(long jobKey);
 
+  /**
+   * Command to complete a job together with other jobs.
+   *
+   * <pre>
+   * long jobKey = ..;
+   *
+   * jobClient
+   *  .newBatchedCompleteCommand(jobKey)
+   *  .variables(json)
+   *  .send();
+   * </pre>
+   *
+   * <p>Unlike {@link #newCompleteCommand(long)}, the command is not sent immediately. Instead, it
+   * is collected with the other batched complete commands of the client, and the commands are sent
+   * together when the batch is full or the batch delay elapsed (see {@link
+   * io.zeebe.client.ZeebeClientBuilder#jobCompletionBatchSize(int)} and {@link
+   * io.zeebe.client.ZeebeClientBuilder#jobCompletionBatchDelay(java.time.Duration)}). The jobs of a
+   * batch are completed independently; if a job can't be completed, only its command fails.
+   *
+   * @param jobKey the key which identifies the job
+   * @return a builder for the command
+   */
+  CompleteJobCommandStep1 newBatchedCompleteCommand(long jobKey);
+
   /**
    * Command to mark a job as failed.
    *
@@ -176,6 +176,22 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 fetchVariables(String... fetchVariables);
 
+    /**
+     * Enables the streaming of jobs. Instead of polling for jobs, the worker opens a stream on
+     * which the gateway pushes the jobs as soon as they are activated. The gateway pushes at most
+     * as many jobs as the worker can handle at the same time (see {@link #maxJobsActive(int)}).
+     *
+     * <p>This avoids the latency between the polls of the worker. If the stream is closed, e.g.
+     * because the gateway is restarted, the worker opens it again after the poll interval (see
+     * {@link #pollInterval(Duration)}).
+     *
+     * <p>By default, the worker polls for jobs.
+     *
+     * @param streamEnabled true to receive the jobs on a stream, false to poll for them
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 streamEnabled(boolean streamEnabled);
+
     /**
      * Open the worker and start to work on available tasks.
      *
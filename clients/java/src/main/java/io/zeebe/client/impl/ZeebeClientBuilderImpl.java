@@ -53,6 +53,8 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   private String defaultJobWorkerName = "default";
   private Duration defaultJobTimeout = Duration.ofMinutes(5);
   private Duration defaultJobPollInterval = Duration.ofMillis(100);
+  private int jobCompletionBatchSize = 100;
+  private Duration jobCompletionBatchDelay = Duration.ofMillis(10);
   private Duration defaultMessageTimeToLive = Duration.ofHours(1);
   private Duration defaultRequestTimeout = Duration.ofSeconds(10);
   private boolean usePlaintextConnection = false;
@@ -95,6 +97,16 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return defaultJobPollInterval;
   }
 
+  @Override
+  public int getJobCompletionBatchSize() {
+    return jobCompletionBatchSize;
+  }
+
+  @Override
+  public Duration getJobCompletionBatchDelay() {
+    return jobCompletionBatchDelay;
+  }
+
   @Override
   public Duration getDefaultMessageTimeToLive() {
     return defaultMessageTimeToLive;
@@ -163,6 +175,15 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
               Integer.parseInt(
                   properties.getProperty(ClientProperties.DEFAULT_JOB_POLL_INTERVAL))));
     }
+    if (properties.containsKey(ClientProperties.JOB_COMPLETION_BATCH_SIZE)) {
+      jobCompletionBatchSize(
+          Integer.parseInt(properties.getProperty(ClientProperties.JOB_COMPLETION_BATCH_SIZE)));
+    }
+    if (properties.containsKey(ClientProperties.JOB_COMPLETION_BATCH_DELAY)) {
+      jobCompletionBatchDelay(
+          Duration.ofMillis(
+              Long.parseLong(properties.getProperty(ClientProperties.JOB_COMPLETION_BATCH_DELAY))));
+    }
     if (properties.containsKey(DEFAULT_MESSAGE_TIME_TO_LIVE)) {
       defaultMessageTimeToLive(
           Duration.ofMillis(Long.parseLong(properties.getProperty(DEFAULT_MESSAGE_TIME_TO_LIVE))));
@@ -235,6 +256,18 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder jobCompletionBatchSize(final int batchSize) {
+    jobCompletionBatchSize = batchSize;
+    return this;
+  }
+
+  @Override
+  public ZeebeClientBuilder jobCompletionBatchDelay(final Duration batchDelay) {
+    jobCompletionBatchDelay = batchDelay;
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder defaultMessageTimeToLive(final Duration timeToLive) {
     defaultMessageTimeToLive = timeToLive;
@@ -318,6 +351,8 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     appendProperty(sb, "defaultJobWorkerName", defaultJobWorkerName);
     appendProperty(sb, "defaultJobTimeout", defaultJobTimeout);
     appendProperty(sb, "defaultJobPollInterval", defaultJobPollInterval);
+    appendProperty(sb, "jobCompletionBatchSize", jobCompletionBatchSize);
+    appendProperty(sb, "jobCompletionBatchDelay", jobCompletionBatchDelay);
     appendProperty(sb, "defaultMessageTimeToLive", defaultMessageTimeToLive);
     appendProperty(sb, "defaultRequestTimeout", defaultRequestTimeout);
 
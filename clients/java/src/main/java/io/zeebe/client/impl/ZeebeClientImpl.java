@@ -44,6 +44,7 @@ import io.zeebe.client.impl.command.ActivateJobsCommandImpl;
 import io.zeebe.client.impl.command.CancelWorkflowInstanceCommandImpl;
 import io.zeebe.client.impl.command.CreateWorkflowInstanceCommandImpl;
 import io.zeebe.client.impl.command.DeployWorkflowCommandImpl;
+import io.zeebe.client.impl.command.JobCompletionBatcher;
 import io.zeebe.client.impl.command.JobUpdateRetriesCommandImpl;
 import io.zeebe.client.impl.command.PublishMessageCommandImpl;
 import io.zeebe.client.impl.command.ResolveIncidentCommandImpl;
@@ -72,6 +73,7 @@ public final class ZeebeClientImpl implements ZeebeClient {
   private final ManagedChannel channel;
   private final ScheduledExecutorService executorService;
   private final List<Closeable> closeables = new CopyOnWriteArrayList<>();
+  private final JobCompletionBatcher jobCompletionBatcher;
   private final JobClient jobClient;
   private final CredentialsProvider credentialsProvider;
 
@@ -107,6 +109,13 @@ public final class ZeebeClientImpl implements ZeebeClient {
     } else {
       credentialsProvider = new NoopCredentialsProvider();
     }
+    jobCompletionBatcher =
+        new JobCompletionBatcher(
+            asyncStub,
+            executorService,
+            config.getJobCompletionBatchSize(),
+            config.getJobCompletionBatchDelay(),
+            credentialsProvider::shouldRetryRequest);
     jobClient = newJobClient();
   }
 
@@ -202,6 +211,8 @@ public final class ZeebeClientImpl implements ZeebeClient {
             // ignore
           }
         });
+    // the workers are closed first, so that the completions of their last jobs are sent
+    jobCompletionBatcher.close();
 
     executorService.shutdownNow();
 
@@ -307,7 +318,11 @@ public final class ZeebeClientImpl implements ZeebeClient {
 
   private JobClient newJobClient() {
     return new JobClientImpl(
-        asyncStub, config, objectMapper, credentialsProvider::shouldRetryRequest);
+        asyncStub,
+        config,
+        objectMapper,
+        credentialsProvider::shouldRetryRequest,
+        jobCompletionBatcher);
   }
 
   @Override
@@ -315,6 +330,11 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return jobClient.newCompleteCommand(jobKey);
   }
 
+  @Override
+  public CompleteJobCommandStep1 newBatchedCompleteCommand(final long jobKey) {
+    return jobClient.newBatchedCompleteCommand(jobKey);
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return jobClient.newFailCommand(jobKey);
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.impl.ZeebeObjectMapper;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest.Builder;
+import java.time.Duration;
+
+public final class BatchedCompleteJobCommandImpl
+    extends CommandWithVariables<CompleteJobCommandStep1> implements CompleteJobCommandStep1 {
+
+  private final JobCompletionBatcher batcher;
+  private final Builder builder;
+  private Duration requestTimeout;
+
+  public BatchedCompleteJobCommandImpl(
+      final JobCompletionBatcher batcher,
+      final ZeebeObjectMapper objectMapper,
+      final long key,
+      final Duration requestTimeout) {
+    super(objectMapper);
+    this.batcher = batcher;
+    this.requestTimeout = requestTimeout;
+    builder = CompleteJobRequest.newBuilder();
+    builder.setJobKey(key);
+  }
+
+  @Override
+  public FinalCommandStep<CompleteJobResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<CompleteJobResponse> send() {
+    return batcher.complete(builder.build(), requestTimeout);
+  }
+
+  @Override
+  protected CompleteJobCommandStep1 setVariablesInternal(final String variables) {
+    builder.setVariables(variables);
+    return this;
+  }
+}
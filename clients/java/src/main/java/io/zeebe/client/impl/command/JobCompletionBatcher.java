@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.ZeebeClientFutureImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Collects job completions and sends them together in one CompleteJobs request. A batch is sent
+ * when it reached the maximum batch size, or when the maximum delay elapsed since the first
+ * completion of the batch was added.
+ */
+public final class JobCompletionBatcher implements Closeable {
+
+  private final GatewayStub asyncStub;
+  private final ScheduledExecutorService executor;
+  private final int maxBatchSize;
+  private final Duration maxDelay;
+  private final Predicate<Throwable> retryPredicate;
+
+  // guarded by this
+  private List<PendingCompletion> pendingCompletions = new ArrayList<>();
+  private ScheduledFuture<?> scheduledFlush;
+  private boolean closed;
+
+  public JobCompletionBatcher(
+      final GatewayStub asyncStub,
+      final ScheduledExecutorService executor,
+      final int maxBatchSize,
+      final Duration maxDelay,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.executor = executor;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelay = maxDelay;
+    this.retryPredicate = retryPredicate;
+  }
+
+  /**
+   * Adds the completion to the current batch.
+   *
+   * @param request the completion of the job
+   * @param requestTimeout the timeout of the completion; the batch is sent with the longest timeout
+   *     of its completions
+   * @return a future which is completed when the result of the job was received
+   */
+  public ZeebeFuture<CompleteJobResponse> complete(
+      final CompleteJobRequest request, final Duration requestTimeout) {
+    final ZeebeClientFutureImpl<CompleteJobResponse, GatewayOuterClass.CompleteJobResponse> future =
+        new ZeebeClientFutureImpl<>();
+
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      pendingCompletions.add(new PendingCompletion(request, requestTimeout, future));
+
+      if (closed || maxDelay.isZero() || pendingCompletions.size() >= maxBatchSize) {
+        batch = drainBatch();
+      } else {
+        if (scheduledFlush == null) {
+          scheduledFlush =
+              executor.schedule(this::flush, maxDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        batch = null;
+      }
+    }
+
+    if (batch != null) {
+      send(batch);
+    }
+    return future;
+  }
+
+  /** Sends the pending completions and completes every following completion immediately. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+    }
+    flush();
+  }
+
+  private void flush() {
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      batch = drainBatch();
+    }
+
+    if (!batch.isEmpty()) {
+      send(batch);
+    }
+  }
+
+  private List<PendingCompletion> drainBatch() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+
+    final List<PendingCompletion> batch = pendingCompletions;
+    pendingCompletions = new ArrayList<>();
+    return batch;
+  }
+
+  private void send(final List<PendingCompletion> batch) {
+    final CompleteJobsRequest.Builder builder = CompleteJobsRequest.newBuilder();
+    long requestTimeout = 0;
+    for (final PendingCompletion completion : batch) {
+      builder.addJobs(completion.request);
+      requestTimeout = Math.max(requestTimeout, completion.requestTimeout.toMillis());
+    }
+
+    final CompleteJobsRequest request = builder.build();
+    final long timeout = requestTimeout;
+    final RetriableClientFutureImpl<CompleteJobsResponse, CompleteJobsResponse> future =
+        new RetriableClientFutureImpl<>(
+            Function.identity(),
+            retryPredicate,
+            streamObserver -> send(request, timeout, streamObserver));
+    future.whenComplete((response, error) -> onBatchCompleted(batch, response, error));
+
+    send(request, timeout, future);
+  }
+
+  private void send(
+      final CompleteJobsRequest request,
+      final long timeout,
+      final StreamObserver<CompleteJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(timeout, TimeUnit.MILLISECONDS)
+        .completeJobs(request, streamObserver);
+  }
+
+  private static void onBatchCompleted(
+      final List<PendingCompletion> batch,
+      final CompleteJobsResponse response,
+      final Throwable error) {
+    if (error != null) {
+      batch.forEach(completion -> completion.future.completeExceptionally(error));
+      return;
+    }
+
+    // the gateway responds with the results in the order of the completions
+    for (int i = 0; i < batch.size(); i++) {
+      final ZeebeClientFutureImpl<CompleteJobResponse, ?> future = batch.get(i).future;
+
+      if (i >= response.getResultsCount()) {
+        future.completeExceptionally(
+            Status.INTERNAL
+                .withDescription(
+                    "Expected to receive a completion result for the job, but none was found")
+                .asRuntimeException());
+        continue;
+      }
+
+      final CompleteJobResult result = response.getResults(i);
+      if (result.getCode() == Status.Code.OK.value()) {
+        future.complete(null);
+      } else {
+        future.completeExceptionally(
+            Status.fromCodeValue(result.getCode())
+                .withDescription(result.getMessage())
+                .asRuntimeException());
+      }
+    }
+  }
+
+  private static final class PendingCompletion {
+    private final CompleteJobRequest request;
+    private final Duration requestTimeout;
+    private final ZeebeClientFutureImpl<CompleteJobResponse, ?> future;
+
+    private PendingCompletion(
+        final CompleteJobRequest request,
+        final Duration requestTimeout,
+        final ZeebeClientFutureImpl<CompleteJobResponse, ?> future) {
+      this.request = request;
+      this.requestTimeout = requestTimeout;
+      this.future = future;
+    }
+  }
+}
@@ -21,8 +21,10 @@ import io.zeebe.client.api.command.FailJobCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
 import io.zeebe.client.api.worker.JobClient;
 import io.zeebe.client.impl.ZeebeObjectMapper;
+import io.zeebe.client.impl.command.BatchedCompleteJobCommandImpl;
 import io.zeebe.client.impl.command.CompleteJobCommandImpl;
 import io.zeebe.client.impl.command.FailJobCommandImpl;
+import io.zeebe.client.impl.command.JobCompletionBatcher;
 import io.zeebe.client.impl.command.ThrowErrorCommandImpl;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import java.util.function.Predicate;
@@ -33,16 +35,19 @@ public final class JobClientImpl implements JobClient {
   private final ZeebeClientConfiguration config;
   private final ZeebeObjectMapper objectMapper;
   private final Predicate<Throwable> retryPredicate;
+  private final JobCompletionBatcher completionBatcher;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
       final ZeebeClientConfiguration config,
       final ZeebeObjectMapper objectMapper,
-      final Predicate<Throwable> retryPredicate) {
+      final Predicate<Throwable> retryPredicate,
+      final JobCompletionBatcher completionBatcher) {
     this.asyncStub = asyncStub;
     this.config = config;
     this.objectMapper = objectMapper;
     this.retryPredicate = retryPredicate;
+    this.completionBatcher = completionBatcher;
   }
 
   @Override
@@ -51,6 +56,12 @@ public final class JobClientImpl implements JobClient {
         asyncStub, objectMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
   }
 
+  @Override
+  public CompleteJobCommandStep1 newBatchedCompleteCommand(final long jobKey) {
+    return new BatchedCompleteJobCommandImpl(
+        completionBatcher, objectMapper, jobKey, config.getDefaultRequestTimeout());
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return new FailJobCommandImpl(
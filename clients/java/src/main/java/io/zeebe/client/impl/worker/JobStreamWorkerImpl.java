@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import io.zeebe.client.api.response.ActivatedJob;
+import io.zeebe.client.api.worker.JobWorker;
+import io.zeebe.client.impl.Loggers;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+
+/**
+ * A job worker which receives its jobs on a stream instead of polling for them. The capacity of
+ * handled jobs is granted back to the gateway in batches, to avoid sending a request for every
+ * handled job.
+ */
+public final class JobStreamWorkerImpl implements JobWorker, Closeable {
+
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+
+  // job queue state
+  private final int maxJobsActive;
+  private final int grantThreshold;
+  private final AtomicInteger remainingJobs = new AtomicInteger(0);
+  // capacity of handled jobs which was not granted yet, guarded by this
+  private int freedCapacity;
+
+  // job execution facilities
+  private final ScheduledExecutorService executor;
+  private final JobRunnableFactory jobRunnableFactory;
+
+  private final Duration reopenDelay;
+  private final JobStreamer jobStreamer;
+  private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
+
+  public JobStreamWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final Duration reopenDelay,
+      final JobRunnableFactory jobRunnableFactory,
+      final JobStreamer jobStreamer) {
+    this.maxJobsActive = maxJobsActive;
+    grantThreshold = Math.max(1, Math.round(maxJobsActive * 0.3f));
+
+    this.executor = executor;
+    this.jobRunnableFactory = jobRunnableFactory;
+    this.reopenDelay = reopenDelay;
+    this.jobStreamer = jobStreamer;
+
+    executor.execute(this::openStream);
+  }
+
+  @Override
+  public boolean isOpen() {
+    return acquiringJobs.get();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return !isOpen() && remainingJobs.get() <= 0;
+  }
+
+  @Override
+  public void close() {
+    acquiringJobs.set(false);
+    jobStreamer.close();
+  }
+
+  private synchronized void openStream() {
+    if (!isOpen()) {
+      return;
+    }
+
+    // the capacity of the jobs which are still handled is granted when they are finished
+    freedCapacity = 0;
+    final int capacity = maxJobsActive - remainingJobs.get();
+    try {
+      jobStreamer.open(capacity, this::submitJob, this::onStreamClosed);
+    } catch (final Exception e) {
+      LOG.warn("Failed to open job stream", e);
+      onStreamClosed();
+    }
+  }
+
+  private void onStreamClosed() {
+    if (isOpen()) {
+      executor.schedule(this::openStream, reopenDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void submitJob(final ActivatedJob job) {
+    remainingJobs.incrementAndGet();
+    executor.execute(jobRunnableFactory.create(job, this::jobHandlerFinished));
+  }
+
+  private synchronized void jobHandlerFinished() {
+    remainingJobs.decrementAndGet();
+
+    freedCapacity += 1;
+    if (freedCapacity >= grantThreshold && isOpen()) {
+      jobStreamer.grantCapacity(freedCapacity);
+      freedCapacity = 0;
+    }
+  }
+}
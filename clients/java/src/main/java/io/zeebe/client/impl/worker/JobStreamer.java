@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.response.ActivatedJob;
+import io.zeebe.client.impl.Loggers;
+import io.zeebe.client.impl.ZeebeObjectMapper;
+import io.zeebe.client.impl.response.ActivatedJobImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest.Builder;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Opens a stream on which the gateway pushes the activated jobs. The gateway pushes at most as many
+ * jobs as the capacity which was granted on the stream, so the capacity must be granted again when
+ * a job was handled.
+ */
+public final class JobStreamer implements StreamObserver<GatewayOuterClass.ActivatedJob> {
+
+  private static final Logger LOG = Loggers.JOB_POLLER_LOGGER;
+
+  private final GatewayStub gatewayStub;
+  private final Builder requestBuilder;
+  private final ZeebeObjectMapper objectMapper;
+
+  private StreamObserver<StreamActivatedJobsRequest> requestObserver;
+  private Consumer<ActivatedJob> jobConsumer;
+  private Runnable closedCallback;
+
+  public JobStreamer(
+      final GatewayStub gatewayStub,
+      final Builder requestBuilder,
+      final ZeebeObjectMapper objectMapper) {
+    this.gatewayStub = gatewayStub;
+    this.requestBuilder = requestBuilder;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Opens the stream with the given initial capacity.
+   *
+   * @param capacity the amount of jobs the gateway can push initially
+   * @param jobConsumer consumer of the pushed jobs
+   * @param closedCallback called when the stream was closed by the gateway or failed
+   */
+  public synchronized void open(
+      final int capacity, final Consumer<ActivatedJob> jobConsumer, final Runnable closedCallback) {
+    this.jobConsumer = jobConsumer;
+    this.closedCallback = closedCallback;
+
+    LOG.trace(
+        "Open job stream with capacity {} for worker {} and job type {}",
+        capacity,
+        requestBuilder.getWorker(),
+        requestBuilder.getType());
+    requestObserver = gatewayStub.streamActivatedJobs(this);
+    requestObserver.onNext(requestBuilder.setCapacity(capacity).build());
+  }
+
+  /**
+   * Grants the gateway to push more jobs on the stream. If the stream is not open, the capacity is
+   * ignored.
+   *
+   * @param capacity the amount of additional jobs the gateway can push
+   */
+  public synchronized void grantCapacity(final int capacity) {
+    if (requestObserver != null) {
+      requestObserver.onNext(StreamActivatedJobsRequest.newBuilder().setCapacity(capacity).build());
+    }
+  }
+
+  public synchronized void close() {
+    if (requestObserver != null) {
+      requestObserver.onCompleted();
+      requestObserver = null;
+    }
+  }
+
+  @Override
+  public void onNext(final GatewayOuterClass.ActivatedJob job) {
+    jobConsumer.accept(new ActivatedJobImpl(objectMapper, job));
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    final Code code = Status.fromThrowable(throwable).getCode();
+    if (code != Code.RESOURCE_EXHAUSTED && code != Code.CANCELLED) {
+      LOG.warn(
+          "Job stream of worker {} and job type {} failed",
+          requestBuilder.getWorker(),
+          requestBuilder.getType(),
+          throwable);
+    }
+    streamClosed();
+  }
+
+  @Override
+  public void onCompleted() {
+    LOG.trace(
+        "Job stream of worker {} and job type {} was closed",
+        requestBuilder.getWorker(),
+        requestBuilder.getType());
+    streamClosed();
+  }
+
+  private void streamClosed() {
+    final Runnable callback;
+    synchronized (this) {
+      requestObserver = null;
+      callback = closedCallback;
+    }
+    callback.run();
+  }
+}
@@ -30,6 +30,7 @@ import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest.Builder;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
@@ -56,6 +57,7 @@ public final class JobWorkerBuilderImpl
   private Duration pollInterval;
   private Duration requestTimeout;
   private List<String> fetchVariables;
+  private boolean streamEnabled;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -136,6 +138,12 @@ public final class JobWorkerBuilderImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public JobWorkerBuilderStep3 streamEnabled(final boolean streamEnabled) {
+    this.streamEnabled = streamEnabled;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -144,6 +152,10 @@ public final class JobWorkerBuilderImpl
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
+    if (streamEnabled) {
+      return openStreamWorker();
+    }
+
     final Builder requestBuilder =
         ActivateJobsRequest.newBuilder()
             .setType(jobType)
@@ -168,4 +180,25 @@ public final class JobWorkerBuilderImpl
     closeables.add(jobWorker);
     return jobWorker;
   }
+
+  private JobWorker openStreamWorker() {
+    final StreamActivatedJobsRequest.Builder requestBuilder =
+        StreamActivatedJobsRequest.newBuilder()
+            .setType(jobType)
+            .setTimeout(timeout)
+            .setWorker(workerName);
+
+    if (fetchVariables != null) {
+      requestBuilder.addAllFetchVariable(fetchVariables);
+    }
+
+    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(jobClient, handler);
+    final JobStreamer jobStreamer = new JobStreamer(gatewayStub, requestBuilder, objectMapper);
+
+    final JobStreamWorkerImpl jobWorker =
+        new JobStreamWorkerImpl(
+            maxJobsActive, executorService, pollInterval, jobRunnableFactory, jobStreamer);
+    closeables.add(jobWorker);
+    return jobWorker;
+  }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.ClientStatusException;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.util.JsonUtil;
+import io.zeebe.client.util.RecordingGatewayService;
+import io.zeebe.client.util.TestEnvironmentRule;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class CompleteJobsBatchTest {
+
+  @Rule
+  public final TestEnvironmentRule rule =
+      new TestEnvironmentRule(
+          b -> b.jobCompletionBatchSize(3).jobCompletionBatchDelay(Duration.ofMillis(100)));
+
+  private RecordingGatewayService gatewayService;
+
+  @Before
+  public void setUp() {
+    gatewayService = rule.getGatewayService();
+  }
+
+  @Test
+  public void shouldSendCompletionsInOneRequest() {
+    // when
+    final ZeebeFuture<CompleteJobResponse> first = complete(1);
+    final ZeebeFuture<CompleteJobResponse> second = complete(2);
+    final ZeebeFuture<CompleteJobResponse> third = complete(3);
+
+    // then
+    first.join();
+    second.join();
+    third.join();
+
+    final List<CompleteJobsRequest> requests = completeJobsRequests();
+    assertThat(requests).hasSize(1);
+    assertThat(requests.get(0).getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldSendIncompleteBatchAfterDelay() {
+    // when
+    complete(1).join();
+
+    // then
+    final List<CompleteJobsRequest> requests = completeJobsRequests();
+    assertThat(requests).hasSize(1);
+    assertThat(requests.get(0).getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L);
+  }
+
+  @Test
+  public void shouldSendCompletionWithVariables() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    rule.getClient().newBatchedCompleteCommand(1).variables(json).send().join();
+
+    // then
+    final CompleteJobRequest request = completeJobsRequests().get(0).getJobs(0);
+    assertThat(request.getJobKey()).isEqualTo(1);
+    JsonUtil.assertEquality(request.getVariables(), json);
+  }
+
+  @Test
+  public void shouldFailOnlyRejectedCompletion() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        CompleteJobResult.newBuilder().setJobKey(1).build(),
+        CompleteJobResult.newBuilder()
+            .setJobKey(2)
+            .setCode(Code.NOT_FOUND.value())
+            .setMessage("no such job")
+            .build());
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> completed = complete(1);
+    final ZeebeFuture<CompleteJobResponse> rejected = complete(2);
+
+    // then
+    completed.join();
+    assertThatThrownBy(rejected::join)
+        .isInstanceOf(ClientStatusException.class)
+        .hasMessageContaining("no such job")
+        .extracting(e -> ((ClientStatusException) e).getStatusCode())
+        .isEqualTo(Code.NOT_FOUND);
+  }
+
+  @Test
+  public void shouldFailAllCompletionsIfRequestFails() {
+    // given
+    gatewayService.errorOnRequest(
+        CompleteJobsRequest.class,
+        () -> Status.UNAVAILABLE.withDescription("gateway unavailable").asRuntimeException());
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> first = complete(1);
+    final ZeebeFuture<CompleteJobResponse> second = complete(2);
+
+    // then
+    assertThatThrownBy(first::join).isInstanceOf(ClientStatusException.class);
+    assertThatThrownBy(second::join).isInstanceOf(ClientStatusException.class);
+  }
+
+  @Test
+  public void shouldUseLongestRequestTimeoutOfBatch() {
+    // when
+    rule.getClient()
+        .newBatchedCompleteCommand(1)
+        .requestTimeout(Duration.ofSeconds(5))
+        .send()
+        .join();
+
+    // then
+    rule.verifyRequestTimeout(Duration.ofSeconds(5));
+  }
+
+  private ZeebeFuture<CompleteJobResponse> complete(final long jobKey) {
+    return rule.getClient().newBatchedCompleteCommand(jobKey).send();
+  }
+
+  private List<CompleteJobsRequest> completeJobsRequests() {
+    return gatewayService.getRequests().stream()
+        .filter(CompleteJobsRequest.class::isInstance)
+        .map(CompleteJobsRequest.class::cast)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.client.api.response.ActivatedJob;
+import io.zeebe.client.api.worker.JobWorker;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Test;
+
+public final class JobStreamWorkerTest extends ClientTest {
+
+  private static final String TYPE = "foo";
+  private static final String WORKER = "bar";
+
+  private final List<ActivatedJob> handledJobs = new CopyOnWriteArrayList<>();
+  private JobWorker worker;
+
+  @After
+  public void closeWorker() {
+    if (worker != null) {
+      worker.close();
+    }
+  }
+
+  @Test
+  public void shouldOpenStreamWithMaxJobsActive() {
+    // when
+    worker = openWorker(10);
+
+    // then
+    waitUntil(() -> !streamRequests().isEmpty());
+    final StreamActivatedJobsRequest request = streamRequests().get(0);
+    assertThat(request.getType()).isEqualTo(TYPE);
+    assertThat(request.getWorker()).isEqualTo(WORKER);
+    assertThat(request.getTimeout()).isEqualTo(1000);
+    assertThat(request.getCapacity()).isEqualTo(10);
+    assertThat(request.getFetchVariableList()).containsExactly("a", "b");
+  }
+
+  @Test
+  public void shouldHandlePushedJobs() {
+    // given
+    worker = openWorker(10);
+    waitUntil(() -> !streamRequests().isEmpty());
+
+    // when
+    gatewayService.pushJobs(job(1), job(2));
+
+    // then
+    waitUntil(() -> handledJobs.size() == 2);
+    assertThat(handledJobs).extracting(ActivatedJob::getKey).containsExactlyInAnyOrder(1L, 2L);
+  }
+
+  @Test
+  public void shouldGrantCapacityOfHandledJobs() {
+    // given
+    worker = openWorker(3);
+    waitUntil(() -> !streamRequests().isEmpty());
+
+    // when
+    gatewayService.pushJobs(job(1));
+
+    // then
+    waitUntil(() -> streamRequests().size() == 2);
+    assertThat(streamRequests().get(1).getCapacity()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReopenStreamClosedByGateway() {
+    // given
+    worker = openWorker(10);
+    waitUntil(() -> !streamRequests().isEmpty());
+
+    // when
+    gatewayService.closeJobStreams();
+
+    // then
+    waitUntil(() -> streamRequests().size() == 2);
+    assertThat(streamRequests().get(1).getType()).isEqualTo(TYPE);
+    assertThat(streamRequests().get(1).getCapacity()).isEqualTo(10);
+  }
+
+  private JobWorker openWorker(final int maxJobsActive) {
+    return client
+        .newWorker()
+        .jobType(TYPE)
+        .handler((jobClient, job) -> handledJobs.add(job))
+        .name(WORKER)
+        .timeout(1000)
+        .maxJobsActive(maxJobsActive)
+        .pollInterval(Duration.ofMillis(10))
+        .fetchVariables("a", "b")
+        .streamEnabled(true)
+        .open();
+  }
+
+  private List<StreamActivatedJobsRequest> streamRequests() {
+    return gatewayService.getRequests().stream()
+        .filter(StreamActivatedJobsRequest.class::isInstance)
+        .map(StreamActivatedJobsRequest.class::cast)
+        .collect(Collectors.toList());
+  }
+
+  private static GatewayOuterClass.ActivatedJob job(final long key) {
+    return GatewayOuterClass.ActivatedJob.newBuilder()
+        .setKey(key)
+        .setType(TYPE)
+        .setWorker(WORKER)
+        .setCustomHeaders("{}")
+        .setVariables("{}")
+        .build();
+  }
+
+  private static void waitUntil(final BooleanSupplier condition) {
+    final long deadline = System.currentTimeMillis() + 5_000;
+    while (!condition.getAsBoolean()) {
+      assertThat(System.currentTimeMillis()).describedAs("condition not met").isLessThan(deadline);
+      try {
+        Thread.sleep(10);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
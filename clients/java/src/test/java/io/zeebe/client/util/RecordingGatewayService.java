@@ -28,6 +28,9 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -44,6 +47,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
@@ -51,17 +55,18 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.WorkflowMetadata;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
 public final class RecordingGatewayService extends GatewayImplBase {
 
-  private final List<GeneratedMessageV3> requests = new ArrayList<>();
+  private final List<GeneratedMessageV3> requests = new CopyOnWriteArrayList<>();
+  private final List<StreamObserver<ActivatedJob>> jobStreams = new CopyOnWriteArrayList<>();
 
   private final Map<Class<? extends GeneratedMessageV3>, RequestHandler> requestHandlers =
       new HashMap<>();
@@ -87,6 +92,18 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        r -> {
+          final CompleteJobsResponse.Builder response = CompleteJobsResponse.newBuilder();
+          ((CompleteJobsRequest) r)
+              .getJobsList()
+              .forEach(
+                  job ->
+                      response.addResults(
+                          CompleteJobResult.newBuilder().setJobKey(job.getJobKey())));
+          return response.build();
+        });
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
@@ -143,6 +160,29 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public StreamObserver<StreamActivatedJobsRequest> streamActivatedJobs(
+      final StreamObserver<ActivatedJob> responseObserver) {
+    jobStreams.add(responseObserver);
+    return new StreamObserver<StreamActivatedJobsRequest>() {
+      @Override
+      public void onNext(final StreamActivatedJobsRequest request) {
+        requests.add(request);
+      }
+
+      @Override
+      public void onError(final Throwable throwable) {
+        jobStreams.remove(responseObserver);
+      }
+
+      @Override
+      public void onCompleted() {
+        jobStreams.remove(responseObserver);
+        responseObserver.onCompleted();
+      }
+    };
+  }
+
   @Override
   public void cancelWorkflowInstance(
       final CancelWorkflowInstanceRequest request,
@@ -157,6 +197,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -293,6 +340,21 @@ public final class RecordingGatewayService extends GatewayImplBase {
             ActivateJobsResponse.newBuilder().addAllJobs(Arrays.asList(activatedJobs)).build());
   }
 
+  public void onCompleteJobsRequest(final CompleteJobResult... results) {
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        request -> CompleteJobsResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+  }
+
+  public void pushJobs(final ActivatedJob... activatedJobs) {
+    jobStreams.forEach(stream -> Arrays.stream(activatedJobs).forEach(stream::onNext));
+  }
+
+  public void closeJobStreams() {
+    jobStreams.forEach(StreamObserver::onCompleted);
+    jobStreams.clear();
+  }
+
   public void onSetVariablesRequest(final long key) {
     addRequestHandler(
         SetVariablesRequest.class,
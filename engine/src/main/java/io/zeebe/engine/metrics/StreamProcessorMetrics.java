@@ -47,6 +47,15 @@ public final class StreamProcessorMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_size")
+          .help("Count of events which are processed together in one batch")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public StreamProcessorMetrics(final int partitionId) {
@@ -76,6 +85,10 @@ public final class StreamProcessorMetrics {
     event("skipped");
   }
 
+  public void batchProcessed(final int batchSize) {
+    BATCH_SIZE.labels(partitionIdLabel).observe(batchSize);
+  }
+
   public void recoveryTime(final long durationMillis) {
     STARTUP_RECOVERY_TIME.labels(partitionIdLabel).set(durationMillis);
   }
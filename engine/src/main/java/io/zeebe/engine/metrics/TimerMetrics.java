@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class TimerMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Gauge DUE_TIMER_BACKLOG =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("timer_due_backlog")
+          .help(
+              "Number of due timers found by the last check, which are not triggered yet or whose"
+                  + " trigger command is not processed yet")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram TRIGGER_LAG =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("timer_trigger_lag")
+          .help("Delay between the due date of a timer and writing its trigger command in seconds")
+          .buckets(0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 300)
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public TimerMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void dueTimerBacklog(final long count) {
+    DUE_TIMER_BACKLOG.labels(partitionIdLabel).set(count);
+  }
+
+  public void timerTriggered(final long dueDate, final long triggered) {
+    TRIGGER_LAG.labels(partitionIdLabel).observe(Math.max(0, triggered - dueDate) / 1000f);
+  }
+}
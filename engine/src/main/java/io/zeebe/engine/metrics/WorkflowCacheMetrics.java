@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class WorkflowCacheMetrics {
+
+  private static final Counter CACHE_ACCESSES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_accesses_total")
+          .help("Number of lookups of deployed workflows, by whether they were cached")
+          .labelNames("result", "partition")
+          .register();
+
+  private static final Counter CACHE_EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_evictions_total")
+          .help("Number of deployed workflows which were evicted from the cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge CACHE_SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("workflow_cache_size_bytes")
+          .help("Size of the BPMN resources of the cached workflows")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public WorkflowCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void cacheHit() {
+    CACHE_ACCESSES.labels("hit", partitionIdLabel).inc();
+  }
+
+  public void cacheMiss() {
+    CACHE_ACCESSES.labels("miss", partitionIdLabel).inc();
+  }
+
+  public void evicted() {
+    CACHE_EVICTIONS.labels(partitionIdLabel).inc();
+  }
+
+  public void setCacheSize(final long size) {
+    CACHE_SIZE.labels(partitionIdLabel).set(size);
+  }
+}
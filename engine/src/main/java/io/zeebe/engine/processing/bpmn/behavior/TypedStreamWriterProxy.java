@@ -64,6 +64,21 @@ public final class TypedStreamWriterProxy implements TypedStreamWriter {
     writer.configureSourceContext(sourceRecordPosition);
   }
 
+  @Override
+  public void mark() {
+    writer.mark();
+  }
+
+  @Override
+  public void resetToMark() {
+    writer.resetToMark();
+  }
+
+  @Override
+  public int getBatchLength() {
+    return writer.getBatchLength();
+  }
+
   @Override
   public void appendNewCommand(final Intent intent, final UnpackedObject value) {
     writer.appendNewCommand(intent, value);
@@ -12,6 +12,7 @@ import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.state.instance.JobState;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.intent.JobIntent;
+import org.agrona.DirectBuffer;
 
 public final class CompleteProcessor implements CommandProcessor<JobRecord> {
 
@@ -30,12 +31,37 @@ public final class CompleteProcessor implements CommandProcessor<JobRecord> {
     return defaultProcessor.onCommand(command, commandControl);
   }
 
+  /**
+   * Returns the job with the given key and variables, if it can be completed. Otherwise, the
+   * completion is rejected on the given command control, in the same way as a complete command.
+   *
+   * @return the job to pass to {@link #completeJob(long, JobRecord, CommandControl)}, or {@code
+   *     null} if the completion was rejected
+   */
+  JobRecord getCompletableJob(
+      final long jobKey,
+      final DirectBuffer variables,
+      final CommandControl<JobRecord> commandControl) {
+    if (!defaultProcessor.isAcceptable(jobKey, commandControl)) {
+      return null;
+    }
+
+    final JobRecord job = state.getJob(jobKey);
+    job.setVariables(variables);
+    return job;
+  }
+
+  void completeJob(
+      final long jobKey, final JobRecord job, final CommandControl<JobRecord> commandControl) {
+    state.complete(jobKey, job);
+    commandControl.accept(JobIntent.COMPLETED, job);
+  }
+
   private void acceptCommand(
       final TypedRecord<JobRecord> command, final CommandControl<JobRecord> commandControl) {
     final long jobKey = command.getKey();
     final JobRecord job = state.getJob(jobKey);
     job.setVariables(command.getValue().getVariablesBuffer());
-    state.complete(jobKey, job);
-    commandControl.accept(JobIntent.COMPLETED, job);
+    completeJob(jobKey, job, commandControl);
   }
 }
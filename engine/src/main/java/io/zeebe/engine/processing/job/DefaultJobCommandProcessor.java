@@ -41,11 +41,24 @@ final class DefaultJobCommandProcessor<J extends JobRecord> implements CommandPr
 
   @Override
   public boolean onCommand(final TypedRecord<J> command, final CommandControl<J> commandControl) {
-    final long jobKey = command.getKey();
+    if (isAcceptable(command.getKey(), commandControl)) {
+      acceptCommand.accept(command, commandControl);
+    }
+
+    return true;
+  }
+
+  /**
+   * Checks whether a command for the given job can be accepted. If not, the command is rejected on
+   * the given command control.
+   *
+   * @return {@code true} if the job is activatable or activated
+   */
+  boolean isAcceptable(final long jobKey, final CommandControl<J> commandControl) {
     final State jobState = state.getState(jobKey);
 
     if (jobState == State.ACTIVATABLE || jobState == State.ACTIVATED) {
-      acceptCommand.accept(command, commandControl);
+      return true;
 
     } else if (jobState == State.NOT_FOUND) {
       final String message = String.format(NO_JOB_FOUND_MESSAGE, intent, jobKey);
@@ -56,6 +69,6 @@ final class DefaultJobCommandProcessor<J extends JobRecord> implements CommandPr
       commandControl.reject(RejectionType.INVALID_STATE, message);
     }
 
-    return true;
+    return false;
   }
 }
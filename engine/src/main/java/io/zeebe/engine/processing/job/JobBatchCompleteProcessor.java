@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.job;
+
+import io.zeebe.engine.processing.streamprocessor.CommandProcessor.CommandControl;
+import io.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.state.KeyGenerator;
+import io.zeebe.msgpack.value.DocumentValue;
+import io.zeebe.msgpack.value.LongValue;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.impl.record.value.job.JobCompletionResult;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import java.util.Iterator;
+import org.agrona.DirectBuffer;
+
+/**
+ * Completes all jobs of a batch independently of each other, as if a complete command was written
+ * for each of them, using the {@link CompleteProcessor}. A job which can't be completed doesn't
+ * affect the other jobs of the batch; instead, the reason is added to its completion result.
+ */
+public final class JobBatchCompleteProcessor implements TypedRecordProcessor<JobBatchRecord> {
+
+  private static final String BATCH_TOO_LARGE_MESSAGE =
+      "Expected to complete job with key '%d', but the completed jobs of the batch exceed the"
+          + " maximum record size; complete the job in a smaller batch";
+
+  private final CompleteProcessor completeProcessor;
+  private final KeyGenerator keyGenerator;
+  private final long maxJobEventsLength;
+
+  private final JobBatchRecord completedBatch = new JobBatchRecord();
+  private final JobCompletionControl completionControl = new JobCompletionControl();
+  private long jobEventsLength;
+
+  public JobBatchCompleteProcessor(
+      final CompleteProcessor completeProcessor,
+      final KeyGenerator keyGenerator,
+      final long maxRecordLength) {
+    this.completeProcessor = completeProcessor;
+    this.keyGenerator = keyGenerator;
+    // the job events are written together with the completed job batch, which contains the
+    // results of all jobs
+    maxJobEventsLength = maxRecordLength / 2;
+  }
+
+  @Override
+  public void processRecord(
+      final TypedRecord<JobBatchRecord> record,
+      final TypedResponseWriter responseWriter,
+      final TypedStreamWriter streamWriter) {
+    final JobBatchRecord value = record.getValue();
+    final Iterator<JobRecord> jobs = value.jobs().iterator();
+
+    completedBatch.reset();
+    jobEventsLength = 0;
+    for (final LongValue jobKeyValue : value.jobKeys()) {
+      final long jobKey = jobKeyValue.getValue();
+      final DirectBuffer variables =
+          jobs.hasNext() ? jobs.next().getVariablesBuffer() : DocumentValue.EMPTY_DOCUMENT;
+
+      final JobCompletionResult result = completedBatch.completionResults().add();
+      result.setJobKey(jobKey);
+      completionControl.setJob(jobKey, result, streamWriter);
+      completeJob(jobKey, variables);
+    }
+
+    final long jobBatchKey = keyGenerator.nextKey();
+    streamWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.COMPLETED, completedBatch);
+    responseWriter.writeEventOnCommand(
+        jobBatchKey, JobBatchIntent.COMPLETED, completedBatch, record);
+  }
+
+  private void completeJob(final long jobKey, final DirectBuffer variables) {
+    final JobRecord job = completeProcessor.getCompletableJob(jobKey, variables, completionControl);
+    if (job == null) {
+      return;
+    }
+
+    final int jobEventLength = job.getLength();
+    if (jobEventsLength + jobEventLength > maxJobEventsLength) {
+      completionControl.reject(
+          RejectionType.PROCESSING_ERROR, String.format(BATCH_TOO_LARGE_MESSAGE, jobKey));
+      return;
+    }
+    jobEventsLength += jobEventLength;
+
+    completeProcessor.completeJob(jobKey, job, completionControl);
+  }
+
+  /**
+   * Writes the event of an accepted job completion as a follow-up event of the batch, and the
+   * reason of a rejected one into the job's completion result.
+   */
+  private static final class JobCompletionControl implements CommandControl<JobRecord> {
+    private long jobKey;
+    private JobCompletionResult result;
+    private TypedStreamWriter streamWriter;
+
+    void setJob(
+        final long jobKey, final JobCompletionResult result, final TypedStreamWriter streamWriter) {
+      this.jobKey = jobKey;
+      this.result = result;
+      this.streamWriter = streamWriter;
+    }
+
+    @Override
+    public long accept(final Intent newState, final JobRecord updatedValue) {
+      streamWriter.appendFollowUpEvent(jobKey, newState, updatedValue);
+      return jobKey;
+    }
+
+    @Override
+    public void reject(final RejectionType type, final String reason) {
+      result.setRejection(type, reason);
+    }
+  }
+}
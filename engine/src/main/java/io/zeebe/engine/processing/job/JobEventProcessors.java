@@ -30,12 +30,13 @@ public final class JobEventProcessors {
 
     final var jobErrorThrownProcessor =
         new JobErrorThrownProcessor(workflowState, keyGenerator, jobState);
+    final var completeProcessor = new CompleteProcessor(jobState);
 
     typedRecordProcessors
         .onEvent(ValueType.JOB, JobIntent.CREATED, new JobCreatedProcessor(workflowState))
         .onEvent(ValueType.JOB, JobIntent.COMPLETED, new JobCompletedEventProcessor(workflowState))
         .onCommand(ValueType.JOB, JobIntent.CREATE, new CreateProcessor(jobState))
-        .onCommand(ValueType.JOB, JobIntent.COMPLETE, new CompleteProcessor(jobState))
+        .onCommand(ValueType.JOB, JobIntent.COMPLETE, completeProcessor)
         .onCommand(ValueType.JOB, JobIntent.FAIL, new FailProcessor(jobState))
         .onEvent(ValueType.JOB, JobIntent.FAILED, new JobFailedProcessor())
         .onCommand(ValueType.JOB, JobIntent.THROW_ERROR, new JobThrowErrorProcessor(jobState))
@@ -51,6 +52,10 @@ public final class JobEventProcessors {
                 workflowState.getElementInstanceState().getVariablesState(),
                 keyGenerator,
                 maxRecordSize))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            new JobBatchCompleteProcessor(completeProcessor, keyGenerator, maxRecordSize))
         .withListener(new JobTimeoutTrigger(jobState))
         .withListener(
             new StreamProcessorLifecycleAware() {
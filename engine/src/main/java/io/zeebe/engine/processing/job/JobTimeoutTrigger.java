@@ -9,82 +9,109 @@ package io.zeebe.engine.processing.job;
 
 import static io.zeebe.util.sched.clock.ActorClock.currentTimeMillis;
 
+import io.zeebe.engine.processing.scheduled.DueDateChecker;
 import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobIntent;
-import io.zeebe.util.sched.ScheduledTimer;
 import java.time.Duration;
 
+/**
+ * Writes the time out commands of the activated jobs when their deadline is reached. The check runs
+ * at the deadline of the next job, which is updated by the job state when a job is activated.
+ *
+ * <p>A job keeps its deadline until its time out command is processed. To not write the command of
+ * a job again while it is pending, the trigger remembers the last job whose command it wrote and
+ * continues after it. Since the commands are processed in the order they were written, all of them
+ * are processed once the deadline of the last job is removed; then the next check starts from the
+ * first deadline again, to find the jobs which were activated with an earlier deadline meanwhile.
+ */
 public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
-  public static final Duration TIME_OUT_POLLING_INTERVAL = Duration.ofSeconds(30);
+  private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
+
   private final JobState state;
+  private final DueDateChecker dueDateChecker;
 
-  private ScheduledTimer timer;
   private TypedCommandWriter writer;
-  private ReadonlyProcessingContext processingContext;
+
+  // the last job whose time out command was written and may not be processed yet
+  private boolean hasWrittenTimeOuts;
+  private long lastDeadline;
+  private long lastJobKey;
 
   public JobTimeoutTrigger(final JobState state) {
     this.state = state;
+    dueDateChecker = new DueDateChecker(TIMER_RESOLUTION, this::deactivateTimedOutJobs);
   }
 
   @Override
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
-    this.processingContext = processingContext;
-    timer =
-        this.processingContext
-            .getActor()
-            .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
     writer = processingContext.getLogStreamWriter();
+    state.setJobDeadlineCallback(dueDateChecker::schedule);
+    dueDateChecker.onRecovered(processingContext);
   }
 
   @Override
   public void onClose() {
-    cancelTimer();
+    dueDateChecker.onClose();
   }
 
   @Override
   public void onFailed() {
-    cancelTimer();
+    dueDateChecker.onFailed();
   }
 
   @Override
   public void onPaused() {
-    cancelTimer();
+    dueDateChecker.onPaused();
   }
 
   @Override
   public void onResumed() {
-    if (timer == null) {
-      timer =
-          processingContext
-              .getActor()
-              .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
-    }
+    dueDateChecker.onResumed();
   }
 
-  private void cancelTimer() {
-    if (timer != null) {
-      timer.cancel();
-      timer = null;
+  long deactivateTimedOutJobs() {
+    // a job is timed out when its deadline is reached
+    final long now = currentTimeMillis();
+    final long upperBound = now + 1;
+    hasWrittenTimeOuts = hasWrittenTimeOuts && state.hasDeadline(lastDeadline, lastJobKey);
+
+    final long nextDeadline;
+    if (hasWrittenTimeOuts) {
+      nextDeadline =
+          state.forEachTimedOutEntry(upperBound, lastDeadline, lastJobKey, this::writeTimeOut);
+    } else {
+      nextDeadline = state.forEachTimedOutEntry(upperBound, this::writeTimeOut);
+    }
+
+    if (nextDeadline > 0 && nextDeadline <= now) {
+      // a job which is timed out is only left if its command could not be written, retry later
+      return now + TIMER_RESOLUTION;
+    } else if (hasWrittenTimeOuts) {
+      // check again once the written commands are processed
+      final long nextCheck = now + TIMER_RESOLUTION;
+      return nextDeadline > 0 ? Math.min(nextDeadline, nextCheck) : nextCheck;
+    } else {
+      return nextDeadline;
     }
   }
 
-  void deactivateTimedOutJobs() {
-    final long now = currentTimeMillis();
-    state.forEachTimedOutEntry(
-        now,
-        (key, record) -> {
-          writer.appendFollowUpCommand(
-              key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
-
-          final boolean flushed = writer.flush() >= 0;
-          if (!flushed) {
-            writer.reset();
-          }
-          return flushed;
-        });
+  private boolean writeTimeOut(final long key, final JobRecord record) {
+    writer.appendFollowUpCommand(
+        key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
+
+    final boolean flushed = writer.flush() >= 0;
+    if (flushed) {
+      hasWrittenTimeOuts = true;
+      lastDeadline = record.getDeadline();
+      lastJobKey = key;
+    } else {
+      writer.reset();
+    }
+    return flushed;
   }
 }
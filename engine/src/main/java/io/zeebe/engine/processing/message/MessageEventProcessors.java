@@ -77,7 +77,7 @@ public final class MessageEventProcessors {
             MessageStartEventSubscriptionIntent.CLOSE,
             new CloseMessageStartEventSubscriptionProcessor(
                 startEventSubscriptionState, eventScopeInstanceState))
-        .withListener(
-            new MessageObserver(messageState, subscriptionState, subscriptionCommandSender));
+        .withListener(new MessageObserver(subscriptionState, subscriptionCommandSender))
+        .withListener(new MessageTimeToLiveChecker(messageState));
   }
 }
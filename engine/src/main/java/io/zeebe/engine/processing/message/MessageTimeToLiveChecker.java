@@ -7,30 +7,101 @@
  */
 package io.zeebe.engine.processing.message;
 
+import io.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
+import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.zeebe.engine.state.message.Message;
 import io.zeebe.engine.state.message.MessageState;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.record.intent.MessageIntent;
 import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
 
-public final class MessageTimeToLiveChecker implements Runnable {
+/**
+ * Writes the delete commands of the messages when their time to live is over. The check runs at the
+ * deadline of the next message, which is updated by the message state when a message is published.
+ *
+ * <p>A message keeps its deadline until its delete command is processed. To not write the command
+ * of a message again while it is pending, the checker remembers the last message whose command it
+ * wrote and continues after it. Since the commands are processed in the order they were written,
+ * all of them are processed once the deadline of the last message is removed; then the next check
+ * starts from the first deadline again, to find the messages which were published with an earlier
+ * deadline meanwhile.
+ */
+public final class MessageTimeToLiveChecker implements StreamProcessorLifecycleAware {
+
+  private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
 
-  private final TypedCommandWriter writer;
   private final MessageState messageState;
+  private final DueDateChecker dueDateChecker;
 
   private final MessageRecord deleteMessageCommand = new MessageRecord();
 
-  public MessageTimeToLiveChecker(
-      final TypedCommandWriter writer, final MessageState messageState) {
-    this.writer = writer;
+  private TypedCommandWriter writer;
+
+  // the last message whose delete command was written and may not be processed yet
+  private boolean hasWrittenDeletes;
+  private long lastDeadline;
+  private long lastMessageKey;
+
+  public MessageTimeToLiveChecker(final MessageState messageState) {
     this.messageState = messageState;
+    dueDateChecker = new DueDateChecker(TIMER_RESOLUTION, this::deleteExpiredMessages);
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyProcessingContext context) {
+    // it is safe to reuse the writer because we are running in the same actor/thread
+    writer = context.getLogStreamWriter();
+    messageState.setMessageDeadlineCallback(dueDateChecker::schedule);
+    dueDateChecker.onRecovered(context);
+  }
+
+  @Override
+  public void onClose() {
+    dueDateChecker.onClose();
   }
 
   @Override
-  public void run() {
-    messageState.visitMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+  public void onFailed() {
+    dueDateChecker.onFailed();
+  }
+
+  @Override
+  public void onPaused() {
+    dueDateChecker.onPaused();
+  }
+
+  @Override
+  public void onResumed() {
+    dueDateChecker.onResumed();
+  }
+
+  long deleteExpiredMessages() {
+    final long now = ActorClock.currentTimeMillis();
+    hasWrittenDeletes = hasWrittenDeletes && messageState.hasDeadline(lastDeadline, lastMessageKey);
+
+    final long nextDeadline;
+    if (hasWrittenDeletes) {
+      nextDeadline =
+          messageState.visitMessagesWithDeadlineBefore(
+              now, lastDeadline, lastMessageKey, this::writeDeleteMessageCommand);
+    } else {
+      nextDeadline =
+          messageState.visitMessagesWithDeadlineBefore(now, this::writeDeleteMessageCommand);
+    }
+
+    if (nextDeadline > 0 && nextDeadline <= now) {
+      // an expired message is only left if its command could not be written, retry later
+      return now + TIMER_RESOLUTION;
+    } else if (hasWrittenDeletes) {
+      // check again once the written commands are processed
+      final long nextCheck = now + TIMER_RESOLUTION;
+      return nextDeadline > 0 ? Math.min(nextDeadline, nextCheck) : nextCheck;
+    } else {
+      return nextDeadline;
+    }
   }
 
   private boolean writeDeleteMessageCommand(final Message message) {
@@ -49,6 +120,12 @@ public final class MessageTimeToLiveChecker implements Runnable {
     writer.appendFollowUpCommand(message.getKey(), MessageIntent.DELETE, deleteMessageCommand);
 
     final long position = writer.flush();
-    return position > 0;
+    if (position > 0) {
+      hasWrittenDeletes = true;
+      lastDeadline = message.getDeadline();
+      lastMessageKey = message.getKey();
+      return true;
+    }
+    return false;
   }
 }
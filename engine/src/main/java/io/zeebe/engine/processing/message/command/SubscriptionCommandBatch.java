@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Collects subscription commands which are sent to the same partition, so they can be sent as one
+ * message. Each command is framed by its length:
+ *
+ * <pre>
+ * | command length (int) | command | command length (int) | command | ...
+ * </pre>
+ *
+ * The buffer of the batch is reused after {@link #reset()}.
+ */
+public final class SubscriptionCommandBatch {
+
+  private static final int LENGTH_FIELD_SIZE = Integer.BYTES;
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private int length;
+  private int commandCount;
+
+  public void add(final BufferWriter command) {
+    final int commandLength = command.getLength();
+    buffer.putInt(length, commandLength);
+    command.write(buffer, length + LENGTH_FIELD_SIZE);
+
+    length += LENGTH_FIELD_SIZE + commandLength;
+    commandCount++;
+  }
+
+  public boolean isEmpty() {
+    return commandCount == 0;
+  }
+
+  public int getLength() {
+    return length;
+  }
+
+  public int getCommandCount() {
+    return commandCount;
+  }
+
+  /** @return a copy of the framed commands, which is not affected by a reuse of the batch */
+  public byte[] toByteArray() {
+    final byte[] bytes = new byte[length];
+    buffer.getBytes(0, bytes);
+    return bytes;
+  }
+
+  public void reset() {
+    length = 0;
+    commandCount = 0;
+  }
+
+  /** Calls the consumer for each command of this batch, in the order they were added. */
+  public void forEachCommand(final CommandConsumer consumer) {
+    forEachCommand(buffer, 0, length, consumer);
+  }
+
+  /**
+   * Calls the consumer for each command of the given framed batch, in the order they were added.
+   */
+  public static void forEachCommand(
+      final DirectBuffer buffer,
+      final int offset,
+      final int length,
+      final CommandConsumer consumer) {
+    final int limit = offset + length;
+    int commandOffset = offset;
+
+    while (commandOffset + LENGTH_FIELD_SIZE <= limit) {
+      final int commandLength = buffer.getInt(commandOffset);
+      commandOffset += LENGTH_FIELD_SIZE;
+
+      if (commandLength < 0 || commandOffset + commandLength > limit) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected command of length %d at offset %d to fit into batch of length %d",
+                commandLength, commandOffset, length));
+      }
+
+      consumer.accept(buffer, commandOffset, commandLength);
+      commandOffset += commandLength;
+    }
+  }
+
+  @FunctionalInterface
+  public interface CommandConsumer {
+    void accept(DirectBuffer buffer, int offset, int length);
+  }
+}
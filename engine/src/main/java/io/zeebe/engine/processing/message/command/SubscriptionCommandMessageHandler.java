@@ -76,43 +76,65 @@ public final class SubscriptionCommandMessageHandler
     enviromentToRun.accept(
         () -> {
           final DirectBuffer buffer = new UnsafeBuffer(bytes);
-          final int offset = 0;
-          final int length = buffer.capacity();
-          messageHeaderDecoder.wrap(buffer, offset);
-
-          if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
-
-            switch (messageHeaderDecoder.templateId()) {
-              case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
-                onOpenMessageSubscription(buffer, offset, length);
-                break;
-              case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onOpenWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCloseMessageSubscription(buffer, offset, length);
-                break;
-              case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCloseWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onRejectCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              default:
-                break;
-            }
-          }
+          handleCommand(buffer, 0, buffer.capacity());
           future.complete(null);
         });
     return future;
   }
 
+  /**
+   * Handles the commands of a {@link SubscriptionCommandBatch}, in the order they were added to the
+   * batch.
+   */
+  public CompletableFuture<Void> applyBatch(final byte[] bytes) {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    enviromentToRun.accept(
+        () -> {
+          final DirectBuffer buffer = new UnsafeBuffer(bytes);
+          try {
+            SubscriptionCommandBatch.forEachCommand(
+                buffer, 0, buffer.capacity(), this::handleCommand);
+            future.complete(null);
+          } catch (final IllegalArgumentException e) {
+            future.completeExceptionally(e);
+          }
+        });
+    return future;
+  }
+
+  private void handleCommand(final DirectBuffer buffer, final int offset, final int length) {
+    messageHeaderDecoder.wrap(buffer, offset);
+
+    if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
+
+      switch (messageHeaderDecoder.templateId()) {
+        case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
+          onOpenMessageSubscription(buffer, offset, length);
+          break;
+        case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onOpenWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCloseMessageSubscription(buffer, offset, length);
+          break;
+        case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCloseWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onRejectCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
   private boolean onOpenMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     openMessageSubscriptionCommand.wrap(buffer, offset, length);
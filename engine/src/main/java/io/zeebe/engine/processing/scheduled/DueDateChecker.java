@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.scheduled;
+
+import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
+import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ScheduledTimer;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs a check of entries with a due date (e.g. timers, job deadlines or message deadlines) on the
+ * stream processor actor when the next due date is reached, instead of polling at a fixed interval.
+ *
+ * <p>The entries are kept ordered by their due date in the state, so the check visits only the
+ * entries which are due and returns the due date of the first entry which is not. The next check is
+ * scheduled for that due date. If a new entry with an earlier due date is added in the meantime, it
+ * must be {@link #schedule(long) scheduled}, so the pending check is moved forward.
+ *
+ * <p>If the check returns a due date which is already reached, e.g. because it triggered only a
+ * limited batch of the due entries, the next check is submitted right away, such that it runs after
+ * the processing got the chance to continue. A check which can't trigger the due entries, e.g.
+ * because the commands could not be written, must return a later due date to back off.
+ */
+public final class DueDateChecker implements StreamProcessorLifecycleAware {
+
+  private final long timerResolution;
+  private final LongSupplier triggerEntries;
+
+  private ActorControl actor;
+  private ScheduledTimer scheduledTimer;
+  private long nextDueDate = -1L;
+  private boolean isCheckSubmitted;
+
+  /**
+   * @param timerResolution the pending check is only moved forward if the new due date is more than
+   *     this many milliseconds earlier, to avoid rescheduling for every added entry
+   * @param triggerEntries triggers the entries which are due and returns the due date of the next
+   *     entry, or a negative value if there is none
+   */
+  public DueDateChecker(final long timerResolution, final LongSupplier triggerEntries) {
+    this.timerResolution = timerResolution;
+    this.triggerEntries = triggerEntries;
+  }
+
+  public void schedule(final long dueDate) {
+    if (actor == null || isCheckSubmitted) {
+      // not recovered yet or the next check runs right away; it will find the entry
+      return;
+    }
+
+    // We schedule only one check for all entries.
+    // - The check is scheduled when the first entry is added.
+    // - If an entry is added which is due before the check is executed then the check is
+    // canceled and re-scheduled with the new due date.
+    // - Otherwise, we don't need to cancel the check. It will be rescheduled when it is
+    // executed.
+
+    if (scheduledTimer == null) {
+      scheduleCheck(dueDate);
+
+    } else if (nextDueDate - dueDate > timerResolution) {
+      scheduledTimer.cancel();
+      scheduleCheck(dueDate);
+    }
+  }
+
+  private void scheduleCheck(final long dueDate) {
+    final Duration delay = Duration.ofMillis(dueDate - ActorClock.currentTimeMillis());
+    scheduledTimer = actor.runDelayed(delay, this::check);
+    nextDueDate = dueDate;
+  }
+
+  private void check() {
+    scheduledTimer = null;
+    nextDueDate = -1L;
+
+    final long dueDate = triggerEntries.getAsLong();
+
+    // reschedule the check if there are entries left
+    if (dueDate > ActorClock.currentTimeMillis()) {
+      scheduleCheck(dueDate);
+    } else if (dueDate > 0) {
+      // more entries are due; yield to the processing before the next check
+      isCheckSubmitted = true;
+      actor.submit(this::runSubmittedCheck);
+    }
+  }
+
+  private void runSubmittedCheck() {
+    // the submitted check is skipped if it was canceled in the meantime
+    if (isCheckSubmitted) {
+      isCheckSubmitted = false;
+      check();
+    }
+  }
+
+  private void cancel() {
+    isCheckSubmitted = false;
+    if (scheduledTimer != null) {
+      scheduledTimer.cancel();
+      scheduledTimer = null;
+      nextDueDate = -1L;
+    }
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyProcessingContext context) {
+    actor = context.getActor();
+    // check if entries are due after restart
+    check();
+  }
+
+  @Override
+  public void onClose() {
+    cancel();
+  }
+
+  @Override
+  public void onFailed() {
+    cancel();
+  }
+
+  @Override
+  public void onPaused() {
+    cancel();
+  }
+
+  @Override
+  public void onResumed() {
+    if (scheduledTimer == null && !isCheckSubmitted) {
+      check();
+    }
+  }
+}
@@ -12,9 +12,11 @@ import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.NoopTypedStreamWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.deployment.WorkflowPersistenceCache;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
@@ -35,6 +37,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private BooleanSupplier abortCondition;
   private Consumer<TypedRecord> onProcessedListener = record -> {};
   private int maxFragmentSize;
+  private int maxCommandsInBatch = 1;
+  private Duration maxBatchProcessingDuration = Duration.ofMillis(10);
+  private boolean pipeliningEnabled;
+  private int maxTriggeredTimersInBatch;
+  private long workflowCacheSize = WorkflowPersistenceCache.DEFAULT_MAX_CACHE_SIZE;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -102,6 +109,31 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext maxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  public ProcessingContext maxBatchProcessingDuration(final Duration maxBatchProcessingDuration) {
+    this.maxBatchProcessingDuration = maxBatchProcessingDuration;
+    return this;
+  }
+
+  public ProcessingContext maxTriggeredTimersInBatch(final int maxTriggeredTimersInBatch) {
+    this.maxTriggeredTimersInBatch = maxTriggeredTimersInBatch;
+    return this;
+  }
+
+  public ProcessingContext workflowCacheSize(final long workflowCacheSize) {
+    this.workflowCacheSize = workflowCacheSize;
+    return this;
+  }
+
+  public ProcessingContext enablePipelining(final boolean pipeliningEnabled) {
+    this.pipeliningEnabled = pipeliningEnabled;
+    return this;
+  }
+
   @Override
   public ActorControl getActor() {
     return actor;
@@ -165,4 +197,24 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   public Consumer<TypedRecord> getOnProcessedListener() {
     return onProcessedListener;
   }
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public Duration getMaxBatchProcessingDuration() {
+    return maxBatchProcessingDuration;
+  }
+
+  public boolean isPipeliningEnabled() {
+    return pipeliningEnabled;
+  }
+
+  public int getMaxTriggeredTimersInBatch() {
+    return maxTriggeredTimersInBatch;
+  }
+
+  public long getWorkflowCacheSize() {
+    return workflowCacheSize;
+  }
 }
@@ -11,6 +11,7 @@ import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectQueue;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriterImpl;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.ZeebeState;
@@ -34,6 +35,7 @@ import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import org.agrona.collections.LongArrayList;
 import org.slf4j.Logger;
 
 /**
@@ -74,6 +76,31 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If more than one command per batch is configured, processEvent() continues with the next
+ * events after an event was processed successfully, in the same transaction. The follow up records
+ * of all events of such a batch are written together with one writeEvent() and the transaction is
+ * committed once in updateState(). Before an event is added to the batch a save point is set, such
+ * that an event which fails (or whose follow up records would not fit into the batch anymore) can
+ * be rolled back without affecting the other events of the batch. Such an event is read again
+ * afterwards and processed on its own, which means the usual error handling applies. A batch ends
+ * at the first event which needs to execute side effects, since these may depend on the state of
+ * the processor. If the batch can't be completed as a whole, e.g. because writing its follow up
+ * records or committing the transaction fails, the whole transaction is rolled back and the events
+ * are processed again from the first one of the batch, which is processed on its own. The processed
+ * listener is notified of the events of a batch only after the transaction was committed.
+ *
+ * <p>If pipelining is enabled, the follow up records of each event of a batch are written right
+ * before the next event is processed, instead of writing the records of the whole batch at the end.
+ * The records are then appended to the log while the next events are processed against the
+ * uncommitted state of the previous ones. Since the records are written in the order of the events
+ * and the transaction is still committed once in updateState(), before any side effect is executed
+ * or the processed position is updated, the commit order is the same as without pipelining.
+ *
+ * <p>Once follow up records of a batch were written to the log, the batch can't be rolled back and
+ * processed again anymore without writing these records twice. A failure of such a batch is fatal
+ * and fails the stream processor, which recovers the state on restart by reprocessing the log,
+ * including the already written records.
  */
 public final class ProcessingStateMachine {
 
@@ -94,6 +121,16 @@ public final class ProcessingStateMachine {
       "Expected to process event '{}' successfully on stream processor, but caught recoverable exception. Retry processing.";
   private static final String PROCESSING_ERROR_MESSAGE =
       "Expected to process event '%s' without errors, but exception occurred with message '%s' .";
+  private static final String ERROR_MESSAGE_SET_SAVE_POINT_FAILED =
+      "Expected to set save point for event '{}' in batch, but exception was thrown. Process the event outside of the batch.";
+  private static final String ERROR_MESSAGE_PROCESSING_IN_BATCH_FAILED =
+      "Expected to process event '{}' in batch, but caught an exception. Process the event outside of the batch.";
+  private static final String ERROR_MESSAGE_ROLLBACK_TO_SAVE_POINT_FAILED =
+      "Expected to roll back event at position %d of the current batch, but exception was thrown.";
+  private static final String ERROR_MESSAGE_BATCH_FAILED =
+      "Expected to process the batch of events starting at position {} successfully, but exception was thrown. Process the events again, starting with the first one outside of a batch.";
+  private static final String ERROR_MESSAGE_WRITTEN_BATCH_FAILED =
+      "Expected to complete the batch of events starting at position %d, but it failed after its follow up records were written. The batch can't be processed again without writing the records twice.";
   private static final String NOTIFY_LISTENER_ERROR_MESSAGE =
       "Expected to invoke processed listener for event {} successfully, but exception was thrown.";
 
@@ -123,12 +160,26 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
   private final Consumer<TypedRecord> onProcessed;
+  private final int maxFragmentSize;
+  private final int maxCommandsInBatch;
+  private final long maxBatchProcessingDurationMillis;
+  private final boolean pipeliningEnabled;
+  // positions of the events whose changes are part of the current transaction, in processing order
+  private final LongArrayList transactionEventPositions = new LongArrayList();
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
   private LoggedEvent currentEvent;
   private TypedRecordProcessor<?> currentProcessor;
   private ZeebeDbTransaction zeebeDbTransaction;
+  private long processedEventPosition = StreamProcessor.UNSET_POSITION;
+  private long typedEventPosition = StreamProcessor.UNSET_POSITION;
+  private long lastReadEventPosition = StreamProcessor.UNSET_POSITION;
+  private boolean isLastReadEventToBeReadAgain;
+  private boolean isReaderMovedBack;
+  private boolean processNextEventAlone;
+  private long pipelinedEventPosition = StreamProcessor.UNSET_POSITION;
+  private boolean areFollowUpRecordsWritten;
   private long writtenEventPosition = StreamProcessor.UNSET_POSITION;
   private long lastSuccessfulProcessedEventPosition = StreamProcessor.UNSET_POSITION;
   private long lastWrittenEventPosition = StreamProcessor.UNSET_POSITION;
@@ -150,6 +201,10 @@ public final class ProcessingStateMachine {
     zeebeState = context.getZeebeState();
     dbContext = context.getDbContext();
     abortCondition = context.getAbortCondition();
+    maxFragmentSize = context.getMaxFragmentSize();
+    maxCommandsInBatch = context.getMaxCommandsInBatch();
+    maxBatchProcessingDurationMillis = context.getMaxBatchProcessingDuration().toMillis();
+    pipeliningEnabled = context.isPipeliningEnabled();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -210,6 +265,14 @@ public final class ProcessingStateMachine {
   private void processEvent(final LoggedEvent event) {
     metadata.reset();
     event.readMetadata(metadata);
+    processedEventPosition = event.getPosition();
+    lastReadEventPosition = processedEventPosition;
+    isLastReadEventToBeReadAgain = false;
+    isReaderMovedBack = false;
+    pipelinedEventPosition = StreamProcessor.UNSET_POSITION;
+    areFollowUpRecordsWritten = false;
+    transactionEventPositions.clear();
+    transactionEventPositions.addLong(processedEventPosition);
 
     currentProcessor = chooseNextProcessor(event);
     if (currentProcessor == null) {
@@ -223,11 +286,16 @@ public final class ProcessingStateMachine {
     try {
       final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
       typedEvent.wrap(event, metadata, value);
+      typedEventPosition = processedEventPosition;
 
       processInTransaction(typedEvent);
 
       metrics.eventProcessed();
 
+      if (maxCommandsInBatch > 1 && !processNextEventAlone) {
+        processBatch();
+      }
+
       writeEvent();
     } catch (final RecoverableException recoverableException) {
       // recoverable
@@ -260,22 +328,197 @@ public final class ProcessingStateMachine {
           final long position = typedRecord.getPosition();
           resetOutput(position);
 
-          // default side effect is responses; can be changed by processor
-          sideEffectProducer = responseWriter;
-          final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedRecord);
-          if (isNotOnBlacklist) {
-            currentProcessor.processRecord(
-                position,
-                typedRecord,
-                responseWriter,
-                logStreamWriter,
-                this::setSideEffectProducer);
-          }
-
-          zeebeState.markAsProcessed(position);
+          processRecord(position, typedRecord);
         });
   }
 
+  private void processRecord(final long position, final TypedEventImpl typedRecord) {
+    // default side effect is responses; can be changed by processor
+    sideEffectProducer = responseWriter;
+    final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedRecord);
+    if (isNotOnBlacklist) {
+      currentProcessor.processRecord(
+          position, typedRecord, responseWriter, logStreamWriter, this::setSideEffectProducer);
+    }
+
+    zeebeState.markAsProcessed(position);
+  }
+
+  private void processBatch() {
+    final long batchStartTime = ActorClock.currentTimeMillis();
+    int batchSize = 1;
+
+    while (canExtendBatch(batchSize, batchStartTime)) {
+      if (pipeliningEnabled && !tryToWriteAhead()) {
+        break;
+      }
+
+      final LoggedEvent nextEvent = logStreamReader.next();
+      final long nextPosition = nextEvent.getPosition();
+      lastReadEventPosition = nextPosition;
+      isLastReadEventToBeReadAgain = false;
+
+      final TypedRecordProcessor<?> nextProcessor;
+      try {
+        if (eventFilter != null && !eventFilter.applies(nextEvent)) {
+          metrics.eventSkipped();
+          continue;
+        }
+
+        metadata.reset();
+        nextEvent.readMetadata(metadata);
+        nextProcessor = chooseNextProcessor(nextEvent);
+      } catch (final RuntimeException e) {
+        // read the event again outside of the batch, which fails the same way as before
+        readEventAgain(nextPosition);
+        break;
+      }
+
+      if (nextProcessor == null) {
+        metrics.eventSkipped();
+        continue;
+      }
+
+      if (!tryToProcessInBatch(nextEvent, nextProcessor)) {
+        break;
+      }
+      batchSize++;
+    }
+
+    metrics.batchProcessed(batchSize);
+  }
+
+  private boolean tryToWriteAhead() {
+    final long position = logStreamWriter.flush();
+    if (position < 0) {
+      // the records can't be written right now, writeEvent() retries to write them with the batch
+      return false;
+    }
+
+    pipelinedEventPosition = Math.max(pipelinedEventPosition, position);
+    areFollowUpRecordsWritten = true;
+    return true;
+  }
+
+  private boolean canExtendBatch(final int batchSize, final long batchStartTime) {
+    return batchSize < maxCommandsInBatch
+        && !hasPendingSideEffects()
+        && ActorClock.currentTimeMillis() - batchStartTime < maxBatchProcessingDurationMillis
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  private boolean hasPendingSideEffects() {
+    if (sideEffectProducer == responseWriter) {
+      return responseWriter.isResponseStaged();
+    } else if (sideEffectProducer instanceof SideEffectQueue) {
+      return !((SideEffectQueue) sideEffectProducer).isEmpty();
+    }
+
+    // other side effects may depend on the processor state, which is changed by the next event
+    return true;
+  }
+
+  private boolean tryToProcessInBatch(
+      final LoggedEvent event, final TypedRecordProcessor<?> processor) {
+    final long position = event.getPosition();
+
+    try {
+      zeebeDbTransaction.setSavePoint();
+      logStreamWriter.mark();
+    } catch (final Exception e) {
+      LOG.error(ERROR_MESSAGE_SET_SAVE_POINT_FAILED, event, e);
+      readEventAgain(position);
+      return false;
+    }
+
+    transactionEventPositions.addLong(position);
+    currentProcessor = processor;
+    metrics.processingLatency(
+        metadata.getRecordType(), event.getTimestamp(), ActorClock.currentTimeMillis());
+
+    try {
+      final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
+      typedEvent.wrap(event, metadata, value);
+      typedEventPosition = position;
+
+      zeebeDbTransaction.run(
+          () -> {
+            responseWriter.reset();
+            logStreamWriter.configureSourceContext(position);
+
+            processRecord(position, typedEvent);
+          });
+    } catch (final Exception e) {
+      LOG.debug(ERROR_MESSAGE_PROCESSING_IN_BATCH_FAILED, event, e);
+      rollbackToSavePoint(position);
+      return false;
+    }
+
+    if (logStreamWriter.getBatchLength() >= maxFragmentSize) {
+      // the follow up records of the whole batch can't be written at once anymore
+      rollbackToSavePoint(position);
+      return false;
+    }
+
+    processedEventPosition = position;
+    metrics.eventProcessed();
+    return true;
+  }
+
+  private void rollbackToSavePoint(final long position) {
+    try {
+      zeebeDbTransaction.rollbackToSavePoint();
+    } catch (final Exception e) {
+      // the changes of the event can't be separated from the other events of the batch anymore
+      // the event stays part of the transaction, such that the whole batch is rolled back on error
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_ROLLBACK_TO_SAVE_POINT_FAILED, position), e);
+    }
+    transactionEventPositions.fastUnorderedRemove(transactionEventPositions.size() - 1);
+    logStreamWriter.resetToMark();
+
+    responseWriter.reset();
+    sideEffectProducer = responseWriter;
+
+    // read the event again, to process it outside of the batch
+    readEventAgain(position);
+  }
+
+  private void readEventAgain(final long position) {
+    logStreamReader.seek(position);
+    isLastReadEventToBeReadAgain = true;
+  }
+
+  private void restoreReader() {
+    if (!isReaderMovedBack) {
+      return;
+    }
+
+    // continue with the event after the last one which was read for the current iteration
+    if (isLastReadEventToBeReadAgain) {
+      logStreamReader.seek(lastReadEventPosition);
+    } else {
+      logStreamReader.seekToNextEvent(lastReadEventPosition);
+    }
+    isReaderMovedBack = false;
+  }
+
+  private void rewrapEvent(final long position) {
+    // the reader was moved on while building a batch, which means the event needs to be read again;
+    // the reader is restored before the next event is read, since seeking invalidates the event
+    logStreamReader.seek(position);
+    isReaderMovedBack = true;
+    currentEvent = logStreamReader.next();
+
+    metadata.reset();
+    currentEvent.readMetadata(metadata);
+    final UnifiedRecordValue value =
+        recordValues.readRecordValue(currentEvent, metadata.getValueType());
+    typedEvent.wrap(currentEvent, metadata, value);
+    typedEventPosition = position;
+  }
+
   private void resetOutput(final long sourceRecordPosition) {
     responseWriter.reset();
     logStreamWriter.reset();
@@ -287,6 +530,15 @@ public final class ProcessingStateMachine {
   }
 
   private void onError(final Throwable processingException, final Runnable nextStep) {
+    if (transactionEventPositions.size() > 1) {
+      rollbackBatch(processingException);
+      return;
+    }
+
+    if (typedEventPosition != processedEventPosition) {
+      rewrapEvent(processedEventPosition);
+    }
+
     onErrorRetries++;
     if (onErrorRetries > 1) {
       onErrorHandlingLoop = true;
@@ -316,6 +568,42 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private void rollbackBatch(final Throwable failure) {
+    final long batchStartPosition = transactionEventPositions.getLong(0);
+    if (areFollowUpRecordsWritten) {
+      // no retry, the records can't be taken back; fails the stream processor
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_WRITTEN_BATCH_FAILED, batchStartPosition), failure);
+    }
+
+    LOG.warn(ERROR_MESSAGE_BATCH_FAILED, batchStartPosition, failure);
+
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.rollback();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentEvent, throwable);
+          }
+
+          // none of the events of the batch is processed, the first one is processed again on its
+          // own such that a failure is handled for the event which causes it
+          transactionEventPositions.clear();
+          logStreamReader.seek(batchStartPosition);
+          isReaderMovedBack = false;
+          processNextEventAlone = true;
+          currentProcessor = null;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
   private void errorHandlingInTransaction(final Throwable processingException) throws Exception {
     zeebeDbTransaction = dbContext.getCurrentTransaction();
     zeebeDbTransaction.run(
@@ -349,8 +637,10 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         writeRetryStrategy.runWithRetry(
             () -> {
-              writtenEventPosition = logStreamWriter.flush();
-              return writtenEventPosition >= 0;
+              final long position = logStreamWriter.flush();
+              writtenEventPosition = Math.max(position, pipelinedEventPosition);
+              areFollowUpRecordsWritten |= position >= 0;
+              return position >= 0;
             },
             abortCondition);
 
@@ -386,7 +676,7 @@ public final class ProcessingStateMachine {
                           }
                         });
               }
-              lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
+              lastSuccessfulProcessedEventPosition = processedEventPosition;
               metrics.setLastProcessedPosition(lastSuccessfulProcessedEventPosition);
               lastWrittenEventPosition = writtenEventPosition;
               return true;
@@ -405,6 +695,19 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private void notifyProcessedListener() {
+    if (transactionEventPositions.size() <= 1 && typedEventPosition == processedEventPosition) {
+      notifyListener();
+      return;
+    }
+
+    // the reader re-uses the events, which means the events of the batch need to be read again
+    for (int i = 0; i < transactionEventPositions.size(); i++) {
+      rewrapEvent(transactionEventPositions.getLong(i));
+      notifyListener();
+    }
+  }
+
   private void notifyListener() {
     try {
       onProcessed.accept(typedEvent);
@@ -424,9 +727,11 @@ public final class ProcessingStateMachine {
             LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentEvent, throwable);
           }
 
-          notifyListener();
+          notifyProcessedListener();
+          restoreReader();
 
           // continue with next event
+          processNextEventAlone = false;
           currentProcessor = null;
           actor.submit(this::readNextEvent);
         });
@@ -261,7 +261,9 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
   private ZeebeState recoverState() {
     final DbContext dbContext = zeebeDb.createContext();
-    final ZeebeState zeebeState = new ZeebeState(partitionId, zeebeDb, dbContext);
+    final ZeebeState zeebeState =
+        new ZeebeState(partitionId, zeebeDb, dbContext, processingContext.getWorkflowCacheSize());
+    zeebeState.migrate();
 
     processingContext.dbContext(dbContext);
     processingContext.zeebeState(zeebeState);
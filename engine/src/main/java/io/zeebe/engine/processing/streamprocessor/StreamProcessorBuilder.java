@@ -14,6 +14,7 @@ import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.util.sched.ActorScheduler;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -64,6 +65,52 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum count of commands which are processed in one batch, i.e. in one transaction
+   * with one write of all follow up records. A value of one disables batch processing.
+   */
+  public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
+    processingContext.maxCommandsInBatch(maxCommandsInBatch);
+    return this;
+  }
+
+  /** Sets the duration after which no further commands are added to the current batch. */
+  public StreamProcessorBuilder maxBatchProcessingDuration(
+      final Duration maxBatchProcessingDuration) {
+    processingContext.maxBatchProcessingDuration(maxBatchProcessingDuration);
+    return this;
+  }
+
+  /**
+   * Enables pipelined batch processing, i.e. the follow up records of a command are written right
+   * after the command is processed, while the next commands of the batch are processed. The state
+   * changes of the batch are still committed together afterwards.
+   */
+  public StreamProcessorBuilder enablePipelining(final boolean pipeliningEnabled) {
+    processingContext.enablePipelining(pipeliningEnabled);
+    return this;
+  }
+
+  /**
+   * Sets the maximum count of due timers which are triggered together, i.e. whose trigger commands
+   * are written at once, before the timer checker yields to the processing. A value of zero
+   * triggers all due timers at once, each with its own write.
+   */
+  public StreamProcessorBuilder maxTriggeredTimersInBatch(final int maxTriggeredTimersInBatch) {
+    processingContext.maxTriggeredTimersInBatch(maxTriggeredTimersInBatch);
+    return this;
+  }
+
+  /**
+   * Sets the maximum total size of the BPMN resources whose transformed workflows are kept in
+   * memory. If the size is exceeded, the least recently used workflows are evicted and transformed
+   * again when they are accessed the next time.
+   */
+  public StreamProcessorBuilder workflowCacheSize(final long workflowCacheSize) {
+    processingContext.workflowCacheSize(workflowCacheSize);
+    return this;
+  }
+
   public StreamProcessorBuilder zeebeDb(final ZeebeDb zeebeDb) {
     this.zeebeDb = zeebeDb;
     return this;
@@ -110,6 +157,27 @@ public final class StreamProcessorBuilder {
     Objects.requireNonNull(
         processingContext.getCommandResponseWriter(), "No command response writer provided.");
     Objects.requireNonNull(zeebeDb, "No database provided.");
+    Objects.requireNonNull(
+        processingContext.getMaxBatchProcessingDuration(),
+        "No max batch processing duration provided.");
+    if (processingContext.getMaxCommandsInBatch() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected max commands in batch to be at least 1, but was %d",
+              processingContext.getMaxCommandsInBatch()));
+    }
+    if (processingContext.getMaxTriggeredTimersInBatch() < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected max triggered timers in batch to be at least 0, but was %d",
+              processingContext.getMaxTriggeredTimersInBatch()));
+    }
+    if (processingContext.getWorkflowCacheSize() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected workflow cache size to be at least 1, but was %d",
+              processingContext.getWorkflowCacheSize()));
+    }
   }
 
   private static class MetadataEventFilter implements EventFilter {
@@ -57,6 +57,21 @@ public final class NoopTypedStreamWriter implements TypedStreamWriter {
     // no op implementation
   }
 
+  @Override
+  public void mark() {
+    // no op implementation
+  }
+
+  @Override
+  public void resetToMark() {
+    // no op implementation
+  }
+
+  @Override
+  public int getBatchLength() {
+    return 0;
+  }
+
   @Override
   public void appendNewCommand(final Intent intent, final UnpackedObject value) {
     // no op implementation
@@ -33,4 +33,16 @@ public interface TypedStreamWriter extends TypedCommandWriter {
       long key, Intent intent, UnpackedObject value, Consumer<RecordMetadata> metadata);
 
   void configureSourceContext(long sourceRecordPosition);
+
+  /**
+   * Marks the current end of the appended records. Records which are appended afterwards can be
+   * discarded via {@link #resetToMark()}, without discarding the records appended before.
+   */
+  void mark();
+
+  /** Discards all non-flushed records which were appended after the last {@link #mark()}. */
+  void resetToMark();
+
+  /** @return the length the appended records would claim in the log, if they are flushed now */
+  int getBatchLength();
 }
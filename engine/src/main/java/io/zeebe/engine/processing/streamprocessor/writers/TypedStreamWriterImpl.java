@@ -72,4 +72,19 @@ public final class TypedStreamWriterImpl extends TypedCommandWriterImpl
       final Consumer<RecordMetadata> metadata) {
     appendRecord(key, RecordType.EVENT, intent, value, metadata);
   }
+
+  @Override
+  public void mark() {
+    batchWriter.mark();
+  }
+
+  @Override
+  public void resetToMark() {
+    batchWriter.resetToMark();
+  }
+
+  @Override
+  public int getBatchLength() {
+    return batchWriter.getBatchLength();
+  }
 }
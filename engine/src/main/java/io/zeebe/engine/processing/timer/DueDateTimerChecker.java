@@ -7,6 +7,8 @@
  */
 package io.zeebe.engine.processing.timer;
 
+import io.zeebe.engine.metrics.TimerMetrics;
+import io.zeebe.engine.processing.scheduled.DueDateChecker;
 import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
@@ -14,11 +16,19 @@ import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.engine.state.instance.TimerInstance;
 import io.zeebe.protocol.impl.record.value.timer.TimerRecord;
 import io.zeebe.protocol.record.intent.TimerIntent;
-import io.zeebe.util.sched.ActorControl;
-import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
 
+/**
+ * Writes the trigger commands of the timers which are due.
+ *
+ * <p>By default, all due timers are triggered in one go and each trigger command is written on its
+ * own. If a maximum count of timers in a batch is given, the trigger commands of up to that many
+ * timers are written at once and the checker yields to the processing before it triggers the next
+ * batch. Since a triggered timer is only removed from the state once its trigger command is
+ * processed, the next batch seeks to the last timer triggered by the previous batch and continues
+ * after it, instead of iterating over the triggered timers again.
+ */
 public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
@@ -26,58 +36,154 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   private final TimerRecord timerRecord = new TimerRecord();
 
   private final WorkflowState workflowState;
-  private ActorControl actor;
+  private final int maxTriggeredTimersInBatch;
+  private final long[] triggeredDueDates;
+  private final DueDateChecker dueDateChecker;
   private TypedStreamWriter streamWriter;
-
-  private ScheduledTimer scheduledTimer;
-  private long nextDueDate = -1L;
+  private int maxFragmentSize;
+  private TimerMetrics metrics;
+
+  // the key of the last timer which was triggered by a batch of the current round
+  private boolean hasTriggeredTimers;
+  private long lastTriggeredDueDate;
+  private long lastTriggeredElementInstanceKey;
+  private long lastTriggeredTimerKey;
+
+  // the state of the current check
+  private int dueTimers;
+  private int triggeredTimers;
+  private long batchLastDueDate;
+  private long batchLastElementInstanceKey;
+  private long batchLastTimerKey;
 
   public DueDateTimerChecker(final WorkflowState workflowState) {
+    this(workflowState, 0);
+  }
+
+  public DueDateTimerChecker(
+      final WorkflowState workflowState, final int maxTriggeredTimersInBatch) {
     this.workflowState = workflowState;
+    this.maxTriggeredTimersInBatch = maxTriggeredTimersInBatch;
+    triggeredDueDates = new long[maxTriggeredTimersInBatch];
+    dueDateChecker = new DueDateChecker(TIMER_RESOLUTION, this::triggerTimers);
   }
 
   public void scheduleTimer(final TimerInstance timer) {
+    dueDateChecker.schedule(timer.getDueDate());
+  }
 
-    // We schedule only one runnable for all timers.
-    // - The runnable is scheduled when the first timer is scheduled.
-    // - If a new timer is scheduled which should be triggered before the current runnable is
-    // executed then the runnable is canceled and re-scheduled with the new duration.
-    // - Otherwise, we don't need to cancel the runnable. It will be rescheduled when it is
-    // executed.
+  private long triggerTimers() {
+    final long now = ActorClock.currentTimeMillis();
+    dueTimers = 0;
 
-    final Duration duration =
-        Duration.ofMillis(timer.getDueDate() - ActorClock.currentTimeMillis());
+    final long nextDueDate;
+    if (maxTriggeredTimersInBatch > 0) {
+      nextDueDate = triggerTimersInBatch(now);
+    } else {
+      final long dueDate =
+          workflowState
+              .getTimerState()
+              .findTimersWithDueDateBefore(now, timer -> triggerTimer(timer, now));
+      // a timer which is due is only left if its trigger command could not be written
+      nextDueDate = dueDate > 0 && dueDate <= now ? now + TIMER_RESOLUTION : dueDate;
+    }
+
+    metrics.dueTimerBacklog(dueTimers);
+    return nextDueDate;
+  }
 
-    if (scheduledTimer == null) {
-      scheduledTimer = actor.runDelayed(duration, this::triggerTimers);
-      nextDueDate = timer.getDueDate();
+  private boolean triggerTimer(final TimerInstance timer, final long now) {
+    dueTimers++;
 
-    } else if (nextDueDate - timer.getDueDate() > TIMER_RESOLUTION) {
-      scheduledTimer.cancel();
+    streamWriter.reset();
+    appendTriggerCommand(timer);
 
-      scheduledTimer = actor.runDelayed(duration, this::triggerTimers);
-      nextDueDate = timer.getDueDate();
+    final boolean written = streamWriter.flush() > 0;
+    if (written) {
+      metrics.timerTriggered(timer.getDueDate(), now);
     }
+    return written;
   }
 
-  private void triggerTimers() {
-    nextDueDate =
-        workflowState
-            .getTimerState()
-            .findTimersWithDueDateBefore(ActorClock.currentTimeMillis(), this::triggerTimer);
+  private long triggerTimersInBatch(final long now) {
+    triggeredTimers = 0;
+    streamWriter.reset();
 
-    // reschedule the runnable if there are timers left
+    final boolean isRoundContinued = hasTriggeredTimers;
+    long nextDueDate;
+    if (isRoundContinued) {
+      nextDueDate =
+          workflowState
+              .getTimerState()
+              .findTimersWithDueDateBefore(
+                  now,
+                  lastTriggeredDueDate,
+                  lastTriggeredElementInstanceKey,
+                  lastTriggeredTimerKey,
+                  timer -> appendTriggerCommand(timer, now));
+    } else {
+      nextDueDate =
+          workflowState
+              .getTimerState()
+              .findTimersWithDueDateBefore(now, timer -> appendTriggerCommand(timer, now));
+    }
 
-    if (nextDueDate > 0) {
-      final Duration duration = Duration.ofMillis(nextDueDate - ActorClock.currentTimeMillis());
-      scheduledTimer = actor.runDelayed(duration, this::triggerTimers);
+    if (triggeredTimers > 0) {
+      if (streamWriter.flush() > 0) {
+        hasTriggeredTimers = true;
+        lastTriggeredDueDate = batchLastDueDate;
+        lastTriggeredElementInstanceKey = batchLastElementInstanceKey;
+        lastTriggeredTimerKey = batchLastTimerKey;
+
+        for (int i = 0; i < triggeredTimers; i++) {
+          metrics.timerTriggered(triggeredDueDates[i], now);
+        }
+      } else {
+        // the log is not able to take the commands right now, retry the whole batch later
+        return now + TIMER_RESOLUTION;
+      }
+    }
 
-    } else {
-      scheduledTimer = null;
+    final boolean isRoundCompleted = nextDueDate < 0 || nextDueDate > now;
+    if (isRoundCompleted) {
+      hasTriggeredTimers = false;
+
+      if (isRoundContinued) {
+        // check again the timers before the last triggered one, in case one of them was added
+        // after it was passed
+        nextDueDate = nextDueDate < 0 ? now + TIMER_RESOLUTION : nextDueDate;
+        nextDueDate = Math.min(nextDueDate, now + TIMER_RESOLUTION);
+      }
     }
+
+    return nextDueDate;
   }
 
-  private boolean triggerTimer(final TimerInstance timer) {
+  private boolean appendTriggerCommand(final TimerInstance timer, final long now) {
+    dueTimers++;
+
+    if (triggeredTimers >= maxTriggeredTimersInBatch) {
+      return false;
+    }
+
+    streamWriter.mark();
+    appendTriggerCommand(timer);
+
+    if (triggeredTimers > 0 && streamWriter.getBatchLength() >= maxFragmentSize) {
+      // the commands of the batch can't be written at once anymore
+      streamWriter.resetToMark();
+      return false;
+    }
+
+    triggeredDueDates[triggeredTimers] = timer.getDueDate();
+    triggeredTimers++;
+    batchLastDueDate = timer.getDueDate();
+    batchLastElementInstanceKey = timer.getElementInstanceKey();
+    batchLastTimerKey = timer.getKey();
+    return true;
+  }
+
+  private void appendTriggerCommand(final TimerInstance timer) {
     timerRecord.reset();
     timerRecord
         .setElementInstanceKey(timer.getElementInstanceKey())
@@ -87,32 +193,35 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
         .setRepetitions(timer.getRepetitions())
         .setWorkflowKey(timer.getWorkflowKey());
 
-    streamWriter.reset();
     streamWriter.appendFollowUpCommand(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
-
-    return streamWriter.flush() > 0;
   }
 
   @Override
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
-    actor = processingContext.getActor();
     streamWriter = processingContext.getLogStreamWriter();
-    // check if timers are due after restart
-    triggerTimers();
+    maxFragmentSize = processingContext.getMaxFragmentSize();
+    metrics = new TimerMetrics(processingContext.getLogStream().getPartitionId());
+    dueDateChecker.onRecovered(processingContext);
+  }
+
+  @Override
+  public void onClose() {
+    dueDateChecker.onClose();
+  }
+
+  @Override
+  public void onFailed() {
+    dueDateChecker.onFailed();
   }
 
   @Override
   public void onPaused() {
-    if (scheduledTimer != null) {
-      scheduledTimer.cancel();
-      scheduledTimer = null;
-    }
+    dueDateChecker.onPaused();
+    hasTriggeredTimers = false;
   }
 
   @Override
   public void onResumed() {
-    if (scheduledTimer == null) {
-      triggerTimers();
-    }
+    dueDateChecker.onResumed();
   }
 }
@@ -11,7 +11,11 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDBMetricExporter;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 public final class DefaultZeebeDbFactory {
@@ -21,6 +25,30 @@ public final class DefaultZeebeDbFactory {
           (partitionId, database) ->
               new ZeebeRocksDBMetricExporter<>(partitionId, database, ZbColumnFamilies.class);
 
+  /** The column families which are read several times while processing a single command. */
+  public static final Set<ZbColumnFamilies> CACHED_COLUMN_FAMILIES =
+      EnumSet.of(
+          ZbColumnFamilies.ELEMENT_INSTANCE_KEY,
+          ZbColumnFamilies.ELEMENT_INSTANCE_CHILD_PARENT,
+          ZbColumnFamilies.VARIABLES,
+          ZbColumnFamilies.JOBS);
+
+  /**
+   * The column families which are iterated by a key prefix, by the length of this prefix. Each key
+   * of these column families starts with a {@link io.zeebe.db.impl.DbLong}, which is the shortest
+   * prefix the column family is iterated by.
+   */
+  public static final Map<ZbColumnFamilies, Integer> PREFIXED_COLUMN_FAMILIES =
+      Map.of(
+          ZbColumnFamilies.VARIABLES, Long.BYTES,
+          ZbColumnFamilies.EVENT_TRIGGER, Long.BYTES,
+          ZbColumnFamilies.TIMERS, Long.BYTES,
+          ZbColumnFamilies.ELEMENT_INSTANCE_PARENT_CHILD, Long.BYTES,
+          ZbColumnFamilies.STORED_INSTANCE_EVENTS_PARENT_CHILD, Long.BYTES,
+          ZbColumnFamilies.MESSAGE_CORRELATED, Long.BYTES,
+          ZbColumnFamilies.WORKFLOW_SUBSCRIPTION_BY_KEY, Long.BYTES,
+          ZbColumnFamilies.MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME, Long.BYTES);
+
   /**
    * Returns the default zeebe database factory, which is used in most of the places except for the
    * exporters.
@@ -40,7 +68,52 @@ public final class DefaultZeebeDbFactory {
    */
   public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
       final Properties userProvidedColumnFamilyOptions) {
-    return defaultFactory(ZbColumnFamilies.class, userProvidedColumnFamilyOptions);
+    return defaultFactory(userProvidedColumnFamilyOptions, 0);
+  }
+
+  /**
+   * Returns the default zeebe database factory, which caches the values of the {@link
+   * #CACHED_COLUMN_FAMILIES} in memory and uses prefix extractors for the {@link
+   * #PREFIXED_COLUMN_FAMILIES}.
+   *
+   * @param userProvidedColumnFamilyOptions additional column family options
+   * @param columnFamilyCacheSize the maximum count of cached entries per column family, or zero to
+   *     disable the caches
+   * @return the created zeebe database factory
+   */
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final Properties userProvidedColumnFamilyOptions, final int columnFamilyCacheSize) {
+    return defaultFactory(userProvidedColumnFamilyOptions, columnFamilyCacheSize, 0);
+  }
+
+  /**
+   * Returns the default zeebe database factory like {@link #defaultFactory(Properties, int)}, whose
+   * databases share a block cache of the given size between all column families.
+   *
+   * @param userProvidedColumnFamilyOptions additional column family options
+   * @param columnFamilyCacheSize the maximum count of cached entries per column family, or zero to
+   *     disable the caches
+   * @param blockCacheSize the size of the shared block cache in bytes, or zero to size it like the
+   *     default caches of RocksDB for all column families together
+   * @return the created zeebe database factory
+   */
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final Properties userProvidedColumnFamilyOptions,
+      final int columnFamilyCacheSize,
+      final long blockCacheSize) {
+    final var columnFamilyCacheSizes =
+        new EnumMap<ZbColumnFamilies, Integer>(ZbColumnFamilies.class);
+    if (columnFamilyCacheSize > 0) {
+      CACHED_COLUMN_FAMILIES.forEach(
+          columnFamily -> columnFamilyCacheSizes.put(columnFamily, columnFamilyCacheSize));
+    }
+
+    return ZeebeRocksDbFactory.newFactory(
+        ZbColumnFamilies.class,
+        userProvidedColumnFamilyOptions,
+        columnFamilyCacheSizes,
+        PREFIXED_COLUMN_FAMILIES,
+        blockCacheSize);
   }
 
   /**
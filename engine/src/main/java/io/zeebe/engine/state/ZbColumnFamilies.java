@@ -18,7 +18,9 @@ public enum ZbColumnFamilies {
 
   // workflow cache
   WORKFLOW_CACHE,
+  // contains the whole workflows of previous versions, only read to migrate them
   WORKFLOW_CACHE_BY_ID_AND_VERSION,
+  WORKFLOW_CACHE_KEY_BY_ID_AND_VERSION,
   WORKFLOW_CACHE_LATEST_KEY,
   WORKFLOW_CACHE_DIGEST_BY_ID,
 
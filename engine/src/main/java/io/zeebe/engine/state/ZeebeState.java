@@ -12,6 +12,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.Loggers;
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.state.deployment.DeploymentsState;
+import io.zeebe.engine.state.deployment.WorkflowPersistenceCache;
 import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.engine.state.instance.IncidentState;
 import io.zeebe.engine.state.instance.JobState;
@@ -55,10 +56,18 @@ public class ZeebeState {
 
   public ZeebeState(
       final int partitionId, final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+    this(partitionId, zeebeDb, dbContext, WorkflowPersistenceCache.DEFAULT_MAX_CACHE_SIZE);
+  }
+
+  public ZeebeState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final long workflowCacheSize) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     keyState = new KeyState(partitionId, zeebeDb, dbContext);
-    workflowState = new WorkflowState(zeebeDb, dbContext, keyState);
+    workflowState = new WorkflowState(zeebeDb, dbContext, keyState, partitionId, workflowCacheSize);
     deploymentState = new DeploymentsState(zeebeDb, dbContext);
     jobState = new JobState(zeebeDb, dbContext, partitionId);
     messageState = new MessageState(zeebeDb, dbContext);
@@ -162,6 +171,14 @@ public class ZeebeState {
     return partitionId;
   }
 
+  /**
+   * Migrates the state which was written by previous versions to the current layout. Must be called
+   * after the state is recovered from a snapshot and before the processing starts.
+   */
+  public void migrate() {
+    workflowState.migrate();
+  }
+
   public boolean isEmpty(final ZbColumnFamilies column) {
     final var newContext = zeebeDb.createContext();
     return zeebeDb.isEmpty(column, newContext);
@@ -13,6 +13,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
 import io.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.zeebe.engine.processing.deployment.model.element.ExecutableWorkflow;
 import io.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
@@ -23,35 +24,63 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.impl.record.value.deployment.Workflow;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.LongHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
+/**
+ * Persists the deployed workflows and keeps the transformed workflows in memory. The cached
+ * workflows are bounded by the total size of their BPMN resources; if the bound is exceeded, the
+ * least recently used workflows are evicted and transformed again on their next access. Workflows
+ * without running instances are not accessed anymore and are therefore evicted first.
+ *
+ * <p>Only the BPMN resources are persisted, not their transformed form. After a restart, a workflow
+ * is parsed and transformed again on its first access, including its FEEL expressions; only the
+ * validation against the BPMN schema is skipped, since the resource was validated on deployment.
+ */
 public final class WorkflowPersistenceCache {
 
+  public static final long DEFAULT_MAX_CACHE_SIZE = 64 * 1024 * 1024;
+
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
 
   private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
       workflowsByProcessIdAndVersion = new HashMap<>();
   private final LongHashSet deployments;
-  private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
+  // iterates in access order, i.e. the least recently used workflow comes first
+  private final LinkedHashMap<Long, DeployedWorkflow> workflowsByKey =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxCacheSize;
+  private final WorkflowCacheMetrics metrics;
+  private long cacheSize;
+
+  private final DbContext dbContext;
 
   // workflow
   private final ColumnFamily<DbLong, PersistedWorkflow> workflowColumnFamily;
   private final DbLong workflowKey;
   private final PersistedWorkflow persistedWorkflow;
 
-  private final ColumnFamily<DbCompositeKey, PersistedWorkflow> workflowByIdAndVersionColumnFamily;
+  private final ColumnFamily<DbCompositeKey<DbString, DbLong>, DbLong>
+      workflowKeyByIdAndVersionColumnFamily;
   private final DbLong workflowVersion;
   private final DbCompositeKey<DbString, DbLong> idAndVersionKey;
+  private final DbLong workflowKeyValue = new DbLong();
+
+  // workflows by id and version, as stored by previous versions
+  private final ColumnFamily<DbCompositeKey<DbString, DbLong>, PersistedWorkflow>
+      legacyWorkflowByIdAndVersionColumnFamily;
 
   private final ColumnFamily<DbString, LatestWorkflowVersion> latestWorkflowColumnFamily;
   private final DbString workflowId;
@@ -62,6 +91,18 @@ public final class WorkflowPersistenceCache {
 
   public WorkflowPersistenceCache(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+    this(zeebeDb, dbContext, 0, DEFAULT_MAX_CACHE_SIZE);
+  }
+
+  public WorkflowPersistenceCache(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int partitionId,
+      final long maxCacheSize) {
+    this.dbContext = dbContext;
+    this.maxCacheSize = maxCacheSize;
+    metrics = new WorkflowCacheMetrics(partitionId);
+
     workflowKey = new DbLong();
     persistedWorkflow = new PersistedWorkflow();
     workflowColumnFamily =
@@ -71,7 +112,13 @@ public final class WorkflowPersistenceCache {
     workflowId = new DbString();
     workflowVersion = new DbLong();
     idAndVersionKey = new DbCompositeKey<>(workflowId, workflowVersion);
-    workflowByIdAndVersionColumnFamily =
+    workflowKeyByIdAndVersionColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.WORKFLOW_CACHE_KEY_BY_ID_AND_VERSION,
+            dbContext,
+            idAndVersionKey,
+            workflowKeyValue);
+    legacyWorkflowByIdAndVersionColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.WORKFLOW_CACHE_BY_ID_AND_VERSION,
             dbContext,
@@ -87,7 +134,6 @@ public final class WorkflowPersistenceCache {
             ZbColumnFamilies.WORKFLOW_CACHE_DIGEST_BY_ID, dbContext, workflowId, digest);
 
     deployments = new LongHashSet();
-    workflowsByKey = new Long2ObjectHashMap<>();
   }
 
   boolean putDeployment(final long deploymentKey, final DeploymentRecord deploymentRecord) {
@@ -116,8 +162,52 @@ public final class WorkflowPersistenceCache {
 
     workflowId.wrapBuffer(workflow.getBpmnProcessIdBuffer());
     workflowVersion.wrapLong(workflow.getVersion());
+    workflowKeyValue.wrapLong(workflowKey);
 
-    workflowByIdAndVersionColumnFamily.put(idAndVersionKey, persistedWorkflow);
+    workflowKeyByIdAndVersionColumnFamily.put(idAndVersionKey, workflowKeyValue);
+  }
+
+  /**
+   * Migrates the workflows which were stored by previous versions. These stored the whole workflow
+   * by its id and version, in addition to storing it by its key. The migrated workflows are only
+   * stored by their key, and referenced by their id and version.
+   */
+  void migrateWorkflowsByIdAndVersion() {
+    if (legacyWorkflowByIdAndVersionColumnFamily.isEmpty()) {
+      return;
+    }
+
+    final LongArrayList workflowKeys = new LongArrayList();
+    legacyWorkflowByIdAndVersionColumnFamily.forEach(
+        workflow -> {
+          workflowKeys.addLong(workflow.getKey());
+        });
+
+    dbContext.runInTransaction(
+        () -> {
+          for (int i = 0; i < workflowKeys.size(); i++) {
+            final long key = workflowKeys.getLong(i);
+            workflowKey.wrapLong(key);
+            final PersistedWorkflow workflow = workflowColumnFamily.get(workflowKey);
+
+            workflowId.wrapBuffer(workflow.getBpmnProcessId());
+            workflowVersion.wrapLong(workflow.getVersion());
+            workflowKeyValue.wrapLong(key);
+
+            workflowKeyByIdAndVersionColumnFamily.put(idAndVersionKey, workflowKeyValue);
+            legacyWorkflowByIdAndVersionColumnFamily.delete(idAndVersionKey);
+          }
+        });
+  }
+
+  private PersistedWorkflow getPersistedWorkflowByIdAndVersion() {
+    final DbLong key = workflowKeyByIdAndVersionColumnFamily.get(idAndVersionKey);
+    if (key == null) {
+      return null;
+    }
+
+    workflowKey.wrapLong(key.getValue());
+    return workflowColumnFamily.get(workflowKey);
   }
 
   private void updateLatestVersion(final Workflow workflow) {
@@ -133,6 +223,7 @@ public final class WorkflowPersistenceCache {
 
   // is called on getters, if workflow is not in memory
   private DeployedWorkflow updateInMemoryState(final PersistedWorkflow persistedWorkflow) {
+    metrics.cacheMiss();
 
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedWorkflow.getLength()];
@@ -162,13 +253,19 @@ public final class WorkflowPersistenceCache {
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
-      return Bpmn.readModelFromStream(stream);
+      // the resource was validated on deployment already
+      return Bpmn.readModelFromStreamWithoutValidation(stream);
     }
   }
 
   private void addWorkflowToInMemoryState(final DeployedWorkflow deployedWorkflow) {
     final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
-    workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
+    final DeployedWorkflow replacedWorkflow =
+        workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
+    if (replacedWorkflow != null) {
+      cacheSize -= weightOf(replacedWorkflow);
+    }
+    cacheSize += weightOf(deployedWorkflow);
 
     Long2ObjectHashMap<DeployedWorkflow> versionMap =
         workflowsByProcessIdAndVersion.get(bpmnProcessId);
@@ -180,6 +277,40 @@ public final class WorkflowPersistenceCache {
 
     final int version = deployedWorkflow.getVersion();
     versionMap.put(version, deployedWorkflow);
+
+    evictLeastRecentlyUsedWorkflows();
+    metrics.setCacheSize(cacheSize);
+  }
+
+  private void evictLeastRecentlyUsedWorkflows() {
+    // the most recently added workflow is kept, even if it exceeds the cache size on its own
+    final Iterator<DeployedWorkflow> iterator = workflowsByKey.values().iterator();
+    while (cacheSize > maxCacheSize && workflowsByKey.size() > 1) {
+      final DeployedWorkflow evictedWorkflow = iterator.next();
+      iterator.remove();
+      cacheSize -= weightOf(evictedWorkflow);
+
+      final DirectBuffer bpmnProcessId = evictedWorkflow.getBpmnProcessId();
+      final Long2ObjectHashMap<DeployedWorkflow> versionMap =
+          workflowsByProcessIdAndVersion.get(bpmnProcessId);
+      versionMap.remove(evictedWorkflow.getVersion());
+      if (versionMap.isEmpty()) {
+        workflowsByProcessIdAndVersion.remove(bpmnProcessId);
+      }
+
+      metrics.evicted();
+    }
+  }
+
+  private static long weightOf(final DeployedWorkflow deployedWorkflow) {
+    return deployedWorkflow.getResource().capacity();
+  }
+
+  private DeployedWorkflow cacheHit(final DeployedWorkflow deployedWorkflow) {
+    // marks the workflow as recently used
+    workflowsByKey.get(deployedWorkflow.getKey());
+    metrics.cacheHit();
+    return deployedWorkflow;
   }
 
   public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
@@ -196,6 +327,8 @@ public final class WorkflowPersistenceCache {
       deployedWorkflow = versionMap.get(latestVersion.get());
       if (deployedWorkflow == null) {
         deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
+      } else {
+        cacheHit(deployedWorkflow);
       }
     }
     return deployedWorkflow;
@@ -206,8 +339,7 @@ public final class WorkflowPersistenceCache {
     final long latestVersion = version != null ? version.get() : -1;
     workflowVersion.wrapLong(latestVersion);
 
-    final PersistedWorkflow persistedWorkflow =
-        workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
+    final PersistedWorkflow persistedWorkflow = getPersistedWorkflowByIdAndVersion();
 
     if (persistedWorkflow != null) {
       final DeployedWorkflow deployedWorkflow = updateInMemoryState(persistedWorkflow);
@@ -224,7 +356,7 @@ public final class WorkflowPersistenceCache {
     if (versionMap != null) {
       final DeployedWorkflow deployedWorkflow = versionMap.get(version);
       return deployedWorkflow != null
-          ? deployedWorkflow
+          ? cacheHit(deployedWorkflow)
           : lookupPersistenceState(processId, version);
     } else {
       return lookupPersistenceState(processId, version);
@@ -235,18 +367,10 @@ public final class WorkflowPersistenceCache {
     workflowId.wrapBuffer(processId);
     workflowVersion.wrapLong(version);
 
-    final PersistedWorkflow persistedWorkflow =
-        workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
+    final PersistedWorkflow persistedWorkflow = getPersistedWorkflowByIdAndVersion();
 
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final Long2ObjectHashMap<DeployedWorkflow> newVersionMap =
-          workflowsByProcessIdAndVersion.get(processId);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -256,6 +380,7 @@ public final class WorkflowPersistenceCache {
     final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
 
     if (deployedWorkflow != null) {
+      metrics.cacheHit();
       return deployedWorkflow;
     } else {
       return lookupPersistenceStateForWorkflowByKey(key);
@@ -267,35 +392,42 @@ public final class WorkflowPersistenceCache {
 
     final PersistedWorkflow persistedWorkflow = workflowColumnFamily.get(this.workflowKey);
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
-      return deployedWorkflow;
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowColumnFamily.forEach(workflow -> workflows.add(getOrLoadWorkflow(workflow)));
+    return workflows;
   }
 
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
+    final LongArrayList workflowKeys = new LongArrayList();
+    workflowId.wrapBuffer(bpmnProcessId);
+    workflowKeyByIdAndVersionColumnFamily.whileEqualPrefix(
+        workflowId,
+        (key, workflowKey) -> {
+          workflowKeys.addLong(workflowKey.getValue());
+        });
+
+    final List<DeployedWorkflow> workflows = new ArrayList<>(workflowKeys.size());
+    for (int i = 0; i < workflowKeys.size(); i++) {
+      workflows.add(getWorkflowByKey(workflowKeys.getLong(i)));
     }
-    return Collections.emptyList();
+    return workflows;
   }
 
-  private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach((workflow) -> updateInMemoryState(persistedWorkflow));
+  private DeployedWorkflow getOrLoadWorkflow(final PersistedWorkflow persistedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(persistedWorkflow.getKey());
+    if (deployedWorkflow != null) {
+      metrics.cacheHit();
+      return deployedWorkflow;
+    }
+    return updateInMemoryState(persistedWorkflow);
   }
 
   public void putLatestVersionDigest(final DirectBuffer processId, final DirectBuffer digest) {
@@ -33,14 +33,21 @@ public final class WorkflowState {
   public WorkflowState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId,
+      final long workflowCacheSize) {
     versionManager = new NextValueManager(zeebeDb, dbContext, ZbColumnFamilies.WORKFLOW_VERSION);
-    workflowPersistenceCache = new WorkflowPersistenceCache(zeebeDb, dbContext);
+    workflowPersistenceCache =
+        new WorkflowPersistenceCache(zeebeDb, dbContext, partitionId, workflowCacheSize);
     timerInstanceState = new TimerInstanceState(zeebeDb, dbContext);
     elementInstanceState = new ElementInstanceState(zeebeDb, dbContext, keyGenerator);
     eventScopeInstanceState = new EventScopeInstanceState(zeebeDb, dbContext);
   }
 
+  public void migrate() {
+    workflowPersistenceCache.migrateWorkflowsByIdAndVersion();
+  }
+
   public int getNextWorkflowVersion(final String bpmnProcessId) {
     return (int) versionManager.getNextValue(bpmnProcessId);
   }
@@ -22,6 +22,7 @@ import io.zeebe.util.EnsureUtil;
 import io.zeebe.util.buffer.BufferUtil;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
@@ -51,10 +52,12 @@ public final class JobState {
   private final DbLong deadlineKey;
   private final DbCompositeKey<DbLong, DbLong> deadlineJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> deadlinesColumnFamily;
+  private long nextDeadline;
 
   private final JobMetrics metrics;
 
   private Consumer<String> onJobsAvailableCallback;
+  private LongConsumer onJobDeadlineCallback;
 
   public JobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext, final int partitionId) {
@@ -113,6 +116,7 @@ public final class JobState {
 
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.put(deadlineJobKey, DbNil.INSTANCE);
+    notifyJobDeadline(deadline);
 
     metrics.jobActivated(record.getType());
   }
@@ -200,19 +204,76 @@ public final class JobState {
     updateJob(key, updatedValue, State.ACTIVATABLE);
   }
 
-  public void forEachTimedOutEntry(
+  /**
+   * Visits the activated jobs with a deadline before the given upper bound, ordered by their
+   * deadline. The visiting stops if the callback returns false.
+   *
+   * @return the deadline of the first job which was not visited or not consumed by the callback, or
+   *     -1 if there is none
+   */
+  public long forEachTimedOutEntry(
       final long upperBound, final BiFunction<Long, JobRecord, Boolean> callback) {
+    nextDeadline = -1L;
+
+    deadlinesColumnFamily.whileTrue(
+        (compositeKey, zbNil) -> visitTimedOutEntry(compositeKey, upperBound, callback));
+
+    return nextDeadline;
+  }
+
+  /**
+   * Visits the activated jobs with a deadline before the given upper bound, like {@link
+   * #forEachTimedOutEntry(long, BiFunction)}, but only the jobs which come after the given job in
+   * the order of their deadlines. The iteration seeks to the given job, instead of visiting the
+   * jobs before it again.
+   */
+  public long forEachTimedOutEntry(
+      final long upperBound,
+      final long lastDeadline,
+      final long lastJobKey,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    nextDeadline = -1L;
+
+    deadlineKey.wrapLong(lastDeadline);
+    jobKey.wrapLong(lastJobKey);
 
     deadlinesColumnFamily.whileTrue(
+        deadlineJobKey,
         (compositeKey, zbNil) -> {
-          final long deadline = compositeKey.getFirst().getValue();
-          final boolean isDue = deadline < upperBound;
-          if (isDue) {
-            final long jobKey = compositeKey.getSecond().getValue();
-            return visitJob(jobKey, callback, () -> deadlinesColumnFamily.delete(compositeKey));
-          }
-          return false;
+          final boolean isLastJob =
+              compositeKey.getFirst().getValue() == lastDeadline
+                  && compositeKey.getSecond().getValue() == lastJobKey;
+
+          // the iteration starts at the given job if it still exists
+          return isLastJob || visitTimedOutEntry(compositeKey, upperBound, callback);
         });
+
+    return nextDeadline;
+  }
+
+  /** @return {@code true} if the given job is activated with the given deadline */
+  public boolean hasDeadline(final long deadline, final long jobKey) {
+    deadlineKey.wrapLong(deadline);
+    this.jobKey.wrapLong(jobKey);
+    return deadlinesColumnFamily.exists(deadlineJobKey);
+  }
+
+  private boolean visitTimedOutEntry(
+      final DbCompositeKey<DbLong, DbLong> compositeKey,
+      final long upperBound,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    final long deadline = compositeKey.getFirst().getValue();
+    final boolean isDue = deadline < upperBound;
+    boolean consumed = false;
+    if (isDue) {
+      final long jobKey = compositeKey.getSecond().getValue();
+      consumed = visitJob(jobKey, callback, () -> deadlinesColumnFamily.delete(compositeKey));
+    }
+
+    if (!consumed) {
+      nextDeadline = deadline;
+    }
+    return consumed;
   }
 
   public boolean exists(final long jobKey) {
@@ -280,6 +341,16 @@ public final class JobState {
     this.onJobsAvailableCallback = onJobsAvailableCallback;
   }
 
+  public void setJobDeadlineCallback(final LongConsumer onJobDeadlineCallback) {
+    this.onJobDeadlineCallback = onJobDeadlineCallback;
+  }
+
+  private void notifyJobDeadline(final long deadline) {
+    if (onJobDeadlineCallback != null) {
+      onJobDeadlineCallback.accept(deadline);
+    }
+  }
+
   private void notifyJobAvailable(final DirectBuffer jobType) {
     if (onJobsAvailableCallback != null) {
       onJobsAvailableCallback.accept(BufferUtil.bufferAsString(jobType));
@@ -61,26 +61,64 @@ public final class TimerInstanceState {
   public long findTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
     nextDueDate = -1L;
 
+    dueDateColumnFamily.whileTrue((key, nil) -> visitTimer(key, timestamp, consumer));
+
+    return nextDueDate;
+  }
+
+  /**
+   * Finds the timers with a due date before the given timestamp, like {@link
+   * #findTimersWithDueDateBefore(long, TimerVisitor)}, but only the timers which come after the
+   * given timer in the order of their due dates. The iteration seeks to the given timer, instead of
+   * visiting the timers before it again.
+   */
+  public long findTimersWithDueDateBefore(
+      final long timestamp,
+      final long lastDueDate,
+      final long lastElementInstanceKey,
+      final long lastTimerKey,
+      final TimerVisitor consumer) {
+    nextDueDate = -1L;
+
+    dueDateKey.wrapLong(lastDueDate);
+    elementInstanceKey.wrapLong(lastElementInstanceKey);
+    timerKey.wrapLong(lastTimerKey);
+
     dueDateColumnFamily.whileTrue(
+        dueDateCompositeKey,
         (key, nil) -> {
-          final DbLong dueDate = key.getFirst();
-
-          boolean consumed = false;
-          if (dueDate.getValue() <= timestamp) {
-            final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
-            final TimerInstance timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
-            consumed = consumer.visit(timerInstance);
-          }
-
-          if (!consumed) {
-            nextDueDate = dueDate.getValue();
-          }
-          return consumed;
+          final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
+          final boolean isLastTimer =
+              key.getFirst().getValue() == lastDueDate
+                  && elementAndTimerKey.getFirst().getValue() == lastElementInstanceKey
+                  && elementAndTimerKey.getSecond().getValue() == lastTimerKey;
+
+          // the iteration starts at the given timer if it still exists
+          return isLastTimer || visitTimer(key, timestamp, consumer);
         });
 
     return nextDueDate;
   }
 
+  private boolean visitTimer(
+      final DbCompositeKey<DbLong, DbCompositeKey<DbLong, DbLong>> key,
+      final long timestamp,
+      final TimerVisitor consumer) {
+    final DbLong dueDate = key.getFirst();
+
+    boolean consumed = false;
+    if (dueDate.getValue() <= timestamp) {
+      final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
+      final TimerInstance timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
+      consumed = consumer.visit(timerInstance);
+    }
+
+    if (!consumed) {
+      nextDueDate = dueDate.getValue();
+    }
+    return consumed;
+  }
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
@@ -18,6 +18,7 @@ import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DbString;
 import io.zeebe.engine.state.ZbColumnFamilies;
+import java.util.function.LongConsumer;
 import org.agrona.DirectBuffer;
 
 public final class MessageState {
@@ -52,6 +53,7 @@ public final class MessageState {
 
   private final DbCompositeKey<DbLong, DbLong> deadlineMessageKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> deadlineColumnFamily;
+  private long nextDeadline;
 
   /**
    * <pre>name | correlation key | message id -> []
@@ -90,6 +92,8 @@ public final class MessageState {
 
   private final ColumnFamily<DbLong, DbString> workflowInstanceCorrelationKeyColumnFamiliy;
 
+  private LongConsumer onMessageDeadlineCallback;
+
   public MessageState(final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     messageKey = new DbLong();
     message = new Message();
@@ -152,6 +156,7 @@ public final class MessageState {
 
     deadline.wrapLong(message.getDeadline());
     deadlineColumnFamily.put(deadlineMessageKey, DbNil.INSTANCE);
+    notifyMessageDeadline(message.getDeadline());
 
     final DirectBuffer messageId = message.getId();
     if (messageId.capacity() > 0) {
@@ -267,17 +272,85 @@ public final class MessageState {
     return messageColumnFamily.get(this.messageKey);
   }
 
-  public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
+  /**
+   * Visits the messages with a deadline before or at the given timestamp, ordered by their
+   * deadline. The visiting stops if the visitor returns false.
+   *
+   * @return the deadline of the first message which was not visited or not consumed by the visitor,
+   *     or -1 if there is none
+   */
+  public long visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
+    nextDeadline = -1L;
+
     deadlineColumnFamily.whileTrue(
-        ((compositeKey, zbNil) -> {
-          final long deadline = compositeKey.getFirst().getValue();
-          if (deadline <= timestamp) {
-            final long messageKey = compositeKey.getSecond().getValue();
-            final Message message = getMessage(messageKey);
-            return visitor.visit(message);
-          }
-          return false;
-        }));
+        (compositeKey, zbNil) -> visitMessageWithDeadline(compositeKey, timestamp, visitor));
+
+    return nextDeadline;
+  }
+
+  /**
+   * Visits the messages with a deadline before or at the given timestamp, like {@link
+   * #visitMessagesWithDeadlineBefore(long, MessageVisitor)}, but only the messages which come after
+   * the given message in the order of their deadlines. The iteration seeks to the given message,
+   * instead of visiting the messages before it again.
+   */
+  public long visitMessagesWithDeadlineBefore(
+      final long timestamp,
+      final long lastDeadline,
+      final long lastMessageKey,
+      final MessageVisitor visitor) {
+    nextDeadline = -1L;
+
+    deadline.wrapLong(lastDeadline);
+    messageKey.wrapLong(lastMessageKey);
+
+    deadlineColumnFamily.whileTrue(
+        deadlineMessageKey,
+        (compositeKey, zbNil) -> {
+          final boolean isLastMessage =
+              compositeKey.getFirst().getValue() == lastDeadline
+                  && compositeKey.getSecond().getValue() == lastMessageKey;
+
+          // the iteration starts at the given message if it still exists
+          return isLastMessage || visitMessageWithDeadline(compositeKey, timestamp, visitor);
+        });
+
+    return nextDeadline;
+  }
+
+  /** @return {@code true} if the given message exists with the given deadline */
+  public boolean hasDeadline(final long deadline, final long messageKey) {
+    this.deadline.wrapLong(deadline);
+    this.messageKey.wrapLong(messageKey);
+    return deadlineColumnFamily.exists(deadlineMessageKey);
+  }
+
+  private boolean visitMessageWithDeadline(
+      final DbCompositeKey<DbLong, DbLong> compositeKey,
+      final long timestamp,
+      final MessageVisitor visitor) {
+    final long deadline = compositeKey.getFirst().getValue();
+    boolean consumed = false;
+    if (deadline <= timestamp) {
+      final long messageKey = compositeKey.getSecond().getValue();
+      final Message message = getMessage(messageKey);
+      consumed = visitor.visit(message);
+    }
+
+    if (!consumed) {
+      nextDeadline = deadline;
+    }
+    return consumed;
+  }
+
+  public void setMessageDeadlineCallback(final LongConsumer onMessageDeadlineCallback) {
+    this.onMessageDeadlineCallback = onMessageDeadlineCallback;
+  }
+
+  private void notifyMessageDeadline(final long deadline) {
+    if (onMessageDeadlineCallback != null) {
+      onMessageDeadlineCallback.accept(deadline);
+    }
   }
 
   public boolean exist(
@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.zeebe.engine.util.EngineRule;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.impl.record.value.job.JobCompletionResult;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.zeebe.protocol.record.value.JobRecordValue;
+import io.zeebe.test.util.Strings;
+import io.zeebe.test.util.record.RecordingExporter;
+import io.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class CompleteJobBatchTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+  private static final String PROCESS_ID = "process";
+  private static String jobType;
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Before
+  public void setup() {
+    jobType = Strings.newRandomValidBpmnId();
+  }
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final Record<JobRecordValue> firstJob = ENGINE.createJob(jobType, PROCESS_ID);
+    final Record<JobRecordValue> secondJob = ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.jobs().withType(jobType).activate();
+
+    // when
+    final Record<JobBatchRecordValue> completedBatch =
+        ENGINE.jobCompletion().withJob(firstJob.getKey()).withJob(secondJob.getKey()).complete();
+
+    // then
+    assertThat(completionResults(completedBatch))
+        .extracting(JobCompletionResult::getJobKey, JobCompletionResult::isCompleted)
+        .containsExactly(tuple(firstJob.getKey(), true), tuple(secondJob.getKey(), true));
+
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withType(jobType)
+                .limit(2)
+                .map(Record::getKey))
+        .containsExactly(firstJob.getKey(), secondJob.getKey());
+
+    final List<Long> workflowInstanceKeys =
+        List.of(
+            firstJob.getValue().getWorkflowInstanceKey(),
+            secondJob.getValue().getWorkflowInstanceKey());
+    assertThat(
+            RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+                .withElementType(BpmnElementType.PROCESS)
+                .filter(r -> workflowInstanceKeys.contains(r.getValue().getWorkflowInstanceKey()))
+                .limit(2))
+        .hasSize(2);
+  }
+
+  @Test
+  public void shouldCompleteJobsWithVariables() {
+    // given
+    final Record<JobRecordValue> job = ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.jobs().withType(jobType).activate();
+
+    // when
+    ENGINE.jobCompletion().withJob(job.getKey(), "{'foo':'bar'}").complete();
+
+    // then
+    final Record<JobRecordValue> completedJob =
+        RecordingExporter.jobRecords(JobIntent.COMPLETED).withRecordKey(job.getKey()).getFirst();
+    assertThat(completedJob.getValue().getVariables()).containsExactly(entry("foo", "bar"));
+  }
+
+  @Test
+  public void shouldCompleteJobsIndependently() {
+    // given
+    final Record<JobRecordValue> job = ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.jobs().withType(jobType).activate();
+    final long unknownJobKey = 123L;
+
+    // when
+    final Record<JobBatchRecordValue> completedBatch =
+        ENGINE.jobCompletion().withJob(unknownJobKey).withJob(job.getKey()).complete();
+
+    // then
+    final List<JobCompletionResult> results = completionResults(completedBatch);
+    assertThat(results)
+        .extracting(JobCompletionResult::getJobKey, JobCompletionResult::getRejectionType)
+        .containsExactly(
+            tuple(unknownJobKey, RejectionType.NOT_FOUND),
+            tuple(job.getKey(), RejectionType.NULL_VAL));
+    assertThat(results.get(0).getRejectionReason())
+        .isEqualTo("Expected to complete job with key '123', but no such job was found");
+
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED).withRecordKey(job.getKey()).exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotCompleteJobTwice() {
+    // given
+    final Record<JobRecordValue> job = ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.jobs().withType(jobType).activate();
+
+    // when
+    final Record<JobBatchRecordValue> completedBatch =
+        ENGINE.jobCompletion().withJob(job.getKey()).withJob(job.getKey()).complete();
+
+    // then
+    assertThat(completionResults(completedBatch))
+        .extracting(JobCompletionResult::getRejectionType)
+        .containsExactly(RejectionType.NULL_VAL, RejectionType.NOT_FOUND);
+  }
+
+  private static List<JobCompletionResult> completionResults(
+      final Record<JobBatchRecordValue> record) {
+    final List<JobCompletionResult> results = new ArrayList<>();
+    ((JobBatchRecord) record.getValue())
+        .completionResults()
+        .forEach(
+            result ->
+                results.add(
+                    new JobCompletionResult()
+                        .setJobKey(result.getJobKey())
+                        .setRejection(result.getRejectionType(), result.getRejectionReason())));
+    return results;
+  }
+}
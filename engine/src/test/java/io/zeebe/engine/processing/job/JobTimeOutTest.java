@@ -21,6 +21,7 @@ import io.zeebe.protocol.record.value.JobRecordValue;
 import io.zeebe.test.util.Strings;
 import io.zeebe.test.util.record.RecordingExporter;
 import io.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.Before;
@@ -31,6 +32,8 @@ import org.junit.Test;
 public final class JobTimeOutTest {
   @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
   private static final String PROCESS_ID = "process";
+  // the default timeout of the job activation client
+  private static final Duration DEFAULT_JOB_TIMEOUT = Duration.ofSeconds(10);
   private static String jobType;
 
   @Rule
@@ -49,7 +52,7 @@ public final class JobTimeOutTest {
     final long timeout = 10L;
 
     ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
 
     // when expired
     jobRecords(TIME_OUT).withType(jobType).getFirst();
@@ -78,7 +81,7 @@ public final class JobTimeOutTest {
     final long timeout = 10L;
 
     ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
     jobRecords(TIME_OUT).withRecordKey(jobKey).getFirst();
 
     final long jobKey2 = ENGINE.createJob(jobType, PROCESS_ID).getKey();
@@ -90,17 +93,35 @@ public final class JobTimeOutTest {
     ENGINE.jobs().withType(jobType).activate();
 
     // then
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(DEFAULT_JOB_TIMEOUT);
     jobRecords(TIME_OUT).withRecordKey(jobKey2).getFirst();
   }
 
+  @Test
+  public void shouldTimeOutJobWithEarlierDeadlineFirst() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.jobs().withType(jobType).withTimeout(Duration.ofMinutes(10).toMillis()).activate();
+
+    final long jobKey2 = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    final long timeout = 10L;
+    ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
+
+    // when
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
+
+    // then
+    final Record<JobRecordValue> timedOut = jobRecords(JobIntent.TIMED_OUT).getFirst();
+    assertThat(timedOut.getKey()).isEqualTo(jobKey2);
+  }
+
   @Test
   public void shouldSetCorrectSourcePositionAfterJobTimeOut() {
     // given
     ENGINE.createJob(jobType, PROCESS_ID);
     final long timeout = 10L;
     ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
 
     // when expired
     jobRecords(TIME_OUT).getFirst();
@@ -150,7 +171,7 @@ public final class JobTimeOutTest {
     // when
     jobRecords(ACTIVATED).withWorkflowInstanceKey(instanceKey1).limit(2).getFirst();
 
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
     jobRecords(JobIntent.TIMED_OUT).withWorkflowInstanceKey(instanceKey1).getFirst();
     ENGINE.jobs().withType(jobType).activate();
 
@@ -7,8 +7,12 @@
  */
 package io.zeebe.engine.processing.job;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -19,9 +23,11 @@ import io.zeebe.engine.util.ZeebeStateRule;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -34,12 +40,13 @@ public final class JobTimeoutTriggerTest {
 
   @Mock private TypedStreamWriter typedStreamWriter;
   private JobTimeoutTrigger jobTimeoutTrigger;
+  private JobState jobState;
 
   @Before
   public void setUp() {
     initMocks(this);
 
-    final JobState jobState = stateRule.getZeebeState().getJobState();
+    jobState = stateRule.getZeebeState().getJobState();
     jobTimeoutTrigger = new JobTimeoutTrigger(jobState);
 
     final ProcessingContext processingContext =
@@ -83,4 +90,41 @@ public final class JobTimeoutTriggerTest {
     inOrder.verify(typedStreamWriter).reset();
     inOrder.verifyNoMoreInteractions();
   }
+
+  @Test
+  public void shouldNotWriteTimeOutAgainWhilePending() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(1L);
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // when - the time out commands are not processed yet
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // and - they are processed, and another job is timed out
+    for (long key = 0; key <= 2; key++) {
+      jobState.timeout(key, newJobRecord());
+    }
+    jobState.activate(3, newJobRecord());
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    for (long key = 0; key <= 3; key++) {
+      verify(typedStreamWriter, times(1))
+          .appendFollowUpCommand(eq(key), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    }
+  }
+
+  @Test
+  public void shouldRetryAfterTimerResolutionIfFlushFailed() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(-1L);
+
+    // when
+    jobTimeoutTrigger.onResumed();
+
+    // then
+    final ArgumentCaptor<Duration> delay = ArgumentCaptor.forClass(Duration.class);
+    verify(someActor, atLeastOnce()).runDelayed(delay.capture(), any());
+    assertThat(delay.getValue()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(100));
+  }
 }
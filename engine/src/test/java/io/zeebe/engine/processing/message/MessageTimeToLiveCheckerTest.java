@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.zeebe.engine.processing.streamprocessor.ProcessingContext;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.state.message.Message;
+import io.zeebe.engine.state.message.MessageState;
+import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.util.sched.ActorControl;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+
+public final class MessageTimeToLiveCheckerTest {
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  @Mock private ActorControl someActor;
+
+  @Mock private TypedStreamWriter typedStreamWriter;
+  private MessageTimeToLiveChecker messageTimeToLiveChecker;
+  private MessageState messageState;
+
+  @Before
+  public void setUp() {
+    initMocks(this);
+
+    messageState = stateRule.getZeebeState().getMessageState();
+    messageTimeToLiveChecker = new MessageTimeToLiveChecker(messageState);
+
+    final ProcessingContext processingContext =
+        new ProcessingContext().actor(someActor).logStreamWriter(typedStreamWriter);
+    messageTimeToLiveChecker.onRecovered(processingContext);
+
+    messageState.put(newMessage(0));
+    messageState.put(newMessage(1));
+    messageState.put(newMessage(2));
+  }
+
+  private Message newMessage(final long key) {
+    return new Message(
+        key,
+        wrapString("name"),
+        wrapString("correlation-key-" + key),
+        wrapString(""),
+        wrapString("id-" + key),
+        10L,
+        256L);
+  }
+
+  @Test
+  public void shouldNotWriteDeleteAgainWhilePending() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(1L);
+    messageTimeToLiveChecker.deleteExpiredMessages();
+
+    // when - the delete commands are not processed yet
+    messageTimeToLiveChecker.deleteExpiredMessages();
+
+    // and - they are processed, and another message is expired
+    for (long key = 0; key <= 2; key++) {
+      messageState.remove(key);
+    }
+    messageState.put(newMessage(3));
+    messageTimeToLiveChecker.deleteExpiredMessages();
+
+    // then
+    for (long key = 0; key <= 3; key++) {
+      verify(typedStreamWriter, times(1))
+          .appendFollowUpCommand(eq(key), eq(MessageIntent.DELETE), any(MessageRecord.class));
+    }
+  }
+}
@@ -21,6 +21,7 @@ import io.zeebe.protocol.record.intent.MessageIntent;
 import io.zeebe.protocol.record.value.MessageRecordValue;
 import io.zeebe.test.util.record.RecordingExporter;
 import io.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Rule;
@@ -180,7 +181,7 @@ public final class PublishMessageTest {
     final Record<MessageRecordValue> publishedRecord =
         messageClient.withTimeToLive(timeToLive).publish();
 
-    ENGINE_RULE.increaseTime(MessageObserver.MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL);
+    ENGINE_RULE.increaseTime(Duration.ofMillis(timeToLive));
 
     // then
     final Record<MessageRecordValue> deletedEvent =
@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class SubscriptionCommandBatchTest {
+
+  private final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+
+  @Test
+  public void shouldReadCommandsInOrder() {
+    // given
+    final CloseMessageSubscriptionCommand firstCommand = new CloseMessageSubscriptionCommand();
+    firstCommand.setSubscriptionPartitionId(1);
+    firstCommand.setWorkflowInstanceKey(2L);
+    firstCommand.setElementInstanceKey(3L);
+    firstCommand.setMessageName(wrapString("first"));
+
+    final CloseMessageSubscriptionCommand secondCommand = new CloseMessageSubscriptionCommand();
+    secondCommand.setSubscriptionPartitionId(4);
+    secondCommand.setWorkflowInstanceKey(5L);
+    secondCommand.setElementInstanceKey(6L);
+    secondCommand.setMessageName(wrapString("second"));
+
+    batch.add(firstCommand);
+    batch.add(secondCommand);
+
+    // when
+    final List<Long> elementInstanceKeys = new ArrayList<>();
+    final CloseMessageSubscriptionCommand readCommand = new CloseMessageSubscriptionCommand();
+    final byte[] bytes = batch.toByteArray();
+    SubscriptionCommandBatch.forEachCommand(
+        new UnsafeBuffer(bytes),
+        0,
+        bytes.length,
+        (buffer, offset, length) -> {
+          readCommand.wrap(buffer, offset, length);
+          elementInstanceKeys.add(readCommand.getElementInstanceKey());
+        });
+
+    // then
+    assertThat(batch.getCommandCount()).isEqualTo(2);
+    assertThat(batch.getLength())
+        .isEqualTo(firstCommand.getLength() + secondCommand.getLength() + 2 * Integer.BYTES)
+        .isEqualTo(bytes.length);
+    assertThat(elementInstanceKeys).containsExactly(3L, 6L);
+  }
+
+  @Test
+  public void shouldReuseBufferAfterReset() {
+    // given
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setMessageName(wrapString("message"));
+    batch.add(command);
+    batch.add(command);
+
+    // when
+    batch.reset();
+    batch.add(command);
+
+    // then
+    assertThat(batch.isEmpty()).isFalse();
+    assertThat(batch.getCommandCount()).isEqualTo(1);
+    assertThat(batch.toByteArray()).hasSize(command.getLength() + Integer.BYTES);
+  }
+
+  @Test
+  public void shouldReadSingleCommands() {
+    // given
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setElementInstanceKey(3L);
+    command.setMessageName(wrapString("message"));
+    batch.add(command);
+    command.setElementInstanceKey(6L);
+    batch.add(command);
+
+    // when
+    final List<Long> elementInstanceKeys = new ArrayList<>();
+    final CloseMessageSubscriptionCommand readCommand = new CloseMessageSubscriptionCommand();
+    batch.forEachCommand(
+        (buffer, offset, length) -> {
+          final byte[] bytes = new byte[length];
+          buffer.getBytes(offset, bytes);
+          readCommand.wrap(new UnsafeBuffer(bytes), 0, bytes.length);
+          elementInstanceKeys.add(readCommand.getElementInstanceKey());
+        });
+
+    // then
+    assertThat(elementInstanceKeys).containsExactly(3L, 6L);
+  }
+
+  @Test
+  public void shouldRejectTruncatedBatch() {
+    // given
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setMessageName(wrapString("message"));
+    batch.add(command);
+    final byte[] bytes = batch.toByteArray();
+
+    // when/then
+    assertThatThrownBy(
+            () ->
+                SubscriptionCommandBatch.forEachCommand(
+                    new UnsafeBuffer(bytes), 0, bytes.length - 1, (buffer, offset, length) -> {}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
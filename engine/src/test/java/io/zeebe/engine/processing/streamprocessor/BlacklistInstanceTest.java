@@ -85,6 +85,8 @@ public final class BlacklistInstanceTest {
       ////////////////////////////////////////
       {ValueType.JOB_BATCH, JobBatchIntent.ACTIVATE, false},
       {ValueType.JOB_BATCH, JobBatchIntent.ACTIVATED, false},
+      {ValueType.JOB_BATCH, JobBatchIntent.COMPLETE, false},
+      {ValueType.JOB_BATCH, JobBatchIntent.COMPLETED, false},
 
       ////////////////////////////////////////
       //////////////// JOBS //////////////////
@@ -0,0 +1,303 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.streamprocessor;
+
+import static io.zeebe.engine.processing.streamprocessor.TypedRecordProcessors.processors;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.state.KeyGenerator;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.util.RecordToWrite;
+import io.zeebe.engine.util.StreamProcessorRule;
+import io.zeebe.protocol.impl.record.value.error.ErrorRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.test.util.TestUtil;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class StreamProcessorBatchProcessingTest {
+
+  private static final long FAILING_KEY = 2L;
+  private static final long SIDE_EFFECT_KEY = 4L;
+
+  @Rule public final StreamProcessorRule streamProcessorRule = new StreamProcessorRule();
+
+  private final List<Integer> pendingBatchLengths = new CopyOnWriteArrayList<>();
+  private final List<Long> notifiedPositions = new CopyOnWriteArrayList<>();
+  private final List<Long> processedPositionsOnNotify = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void shouldWriteFollowUpEventsOfBatchAtOnce() {
+    // given
+    final StreamProcessor streamProcessor = startStreamProcessorWithBatchSize(10);
+
+    // when
+    final long lastPosition =
+        streamProcessorRule.writeBatch(activatingEvent(1), activatingEvent(3), activatingEvent(5));
+
+    // then
+    final List<Record<WorkflowInstanceRecord>> activatedEvents = awaitActivatedEvents(3);
+    assertThat(activatedEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+    assertThat(activatedEvents)
+        .extracting(Record::getPosition)
+        .containsExactly(lastPosition + 1, lastPosition + 2, lastPosition + 3);
+
+    assertThat(pendingBatchLengths).hasSize(3).first().isEqualTo(0);
+    assertThat(pendingBatchLengths.subList(1, 3)).allMatch(length -> length > 0);
+
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(lastPosition);
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(lastPosition + 3);
+  }
+
+  @Test
+  public void shouldNotifyListenerOfBatchEventsAfterCommit() {
+    // given
+    startStreamProcessorWithBatchSize(10);
+
+    // when
+    final long lastPosition =
+        streamProcessorRule.writeBatch(activatingEvent(1), activatingEvent(3), activatingEvent(5));
+
+    // then
+    TestUtil.waitUntil(() -> notifiedPositions.size() >= 3);
+    assertThat(notifiedPositions).containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+    // the listener is notified only after the state changes of the whole batch are committed
+    assertThat(processedPositionsOnNotify).containsOnly(lastPosition);
+  }
+
+  @Test
+  public void shouldRollbackFailedEventOfBatch() {
+    // given
+    startStreamProcessorWithBatchSize(10);
+
+    // when
+    final long lastPosition =
+        streamProcessorRule.writeBatch(
+            activatingEvent(1), activatingEvent(FAILING_KEY), activatingEvent(3));
+
+    // then
+    final List<Record<WorkflowInstanceRecord>> activatedEvents = awaitActivatedEvents(2);
+    assertThat(activatedEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 2, lastPosition);
+    // the state changes of the failed event are discarded, so the same key is generated again
+    assertThat(activatedEvents.get(1).getKey()).isEqualTo(activatedEvents.get(0).getKey() + 1);
+
+    final Record<ErrorRecord> errorRecord =
+        TestUtil.doRepeatedly(() -> streamProcessorRule.events().onlyErrorRecords().findFirst())
+            .until(r -> r.isPresent())
+            .get();
+    assertThat(errorRecord.getSourceRecordPosition()).isEqualTo(lastPosition - 1);
+  }
+
+  @Test
+  public void shouldEndBatchOnSideEffect() {
+    // given
+    startStreamProcessorWithBatchSize(10);
+
+    // when
+    final long lastPosition =
+        streamProcessorRule.writeBatch(
+            activatingEvent(1), activatingEvent(SIDE_EFFECT_KEY), activatingEvent(3));
+
+    // then
+    final List<Record<WorkflowInstanceRecord>> activatedEvents = awaitActivatedEvents(3);
+    assertThat(activatedEvents)
+        .extracting(Record::getPosition)
+        .containsExactly(lastPosition + 1, lastPosition + 2, lastPosition + 3);
+    assertThat(activatedEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+
+    // the event with side effect ends the batch, the next event starts a new one
+    assertThat(pendingBatchLengths).hasSize(3);
+    assertThat(pendingBatchLengths.get(1)).isPositive();
+    assertThat(pendingBatchLengths.get(2)).isZero();
+  }
+
+  @Test
+  public void shouldWriteFollowUpEventsBeforeNextEventIfPipelined() {
+    // given
+    final StreamProcessor streamProcessor = startStreamProcessorWithBatchSize(10, true);
+
+    // when
+    final long lastPosition =
+        streamProcessorRule.writeBatch(activatingEvent(1), activatingEvent(3), activatingEvent(5));
+
+    // then
+    final List<Record<WorkflowInstanceRecord>> activatedEvents = awaitActivatedEvents(3);
+    assertThat(activatedEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+    assertThat(activatedEvents)
+        .extracting(Record::getPosition)
+        .containsExactly(lastPosition + 1, lastPosition + 2, lastPosition + 3);
+
+    // the follow up events of the previous events are already written
+    assertThat(pendingBatchLengths).containsExactly(0, 0, 0);
+
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(lastPosition);
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(lastPosition + 3);
+  }
+
+  @Test
+  public void shouldRollbackFailedEventOfPipelinedBatch() {
+    // given
+    startStreamProcessorWithBatchSize(10, true);
+
+    // when
+    final long lastPosition =
+        streamProcessorRule.writeBatch(
+            activatingEvent(1), activatingEvent(FAILING_KEY), activatingEvent(3));
+
+    // then
+    final List<Record<WorkflowInstanceRecord>> activatedEvents = awaitActivatedEvents(2);
+    assertThat(activatedEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 2, lastPosition);
+    assertThat(activatedEvents.get(1).getKey()).isEqualTo(activatedEvents.get(0).getKey() + 1);
+
+    final Record<ErrorRecord> errorRecord =
+        TestUtil.doRepeatedly(() -> streamProcessorRule.events().onlyErrorRecords().findFirst())
+            .until(r -> r.isPresent())
+            .get();
+    assertThat(errorRecord.getSourceRecordPosition()).isEqualTo(lastPosition - 1);
+  }
+
+  @Test
+  public void shouldFailIfPipelinedBatchFailsAfterWritingRecords() {
+    // given
+    final StreamProcessor streamProcessor =
+        startStreamProcessorWithBatchSize(
+            10,
+            true,
+            writer -> {
+              final TypedStreamWriter failingWriter =
+                  mock(TypedStreamWriter.class, delegatesTo(writer));
+              doAnswer(delegatesTo(writer))
+                  .doThrow(new RuntimeException("expected"))
+                  .when(failingWriter)
+                  .flush();
+              return failingWriter;
+            });
+
+    // when
+    streamProcessorRule.writeBatch(activatingEvent(1), activatingEvent(3), activatingEvent(5));
+
+    // then
+    TestUtil.waitUntil(streamProcessor::isFailed);
+    // the follow up event of the first event is already written, it must not be written twice
+    assertThat(awaitActivatedEvents(1)).hasSize(1);
+  }
+
+  private StreamProcessor startStreamProcessorWithBatchSize(final int maxCommandsInBatch) {
+    return startStreamProcessorWithBatchSize(maxCommandsInBatch, false);
+  }
+
+  private StreamProcessor startStreamProcessorWithBatchSize(
+      final int maxCommandsInBatch, final boolean pipeliningEnabled) {
+    return startStreamProcessorWithBatchSize(
+        maxCommandsInBatch, pipeliningEnabled, UnaryOperator.identity());
+  }
+
+  private StreamProcessor startStreamProcessorWithBatchSize(
+      final int maxCommandsInBatch,
+      final boolean pipeliningEnabled,
+      final UnaryOperator<TypedStreamWriter> writerDecorator) {
+    return streamProcessorRule.startTypedStreamProcessor(
+        (TypedRecordProcessorFactory)
+            context -> {
+              context
+                  .maxCommandsInBatch(maxCommandsInBatch)
+                  .enablePipelining(pipeliningEnabled)
+                  .logStreamWriter(writerDecorator.apply(context.getLogStreamWriter()));
+
+              final ZeebeState zeebeState = context.getZeebeState();
+              context.onProcessedListener(
+                  record -> {
+                    notifiedPositions.add(record.getPosition());
+                    processedPositionsOnNotify.add(
+                        zeebeState.getLastSuccessfulProcessedRecordPosition());
+                  });
+
+              final KeyGenerator keyGenerator = zeebeState.getKeyGenerator();
+              return processors(keyGenerator)
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                      new ActivatingProcessor(keyGenerator, pendingBatchLengths));
+            });
+  }
+
+  private List<Record<WorkflowInstanceRecord>> awaitActivatedEvents(final int count) {
+    return TestUtil.doRepeatedly(
+            () ->
+                streamProcessorRule
+                    .events()
+                    .onlyWorkflowInstanceRecords()
+                    .withIntent(WorkflowInstanceIntent.ELEMENT_ACTIVATED)
+                    .collect(Collectors.toList()))
+        .until(records -> records.size() >= count);
+  }
+
+  private static RecordToWrite activatingEvent(final long key) {
+    return RecordToWrite.event()
+        .workflowInstance(WorkflowInstanceIntent.ELEMENT_ACTIVATING, new WorkflowInstanceRecord())
+        .key(key);
+  }
+
+  private static final class ActivatingProcessor
+      implements TypedRecordProcessor<WorkflowInstanceRecord> {
+
+    private final KeyGenerator keyGenerator;
+    private final List<Integer> pendingBatchLengths;
+
+    private ActivatingProcessor(
+        final KeyGenerator keyGenerator, final List<Integer> pendingBatchLengths) {
+      this.keyGenerator = keyGenerator;
+      this.pendingBatchLengths = pendingBatchLengths;
+    }
+
+    @Override
+    public void processRecord(
+        final TypedRecord<WorkflowInstanceRecord> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter,
+        final Consumer<SideEffectProducer> sideEffect) {
+      pendingBatchLengths.add(streamWriter.getBatchLength());
+
+      final long key = keyGenerator.nextKey();
+      if (record.getKey() == FAILING_KEY) {
+        throw new RuntimeException("expected");
+      }
+
+      if (record.getKey() == SIDE_EFFECT_KEY) {
+        sideEffect.accept(() -> true);
+      }
+
+      streamWriter.appendFollowUpEvent(
+          key, WorkflowInstanceIntent.ELEMENT_ACTIVATED, record.getValue());
+    }
+  }
+}
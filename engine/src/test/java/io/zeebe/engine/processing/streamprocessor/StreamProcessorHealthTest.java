@@ -285,6 +285,21 @@ public class StreamProcessorHealthTest {
       wrappedWriter.configureSourceContext(sourceRecordPosition);
     }
 
+    @Override
+    public void mark() {
+      wrappedWriter.mark();
+    }
+
+    @Override
+    public void resetToMark() {
+      wrappedWriter.resetToMark();
+    }
+
+    @Override
+    public int getBatchLength() {
+      return wrappedWriter.getBatchLength();
+    }
+
     @Override
     public void appendNewCommand(final Intent intent, final UnpackedObject value) {
       wrappedWriter.appendNewCommand(intent, value);
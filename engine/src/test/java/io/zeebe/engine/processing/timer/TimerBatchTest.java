@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.engine.util.EngineRule;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.intent.TimerIntent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.protocol.record.value.TimerRecordValue;
+import io.zeebe.test.util.record.RecordingExporter;
+import io.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class TimerBatchTest {
+
+  private static final int TIMER_COUNT = 5;
+  private static final Duration TIMER_RESOLUTION = Duration.ofMillis(100);
+
+  @Rule
+  public final EngineRule engine = EngineRule.singlePartition().withMaxTriggeredTimersInBatch(2);
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Test
+  public void shouldTriggerEachDueTimerOnceInBatches() {
+    // given
+    engine
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .intermediateCatchEvent("timer", e -> e.timerWithDuration("PT10S"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final List<Long> workflowInstanceKeys =
+        LongStream.range(0, TIMER_COUNT)
+            .mapToObj(i -> engine.workflowInstance().ofBpmnProcessId("process").create())
+            .collect(Collectors.toList());
+
+    assertThat(RecordingExporter.timerRecords(TimerIntent.CREATED).limit(TIMER_COUNT))
+        .hasSize(TIMER_COUNT);
+
+    // when
+    engine.increaseTime(Duration.ofSeconds(15));
+
+    // then
+    assertThat(
+            RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+                .withElementType(BpmnElementType.PROCESS)
+                .limit(TIMER_COUNT))
+        .extracting(Record::getKey)
+        .containsExactlyInAnyOrderElementsOf(workflowInstanceKeys);
+
+    final long lastInstance = engine.workflowInstance().ofBpmnProcessId("process").create();
+    final List<Record<TimerRecordValue>> timerRecords =
+        RecordingExporter.timerRecords()
+            .limit(
+                r ->
+                    r.getIntent() == TimerIntent.CREATED
+                        && r.getValue().getWorkflowInstanceKey() == lastInstance)
+            .collect(Collectors.toList());
+
+    assertThat(timerRecords)
+        .filteredOn(r -> r.getIntent() == TimerIntent.TRIGGER)
+        .extracting(r -> r.getValue().getWorkflowInstanceKey())
+        .containsExactlyInAnyOrderElementsOf(workflowInstanceKeys);
+    assertThat(timerRecords)
+        .extracting(Record::getRecordType)
+        .doesNotContain(RecordType.COMMAND_REJECTION);
+  }
+
+  @Test
+  public void shouldTriggerNextBatchWithoutWaitingForTimerResolution() {
+    // given
+    engine
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .intermediateCatchEvent("timer", e -> e.timerWithDuration("PT10S"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final int timerCount = TIMER_COUNT * 4;
+    LongStream.range(0, timerCount)
+        .forEach(i -> engine.workflowInstance().ofBpmnProcessId("process").create());
+
+    assertThat(RecordingExporter.timerRecords(TimerIntent.CREATED).limit(timerCount))
+        .hasSize(timerCount);
+
+    // when
+    engine.increaseTime(Duration.ofSeconds(15));
+
+    // then - the batches are triggered one after another, without waiting for the resolution
+    final List<Long> triggeredTimestamps =
+        RecordingExporter.timerRecords(TimerIntent.TRIGGERED)
+            .limit(timerCount)
+            .map(Record::getTimestamp)
+            .collect(Collectors.toList());
+
+    assertThat(triggeredTimestamps).hasSize(timerCount);
+    final long batches = timerCount / 2;
+    assertThat(triggeredTimestamps.get(timerCount - 1) - triggeredTimestamps.get(0))
+        .isLessThan((batches - 1) * TIMER_RESOLUTION.toMillis());
+  }
+}
@@ -10,7 +10,6 @@ package io.zeebe.engine.state;
 import static java.util.function.Predicate.not;
 import static org.assertj.core.api.Assertions.assertThat;
 
-import io.zeebe.engine.processing.message.MessageObserver;
 import io.zeebe.engine.util.EngineRule;
 import io.zeebe.model.bpmn.Bpmn;
 import io.zeebe.protocol.record.intent.IncidentIntent;
@@ -39,7 +38,7 @@ public final class WorkflowExecutionCleanStateTest {
           ZbColumnFamilies.KEY,
           ZbColumnFamilies.WORKFLOW_VERSION,
           ZbColumnFamilies.WORKFLOW_CACHE,
-          ZbColumnFamilies.WORKFLOW_CACHE_BY_ID_AND_VERSION,
+          ZbColumnFamilies.WORKFLOW_CACHE_KEY_BY_ID_AND_VERSION,
           ZbColumnFamilies.WORKFLOW_CACHE_LATEST_KEY,
           ZbColumnFamilies.WORKFLOW_CACHE_DIGEST_BY_ID);
 
@@ -232,7 +231,7 @@ public final class WorkflowExecutionCleanStateTest {
         .withElementType(BpmnElementType.PROCESS)
         .await();
 
-    engineRule.increaseTime(timeToLive.plus(MessageObserver.MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL));
+    engineRule.increaseTime(timeToLive);
 
     // then
     assertThatStateIsEmpty();
@@ -278,7 +277,7 @@ public final class WorkflowExecutionCleanStateTest {
         .withElementType(BpmnElementType.PROCESS)
         .await();
 
-    engineRule.increaseTime(timeToLive.plus(MessageObserver.MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL));
+    engineRule.increaseTime(timeToLive);
 
     // deploy new workflow without message start event to close the open subscription
     engineRule
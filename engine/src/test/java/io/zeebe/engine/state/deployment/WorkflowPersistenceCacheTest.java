@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.deployment;
+
+import static io.zeebe.engine.state.deployment.WorkflowStateTest.creatingDeploymentRecord;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class WorkflowPersistenceCacheTest {
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private ZeebeState zeebeState;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private long[] workflowKeys;
+  private int resourceSize;
+
+  @Before
+  public void setUp() {
+    zeebeState = stateRule.getZeebeState();
+    zeebeDb = stateRule.createNewDb();
+
+    final WorkflowPersistenceCache cache = createCache(Long.MAX_VALUE);
+    workflowKeys = new long[3];
+    for (int version = 1; version <= workflowKeys.length; version++) {
+      final DeploymentRecord deploymentRecord =
+          creatingDeploymentRecord(zeebeState, "processId", version);
+      workflowKeys[version - 1] = deploymentRecord.workflows().iterator().next().getKey();
+      cache.putDeployment(version, deploymentRecord);
+    }
+
+    resourceSize = cache.getWorkflowByKey(workflowKeys[0]).getResource().capacity();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldKeepWorkflowsWithinCacheSize() {
+    // given
+    final WorkflowPersistenceCache cache = createCache(2L * resourceSize);
+    final DeployedWorkflow first = cache.getWorkflowByKey(workflowKeys[0]);
+    final DeployedWorkflow second = cache.getWorkflowByKey(workflowKeys[1]);
+
+    // when
+    final DeployedWorkflow third = cache.getWorkflowByKey(workflowKeys[2]);
+
+    // then
+    assertThat(cache.getWorkflowByKey(workflowKeys[2])).isSameAs(third);
+    assertThat(cache.getWorkflowByKey(workflowKeys[1])).isSameAs(second);
+    assertThat(cache.getWorkflowByKey(workflowKeys[0])).isNotSameAs(first);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflow() {
+    // given
+    final WorkflowPersistenceCache cache = createCache(2L * resourceSize);
+    final DeployedWorkflow first = cache.getWorkflowByKey(workflowKeys[0]);
+    final DeployedWorkflow second = cache.getWorkflowByKey(workflowKeys[1]);
+    cache.getWorkflowByProcessIdAndVersion(wrapString("processId"), 1);
+
+    // when
+    cache.getWorkflowByKey(workflowKeys[2]);
+
+    // then
+    assertThat(cache.getWorkflowByKey(workflowKeys[0])).isSameAs(first);
+    assertThat(cache.getWorkflowByProcessIdAndVersion(wrapString("processId"), 2))
+        .isNotSameAs(second);
+  }
+
+  @Test
+  public void shouldReloadEvictedWorkflow() {
+    // given
+    final WorkflowPersistenceCache cache = createCache(resourceSize);
+    cache.getWorkflowByKey(workflowKeys[0]);
+    cache.getWorkflowByKey(workflowKeys[1]);
+
+    // when
+    final DeployedWorkflow reloaded =
+        cache.getWorkflowByProcessIdAndVersion(wrapString("processId"), 1);
+
+    // then
+    assertThat(reloaded.getKey()).isEqualTo(workflowKeys[0]);
+    assertThat(reloaded.getVersion()).isEqualTo(1);
+    assertThat(reloaded.getWorkflow()).isNotNull();
+    assertThat(reloaded.getWorkflow().getElementById(wrapString("test"))).isNotNull();
+  }
+
+  @Test
+  public void shouldKeepWorkflowWhichExceedsCacheSize() {
+    // given
+    final WorkflowPersistenceCache cache = createCache(1);
+
+    // when
+    final DeployedWorkflow workflow = cache.getWorkflowByKey(workflowKeys[0]);
+
+    // then
+    assertThat(cache.getWorkflowByKey(workflowKeys[0])).isSameAs(workflow);
+  }
+
+  @Test
+  public void shouldGetAllWorkflowsIfCacheSizeIsExceeded() {
+    // given
+    final WorkflowPersistenceCache cache = createCache(resourceSize);
+
+    // when
+    final var workflows = cache.getWorkflowsByBpmnProcessId(wrapString("processId"));
+
+    // then
+    assertThat(workflows)
+        .extracting(DeployedWorkflow::getVersion)
+        .containsExactlyInAnyOrder(1, 2, 3);
+    assertThat(cache.getWorkflows())
+        .extracting(DeployedWorkflow::getKey)
+        .containsExactlyInAnyOrder(workflowKeys[0], workflowKeys[1], workflowKeys[2]);
+  }
+
+  @Test
+  public void shouldMigrateWorkflowsStoredByIdAndVersion() {
+    // given
+    final DbContext dbContext = zeebeDb.createContext();
+    final DbLong key = new DbLong();
+    final PersistedWorkflow workflow = new PersistedWorkflow();
+    final ColumnFamily<DbLong, PersistedWorkflow> workflowsByKey =
+        zeebeDb.createColumnFamily(ZbColumnFamilies.WORKFLOW_CACHE, dbContext, key, workflow);
+
+    final DbString id = new DbString();
+    final DbLong version = new DbLong();
+    final DbCompositeKey<DbString, DbLong> idAndVersion = new DbCompositeKey<>(id, version);
+    final ColumnFamily<DbCompositeKey<DbString, DbLong>, PersistedWorkflow> legacyWorkflows =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.WORKFLOW_CACHE_BY_ID_AND_VERSION, dbContext, idAndVersion, workflow);
+    final ColumnFamily<DbCompositeKey<DbString, DbLong>, DbLong> workflowKeys =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.WORKFLOW_CACHE_KEY_BY_ID_AND_VERSION,
+            dbContext,
+            idAndVersion,
+            new DbLong());
+
+    for (final long workflowKey : this.workflowKeys) {
+      key.wrapLong(workflowKey);
+      workflowsByKey.get(key);
+      id.wrapBuffer(workflow.getBpmnProcessId());
+      version.wrapLong(workflow.getVersion());
+
+      legacyWorkflows.put(idAndVersion, workflow);
+      workflowKeys.delete(idAndVersion);
+    }
+
+    final WorkflowPersistenceCache cache = createCache(Long.MAX_VALUE);
+
+    // when
+    cache.migrateWorkflowsByIdAndVersion();
+
+    // then
+    assertThat(legacyWorkflows.isEmpty()).isTrue();
+    assertThat(cache.getWorkflowByProcessIdAndVersion(wrapString("processId"), 2).getKey())
+        .isEqualTo(this.workflowKeys[1]);
+    assertThat(cache.getLatestWorkflowVersionByProcessId(wrapString("processId")).getKey())
+        .isEqualTo(this.workflowKeys[2]);
+    assertThat(cache.getWorkflowsByBpmnProcessId(wrapString("processId")))
+        .extracting(DeployedWorkflow::getVersion)
+        .containsExactly(1, 2, 3);
+  }
+
+  private WorkflowPersistenceCache createCache(final long maxCacheSize) {
+    return new WorkflowPersistenceCache(zeebeDb, zeebeDb.createContext(), 1, maxCacheSize);
+  }
+}
@@ -406,6 +406,37 @@ public final class JobStateTest {
     assertThat(timedOutKeys).containsExactly(1L, 2L, 3L);
   }
 
+  @Test
+  public void shouldReturnNextDeadlineOnForEachTimedOut() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(1L));
+    createAndActivateJobRecord(2, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(3, newJobRecord().setDeadline(512L));
+
+    // when
+    final long nextDeadline = jobState.forEachTimedOutEntry(256L, (k, e) -> true);
+    final long nextDeadlineIfNotConsumed = jobState.forEachTimedOutEntry(1024L, (k, e) -> false);
+    final long nextDeadlineIfNoneLeft = jobState.forEachTimedOutEntry(1024L, (k, e) -> true);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(256L);
+    assertThat(nextDeadlineIfNotConsumed).isEqualTo(1L);
+    assertThat(nextDeadlineIfNoneLeft).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldNotifyJobDeadlineOnActivate() {
+    // given
+    final List<Long> deadlines = new ArrayList<>();
+    jobState.setJobDeadlineCallback(deadlines::add);
+
+    // when
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(256L));
+
+    // then
+    assertThat(deadlines).containsExactly(256L);
+  }
+
   @Test
   public void shouldCleanUpOnForEachTimedOutAndVisitNext() {
     // given
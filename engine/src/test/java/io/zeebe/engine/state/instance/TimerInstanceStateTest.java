@@ -79,6 +79,33 @@ public final class TimerInstanceStateTest {
     Assertions.assertThat(timers.get(0).getElementInstanceKey()).isEqualTo(2L);
   }
 
+  @Test
+  public void shouldFindTimersAfterGivenTimer() {
+    // given
+    final TimerInstance timer = new TimerInstance();
+    for (long elementInstanceKey = 1L; elementInstanceKey <= 4L; elementInstanceKey++) {
+      timer.setElementInstanceKey(elementInstanceKey);
+      timer.setKey(elementInstanceKey + 10);
+      timer.setDueDate(1000L * elementInstanceKey);
+      state.put(timer);
+    }
+
+    // when
+    final List<Long> timersAfterExisting = new ArrayList<>();
+    state.findTimersWithDueDateBefore(
+        3000L, 1000L, 1L, 11L, t -> timersAfterExisting.add(t.getElementInstanceKey()));
+
+    final List<Long> timersAfterRemoved = new ArrayList<>();
+    final long nextDueDate =
+        state.findTimersWithDueDateBefore(
+            3000L, 2000L, 2L, 0L, t -> timersAfterRemoved.add(t.getElementInstanceKey()));
+
+    // then
+    Assertions.assertThat(timersAfterExisting).containsExactly(2L, 3L);
+    Assertions.assertThat(timersAfterRemoved).containsExactly(2L, 3L);
+    Assertions.assertThat(nextDueDate).isEqualTo(4000L);
+  }
+
   @Test
   public void shouldGetTimerByElementInstanceKey() {
     // given
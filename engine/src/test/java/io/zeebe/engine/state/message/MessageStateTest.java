@@ -211,6 +211,25 @@ public final class MessageStateTest {
     assertThat(readMessage.get(0).getKey()).isEqualTo(1L);
   }
 
+  @Test
+  public void shouldReturnNextDeadlineOnVisitMessagesBeforeTime() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "nr1", 1234);
+    final Message message2 = createMessage(2L, "otherName", "correlationKey", "{}", "nr2", 2000);
+
+    final List<Long> deadlines = new ArrayList<>();
+    messageState.setMessageDeadlineCallback(deadlines::add);
+    messageState.put(message);
+    messageState.put(message2);
+
+    // when
+    final long nextDeadline = messageState.visitMessagesWithDeadlineBefore(1_999, m -> true);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(2000L);
+    assertThat(deadlines).containsExactly(1234L, 2000L);
+  }
+
   @Test
   public void shouldVisitMessagesBeforeTimeInOrder() {
     // given
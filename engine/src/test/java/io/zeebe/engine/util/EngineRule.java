@@ -28,6 +28,7 @@ import io.zeebe.engine.util.client.DeploymentClient;
 import io.zeebe.engine.util.client.IncidentClient;
 import io.zeebe.engine.util.client.JobActivationClient;
 import io.zeebe.engine.util.client.JobClient;
+import io.zeebe.engine.util.client.JobCompletionClient;
 import io.zeebe.engine.util.client.PublishMessageClient;
 import io.zeebe.engine.util.client.VariableClient;
 import io.zeebe.engine.util.client.WorkflowInstanceClient;
@@ -78,6 +79,7 @@ public final class EngineRule extends ExternalResource {
   private final int partitionCount;
   private final boolean explicitStart;
   private Consumer<String> jobsAvailableCallback = type -> {};
+  private int maxTriggeredTimersInBatch;
 
   private final Int2ObjectHashMap<SubscriptionCommandMessageHandler> subscriptionHandlers =
       new Int2ObjectHashMap<>();
@@ -142,6 +144,11 @@ public final class EngineRule extends ExternalResource {
     return this;
   }
 
+  public EngineRule withMaxTriggeredTimersInBatch(final int maxTriggeredTimersInBatch) {
+    this.maxTriggeredTimersInBatch = maxTriggeredTimersInBatch;
+    return this;
+  }
+
   private void startProcessors() {
     final DeploymentRecord deploymentRecord = new DeploymentRecord();
     final UnsafeBuffer deploymentBuffer = new UnsafeBuffer(new byte[deploymentRecord.getLength()]);
@@ -157,7 +164,7 @@ public final class EngineRule extends ExternalResource {
               partitionId,
               (processingContext) ->
                   EngineProcessors.createEngineProcessors(
-                          processingContext,
+                          processingContext.maxTriggeredTimersInBatch(maxTriggeredTimersInBatch),
                           partitionCount,
                           new SubscriptionCommandSender(
                               partitionId, new PartitionCommandSenderImpl()),
@@ -245,6 +252,10 @@ public final class EngineRule extends ExternalResource {
     return new JobClient(environmentRule);
   }
 
+  public JobCompletionClient jobCompletion() {
+    return new JobCompletionClient(environmentRule);
+  }
+
   public IncidentClient incident() {
     return new IncidentClient(environmentRule);
   }
@@ -88,7 +88,9 @@ public class ListLogStorage implements LogStorage {
       final ByteBuffer blockBuffer,
       final AppendListener listener) {
     try {
-      final var entry = new Entry(lowestPosition, highestPosition, blockBuffer);
+      // the block buffer is reused by the appender once it is written, so we keep a copy
+      final var copy = ByteBuffer.allocate(blockBuffer.remaining()).put(blockBuffer.duplicate());
+      final var entry = new Entry(lowestPosition, highestPosition, copy.flip());
       entries.add(entry);
       final var index = entries.size();
       positionIndexMapping.put(lowestPosition, index);
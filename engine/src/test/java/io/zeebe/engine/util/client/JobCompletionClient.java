@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.util.client;
+
+import io.zeebe.engine.util.StreamProcessorRule;
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.zeebe.test.util.record.RecordingExporter;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public final class JobCompletionClient {
+  private static final int DEFAULT_PARTITION = 1;
+
+  private final StreamProcessorRule environmentRule;
+  private final JobBatchRecord jobBatchRecord = new JobBatchRecord();
+
+  public JobCompletionClient(final StreamProcessorRule environmentRule) {
+    this.environmentRule = environmentRule;
+  }
+
+  public JobCompletionClient withJob(final long jobKey) {
+    return withJob(jobKey, "{}");
+  }
+
+  public JobCompletionClient withJob(final long jobKey, final String variables) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    jobBatchRecord
+        .jobs()
+        .add()
+        .setVariables(new UnsafeBuffer(MsgPackConverter.convertToMsgPack(variables)));
+    return this;
+  }
+
+  public Record<JobBatchRecordValue> complete() {
+    final long position =
+        environmentRule.writeCommandOnPartition(
+            DEFAULT_PARTITION, JobBatchIntent.COMPLETE, jobBatchRecord);
+
+    return RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETED)
+        .withPartitionId(DEFAULT_PARTITION)
+        .withSourceRecordPosition(position)
+        .getFirst();
+  }
+}
@@ -24,15 +24,20 @@ import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerError;
 import io.zeebe.gateway.impl.broker.response.BrokerRejection;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.CompleteJobsHandler;
+import io.zeebe.gateway.impl.job.JobStreamHandler;
 import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo.Builder;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -49,6 +54,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
@@ -69,13 +75,19 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
+  private final JobStreamHandler jobStreamHandler;
+  private final CompleteJobsHandler completeJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
 
   public EndpointManager(
-      final BrokerClient brokerClient, final ActivateJobsHandler activateJobsHandler) {
+      final BrokerClient brokerClient,
+      final ActivateJobsHandler activateJobsHandler,
+      final JobStreamHandler jobStreamHandler) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.activateJobsHandler = activateJobsHandler;
+    this.jobStreamHandler = jobStreamHandler;
+    completeJobsHandler = new CompleteJobsHandler(brokerClient);
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
   }
 
@@ -144,6 +156,14 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    suppressCancelledException(request, responseObserver);
+    completeJobsHandler.completeJobs(request, responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -241,6 +261,12 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         responseObserver);
   }
 
+  @Override
+  public StreamObserver<StreamActivatedJobsRequest> streamActivatedJobs(
+      final StreamObserver<ActivatedJob> responseObserver) {
+    return jobStreamHandler.openStream(responseObserver);
+  }
+
   @Override
   public void topology(
       final TopologyRequest request, final StreamObserver<TopologyResponse> responseObserver) {
@@ -442,7 +468,7 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
     }
   }
 
-  private static Status mapRejectionToStatus(final BrokerRejection rejection) {
+  public static Status mapRejectionToStatus(final BrokerRejection rejection) {
     final String description =
         String.format(
             "Command rejected with code '%s': %s", rejection.getIntent(), rejection.getReason());
@@ -18,6 +18,7 @@ import io.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.zeebe.gateway.impl.configuration.SecurityCfg;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.JobStreamHandler;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.zeebe.util.VersionUtil;
@@ -105,9 +106,16 @@ public final class Gateway {
       actorScheduler.submitActor(longPollingHandler);
       activateJobsHandler = longPollingHandler;
     } else {
-      activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+      activateJobsHandler =
+          new RoundRobinActivateJobsHandler(
+              brokerClient, gatewayCfg.getJobActivation().getParallelism());
     }
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
+    final JobStreamHandler jobStreamHandler =
+        new JobStreamHandler(brokerClient, gatewayCfg.getJobActivation().getParallelism());
+    actorScheduler.submitActor(jobStreamHandler);
+
+    final EndpointManager endpointManager =
+        new EndpointManager(brokerClient, activateJobsHandler, jobStreamHandler);
 
     final ServerBuilder serverBuilder = serverBuilderFactory.apply(gatewayCfg);
 
@@ -181,7 +189,10 @@ public final class Gateway {
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setActivationParallelism(gatewayCfg.getJobActivation().getParallelism())
+        .build();
   }
 
   public void listenAndServe() throws InterruptedException, IOException {
@@ -10,6 +10,7 @@ package io.zeebe.gateway;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCancelWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerDeployWorkflowRequest;
@@ -22,6 +23,7 @@ import io.zeebe.gateway.impl.broker.request.BrokerUpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
@@ -29,11 +31,15 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.WorkflowRequestObject;
 import io.zeebe.msgpack.value.DocumentValue;
+import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import java.util.HashMap;
+import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -85,6 +91,26 @@ public final class RequestMapper {
         grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
   }
 
+  /**
+   * Groups the jobs of the request by their partition. The jobs of each partition keep the order of
+   * the request.
+   *
+   * @return the requests to send, by partition id
+   */
+  public static Map<Integer, BrokerCompleteJobsRequest> toCompleteJobsRequests(
+      final CompleteJobsRequest grpcRequest) {
+    final Map<Integer, BrokerCompleteJobsRequest> brokerRequests = new HashMap<>();
+
+    for (final CompleteJobRequest job : grpcRequest.getJobsList()) {
+      final int partitionId = Protocol.decodePartitionId(job.getJobKey());
+      brokerRequests
+          .computeIfAbsent(partitionId, BrokerCompleteJobsRequest::new)
+          .addJob(job.getJobKey(), ensureJsonSet(job.getVariables()));
+    }
+
+    return brokerRequests;
+  }
+
   public static BrokerCreateWorkflowInstanceRequest toCreateWorkflowInstanceRequest(
       final CreateWorkflowInstanceRequest grpcRequest) {
     final BrokerCreateWorkflowInstanceRequest brokerRequest =
@@ -146,6 +172,14 @@ public final class RequestMapper {
         .setVariables(grpcRequest.getFetchVariableList());
   }
 
+  public static BrokerActivateJobsRequest toActivateJobsRequest(
+      final StreamActivatedJobsRequest grpcRequest) {
+    return new BrokerActivateJobsRequest(grpcRequest.getType())
+        .setTimeout(grpcRequest.getTimeout())
+        .setWorker(grpcRequest.getWorker())
+        .setVariables(grpcRequest.getFetchVariableList());
+  }
+
   public static BrokerResolveIncidentRequest toResolveIncidentRequest(
       final ResolveIncidentRequest grpcRequest) {
     return new BrokerResolveIncidentRequest(grpcRequest.getIncidentKey());
@@ -13,6 +13,7 @@ import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 public interface BrokerClient extends AutoCloseable {
 
@@ -82,5 +83,27 @@ public interface BrokerClient extends AutoCloseable {
 
   BrokerTopologyManager getTopologyManager();
 
-  void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
+  /**
+   * Subscribes to the notifications that jobs of the given type became available. The brokers only
+   * send these notifications to subscribed gateways. The handler is called with the id of the
+   * partition on which the jobs are available. Several handlers can be subscribed to the same job
+   * type.
+   *
+   * <p>The subscription is registered asynchronously. If it fails, the handler stays subscribed,
+   * and the subscription is retried with the next subscription to the job type.
+   *
+   * @param jobType the job type to subscribe to
+   * @param handler handler which is called with the partition id of each notification
+   * @return a future which is completed when the subscription is registered
+   */
+  CompletableFuture<Void> subscribeJobAvailableNotification(String jobType, IntConsumer handler);
+
+  /**
+   * Removes the given handler from the notifications for the given job type, if it was subscribed.
+   * The brokers stop sending the notifications when the last handler of a job type is removed.
+   *
+   * @param jobType the job type to unsubscribe from
+   * @param handler the handler which was passed on subscription
+   */
+  void unsubscribeJobAvailableNotification(String jobType, IntConsumer handler);
 }
@@ -23,17 +23,23 @@ import io.zeebe.util.exception.UncheckedExecutionException;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import org.slf4j.Logger;
 
 public final class BrokerClientImpl implements BrokerClient {
   public static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private static final String ERROR_MSG_STOP_FAILED =
       "Failed to gracefully shutdown gateway broker client";
+  private static final String JOBS_AVAILABLE_TOPIC_PREFIX = "jobsAvailable-";
 
   private final ActorScheduler actorScheduler;
   private final BrokerTopologyManagerImpl topologyManager;
@@ -41,7 +47,8 @@ public final class BrokerClientImpl implements BrokerClient {
   private final boolean ownsActorScheduler;
   private final BrokerRequestManager requestManager;
   private boolean isClosed;
-  private Subscription jobAvailableSubscription;
+  private final Map<String, JobAvailableSubscription> jobAvailableSubscriptions =
+      new ConcurrentHashMap<>();
 
   public BrokerClientImpl(final GatewayCfg configuration, final AtomixCluster atomixCluster) {
     this(configuration, atomixCluster, null);
@@ -111,9 +118,8 @@ public final class BrokerClientImpl implements BrokerClient {
     doAndLogException(topologyManager::close);
     LOG.debug("topology manager closed");
 
-    if (jobAvailableSubscription != null) {
-      jobAvailableSubscription.close();
-    }
+    jobAvailableSubscriptions.values().forEach(JobAvailableSubscription::close);
+    jobAvailableSubscriptions.clear();
 
     if (ownsActorScheduler) {
       try {
@@ -175,18 +181,58 @@ public final class BrokerClientImpl implements BrokerClient {
   }
 
   @Override
-  public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
-    jobAvailableSubscription =
+  public CompletableFuture<Void> subscribeJobAvailableNotification(
+      final String jobType, final IntConsumer handler) {
+    final JobAvailableSubscription jobAvailableSubscription =
+        jobAvailableSubscriptions.compute(
+            jobType,
+            (type, subscription) -> {
+              final JobAvailableSubscription newSubscription;
+              if (subscription == null) {
+                newSubscription = subscribeJobAvailable(type);
+              } else if (subscription.hasFailed()) {
+                // retry the subscription for the handlers which are still subscribed
+                newSubscription = subscribeJobAvailable(type);
+                newSubscription.addHandlers(subscription);
+              } else {
+                newSubscription = subscription;
+              }
+
+              newSubscription.addHandler(handler);
+              return newSubscription;
+            });
+
+    return jobAvailableSubscription.whenSubscribed();
+  }
+
+  @Override
+  public void unsubscribeJobAvailableNotification(final String jobType, final IntConsumer handler) {
+    jobAvailableSubscriptions.computeIfPresent(
+        jobType,
+        (type, subscription) -> {
+          subscription.removeHandler(handler);
+          if (subscription.hasHandlers()) {
+            return subscription;
+          }
+
+          subscription.close();
+          return null;
+        });
+  }
+
+  private JobAvailableSubscription subscribeJobAvailable(final String jobType) {
+    final JobAvailableSubscription jobAvailableSubscription = new JobAvailableSubscription();
+    final CompletableFuture<Subscription> subscription =
         atomixCluster
             .getEventService()
             .subscribe(
-                topic,
+                JOBS_AVAILABLE_TOPIC_PREFIX + jobType,
                 msg -> {
-                  handler.accept((String) msg);
+                  jobAvailableSubscription.notifyHandlers((Integer) msg);
                   return CompletableFuture.completedFuture(null);
-                })
-            .join();
+                });
+    jobAvailableSubscription.setSubscription(subscription);
+    return jobAvailableSubscription;
   }
 
   public <T> void sendRequestWithRetry(
@@ -214,4 +260,45 @@ public final class BrokerClientImpl implements BrokerClient {
       LOG.error("Exception when closing client. Ignoring", e);
     }
   }
+
+  private static final class JobAvailableSubscription {
+    private final List<IntConsumer> handlers = new CopyOnWriteArrayList<>();
+    private CompletableFuture<Subscription> subscription;
+
+    private void setSubscription(final CompletableFuture<Subscription> subscription) {
+      this.subscription = subscription;
+    }
+
+    private CompletableFuture<Void> whenSubscribed() {
+      return subscription.thenApply(s -> null);
+    }
+
+    private boolean hasFailed() {
+      return subscription.isCompletedExceptionally();
+    }
+
+    private void addHandler(final IntConsumer handler) {
+      handlers.add(handler);
+    }
+
+    private void addHandlers(final JobAvailableSubscription other) {
+      handlers.addAll(other.handlers);
+    }
+
+    private void removeHandler(final IntConsumer handler) {
+      handlers.remove(handler);
+    }
+
+    private boolean hasHandlers() {
+      return !handlers.isEmpty();
+    }
+
+    private void notifyHandlers(final int partitionId) {
+      handlers.forEach(handler -> handler.accept(partitionId));
+    }
+
+    private void close() {
+      subscription.thenAccept(Subscription::close);
+    }
+  }
 }
@@ -15,16 +15,21 @@ import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.util.buffer.BufferUtil;
 import java.util.List;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
 
   private final JobBatchRecord requestDto = new JobBatchRecord();
 
   public BrokerActivateJobsRequest(final String jobType) {
-    super(ValueType.JOB_BATCH, JobBatchIntent.ACTIVATE);
+    this();
     requestDto.setType(jobType);
   }
 
+  private BrokerActivateJobsRequest() {
+    super(ValueType.JOB_BATCH, JobBatchIntent.ACTIVATE);
+  }
+
   public BrokerActivateJobsRequest setWorker(final String worker) {
     requestDto.setWorker(worker);
     return this;
@@ -49,6 +54,20 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  /**
+   * Returns a new request with the same properties as this one, which can be modified and sent
+   * independently, e.g. to another partition at the same time.
+   *
+   * @return a copy of this request
+   */
+  public BrokerActivateJobsRequest copy() {
+    final BrokerActivateJobsRequest copy = new BrokerActivateJobsRequest();
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[requestDto.getLength()]);
+    requestDto.write(buffer, 0);
+    copy.requestDto.wrap(buffer);
+    return copy;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
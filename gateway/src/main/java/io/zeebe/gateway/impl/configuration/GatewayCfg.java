@@ -25,6 +25,7 @@ public class GatewayCfg {
   private MonitoringCfg monitoring = new MonitoringCfg();
   private SecurityCfg security = new SecurityCfg();
   private LongPollingCfg longPolling = new LongPollingCfg();
+  private JobActivationCfg jobActivation = new JobActivationCfg();
   private boolean initialized = false;
 
   public void init() {
@@ -95,9 +96,19 @@ public class GatewayCfg {
     return this;
   }
 
+  public JobActivationCfg getJobActivation() {
+    return jobActivation;
+  }
+
+  public GatewayCfg setJobActivation(final JobActivationCfg jobActivation) {
+    this.jobActivation = jobActivation;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(network, cluster, threads, monitoring, security, longPolling);
+    return Objects.hash(
+        network, cluster, threads, monitoring, security, longPolling, jobActivation);
   }
 
   @Override
@@ -114,7 +125,8 @@ public class GatewayCfg {
         && Objects.equals(threads, that.threads)
         && Objects.equals(monitoring, that.monitoring)
         && Objects.equals(security, that.security)
-        && Objects.equals(longPolling, that.longPolling);
+        && Objects.equals(longPolling, that.longPolling)
+        && Objects.equals(jobActivation, that.jobActivation);
   }
 
   @Override
@@ -132,6 +144,8 @@ public class GatewayCfg {
         + security
         + ", longPollingCfg="
         + longPolling
+        + ", jobActivationCfg="
+        + jobActivation
         + '}';
   }
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.zeebe.gateway.ResponseMapper;
+import io.zeebe.gateway.impl.broker.BrokerClient;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.util.Deque;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Activates jobs by sending requests to multiple partitions at the same time. The amount of jobs to
+ * activate is split between the concurrent requests, such that the sum of the amounts of all
+ * requests in flight never exceeds the amount which is still left to activate. The unused amount of
+ * a response is given to the next request.
+ *
+ * <p>A partition which returned as many jobs as it was asked for, or a truncated response, is asked
+ * again, since it probably has more jobs available.
+ */
+final class ActivateJobsFanOut {
+
+  private final RoundRobinActivateJobsHandler handler;
+  private final BrokerClient brokerClient;
+  private final BrokerActivateJobsRequest request;
+  private final String jobType;
+  private final Deque<Integer> partitionIds;
+  private final PartitionHints partitionHints;
+  private final int parallelism;
+  private final Consumer<ActivateJobsResponse> onResponse;
+  private final BiConsumer<Integer, Boolean> onCompleted;
+
+  private int remainingAmount;
+  private int unassignedAmount;
+  private int requestsInFlight;
+  private boolean resourceExhaustedWasPresent;
+  private boolean completed;
+
+  ActivateJobsFanOut(
+      final RoundRobinActivateJobsHandler handler,
+      final BrokerClient brokerClient,
+      final BrokerActivateJobsRequest request,
+      final String jobType,
+      final Deque<Integer> partitionIds,
+      final PartitionHints partitionHints,
+      final int parallelism,
+      final int maxJobsToActivate,
+      final Consumer<ActivateJobsResponse> onResponse,
+      final BiConsumer<Integer, Boolean> onCompleted) {
+    this.handler = handler;
+    this.brokerClient = brokerClient;
+    this.request = request;
+    this.jobType = jobType;
+    this.partitionIds = partitionIds;
+    this.partitionHints = partitionHints;
+    this.parallelism = parallelism;
+    this.onResponse = onResponse;
+    this.onCompleted = onCompleted;
+    remainingAmount = maxJobsToActivate;
+    unassignedAmount = maxJobsToActivate;
+  }
+
+  void activateJobs() {
+    while (true) {
+      final int partitionId;
+      final int amount;
+
+      synchronized (this) {
+        if (requestsInFlight >= parallelism || unassignedAmount <= 0 || partitionIds.isEmpty()) {
+          completeIfDone();
+          return;
+        }
+
+        // split the amount between the requests that can still be sent at the same time
+        final int concurrentRequests =
+            Math.min(parallelism - requestsInFlight, partitionIds.size());
+        amount = (unassignedAmount + concurrentRequests - 1) / concurrentRequests;
+        partitionId = partitionIds.poll();
+
+        unassignedAmount -= amount;
+        requestsInFlight++;
+      }
+
+      sendRequest(partitionId, amount);
+    }
+  }
+
+  private void sendRequest(final int partitionId, final int amount) {
+    final BrokerActivateJobsRequest partitionRequest = request.copy();
+    partitionRequest.setPartitionId(partitionId);
+    partitionRequest.setMaxJobsToActivate(amount);
+
+    brokerClient
+        .sendRequest(partitionRequest)
+        .whenComplete(
+            (response, error) -> {
+              if (error == null) {
+                onPartitionResponse(partitionId, amount, response);
+              } else {
+                onPartitionError(partitionId, amount, error);
+              }
+              activateJobs();
+            });
+  }
+
+  private synchronized void onPartitionResponse(
+      final int partitionId, final int amount, final BrokerResponse<JobBatchRecord> response) {
+    requestsInFlight--;
+
+    final ActivateJobsResponse grpcResponse =
+        ResponseMapper.toActivateJobsResponse(response.getKey(), response.getResponse());
+    final int jobsCount = grpcResponse.getJobsCount();
+    remainingAmount -= jobsCount;
+    unassignedAmount += amount - jobsCount;
+
+    if (jobsCount > 0) {
+      partitionHints.add(partitionId);
+      onResponse.accept(grpcResponse);
+
+      if (jobsCount == amount || response.getResponse().getTruncated()) {
+        partitionIds.addFirst(partitionId);
+      }
+    } else {
+      partitionHints.remove(partitionId);
+    }
+  }
+
+  private synchronized void onPartitionError(
+      final int partitionId, final int amount, final Throwable error) {
+    requestsInFlight--;
+    unassignedAmount += amount;
+
+    handler.logErrorResponse(partitionId, jobType, error);
+    resourceExhaustedWasPresent |= handler.wasResourceExhausted(error);
+  }
+
+  private void completeIfDone() {
+    if (!completed && requestsInFlight == 0 && (remainingAmount <= 0 || partitionIds.isEmpty())) {
+      completed = true;
+      onCompleted.accept(remainingAmount, resourceExhaustedWasPresent);
+    }
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.EndpointManager;
+import io.zeebe.gateway.RequestMapper;
+import io.zeebe.gateway.impl.broker.BrokerClient;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.impl.record.value.job.JobCompletionResult;
+import io.zeebe.protocol.record.intent.JobIntent;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Completes a batch of jobs by sending one command to every partition the jobs belong to. The
+ * commands are sent at the same time, and the response is sent when all partitions responded.
+ *
+ * <p>The jobs are completed independently of each other. If a partition rejects a job or can't be
+ * reached, only the results of the affected jobs contain the error, with the same status code as
+ * the CompleteJob RPC would have returned.
+ */
+public final class CompleteJobsHandler {
+
+  private final BrokerClient brokerClient;
+
+  public CompleteJobsHandler(final BrokerClient brokerClient) {
+    this.brokerClient = brokerClient;
+  }
+
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    final Map<Integer, BrokerCompleteJobsRequest> brokerRequests;
+    try {
+      brokerRequests = RequestMapper.toCompleteJobsRequests(request);
+    } catch (final Exception e) {
+      responseObserver.onError(EndpointManager.convertThrowable(e));
+      return;
+    }
+
+    final JobCompletions completions =
+        new JobCompletions(request.getJobsList(), brokerRequests.size(), responseObserver);
+    if (brokerRequests.isEmpty()) {
+      completions.respond();
+      return;
+    }
+
+    brokerRequests.forEach(
+        (partitionId, brokerRequest) ->
+            brokerClient
+                .sendRequestWithRetry(brokerRequest)
+                .whenComplete(
+                    (response, error) -> {
+                      if (error == null) {
+                        completions.onPartitionResponse(partitionId, response.getResponse());
+                      } else {
+                        completions.onPartitionError(partitionId, error);
+                      }
+                    }));
+  }
+
+  private static final class JobCompletions {
+
+    private final List<CompleteJobRequest> jobs;
+    private final CompleteJobResult[] results;
+    private final AtomicInteger pendingPartitions;
+    private final StreamObserver<CompleteJobsResponse> responseObserver;
+
+    private JobCompletions(
+        final List<CompleteJobRequest> jobs,
+        final int partitions,
+        final StreamObserver<CompleteJobsResponse> responseObserver) {
+      this.jobs = jobs;
+      this.responseObserver = responseObserver;
+      results = new CompleteJobResult[jobs.size()];
+      pendingPartitions = new AtomicInteger(partitions);
+    }
+
+    private void onPartitionResponse(final int partitionId, final JobBatchRecord response) {
+      // the partition returns the results in the order in which the jobs were sent
+      final Iterator<JobCompletionResult> partitionResults =
+          response.completionResults().iterator();
+
+      for (int i = 0; i < jobs.size(); i++) {
+        final long jobKey = jobs.get(i).getJobKey();
+        if (Protocol.decodePartitionId(jobKey) != partitionId) {
+          continue;
+        }
+
+        if (!partitionResults.hasNext()) {
+          results[i] =
+              toResult(
+                  jobKey,
+                  Status.INTERNAL.augmentDescription(
+                      "Expected to receive a completion result for the job, but none was found"));
+        } else {
+          results[i] = toResult(jobKey, partitionResults.next());
+        }
+      }
+
+      onPartitionCompleted();
+    }
+
+    private void onPartitionError(final int partitionId, final Throwable error) {
+      final Status status = EndpointManager.convertThrowable(error).getStatus();
+
+      for (int i = 0; i < jobs.size(); i++) {
+        final long jobKey = jobs.get(i).getJobKey();
+        if (Protocol.decodePartitionId(jobKey) == partitionId) {
+          results[i] = toResult(jobKey, status);
+        }
+      }
+
+      onPartitionCompleted();
+    }
+
+    private void onPartitionCompleted() {
+      if (pendingPartitions.decrementAndGet() == 0) {
+        respond();
+      }
+    }
+
+    private void respond() {
+      responseObserver.onNext(
+          CompleteJobsResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+      responseObserver.onCompleted();
+    }
+
+    private static CompleteJobResult toResult(
+        final long jobKey, final JobCompletionResult completionResult) {
+      if (completionResult.isCompleted()) {
+        return toResult(jobKey, Status.OK);
+      }
+
+      final BrokerRejection rejection =
+          new BrokerRejection(
+              JobIntent.COMPLETE,
+              jobKey,
+              completionResult.getRejectionType(),
+              completionResult.getRejectionReason());
+      return toResult(jobKey, EndpointManager.mapRejectionToStatus(rejection));
+    }
+
+    private static CompleteJobResult toResult(final long jobKey, final Status status) {
+      final CompleteJobResult.Builder result =
+          CompleteJobResult.newBuilder().setJobKey(jobKey).setCode(status.getCode().value());
+
+      if (status.getDescription() != null) {
+        result.setMessage(status.getDescription());
+      }
+
+      return result.build();
+    }
+  }
+}
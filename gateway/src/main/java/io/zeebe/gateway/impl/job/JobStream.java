@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import org.slf4j.Logger;
+
+/**
+ * A stream of a worker on which activated jobs are pushed. The stream keeps track of the capacity
+ * which was granted by the worker, i.e. of the amount of jobs which can still be pushed.
+ *
+ * <p>The stream is only accessed by the actor of the {@link JobStreamHandler}.
+ */
+final class JobStream {
+
+  private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+
+  private final ServerCallStreamObserver<ActivatedJob> responseObserver;
+
+  private BrokerActivateJobsRequest request;
+  private String jobType;
+  private String worker;
+  private int capacity;
+  private boolean activating;
+  private boolean jobsAvailable;
+  private int preferredPartitionId = RoundRobinActivateJobsHandler.NO_PREFERRED_PARTITION;
+  private boolean closed;
+
+  JobStream(final ServerCallStreamObserver<ActivatedJob> responseObserver) {
+    this.responseObserver = responseObserver;
+  }
+
+  void open(
+      final BrokerActivateJobsRequest request,
+      final String jobType,
+      final String worker,
+      final int capacity) {
+    this.request = request;
+    this.jobType = jobType;
+    this.worker = worker;
+    this.capacity = capacity;
+    // there may be jobs which became available before the stream was opened
+    jobsAvailable = true;
+  }
+
+  BrokerActivateJobsRequest getRequest() {
+    return request;
+  }
+
+  String getJobType() {
+    return jobType;
+  }
+
+  void grantCapacity(final int capacity) {
+    this.capacity += capacity;
+  }
+
+  boolean canActivate() {
+    return !closed && !activating && capacity > 0;
+  }
+
+  /**
+   * Reserves the whole capacity for an activation. The amount of jobs which were not activated is
+   * given back with {@link #onActivationCompleted(int, int)}.
+   *
+   * @return the amount of jobs to activate
+   */
+  int startActivation() {
+    final int amount = capacity;
+    capacity = 0;
+    activating = true;
+    jobsAvailable = false;
+    preferredPartitionId = RoundRobinActivateJobsHandler.NO_PREFERRED_PARTITION;
+    return amount;
+  }
+
+  void onActivationCompleted(final int amount, final int remainingAmount) {
+    activating = false;
+    capacity += Math.max(0, remainingAmount);
+
+    if (remainingAmount <= 0) {
+      // the worker took all the jobs it could handle, there may be more of them
+      jobsAvailable = true;
+    }
+
+    if (amount != remainingAmount) {
+      LOG.trace(
+          "Pushed {} jobs of type {} to worker {}", amount - remainingAmount, jobType, worker);
+    }
+  }
+
+  boolean hasJobsAvailable() {
+    return jobsAvailable;
+  }
+
+  void onJobsAvailable(final int partitionId) {
+    jobsAvailable = true;
+    preferredPartitionId = partitionId;
+  }
+
+  int getPreferredPartitionId() {
+    return preferredPartitionId;
+  }
+
+  void push(final ActivateJobsResponse response) {
+    if (closed) {
+      LOG.debug(
+          "Expected to push {} jobs of type {} to worker {}, but the stream is closed. The jobs"
+              + " will be available again after their timeout.",
+          response.getJobsCount(),
+          jobType,
+          worker);
+      return;
+    }
+
+    try {
+      response.getJobsList().forEach(responseObserver::onNext);
+    } catch (final Exception e) {
+      LOG.warn("Failed to push jobs of type {} to worker {}", jobType, worker, e);
+      close();
+    }
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  void close() {
+    closed = true;
+  }
+
+  void complete() {
+    if (closed) {
+      return;
+    }
+    close();
+
+    try {
+      responseObserver.onCompleted();
+    } catch (final Exception e) {
+      LOG.warn("Failed to complete job stream of type {} for worker {}", jobType, worker, e);
+    }
+  }
+
+  void fail(final Status status) {
+    if (closed) {
+      return;
+    }
+    close();
+
+    try {
+      responseObserver.onError(status.asRuntimeException());
+    } catch (final Exception e) {
+      LOG.warn("Failed to close job stream of type {} for worker {}", jobType, worker, e);
+    }
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.RequestMapper;
+import io.zeebe.gateway.impl.broker.BrokerClient;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.zeebe.util.sched.Actor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import org.slf4j.Logger;
+
+/**
+ * Pushes jobs to the streams which are opened by the workers. The gateway subscribes to the
+ * notifications of the brokers for the job types of the open streams. When jobs of a type become
+ * available, they are activated for every stream of this type which has capacity left, starting
+ * with the partition that sent the notification, and pushed to the workers.
+ *
+ * <p>The workers grant capacity on their streams, so no more jobs are pushed than a worker can
+ * handle. Since a notification may get lost, the streams which have capacity left are probed
+ * periodically.
+ */
+public final class JobStreamHandler extends Actor {
+
+  public static final Duration DEFAULT_PROBE_INTERVAL = Duration.ofSeconds(10);
+
+  private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+
+  private final RoundRobinActivateJobsHandler activateJobsHandler;
+  private final BrokerClient brokerClient;
+  private final Duration probeInterval;
+
+  // jobType -> open streams
+  private final Map<String, List<JobStream>> jobTypeStreams = new HashMap<>();
+  // jobType -> handler of the notifications
+  private final Map<String, IntConsumer> notificationHandlers = new HashMap<>();
+
+  public JobStreamHandler(final BrokerClient brokerClient, final int activationParallelism) {
+    this(brokerClient, DEFAULT_PROBE_INTERVAL, activationParallelism);
+  }
+
+  public JobStreamHandler(
+      final BrokerClient brokerClient,
+      final Duration probeInterval,
+      final int activationParallelism) {
+    this.brokerClient = brokerClient;
+    this.probeInterval = probeInterval;
+    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient, activationParallelism);
+  }
+
+  @Override
+  public String getName() {
+    return "GatewayJobStreamHandler";
+  }
+
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(probeInterval, this::probe);
+  }
+
+  /**
+   * Opens a new stream for a worker. The stream is registered for its job type with the first
+   * request which is received on the returned observer.
+   *
+   * @param responseObserver the observer to push the activated jobs to
+   * @return the observer which receives the requests of the worker
+   */
+  public StreamObserver<StreamActivatedJobsRequest> openStream(
+      final StreamObserver<ActivatedJob> responseObserver) {
+    final ServerCallStreamObserver<ActivatedJob> serverObserver =
+        (ServerCallStreamObserver<ActivatedJob>) responseObserver;
+    final JobStream stream = new JobStream(serverObserver);
+    serverObserver.setOnCancelHandler(() -> actor.run(() -> removeStream(stream)));
+
+    return new JobStreamRequestObserver(stream);
+  }
+
+  private void registerStream(final JobStream stream, final StreamActivatedJobsRequest request) {
+    if (stream.isClosed()) {
+      return;
+    }
+
+    final String errorMessage = validate(request);
+    if (errorMessage != null) {
+      stream.fail(Status.INVALID_ARGUMENT.augmentDescription(errorMessage));
+      return;
+    }
+
+    final String jobType = request.getType();
+    final BrokerActivateJobsRequest brokerRequest = RequestMapper.toActivateJobsRequest(request);
+    stream.open(brokerRequest, jobType, request.getWorker(), request.getCapacity());
+
+    jobTypeStreams.computeIfAbsent(jobType, this::subscribeToNotifications).add(stream);
+    LOG.trace("Opened job stream of type {} for worker {}", jobType, request.getWorker());
+
+    activateJobs(stream);
+  }
+
+  private void grantCapacity(final JobStream stream, final int capacity) {
+    if (stream.isClosed()) {
+      return;
+    }
+
+    if (capacity < 0) {
+      stream.fail(
+          Status.INVALID_ARGUMENT.augmentDescription(
+              String.format("Expected capacity to be at least 0, but was %d", capacity)));
+      removeStream(stream);
+      return;
+    }
+
+    stream.grantCapacity(capacity);
+    if (stream.hasJobsAvailable()) {
+      activateJobs(stream);
+    }
+  }
+
+  private void removeStream(final JobStream stream) {
+    stream.close();
+
+    final String jobType = stream.getJobType();
+    final List<JobStream> streams = jobTypeStreams.get(jobType);
+    if (streams != null && streams.remove(stream) && streams.isEmpty()) {
+      jobTypeStreams.remove(jobType);
+      brokerClient.unsubscribeJobAvailableNotification(
+          jobType, notificationHandlers.remove(jobType));
+    }
+  }
+
+  private List<JobStream> subscribeToNotifications(final String jobType) {
+    final IntConsumer handler =
+        partitionId -> actor.run(() -> onNotification(jobType, partitionId));
+    notificationHandlers.put(jobType, handler);
+    brokerClient
+        .subscribeJobAvailableNotification(jobType, handler)
+        .whenComplete(
+            (ok, error) -> {
+              if (error != null) {
+                // the streams are still served by the periodic probe
+                LOG.warn(
+                    "Failed to subscribe to notifications of available jobs of type {}",
+                    jobType,
+                    error);
+              }
+            });
+    return new ArrayList<>();
+  }
+
+  private void onNotification(final String jobType, final int partitionId) {
+    final List<JobStream> streams = jobTypeStreams.get(jobType);
+    if (streams != null) {
+      for (final JobStream stream : streams) {
+        stream.onJobsAvailable(partitionId);
+        activateJobs(stream);
+      }
+    }
+  }
+
+  private void activateJobs(final JobStream stream) {
+    if (!stream.canActivate()) {
+      // if the stream is activating already, it will activate again on completion
+      return;
+    }
+
+    final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
+    if (topology == null) {
+      return;
+    }
+
+    final int preferredPartitionId = stream.getPreferredPartitionId();
+    final int amount = stream.startActivation();
+    activateJobsHandler.activateJobs(
+        topology.getPartitionsCount(),
+        stream.getRequest(),
+        amount,
+        stream.getJobType(),
+        preferredPartitionId,
+        response -> actor.run(() -> stream.push(response)),
+        (remainingAmount, resourceExhausted) ->
+            actor.run(() -> onActivationCompleted(stream, amount, remainingAmount)));
+  }
+
+  private void onActivationCompleted(
+      final JobStream stream, final int amount, final int remainingAmount) {
+    stream.onActivationCompleted(amount, remainingAmount);
+    if (stream.hasJobsAvailable()) {
+      activateJobs(stream);
+    }
+  }
+
+  private void probe() {
+    jobTypeStreams.values().forEach(streams -> streams.forEach(this::activateJobs));
+  }
+
+  private static String validate(final StreamActivatedJobsRequest request) {
+    if (request.getType().isBlank()) {
+      return "Expected type to be not blank";
+    } else if (request.getWorker().isBlank()) {
+      return "Expected worker to be not blank";
+    } else if (request.getTimeout() < 1) {
+      return String.format(
+          "Expected timeout to be greater than 0, but was %d", request.getTimeout());
+    } else if (request.getCapacity() < 0) {
+      return String.format("Expected capacity to be at least 0, but was %d", request.getCapacity());
+    }
+    return null;
+  }
+
+  private final class JobStreamRequestObserver
+      implements StreamObserver<StreamActivatedJobsRequest> {
+
+    private final JobStream stream;
+    private boolean opened;
+
+    private JobStreamRequestObserver(final JobStream stream) {
+      this.stream = stream;
+    }
+
+    @Override
+    public void onNext(final StreamActivatedJobsRequest request) {
+      // the requests of a call are received one after another, so it is safe to read the flag
+      if (!opened) {
+        opened = true;
+        actor.run(() -> registerStream(stream, request));
+      } else {
+        final int capacity = request.getCapacity();
+        actor.run(() -> grantCapacity(stream, capacity));
+      }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      actor.run(() -> removeStream(stream));
+    }
+
+    @Override
+    public void onCompleted() {
+      actor.run(
+          () -> {
+            stream.complete();
+            removeStream(stream);
+          });
+    }
+  }
+}
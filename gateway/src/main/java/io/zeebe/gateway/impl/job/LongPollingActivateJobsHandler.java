@@ -16,6 +16,7 @@ import io.zeebe.gateway.cmd.BrokerErrorException;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.response.BrokerError;
+import io.zeebe.gateway.impl.configuration.ConfigurationDefaults;
 import io.zeebe.gateway.metrics.LongPollingMetrics;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
@@ -28,6 +29,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.function.IntConsumer;
 import org.slf4j.Logger;
 
 /**
@@ -36,7 +38,6 @@ import org.slf4j.Logger;
  */
 public final class LongPollingActivateJobsHandler extends Actor implements ActivateJobsHandler {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
@@ -47,6 +48,10 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   // jobType -> state
   private final Map<String, InFlightLongPollingActivateJobsRequestsState> jobTypeState =
       new HashMap<>();
+  // jobType -> last time a request of this type was received
+  private final Map<String, Long> notificationSubscriptions = new HashMap<>();
+  // jobType -> handler of the notifications
+  private final Map<String, IntConsumer> notificationHandlers = new HashMap<>();
   private final Duration longPollingTimeout;
   private final long probeTimeoutMillis;
   private final int failedAttemptThreshold;
@@ -57,9 +62,10 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int failedAttemptThreshold) {
+      final int failedAttemptThreshold,
+      final int activationParallelism) {
     this.brokerClient = brokerClient;
-    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient, activationParallelism);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
@@ -73,7 +79,6 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
 
   @Override
   protected void onActorStarted() {
-    brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
     actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
   }
 
@@ -87,19 +92,70 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   }
 
   public void activateJobs(final LongPollingActivateJobsRequest request) {
+    activateJobs(request, RoundRobinActivateJobsHandler.NO_PREFERRED_PARTITION);
+  }
+
+  private void activateJobs(
+      final LongPollingActivateJobsRequest request, final int preferredPartitionId) {
     actor.run(
         () -> {
+          subscribeToNotifications(request.getType());
           final InFlightLongPollingActivateJobsRequestsState state =
               getJobTypeState(request.getType());
 
           if (state.getFailedAttempts() < failedAttemptThreshold) {
-            activateJobsUnchecked(state, request);
+            activateJobsUnchecked(state, request, preferredPartitionId);
           } else {
             completeOrEnqueueRequest(state, request);
           }
         });
   }
 
+  private void subscribeToNotifications(final String jobType) {
+    // the subscription is kept while requests of this type come in, since the brokers only learn
+    // about it with some delay
+    final Long previous = notificationSubscriptions.put(jobType, currentTimeMillis());
+    if (previous == null) {
+      final IntConsumer handler = partitionId -> onNotification(jobType, partitionId);
+      notificationHandlers.put(jobType, handler);
+      brokerClient
+          .subscribeJobAvailableNotification(jobType, handler)
+          .whenComplete(
+              (ok, error) -> {
+                if (error != null) {
+                  actor.run(() -> onSubscriptionFailed(jobType, handler, error));
+                }
+              });
+    }
+  }
+
+  private void onSubscriptionFailed(
+      final String jobType, final IntConsumer handler, final Throwable error) {
+    LOG.warn("Failed to subscribe to notifications of available jobs of type {}", jobType, error);
+
+    // forget the subscription, so that the next request of this type subscribes again
+    if (notificationHandlers.remove(jobType, handler)) {
+      notificationSubscriptions.remove(jobType);
+      brokerClient.unsubscribeJobAvailableNotification(jobType, handler);
+    }
+  }
+
+  private void unsubscribeFromUnusedNotifications(final long now) {
+    final long unusedSince = now - longPollingTimeout.toMillis();
+    notificationSubscriptions
+        .entrySet()
+        .removeIf(
+            subscription -> {
+              final String jobType = subscription.getKey();
+              if (subscription.getValue() < unusedSince && !jobTypeState.containsKey(jobType)) {
+                brokerClient.unsubscribeJobAvailableNotification(
+                    jobType, notificationHandlers.remove(jobType));
+                return true;
+              }
+              return false;
+            });
+  }
+
   private InFlightLongPollingActivateJobsRequestsState getJobTypeState(final String jobType) {
     return jobTypeState.computeIfAbsent(
         jobType, type -> new InFlightLongPollingActivateJobsRequestsState(type, metrics));
@@ -108,6 +164,13 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   private void activateJobsUnchecked(
       final InFlightLongPollingActivateJobsRequestsState state,
       final LongPollingActivateJobsRequest request) {
+    activateJobsUnchecked(state, request, RoundRobinActivateJobsHandler.NO_PREFERRED_PARTITION);
+  }
+
+  private void activateJobsUnchecked(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final LongPollingActivateJobsRequest request,
+      final int preferredPartitionId) {
 
     final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
     if (topology != null) {
@@ -119,16 +182,20 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
           request.getRequest(),
           request.getMaxJobsToActivate(),
           request.getType(),
+          preferredPartitionId,
           response -> onResponse(request, response),
           (remainingAmount, containedResourceExhaustedResponse) ->
               onCompleted(state, request, remainingAmount, containedResourceExhaustedResponse));
     }
   }
 
-  private void onNotification(final String jobType) {
-    LOG.trace("Received jobs available notification for type {}.", jobType);
+  private void onNotification(final String jobType, final int partitionId) {
+    LOG.trace(
+        "Received jobs available notification for type {} from partition {}.",
+        jobType,
+        partitionId);
 
-    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType));
+    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType, partitionId));
   }
 
   private void onCompleted(
@@ -183,6 +250,12 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   }
 
   private void resetFailedAttemptsAndHandlePendingRequests(final String jobType) {
+    resetFailedAttemptsAndHandlePendingRequests(
+        jobType, RoundRobinActivateJobsHandler.NO_PREFERRED_PARTITION);
+  }
+
+  private void resetFailedAttemptsAndHandlePendingRequests(
+      final String jobType, final int preferredPartitionId) {
     final InFlightLongPollingActivateJobsRequestsState state = getJobTypeState(jobType);
 
     state.resetFailedAttempts();
@@ -194,7 +267,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
           .forEach(
               nextPendingRequest -> {
                 LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
-                activateJobs(nextPendingRequest);
+                activateJobs(nextPendingRequest, preferredPartitionId);
               });
     } else {
       if (!state.hasActiveRequests()) {
@@ -247,6 +320,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
 
   private void probe() {
     final long now = currentTimeMillis();
+    unsubscribeFromUnusedNotifications(now);
     jobTypeState.forEach(
         (type, state) -> {
           if (state.getLastUpdatedTime() < (now - probeTimeoutMillis)) {
@@ -278,6 +352,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private int activationParallelism = ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_PARALLELISM;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -299,10 +374,19 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       return this;
     }
 
+    public Builder setActivationParallelism(final int activationParallelism) {
+      this.activationParallelism = activationParallelism;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient,
+          longPollingTimeout,
+          probeTimeoutMillis,
+          minEmptyResponses,
+          activationParallelism);
     }
   }
 }
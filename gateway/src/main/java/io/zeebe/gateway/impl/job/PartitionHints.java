@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Remembers the partitions which recently had jobs of a type, most recent first, so they can be
+ * asked first when activating jobs of this type. A partition is forgotten again when it returns no
+ * jobs.
+ */
+final class PartitionHints {
+
+  static final int MAX_HINTS = 4;
+
+  private final Deque<Integer> partitionIds = new ArrayDeque<>(MAX_HINTS);
+
+  synchronized void add(final int partitionId) {
+    partitionIds.remove(partitionId);
+    partitionIds.addFirst(partitionId);
+    if (partitionIds.size() > MAX_HINTS) {
+      partitionIds.removeLast();
+    }
+  }
+
+  synchronized void remove(final int partitionId) {
+    partitionIds.remove(partitionId);
+  }
+
+  synchronized Integer[] get() {
+    return partitionIds.toArray(new Integer[0]);
+  }
+}
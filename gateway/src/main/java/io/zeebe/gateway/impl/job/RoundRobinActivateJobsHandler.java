@@ -7,6 +7,8 @@
  */
 package io.zeebe.gateway.impl.job;
 
+import static io.zeebe.util.EnsureUtil.ensureGreaterThan;
+
 import io.grpc.Status.Code;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
@@ -21,8 +23,11 @@ import io.zeebe.gateway.impl.broker.RoundRobinDispatchStrategy;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.configuration.ConfigurationDefaults;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
@@ -31,17 +36,30 @@ import java.util.function.Consumer;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>If the parallelism is greater than one, multiple partitions are asked at the same time (see
+ * {@link ActivateJobsFanOut}), starting with the partitions which recently had jobs of the type.
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
+  public static final int NO_PREFERRED_PARTITION = -1;
+
   private final Map<String, RequestDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
+  private final Map<String, PartitionHints> jobTypeToPartitionHints = new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
+  private final int parallelism;
 
   public RoundRobinActivateJobsHandler(final BrokerClient brokerClient) {
+    this(brokerClient, ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_PARALLELISM);
+  }
+
+  public RoundRobinActivateJobsHandler(final BrokerClient brokerClient, final int parallelism) {
+    ensureGreaterThan("parallelism", parallelism, 0);
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
+    this.parallelism = parallelism;
   }
 
   @Override
@@ -69,14 +87,57 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       final Consumer<ActivateJobsResponse> onResponse,
       final BiConsumer<Integer, Boolean> onCompleted) {
     activateJobs(
+        partitionsCount,
         request,
-        partitionIdIteratorForType(type, partitionsCount),
         maxJobsToActivate,
         type,
+        NO_PREFERRED_PARTITION,
         onResponse,
         onCompleted);
   }
 
+  /**
+   * Activates jobs like {@link #activateJobs(int, BrokerActivateJobsRequest, int, String, Consumer,
+   * BiConsumer)}, but starts with the given partition instead of the next one in round-robin order,
+   * e.g. because jobs are known to be available there.
+   */
+  public void activateJobs(
+      final int partitionsCount,
+      final BrokerActivateJobsRequest request,
+      final int maxJobsToActivate,
+      final String type,
+      final int preferredPartitionId,
+      final Consumer<ActivateJobsResponse> onResponse,
+      final BiConsumer<Integer, Boolean> onCompleted) {
+    if (parallelism > 1) {
+      final PartitionHints partitionHints =
+          jobTypeToPartitionHints.computeIfAbsent(type, t -> new PartitionHints());
+      if (preferredPartitionId != NO_PREFERRED_PARTITION) {
+        partitionHints.add(preferredPartitionId);
+      }
+
+      new ActivateJobsFanOut(
+              this,
+              brokerClient,
+              request,
+              type,
+              partitionIdsForType(type, partitionsCount, partitionHints),
+              partitionHints,
+              parallelism,
+              maxJobsToActivate,
+              onResponse,
+              onCompleted)
+          .activateJobs();
+      return;
+    }
+
+    final PartitionIdIterator partitionIdIterator =
+        preferredPartitionId == NO_PREFERRED_PARTITION
+            ? partitionIdIteratorForType(type, partitionsCount)
+            : new PartitionIdIterator(preferredPartitionId, partitionsCount, topologyManager);
+    activateJobs(request, partitionIdIterator, maxJobsToActivate, type, onResponse, onCompleted);
+  }
+
   private void activateJobs(
       final BrokerActivateJobsRequest request,
       final PartitionIdIterator partitionIdIterator,
@@ -137,7 +198,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
                       response.getResponse().getTruncated(),
                       resourceExhaustedWasPresent);
                 } else {
-                  logErrorResponse(partitionIdIterator, jobType, error);
+                  logErrorResponse(partitionIdIterator.getCurrentPartitionId(), jobType, error);
 
                   final boolean wasResourceExhausted = wasResourceExhausted(error);
 
@@ -158,23 +219,35 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     }
   }
 
-  private boolean wasResourceExhausted(final Throwable error) {
+  boolean wasResourceExhausted(final Throwable error) {
     final StatusRuntimeException statusRuntimeException = EndpointManager.convertThrowable(error);
     return statusRuntimeException.getStatus().getCode() == Code.RESOURCE_EXHAUSTED;
   }
 
-  private void logErrorResponse(
-      final PartitionIdIterator partitionIdIterator, final String jobType, final Throwable error) {
+  void logErrorResponse(final int partitionId, final String jobType, final Throwable error) {
     final StatusRuntimeException statusRuntimeException = EndpointManager.convertThrowable(error);
     if (statusRuntimeException.getStatus().getCode() != Code.RESOURCE_EXHAUSTED) {
       Loggers.GATEWAY_LOGGER.warn(
-          "Failed to activate jobs for type {} from partition {}",
-          jobType,
-          partitionIdIterator.getCurrentPartitionId(),
-          error);
+          "Failed to activate jobs for type {} from partition {}", jobType, partitionId, error);
     }
   }
 
+  private Deque<Integer> partitionIdsForType(
+      final String jobType, final int partitionsCount, final PartitionHints partitionHints) {
+    final Deque<Integer> partitionIds = new ArrayDeque<>(partitionsCount);
+    partitionIdIteratorForType(jobType, partitionsCount).forEachRemaining(partitionIds::add);
+
+    // ask the partitions first which recently had jobs, as long as they have a leader
+    final Integer[] hints = partitionHints.get();
+    for (int i = hints.length - 1; i >= 0; i--) {
+      if (partitionIds.remove(hints[i])) {
+        partitionIds.addFirst(hints[i]);
+      }
+    }
+
+    return partitionIds;
+  }
+
   private PartitionIdIterator partitionIdIteratorForType(
       final String jobType, final int partitionsCount) {
     final RequestDispatchStrategy nextPartitionSupplier =
@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import io.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerError;
+import io.zeebe.gateway.impl.broker.response.BrokerErrorResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.ErrorCode;
+import io.zeebe.protocol.record.RejectionType;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class CompleteJobsStub
+    implements RequestStub<BrokerCompleteJobsRequest, BrokerResponse<JobBatchRecord>> {
+
+  public static final String NOT_FOUND_REASON = "no such job was found";
+
+  private final Set<Long> unknownJobKeys = new HashSet<>();
+  private final Set<Integer> unavailablePartitions = new HashSet<>();
+
+  public CompleteJobsStub withUnknownJob(final long jobKey) {
+    unknownJobKeys.add(jobKey);
+    return this;
+  }
+
+  public CompleteJobsStub withUnavailablePartition(final int partitionId) {
+    unavailablePartitions.add(partitionId);
+    return this;
+  }
+
+  @Override
+  public BrokerResponse<JobBatchRecord> handle(final BrokerCompleteJobsRequest request) {
+    if (unavailablePartitions.contains(request.getPartitionId())) {
+      return new BrokerErrorResponse<>(
+          new BrokerError(ErrorCode.RESOURCE_EXHAUSTED, "partition is unavailable"));
+    }
+
+    final JobBatchRecord response = new JobBatchRecord();
+    request
+        .getRequestWriter()
+        .jobKeys()
+        .forEach(
+            jobKey -> {
+              final var result = response.completionResults().add();
+              result.setJobKey(jobKey.getValue());
+              if (unknownJobKeys.contains(jobKey.getValue())) {
+                result.setRejection(RejectionType.NOT_FOUND, NOT_FOUND_REASON);
+              }
+            });
+
+    return new BrokerResponse<>(
+        response,
+        request.getPartitionId(),
+        Protocol.encodePartitionId(request.getPartitionId(), 1));
+  }
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerCompleteJobsRequest.class, this);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.StatusRuntimeException;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.protocol.record.value.JobRecordValue;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long FIRST_JOB = Protocol.encodePartitionId(1, 10);
+  private static final long SECOND_JOB = Protocol.encodePartitionId(2, 20);
+  private static final long THIRD_JOB = Protocol.encodePartitionId(1, 30);
+
+  private final CompleteJobsStub stub = new CompleteJobsStub();
+
+  @Before
+  public void setUpStub() {
+    stub.registerWith(brokerClient);
+  }
+
+  @Test
+  public void shouldSendOneRequestPerPartition() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(
+            CompleteJobsRequest.newBuilder()
+                .addJobs(job(FIRST_JOB, "{\"foo\":\"a\"}"))
+                .addJobs(job(SECOND_JOB, ""))
+                .addJobs(job(THIRD_JOB, "{\"foo\":\"c\"}"))
+                .build());
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getJobKey, CompleteJobResult::getCode)
+        .containsExactly(
+            tuple(FIRST_JOB, Code.OK.value()),
+            tuple(SECOND_JOB, Code.OK.value()),
+            tuple(THIRD_JOB, Code.OK.value()));
+
+    final List<BrokerCompleteJobsRequest> brokerRequests = brokerRequests();
+    assertThat(brokerRequests)
+        .extracting(
+            BrokerCompleteJobsRequest::getPartitionId,
+            BrokerCompleteJobsRequest::getValueType,
+            BrokerCompleteJobsRequest::getIntent)
+        .containsExactlyInAnyOrder(
+            tuple(1, ValueType.JOB_BATCH, JobBatchIntent.COMPLETE),
+            tuple(2, ValueType.JOB_BATCH, JobBatchIntent.COMPLETE));
+
+    final JobBatchRecord firstPartitionJobs =
+        brokerRequests.stream()
+            .filter(request -> request.getPartitionId() == 1)
+            .findFirst()
+            .orElseThrow()
+            .getRequestWriter();
+    assertThat(firstPartitionJobs.getJobKeys()).containsExactly(FIRST_JOB, THIRD_JOB);
+    assertThat(firstPartitionJobs.getJobs())
+        .extracting(JobRecordValue::getVariables)
+        .containsExactly(Map.of("foo", "a"), Map.of("foo", "c"));
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    stub.withUnknownJob(THIRD_JOB);
+
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(
+            CompleteJobsRequest.newBuilder()
+                .addJobs(job(FIRST_JOB, ""))
+                .addJobs(job(THIRD_JOB, ""))
+                .build());
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getJobKey, CompleteJobResult::getCode)
+        .containsExactly(
+            tuple(FIRST_JOB, Code.OK.value()), tuple(THIRD_JOB, Code.NOT_FOUND.value()));
+    assertThat(response.getResults(1).getMessage())
+        .isEqualTo("Command rejected with code 'COMPLETE': " + CompleteJobsStub.NOT_FOUND_REASON);
+  }
+
+  @Test
+  public void shouldReturnErrorOnlyForJobsOfFailedPartition() {
+    // given
+    stub.withUnavailablePartition(2);
+
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(
+            CompleteJobsRequest.newBuilder()
+                .addJobs(job(FIRST_JOB, ""))
+                .addJobs(job(SECOND_JOB, ""))
+                .build());
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getJobKey, CompleteJobResult::getCode)
+        .containsExactly(
+            tuple(FIRST_JOB, Code.OK.value()), tuple(SECOND_JOB, Code.RESOURCE_EXHAUSTED.value()));
+  }
+
+  @Test
+  public void shouldRespondToEmptyBatch() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.newBuilder().build());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectInvalidVariables() {
+    // when
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder().addJobs(job(FIRST_JOB, "[1, 2]")).build();
+
+    // then
+    assertThatThrownBy(() -> client.completeJobs(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(error -> Status.fromThrowable(error).getCode())
+        .isEqualTo(Code.INVALID_ARGUMENT);
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private List<BrokerCompleteJobsRequest> brokerRequests() {
+    return brokerClient.getBrokerRequests().stream()
+        .map(BrokerCompleteJobsRequest.class::cast)
+        .collect(Collectors.toList());
+  }
+
+  private static CompleteJobRequest job(final long jobKey, final String variables) {
+    return CompleteJobRequest.newBuilder().setJobKey(jobKey).setVariables(variables).build();
+  }
+}
@@ -37,6 +37,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.Before;
@@ -209,6 +210,66 @@ public final class LongPollingActivateJobsTest {
     verify(otherRequest.getResponseObserver(), timeout(2000).times(1)).onCompleted();
   }
 
+  @Test
+  public void shouldActivateJobsFromNotifiedPartitionFirst() {
+    // given
+    final List<Integer> requestedPartitions = new CopyOnWriteArrayList<>();
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (RequestHandler<BrokerActivateJobsRequest, BrokerResponse<JobBatchRecord>>)
+            request -> {
+              requestedPartitions.add(request.getPartitionId());
+              return stub.handle(request);
+            });
+
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(() -> request.hasScheduledTimer());
+    requestedPartitions.clear();
+
+    // when
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailable(TYPE, 3);
+
+    // then
+    verify(request.getResponseObserver(), timeout(2000).times(1)).onCompleted();
+    assertThat(requestedPartitions).first().isEqualTo(3);
+  }
+
+  @Test
+  public void shouldUnsubscribeFromNotificationsOfUnusedJobType() {
+    // given
+    stub.addAvailableJobs(TYPE, 1);
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    verify(request.getResponseObserver(), timeout(2000).times(1)).onCompleted();
+    assertThat(brokerClient.isSubscribedToJobsAvailable(TYPE)).isTrue();
+
+    // when
+    actorClock.addTime(Duration.ofMillis(LONG_POLLING_TIMEOUT + PROBE_TIMEOUT));
+
+    // then
+    waitUntil(() -> !brokerClient.isSubscribedToJobsAvailable(TYPE));
+  }
+
+  @Test
+  public void shouldSubscribeAgainIfSubscriptionFailed() {
+    // given
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.failJobAvailableSubscriptions(true);
+    final LongPollingActivateJobsRequest firstRequest = getLongPollingActivateJobsRequest();
+    handler.activateJobs(firstRequest);
+    verify(firstRequest.getResponseObserver(), timeout(2000).times(1)).onCompleted();
+
+    // when
+    brokerClient.failJobAvailableSubscriptions(false);
+    final LongPollingActivateJobsRequest secondRequest = getLongPollingActivateJobsRequest();
+    handler.activateJobs(secondRequest);
+
+    // then
+    waitUntil(() -> brokerClient.isSubscribedToJobsAvailable(TYPE));
+  }
+
   @Test
   public void shouldProbeIfNoNotificationReceived() throws Exception {
     // given
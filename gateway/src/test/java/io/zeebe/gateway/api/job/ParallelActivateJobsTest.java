@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ParallelActivateJobsTest {
+
+  private static final String TYPE = "test";
+  private static final int PARALLELISM = 4;
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final Map<Integer, ActivateJobsStub> partitionStubs = new HashMap<>();
+  private final List<Integer> requestedPartitions = new ArrayList<>();
+  private final List<Integer> requestedAmounts = new ArrayList<>();
+  private final List<ActivateJobsResponse> responses = new ArrayList<>();
+  private final AtomicInteger remainingAmount = new AtomicInteger(-1);
+
+  private RoundRobinActivateJobsHandler handler;
+  private int partitionsCount;
+
+  @Before
+  public void setUp() {
+    handler = new RoundRobinActivateJobsHandler(brokerClient, PARALLELISM);
+    partitionsCount = brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (RequestHandler<BrokerActivateJobsRequest, BrokerResponse<JobBatchRecord>>)
+            request -> {
+              final int partitionId = request.getPartitionId();
+              requestedPartitions.add(partitionId);
+              requestedAmounts.add(request.getRequestWriter().getMaxJobsToActivate());
+              return partitionStubs
+                  .computeIfAbsent(partitionId, p -> new ActivateJobsStub())
+                  .handle(request);
+            });
+  }
+
+  @Test
+  public void shouldSplitAmountBetweenConcurrentRequests() {
+    // when
+    activateJobs(8);
+
+    // then
+    assertThat(requestedPartitions).hasSize(partitionsCount).doesNotHaveDuplicates();
+    assertThat(requestedAmounts.subList(0, PARALLELISM)).containsOnly(8 / PARALLELISM);
+    // the last partitions are asked with a larger share, since fewer requests are left
+    assertThat(requestedAmounts).allMatch(amount -> amount <= 8);
+    assertThat(remainingAmount).hasValue(8);
+  }
+
+  @Test
+  public void shouldNotActivateMoreJobsThanRequested() {
+    // given
+    for (int partitionId = 1; partitionId <= partitionsCount; partitionId++) {
+      addAvailableJobs(partitionId, 10);
+    }
+
+    // when
+    activateJobs(5);
+
+    // then
+    assertThat(responses.stream().mapToInt(ActivateJobsResponse::getJobsCount).sum()).isEqualTo(5);
+    assertThat(remainingAmount).hasValue(0);
+  }
+
+  @Test
+  public void shouldAskPartitionAgainIfItReturnedAllRequestedJobs() {
+    // given
+    addAvailableJobs(1, 10);
+
+    // when
+    activateJobs(8);
+
+    // then
+    assertThat(responses.stream().mapToInt(ActivateJobsResponse::getJobsCount).sum()).isEqualTo(8);
+    assertThat(remainingAmount).hasValue(0);
+  }
+
+  @Test
+  public void shouldAskPartitionWithRecentJobsFirst() {
+    // given
+    addAvailableJobs(3, 10);
+    activateJobs(1);
+    requestedPartitions.clear();
+
+    // when
+    activateJobs(1);
+
+    // then
+    assertThat(requestedPartitions).containsExactly(3);
+    assertThat(remainingAmount).hasValue(0);
+  }
+
+  @Test
+  public void shouldAskPreferredPartitionFirst() {
+    // given
+    addAvailableJobs(2, 10);
+
+    // when
+    handler.activateJobs(
+        partitionsCount,
+        new BrokerActivateJobsRequest(TYPE),
+        1,
+        TYPE,
+        2,
+        responses::add,
+        (remaining, resourceExhausted) -> remainingAmount.set(remaining));
+
+    // then
+    assertThat(requestedPartitions).containsExactly(2);
+    assertThat(remainingAmount).hasValue(0);
+  }
+
+  private void addAvailableJobs(final int partitionId, final int amount) {
+    partitionStubs.computeIfAbsent(partitionId, p -> new ActivateJobsStub());
+    partitionStubs.get(partitionId).addAvailableJobs(TYPE, amount);
+  }
+
+  private void activateJobs(final int maxJobsToActivate) {
+    handler.activateJobs(
+        partitionsCount,
+        new BrokerActivateJobsRequest(TYPE),
+        maxJobsToActivate,
+        TYPE,
+        responses::add,
+        (remaining, resourceExhausted) -> remainingAmount.set(remaining));
+  }
+}
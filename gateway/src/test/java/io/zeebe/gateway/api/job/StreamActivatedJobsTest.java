@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class StreamActivatedJobsTest extends GatewayTest {
+
+  private static final String TYPE = "foo";
+  private static final String WORKER = "bar";
+
+  private final RecordingObserver responseObserver = new RecordingObserver();
+  private ActivateJobsStub stub;
+  private GatewayStub asyncClient;
+
+  @Before
+  public void setUpStub() {
+    stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    asyncClient = gateway.buildAsyncClient();
+  }
+
+  @Test
+  public void shouldPushAvailableJobsWhenStreamIsOpened() {
+    // given
+    stub.addAvailableJobs(TYPE, 2);
+
+    // when
+    openStream(5);
+
+    // then
+    waitUntil(() -> responseObserver.jobs.size() == 2);
+    assertThat(responseObserver.jobs)
+        .extracting(ActivatedJob::getType, ActivatedJob::getWorker)
+        .containsOnly(tuple(TYPE, WORKER));
+  }
+
+  @Test
+  public void shouldNotPushMoreJobsThanGrantedCapacity() {
+    // given
+    stub.addAvailableJobs(TYPE, 10);
+    final StreamObserver<StreamActivatedJobsRequest> requestObserver = openStream(3);
+    waitUntil(() -> responseObserver.jobs.size() == 3);
+
+    // when
+    requestObserver.onNext(StreamActivatedJobsRequest.newBuilder().setCapacity(2).build());
+
+    // then
+    waitUntil(() -> responseObserver.jobs.size() == 5);
+    assertThat(responseObserver.jobs).hasSize(5);
+  }
+
+  @Test
+  public void shouldPushJobsWhenNotified() {
+    // given
+    openStream(5);
+    waitUntil(() -> brokerClient.isSubscribedToJobsAvailable(TYPE));
+
+    // when
+    stub.addAvailableJobs(TYPE, 3);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    waitUntil(() -> responseObserver.jobs.size() == 3);
+  }
+
+  @Test
+  public void shouldUnsubscribeWhenStreamIsClosed() {
+    // given
+    final StreamObserver<StreamActivatedJobsRequest> requestObserver = openStream(5);
+    waitUntil(() -> brokerClient.isSubscribedToJobsAvailable(TYPE));
+
+    // when
+    requestObserver.onCompleted();
+
+    // then
+    waitUntil(() -> responseObserver.completed);
+    waitUntil(() -> !brokerClient.isSubscribedToJobsAvailable(TYPE));
+  }
+
+  @Test
+  public void shouldRejectStreamWithoutType() {
+    // when
+    final StreamObserver<StreamActivatedJobsRequest> requestObserver =
+        asyncClient.streamActivatedJobs(responseObserver);
+    requestObserver.onNext(
+        StreamActivatedJobsRequest.newBuilder()
+            .setWorker(WORKER)
+            .setTimeout(1000)
+            .setCapacity(5)
+            .build());
+
+    // then
+    waitUntil(() -> responseObserver.error != null);
+    assertThat(Status.fromThrowable(responseObserver.error).getCode())
+        .isEqualTo(Code.INVALID_ARGUMENT);
+    assertThat(brokerClient.isSubscribedToJobsAvailable("")).isFalse();
+  }
+
+  private StreamObserver<StreamActivatedJobsRequest> openStream(final int capacity) {
+    final StreamObserver<StreamActivatedJobsRequest> requestObserver =
+        asyncClient.streamActivatedJobs(responseObserver);
+    requestObserver.onNext(
+        StreamActivatedJobsRequest.newBuilder()
+            .setType(TYPE)
+            .setWorker(WORKER)
+            .setTimeout(1000)
+            .setCapacity(capacity)
+            .build());
+    return requestObserver;
+  }
+
+  private static final class RecordingObserver implements StreamObserver<ActivatedJob> {
+    private final List<ActivatedJob> jobs = new CopyOnWriteArrayList<>();
+    private volatile Throwable error;
+    private volatile boolean completed;
+
+    @Override
+    public void onNext(final ActivatedJob job) {
+      jobs.add(job);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onCompleted() {
+      completed = true;
+    }
+  }
+}
@@ -25,17 +25,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
-  private Consumer<String> jobsAvailableHandler;
+  private final Map<String, List<IntConsumer>> jobsAvailableHandlers = new ConcurrentHashMap<>();
 
   private final Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
 
   private final List<BrokerRequest> brokerRequests = new ArrayList<>();
 
+  private volatile boolean failJobAvailableSubscriptions;
+
   public StubbedBrokerClient() {}
 
   @Override
@@ -105,9 +110,26 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   @Override
-  public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
-    jobsAvailableHandler = handler;
+  public CompletableFuture<Void> subscribeJobAvailableNotification(
+      final String jobType, final IntConsumer handler) {
+    if (failJobAvailableSubscriptions) {
+      return CompletableFuture.failedFuture(new IllegalStateException("subscription failed"));
+    }
+
+    jobsAvailableHandlers
+        .computeIfAbsent(jobType, type -> new CopyOnWriteArrayList<>())
+        .add(handler);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public void unsubscribeJobAvailableNotification(final String jobType, final IntConsumer handler) {
+    jobsAvailableHandlers.computeIfPresent(
+        jobType,
+        (type, handlers) -> {
+          handlers.remove(handler);
+          return handlers.isEmpty() ? null : handlers;
+        });
   }
 
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
@@ -117,7 +139,26 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+    notifyJobsAvailable(type, Protocol.START_PARTITION_ID);
+  }
+
+  public void notifyJobsAvailable(final String type, final int partitionId) {
+    final List<IntConsumer> handlers = jobsAvailableHandlers.get(type);
+    if (handlers != null) {
+      handlers.forEach(handler -> handler.accept(partitionId));
+    }
+  }
+
+  public void failJobAvailableSubscriptions(final boolean fail) {
+    failJobAvailableSubscriptions = fail;
+  }
+
+  public boolean isSubscribedToJobsAvailable(final String type) {
+    return jobsAvailableHandlers.containsKey(type);
+  }
+
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
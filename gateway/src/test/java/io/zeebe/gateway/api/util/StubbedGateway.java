@@ -13,9 +13,11 @@ import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.zeebe.gateway.EndpointManager;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.JobStreamHandler;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.zeebe.util.sched.ActorScheduler;
 import java.io.IOException;
 
@@ -42,7 +44,10 @@ public final class StubbedGateway {
     if (activateJobsHandler instanceof LongPollingActivateJobsHandler) {
       actorScheduler.submitActor((LongPollingActivateJobsHandler) activateJobsHandler);
     }
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
+    final JobStreamHandler jobStreamHandler = new JobStreamHandler(brokerClient, 1);
+    actorScheduler.submitActor(jobStreamHandler);
+    final EndpointManager endpointManager =
+        new EndpointManager(brokerClient, activateJobsHandler, jobStreamHandler);
     final InProcessServerBuilder serverBuilder =
         InProcessServerBuilder.forName(SERVER_NAME).addService(endpointManager);
     server = serverBuilder.build();
@@ -65,4 +70,10 @@ public final class StubbedGateway {
         InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build();
     return GatewayGrpc.newBlockingStub(channel);
   }
+
+  public GatewayStub buildAsyncClient() {
+    final ManagedChannel channel =
+        InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build();
+    return GatewayGrpc.newStub(channel);
+  }
 }
@@ -48,6 +48,7 @@ public final class GatewayCfgTest {
     CUSTOM_CFG.getMonitoring().setEnabled(true).setHost("monitoringHost").setPort(1234);
     CUSTOM_CFG.getThreads().setManagementThreads(100);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
+    CUSTOM_CFG.getJobActivation().setParallelism(4);
   }
 
   private final Map<String, String> environment = new HashMap<>();
@@ -167,6 +168,7 @@ public final class GatewayCfgTest {
             .getResource("security/test-chain.cert.pem")
             .getPath());
     setEnv("zeebe.gateway.network.minKeepAliveInterval", Duration.ofSeconds(30).toString()); //
+    setEnv("zeebe.gateway.jobActivation.parallelism", "8");
 
     final GatewayCfg expected = new GatewayCfg();
     expected
@@ -192,6 +194,7 @@ public final class GatewayCfgTest {
         .setCertificateChainPath(
             getClass().getClassLoader().getResource("security/test-chain.cert.pem").getPath());
     expected.getLongPolling().setEnabled(false);
+    expected.getJobActivation().setParallelism(8);
 
     // when
     final GatewayCfg gatewayCfg = readCustomConfig();
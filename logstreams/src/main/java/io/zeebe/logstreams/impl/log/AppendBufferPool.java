@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.impl.log;
+
+import java.nio.ByteBuffer;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+
+/**
+ * A bounded pool of buffers which are used to hand over the blocks of the write buffer to the log
+ * storage. The buffers are acquired by the appender and released by the storage thread as soon as
+ * the block was written, so the pool must be thread-safe.
+ *
+ * <p>The pool never blocks: if no buffer is available, or the available one is too small, a new
+ * buffer is allocated. Buffers that are larger than {@link #MAX_POOLED_BUFFER_SIZE} or that don't
+ * fit into the pool anymore are left to the garbage collector.
+ */
+final class AppendBufferPool {
+
+  static final int DEFAULT_POOL_SIZE = 16;
+  static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+  private final ManyToManyConcurrentArrayQueue<ByteBuffer> buffers;
+
+  AppendBufferPool() {
+    this(DEFAULT_POOL_SIZE);
+  }
+
+  AppendBufferPool(final int poolSize) {
+    buffers = new ManyToManyConcurrentArrayQueue<>(poolSize);
+  }
+
+  /**
+   * Returns a buffer whose position is zero and whose limit is the given length. The buffer must be
+   * given back with {@link #release(ByteBuffer)} when it is no longer used.
+   *
+   * @param length the number of bytes which should fit into the buffer
+   * @return a buffer with at least the given capacity
+   */
+  ByteBuffer acquire(final int length) {
+    ByteBuffer buffer = buffers.poll();
+    if (buffer == null || buffer.capacity() < length) {
+      buffer = ByteBuffer.allocate(length);
+    }
+
+    buffer.clear().limit(length);
+    return buffer;
+  }
+
+  void release(final ByteBuffer buffer) {
+    if (buffer.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+      buffers.offer(buffer);
+    }
+  }
+}
@@ -9,25 +9,32 @@ package io.zeebe.logstreams.impl.log;
 
 import io.atomix.raft.RaftException.NoLeader;
 import io.zeebe.logstreams.spi.LogStorage.AppendListener;
+import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
 
 public final class Listener implements AppendListener {
 
   private final LogStorageAppender appender;
   private final long highestPosition;
+  private ByteBuffer buffer;
 
-  public Listener(final LogStorageAppender appender, final long highestPosition) {
+  public Listener(
+      final LogStorageAppender appender, final long highestPosition, final ByteBuffer buffer) {
     this.appender = appender;
     this.highestPosition = highestPosition;
+    this.buffer = buffer;
   }
 
   @Override
   public void onWrite(final long address) {
+    releaseBuffer();
     appender.notifyWritePosition(highestPosition);
   }
 
   @Override
   public void onWriteError(final Throwable error) {
+    releaseBuffer();
+
     if (error instanceof NoSuchElementException || error instanceof NoLeader) {
       // Not a failure. It is probably during transition to follower.
       LogStorageAppender.LOG.debug(
@@ -56,6 +63,14 @@ public final class Listener implements AppendListener {
     appender.runOnFailure(error);
   }
 
+  private void releaseBuffer() {
+    // the storage doesn't access the block anymore after it was written or rejected
+    if (buffer != null) {
+      appender.releaseBuffer(buffer);
+      buffer = null;
+    }
+  }
+
   private void releaseBackPressure() {
     appender.releaseBackPressure(highestPosition);
   }
@@ -22,7 +22,6 @@ import io.zeebe.logstreams.impl.backpressure.BackpressureConstants;
 import io.zeebe.logstreams.impl.backpressure.NoopAppendLimiter;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.util.Environment;
-import io.zeebe.util.collection.Tuple;
 import io.zeebe.util.health.FailureListener;
 import io.zeebe.util.health.HealthMonitorable;
 import io.zeebe.util.health.HealthStatus;
@@ -32,7 +31,7 @@ import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.function.LongConsumer;
-import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
 /** Consume the write buffer and append the blocks to the distributedlog. */
@@ -50,10 +49,14 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   private final AppendBackpressureMetrics appendBackpressureMetrics;
   private final Environment env;
   private final LoggedEventImpl positionReader = new LoggedEventImpl();
+  private final BlockPeek blockPeek = new BlockPeek();
+  private final AppendBufferPool bufferPool = new AppendBufferPool();
   private final AppenderMetrics appenderMetrics;
   private FailureListener failureListener;
   private final ActorFuture<Void> closeFuture;
   private final LongConsumer commitPositionListener;
+  private long lowestPosition;
+  private long highestPosition;
 
   public LogStorageAppender(
       final String name,
@@ -107,17 +110,20 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     return new NoopAppendLimiter();
   }
 
-  private void appendBlock(final BlockPeek blockPeek) {
-    final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
-    final int bytes = rawBuffer.remaining();
-    final ByteBuffer copiedBuffer = ByteBuffer.allocate(bytes).put(rawBuffer).flip();
-    final Tuple<Long, Long> positions = readLowestHighestPosition(copiedBuffer);
+  private void appendBlock() {
+    readLowestHighestPosition(blockPeek.getBuffer());
 
     // Commit position is the position of the last event.
     appendBackpressureMetrics.newEntryToAppend();
-    if (appendEntryLimiter.tryAcquire(positions.getRight())) {
-      final var listener = new Listener(this, positions.getRight());
-      logStorage.append(positions.getLeft(), positions.getRight(), copiedBuffer, listener);
+    if (appendEntryLimiter.tryAcquire(highestPosition)) {
+      // the block is copied once into a pooled buffer, which is released by the listener as soon
+      // as the storage wrote it; the dispatcher block itself can be completed right away
+      final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
+      final ByteBuffer buffer = bufferPool.acquire(rawBuffer.remaining());
+      buffer.put(rawBuffer).flip();
+
+      final var listener = new Listener(this, highestPosition, buffer);
+      logStorage.append(lowestPosition, highestPosition, buffer, listener);
 
       blockPeek.markCompleted();
     } else {
@@ -165,28 +171,25 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   }
 
   private void onWriteBufferAvailable() {
-    final BlockPeek blockPeek = new BlockPeek();
     if (writeBufferSubscription.peekBlock(blockPeek, maxAppendBlockSize, true) > 0) {
-      appendBlock(blockPeek);
+      appendBlock();
     } else {
       actor.yield();
     }
   }
 
-  private Tuple<Long, Long> readLowestHighestPosition(final ByteBuffer buffer) {
-    final var view = new UnsafeBuffer(buffer);
-    final var positions = new Tuple<>(Long.MAX_VALUE, Long.MIN_VALUE);
+  private void readLowestHighestPosition(final DirectBuffer block) {
+    lowestPosition = Long.MAX_VALUE;
+    highestPosition = Long.MIN_VALUE;
     var offset = 0;
 
     do {
-      positionReader.wrap(view, offset);
+      positionReader.wrap(block, offset);
       final long pos = positionReader.getPosition();
-      positions.setLeft(Math.min(positions.getLeft(), pos));
-      positions.setRight(Math.max(positions.getRight(), pos));
+      lowestPosition = Math.min(lowestPosition, pos);
+      highestPosition = Math.max(highestPosition, pos);
       offset += positionReader.getLength();
-    } while (offset < view.capacity());
-
-    return positions;
+    } while (offset < block.capacity());
   }
 
   @Override
@@ -211,6 +214,10 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     actor.run(() -> onFailure(error));
   }
 
+  void releaseBuffer(final ByteBuffer buffer) {
+    bufferPool.release(buffer);
+  }
+
   void releaseBackPressure(final long highestPosition) {
     actor.run(() -> appendEntryLimiter.onCommit(highestPosition));
   }
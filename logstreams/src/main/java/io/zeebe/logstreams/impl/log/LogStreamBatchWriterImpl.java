@@ -23,6 +23,7 @@ import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 import io.zeebe.dispatcher.ClaimedFragmentBatch;
 import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.dispatcher.impl.log.LogBufferAppender;
 import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.zeebe.protocol.Protocol;
@@ -49,6 +50,10 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
   private int eventLength;
   private int eventCount;
 
+  private int markedEventBufferOffset;
+  private int markedEventLength;
+  private int markedEventCount;
+
   private final Dispatcher logWriteBuffer;
   private final int logId;
 
@@ -91,9 +96,35 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     eventLength = 0;
     eventCount = 0;
     sourceEventPosition = -1L;
+    mark();
     resetEvent();
   }
 
+  @Override
+  public void mark() {
+    markedEventBufferOffset = eventBufferOffset;
+    markedEventLength = eventLength;
+    markedEventCount = eventCount;
+  }
+
+  @Override
+  public void resetToMark() {
+    eventBufferOffset = markedEventBufferOffset;
+    eventLength = markedEventLength;
+    eventCount = markedEventCount;
+    resetEvent();
+  }
+
+  @Override
+  public int getBatchLength() {
+    if (eventCount == 0) {
+      return 0;
+    }
+
+    return LogBufferAppender.claimedBatchLength(
+        eventCount, eventLength + (eventCount * HEADER_BLOCK_LENGTH));
+  }
+
   @Override
   public LogEntryBuilder keyNull() {
     return key(LogEntryDescriptor.KEY_NULL_VALUE);
@@ -168,6 +199,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     eventBuffer.putInt(eventBufferOffset, sourceIndex, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
+    eventBuffer.putLong(eventBufferOffset, sourceEventPosition, Protocol.ENDIANNESS);
+    eventBufferOffset += SIZE_OF_LONG;
+
     eventBuffer.putInt(eventBufferOffset, metadataLength, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
@@ -236,6 +270,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       final int sourceIndex = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
+      final long entrySourcePosition = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
+      eventBufferOffset += SIZE_OF_LONG;
+
       final int metadataLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
@@ -254,7 +291,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       if (sourceIndex >= 0 && sourceIndex < i) {
         setSourceEventPosition(writeBuffer, bufferOffset, firstPosition + sourceIndex);
       } else {
-        setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
+        setSourceEventPosition(writeBuffer, bufferOffset, entrySourcePosition);
       }
 
       setKey(writeBuffer, bufferOffset, key);
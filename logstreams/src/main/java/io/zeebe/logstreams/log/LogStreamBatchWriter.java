@@ -17,7 +17,10 @@ import org.agrona.DirectBuffer;
  * <p>Note that the log entry data is buffered until {@link #tryWrite()} is called.
  */
 public interface LogStreamBatchWriter extends LogStreamWriter {
-  /** Set the source event for all log entries. */
+  /**
+   * Set the source event for all following log entries. Log entries which were already added to the
+   * batch keep their source event.
+   */
   LogStreamBatchWriter sourceRecordPosition(long position);
 
   /** Returns the builder to add a new log entry to the batch. */
@@ -28,6 +31,18 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
   /** Discard all non-written batch data. */
   void reset();
 
+  /**
+   * Marks the current end of the batch. Log entries which are added afterwards can be discarded via
+   * {@link #resetToMark()}, without discarding the log entries which were added before.
+   */
+  void mark();
+
+  /** Discard all non-written batch data which was added after the last {@link #mark()}. */
+  void resetToMark();
+
+  /** @return the length the batch would claim in the log write buffer, if it is written now */
+  int getBatchLength();
+
   /** Builder to add a log entry to the batch. */
   interface LogEntryBuilder {
     /** Use the default values as key. */
@@ -0,0 +1,382 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import io.atomix.storage.StorageException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Maps the lowest positions of the indexed entries of a journal segment to their indexes. The
+ * entries are stored as pairs of primitive longs, ordered by index and by position, so that both
+ * can be binary searched.
+ *
+ * <p>If the index is backed by a file, the file is memory-mapped. When the segment is opened again,
+ * the stored entries are not visible until the same entries are indexed again while the segment is
+ * read. A stored entry which doesn't match is overwritten together with all following entries, so
+ * that a file which is ahead of the segment, e.g. after a crash, is repaired on the fly.
+ *
+ * <p>The entries are written by a single thread, but can be looked up concurrently. A mapping which
+ * is superseded when the file grows, or which belongs to a closed index, is unmapped as soon as no
+ * lookup is in progress anymore. The lookups are counted, such that a lookup never reads from an
+ * unmapped buffer.
+ *
+ * <p>The format of the file is as follows:
+ *
+ * <ul>
+ *   <li>32-bit version
+ *   <li>32-bit number of stored entries
+ *   <li>n entries of 64-bit index and 64-bit lowest position
+ * </ul>
+ */
+final class PositionIndex {
+
+  static final int VERSION = 2;
+
+  private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+  private static final int STORED_COUNT_OFFSET = Integer.BYTES;
+  private static final int HEADER_LENGTH = Integer.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Long.BYTES;
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final File file;
+  private boolean stored;
+  private volatile UnsafeBuffer buffer;
+  // the range of the entries which can be looked up
+  private volatile int first;
+  private volatile int count;
+  // the number of stored entries, which includes the entries which are not verified yet
+  private int storedCount;
+
+  // the number of lookups in progress, a mapping is only unmapped if no lookup can read from it
+  private final AtomicInteger lookups = new AtomicInteger();
+  private final List<UnsafeBuffer> supersededBuffers = new ArrayList<>();
+  private volatile boolean closed;
+  private boolean released;
+
+  private PositionIndex(final File file) {
+    this.file = file;
+  }
+
+  /**
+   * Opens the index which is stored in the given file. The file is created if it doesn't exist.
+   *
+   * @param file the file of the index
+   * @return the opened index
+   */
+  static PositionIndex open(final File file) {
+    final PositionIndex index = new PositionIndex(file);
+    final long fileLength = file.length();
+    final int capacity =
+        (int) Math.max(INITIAL_CAPACITY, (fileLength - HEADER_LENGTH) / ENTRY_LENGTH);
+    index.buffer = index.map(capacity);
+
+    if (fileLength >= HEADER_LENGTH && index.buffer.getInt(0, BYTE_ORDER) == VERSION) {
+      index.stored = true;
+      index.storedCount =
+          Math.min(index.buffer.getInt(STORED_COUNT_OFFSET, BYTE_ORDER), index.slotCapacity());
+    } else {
+      index.buffer.setMemory(0, index.buffer.capacity(), (byte) 0);
+      index.buffer.putInt(0, VERSION, BYTE_ORDER);
+    }
+
+    return index;
+  }
+
+  /**
+   * Creates an index which keeps its entries only in memory.
+   *
+   * @return the created index
+   */
+  static PositionIndex inMemory() {
+    final PositionIndex index = new PositionIndex(null);
+    index.buffer = index.map(INITIAL_CAPACITY);
+    return index;
+  }
+
+  /**
+   * Makes the stored entries up to the given index visible without indexing them again. It is used
+   * if the entries of the segment are not read when it is opened.
+   *
+   * @param lastIndex the last index of the segment
+   * @return {@code true} if the entries were stored before, otherwise {@code false}
+   */
+  boolean recover(final long lastIndex) {
+    if (!stored) {
+      return false;
+    }
+
+    // the stored entries are only trusted as long as their indexes are increasing, since the file
+    // may not have been written completely, e.g. after a crash
+    int slot = 0;
+    long previousIndex = 0;
+    while (slot < storedCount && indexAt(slot) > previousIndex && indexAt(slot) <= lastIndex) {
+      previousIndex = indexAt(slot);
+      slot++;
+    }
+    discardFrom(slot);
+    count = slot;
+    return true;
+  }
+
+  /**
+   * Adds the given entry. If the index contains already entries with a greater or equal index, they
+   * are replaced.
+   *
+   * @param index the index of the entry
+   * @param position the lowest position of the entry
+   */
+  void put(final long index, final long position) {
+    final int currentCount = count;
+    if (currentCount > first && index <= indexAt(currentCount - 1)) {
+      final int slot = findSlotOfIndex(index);
+      if (indexAt(slot) == index && positionAt(slot) == position) {
+        return;
+      }
+      truncateAt(slot);
+    }
+
+    final int slot = count;
+    if (slot < storedCount) {
+      if (indexAt(slot) == index && positionAt(slot) == position) {
+        // the stored entry is verified, it is reused
+        count = slot + 1;
+        return;
+      }
+      discardFrom(slot);
+    }
+
+    UnsafeBuffer currentBuffer = buffer;
+    if (offsetOf(slot + 1) > currentBuffer.capacity()) {
+      final UnsafeBuffer supersededBuffer = currentBuffer;
+      currentBuffer = map(slotCapacity() * 2);
+      buffer = currentBuffer;
+      supersededBuffers.add(supersededBuffer);
+      releaseSupersededBuffers();
+    }
+
+    currentBuffer.putLong(offsetOf(slot) + Long.BYTES, position, BYTE_ORDER);
+    currentBuffer.putLong(offsetOf(slot), index, BYTE_ORDER);
+    setStoredCount(slot + 1);
+    count = slot + 1;
+  }
+
+  /**
+   * Returns the index of the entry with the greatest position which is lower than or equal to the
+   * given position.
+   *
+   * @param position the position to look up
+   * @return the index of the entry, or -1 if no such entry exists
+   */
+  long lookupIndex(final long position) {
+    lookups.incrementAndGet();
+    try {
+      return closed ? -1 : lookupVisibleIndex(position);
+    } finally {
+      if (lookups.decrementAndGet() == 0 && closed) {
+        release();
+      }
+    }
+  }
+
+  private long lookupVisibleIndex(final long position) {
+    final int currentCount = count;
+    final UnsafeBuffer currentBuffer = buffer;
+    int low = first;
+    int high = currentCount - 1;
+
+    if (high < low || position < positionAt(currentBuffer, low)) {
+      return -1;
+    }
+
+    while (low < high) {
+      final int mid = (low + high + 1) >>> 1;
+      if (positionAt(currentBuffer, mid) <= position) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    return indexAt(currentBuffer, low);
+  }
+
+  /**
+   * Removes all entries with an index greater than the given index.
+   *
+   * @param index the index to truncate to
+   */
+  void truncate(final long index) {
+    final int currentCount = count;
+    if (currentCount > first && index < indexAt(currentCount - 1)) {
+      truncateAt(findSlotOfIndex(index + 1));
+    }
+  }
+
+  /**
+   * Removes all entries which are lower than the greatest entry with an index lower than the given
+   * index.
+   *
+   * @param index the index to compact to
+   * @return {@code true} if an entry with a lower index exists, otherwise {@code false}
+   */
+  boolean compact(final long index) {
+    final int slot = findSlotOfIndex(index) - 1;
+    if (slot < first) {
+      return false;
+    }
+
+    first = slot;
+    return true;
+  }
+
+  /** Removes all entries. */
+  void clear() {
+    first = count;
+  }
+
+  /**
+   * Closes the index. The stored entries are flushed to the file, and the mappings are unmapped
+   * once the lookups in progress are completed. Lookups on a closed index don't find any entry.
+   */
+  void close() {
+    if (file != null) {
+      ((MappedByteBuffer) buffer.byteBuffer()).force();
+    }
+
+    closed = true;
+    if (lookups.get() == 0) {
+      release();
+    }
+  }
+
+  /** Removes the entries beginning with the given slot, including the not verified entries. */
+  private void truncateAt(final int slot) {
+    count = Math.max(first, slot);
+    discardFrom(count);
+  }
+
+  private void discardFrom(final int slot) {
+    if (slot < storedCount) {
+      buffer.setMemory(offsetOf(slot), (storedCount - slot) * ENTRY_LENGTH, (byte) 0);
+      setStoredCount(slot);
+    }
+  }
+
+  private void setStoredCount(final int storedCount) {
+    this.storedCount = storedCount;
+    buffer.putInt(STORED_COUNT_OFFSET, storedCount, BYTE_ORDER);
+  }
+
+  /** Returns the first slot of the visible entries with an index greater than or equal to it. */
+  private int findSlotOfIndex(final long index) {
+    int low = first;
+    int high = count;
+
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (indexAt(mid) < index) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * Unmaps the superseded mappings if no lookup is in progress. A lookup which starts afterwards
+   * reads the current buffer, since it is published before the lookups are checked.
+   */
+  private synchronized void releaseSupersededBuffers() {
+    if (lookups.get() > 0 || released) {
+      return;
+    }
+
+    supersededBuffers.forEach(this::unmap);
+    supersededBuffers.clear();
+  }
+
+  private synchronized void release() {
+    if (released) {
+      return;
+    }
+
+    released = true;
+    unmap(buffer);
+    supersededBuffers.forEach(this::unmap);
+    supersededBuffers.clear();
+  }
+
+  private void unmap(final UnsafeBuffer buffer) {
+    // an index which is kept in memory is released by the garbage collector
+    if (file != null) {
+      IoUtil.unmap((MappedByteBuffer) buffer.byteBuffer());
+    }
+  }
+
+  private UnsafeBuffer map(final int slotCapacity) {
+    final int length = offsetOf(slotCapacity);
+
+    if (file == null) {
+      final UnsafeBuffer newBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(length));
+      final UnsafeBuffer currentBuffer = buffer;
+      if (currentBuffer != null) {
+        newBuffer.putBytes(0, currentBuffer, 0, currentBuffer.capacity());
+      }
+      return newBuffer;
+    }
+
+    try (final FileChannel channel =
+        FileChannel.open(
+            file.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      return new UnsafeBuffer(channel.map(MapMode.READ_WRITE, 0, length));
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  private int slotCapacity() {
+    return (buffer.capacity() - HEADER_LENGTH) / ENTRY_LENGTH;
+  }
+
+  private long indexAt(final int slot) {
+    return indexAt(buffer, slot);
+  }
+
+  private long positionAt(final int slot) {
+    return positionAt(buffer, slot);
+  }
+
+  private static long indexAt(final UnsafeBuffer buffer, final int slot) {
+    return buffer.getLong(offsetOf(slot), BYTE_ORDER);
+  }
+
+  private static long positionAt(final UnsafeBuffer buffer, final int slot) {
+    return buffer.getLong(offsetOf(slot) + Long.BYTES, BYTE_ORDER);
+  }
+
+  private static int offsetOf(final int slot) {
+    return HEADER_LENGTH + slot * ENTRY_LENGTH;
+  }
+}
@@ -9,17 +9,28 @@ package io.zeebe.logstreams.storage.atomix;
 
 import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalSegmentDescriptor;
+import io.atomix.storage.journal.JournalSegmentFile;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
 import io.atomix.storage.journal.index.SparseJournalIndex;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * Maps the positions of the Zeebe entries to their indexes. The mapping of each journal segment is
+ * stored in a memory-mapped {@link PositionIndex} next to the segment, which is reused when the
+ * journal is opened again, instead of rebuilding the mapping on the heap.
+ *
+ * <p>The adapter is shared between the segments of the journal, which can be indexed concurrently
+ * when the journal is opened. The position indexes are separated by segment, while the sparse
+ * journal index is guarded by the adapter.
+ */
 public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping {
 
-  private final ConcurrentNavigableMap<Long, Long> positionIndexMapping =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> indexPositionMapping =
+  // the position indexes of the opened segments, by the first index of the segment
+  private final ConcurrentNavigableMap<Long, PositionIndex> segmentIndexes =
       new ConcurrentSkipListMap<>();
   private final SparseJournalIndex sparseJournalIndex;
   private final int density;
@@ -41,60 +52,90 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
         final ZeebeEntry zeebeEntry = (ZeebeEntry) indexedEntry.entry();
         final var lowestPosition = zeebeEntry.lowestPosition();
 
-        positionIndexMapping.put(lowestPosition, index);
-        indexPositionMapping.put(index, lowestPosition);
+        getSegmentIndex(index).put(index, lowestPosition);
       }
     }
 
-    sparseJournalIndex.index(indexedEntry, position);
+    synchronized (sparseJournalIndex) {
+      sparseJournalIndex.index(indexedEntry, position);
+    }
   }
 
   @Override
   public Position lookup(final long index) {
-    return sparseJournalIndex.lookup(index);
+    synchronized (sparseJournalIndex) {
+      return sparseJournalIndex.lookup(index);
+    }
   }
 
   @Override
   public void truncate(final long index) {
-    final var higherEntry = indexPositionMapping.higherEntry(index);
-
-    if (higherEntry != null) {
-
-      final var higherIndex = higherEntry.getKey();
-      final var higherPosition = higherEntry.getValue();
-
-      indexPositionMapping.tailMap(higherIndex).clear();
-      positionIndexMapping.tailMap(higherPosition).clear();
+    for (final PositionIndex segmentIndex : segmentIndexes.descendingMap().values()) {
+      segmentIndex.truncate(index);
     }
 
-    sparseJournalIndex.truncate(index);
+    synchronized (sparseJournalIndex) {
+      sparseJournalIndex.truncate(index);
+    }
   }
 
   @Override
   public void compact(final long index) {
-    final var lowerEntry = indexPositionMapping.lowerEntry(index);
+    boolean compacted = false;
+    for (final PositionIndex segmentIndex : segmentIndexes.descendingMap().values()) {
+      if (compacted) {
+        segmentIndex.clear();
+      } else {
+        compacted = segmentIndex.compact(index);
+      }
+    }
 
-    if (lowerEntry != null) {
+    synchronized (sparseJournalIndex) {
+      sparseJournalIndex.compact(index);
+    }
+  }
 
-      final var lowerIndex = lowerEntry.getKey();
-      final var lowerPosition = lowerEntry.getValue();
+  @Override
+  public void openSegment(
+      final JournalSegmentFile file, final JournalSegmentDescriptor descriptor) {
+    segmentIndexes.put(descriptor.index(), PositionIndex.open(file.indexFile()));
+  }
 
-      indexPositionMapping.headMap(lowerIndex).clear();
-      positionIndexMapping.headMap(lowerPosition).clear();
-    }
+  @Override
+  public boolean recoverSegment(final JournalSegmentDescriptor descriptor, final long lastIndex) {
+    final PositionIndex segmentIndex = segmentIndexes.get(descriptor.index());
+    return segmentIndex != null && segmentIndex.recover(lastIndex);
+  }
 
-    sparseJournalIndex.compact(index);
+  @Override
+  public void closeSegment(final JournalSegmentDescriptor descriptor) {
+    final PositionIndex segmentIndex = segmentIndexes.remove(descriptor.index());
+    if (segmentIndex != null) {
+      segmentIndex.close();
+    }
   }
 
   @Override
   public long lookupPosition(final long position) {
-    long index = -1L;
+    // the positions are increasing with the indexes, so the first segment which contains a lower
+    // or equal position contains the searched entry
+    for (final PositionIndex segmentIndex : segmentIndexes.descendingMap().values()) {
+      final long index = segmentIndex.lookupIndex(position);
+      if (index != -1) {
+        return index;
+      }
+    }
+
+    return -1L;
+  }
 
-    final var lowerEntry = positionIndexMapping.floorEntry(position);
-    if (lowerEntry != null) {
-      index = lowerEntry.getValue();
+  private PositionIndex getSegmentIndex(final long index) {
+    final Entry<Long, PositionIndex> segmentIndex = segmentIndexes.floorEntry(index);
+    if (segmentIndex != null) {
+      return segmentIndex.getValue();
     }
 
-    return index;
+    // no segment is opened for the index, e.g. if the adapter is not used by a journal
+    return segmentIndexes.computeIfAbsent(Long.MIN_VALUE, ignored -> PositionIndex.inMemory());
   }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public final class AppendBufferPoolTest {
+
+  private final AppendBufferPool pool = new AppendBufferPool(2);
+
+  @Test
+  public void shouldAcquireBufferWithRequestedLength() {
+    // when
+    final ByteBuffer buffer = pool.acquire(128);
+
+    // then
+    assertThat(buffer.position()).isZero();
+    assertThat(buffer.limit()).isEqualTo(128);
+    assertThat(buffer.capacity()).isGreaterThanOrEqualTo(128);
+  }
+
+  @Test
+  public void shouldReuseReleasedBuffer() {
+    // given
+    final ByteBuffer buffer = pool.acquire(128);
+    buffer.put(new byte[64]);
+    pool.release(buffer);
+
+    // when
+    final ByteBuffer reused = pool.acquire(32);
+
+    // then
+    assertThat(reused).isSameAs(buffer);
+    assertThat(reused.position()).isZero();
+    assertThat(reused.limit()).isEqualTo(32);
+  }
+
+  @Test
+  public void shouldNotReuseBufferWhichIsTooSmall() {
+    // given
+    final ByteBuffer buffer = pool.acquire(32);
+    pool.release(buffer);
+
+    // when
+    final ByteBuffer acquired = pool.acquire(128);
+
+    // then
+    assertThat(acquired).isNotSameAs(buffer);
+    assertThat(acquired.limit()).isEqualTo(128);
+  }
+
+  @Test
+  public void shouldNotPoolLargeBuffers() {
+    // given
+    final ByteBuffer buffer = pool.acquire(AppendBufferPool.MAX_POOLED_BUFFER_SIZE + 1);
+    pool.release(buffer);
+
+    // when
+    final ByteBuffer acquired = pool.acquire(1);
+
+    // then
+    assertThat(acquired).isNotSameAs(buffer);
+  }
+}
@@ -328,6 +328,48 @@ public final class LogStreamBatchWriterTest {
     assertThat(events.get(1).getSourceEventPosition()).isEqualTo(123L);
   }
 
+  @Test
+  public void shouldWriteEventsWithDifferentSourceEvents() {
+    // when
+    final long position =
+        write(
+            w ->
+                w.sourceRecordPosition(123L)
+                    .event()
+                    .key(1)
+                    .value(EVENT_VALUE_1)
+                    .done()
+                    .sourceRecordPosition(456L)
+                    .event()
+                    .key(2)
+                    .value(EVENT_VALUE_2)
+                    .done());
+
+    // then
+    final List<LoggedEvent> events = getWrittenEvents(position);
+
+    assertThat(events.get(0).getSourceEventPosition()).isEqualTo(123L);
+    assertThat(events.get(1).getSourceEventPosition()).isEqualTo(456L);
+  }
+
+  @Test
+  public void shouldDiscardEventsAddedAfterMark() {
+    // given
+    assertThat(writer.getBatchLength()).isZero();
+    writer.event().key(1).value(EVENT_VALUE_1).done();
+    writer.mark();
+    final int markedBatchLength = writer.getBatchLength();
+    writer.event().key(2).value(EVENT_VALUE_2).done();
+
+    // when
+    writer.resetToMark();
+    final long position = write(w -> w.event().key(3).value(EVENT_VALUE_2).done());
+
+    // then
+    assertThat(markedBatchLength).isGreaterThan(0);
+    assertThat(getWrittenEvents(position)).extracting(LoggedEvent::getKey).containsExactly(1L, 3L);
+  }
+
   @Test
   public void shouldWriteEventWithoutSourceEvent() {
     // when
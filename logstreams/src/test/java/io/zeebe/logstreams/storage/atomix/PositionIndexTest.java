@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class PositionIndexTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    file = new File(temporaryFolder.newFolder(), "journal-1.idx");
+  }
+
+  @Test
+  public void shouldLookupLowerOrEqualPosition() {
+    // given
+    final PositionIndex index = PositionIndex.open(file);
+
+    // when
+    index.put(5, 20);
+    index.put(10, 45);
+    index.put(15, 70);
+
+    // then
+    assertThat(index.lookupIndex(19)).isEqualTo(-1);
+    assertThat(index.lookupIndex(20)).isEqualTo(5);
+    assertThat(index.lookupIndex(44)).isEqualTo(5);
+    assertThat(index.lookupIndex(45)).isEqualTo(10);
+    assertThat(index.lookupIndex(100)).isEqualTo(15);
+  }
+
+  @Test
+  public void shouldGrowBeyondInitialCapacity() {
+    // given
+    final PositionIndex index = PositionIndex.open(file);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      index.put(i, i * 10L);
+    }
+
+    // then
+    assertThat(index.lookupIndex(15)).isEqualTo(1);
+    assertThat(index.lookupIndex(50_000)).isEqualTo(5_000);
+    assertThat(index.lookupIndex(100_005)).isEqualTo(10_000);
+  }
+
+  @Test
+  public void shouldReuseVerifiedEntriesAfterReopen() {
+    // given
+    final PositionIndex index = PositionIndex.open(file);
+    index.put(5, 20);
+    index.put(10, 45);
+    index.put(15, 70);
+
+    // when
+    final PositionIndex reopenedIndex = PositionIndex.open(file);
+
+    // then - the entries are visible once they are indexed again
+    assertThat(reopenedIndex.lookupIndex(100)).isEqualTo(-1);
+
+    reopenedIndex.put(5, 20);
+    reopenedIndex.put(10, 45);
+    assertThat(reopenedIndex.lookupIndex(100)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldOverwriteStoredEntriesWhichDoNotMatch() {
+    // given
+    final PositionIndex index = PositionIndex.open(file);
+    index.put(5, 20);
+    index.put(10, 45);
+    index.put(15, 70);
+
+    // when
+    final PositionIndex reopenedIndex = PositionIndex.open(file);
+    reopenedIndex.put(5, 20);
+    reopenedIndex.put(10, 50);
+
+    // then
+    assertThat(reopenedIndex.lookupIndex(100)).isEqualTo(10);
+    assertThat(PositionIndex.open(file).lookupIndex(100)).isEqualTo(-1);
+
+    final PositionIndex repairedIndex = PositionIndex.open(file);
+    repairedIndex.put(5, 20);
+    repairedIndex.put(10, 50);
+    repairedIndex.put(15, 70);
+    assertThat(repairedIndex.lookupIndex(49)).isEqualTo(5);
+    assertThat(repairedIndex.lookupIndex(100)).isEqualTo(15);
+  }
+
+  @Test
+  public void shouldRecoverStoredEntriesWithoutIndexingThem() {
+    // given
+    final PositionIndex index = PositionIndex.open(file);
+    index.put(5, 20);
+    index.put(10, 45);
+    index.put(15, 70);
+
+    // when
+    final PositionIndex recoveredIndex = PositionIndex.open(file);
+    final boolean recovered = recoveredIndex.recover(12);
+
+    // then - the entries after the last index of the segment are discarded
+    assertThat(recovered).isTrue();
+    assertThat(recoveredIndex.lookupIndex(44)).isEqualTo(5);
+    assertThat(recoveredIndex.lookupIndex(100)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldRecoverStoredEntriesAfterClose() {
+    // given
+    final PositionIndex index = PositionIndex.open(file);
+    for (int i = 1; i <= 10_000; i++) {
+      index.put(i, i * 10L);
+    }
+
+    // when
+    index.close();
+
+    // then
+    assertThat(index.lookupIndex(100)).isEqualTo(-1);
+
+    final PositionIndex recoveredIndex = PositionIndex.open(file);
+    assertThat(recoveredIndex.recover(10_000)).isTrue();
+    assertThat(recoveredIndex.lookupIndex(50_005)).isEqualTo(5_000);
+    assertThat(recoveredIndex.lookupIndex(100_000)).isEqualTo(10_000);
+  }
+
+  @Test
+  public void shouldNotRecoverIfNothingWasStored() {
+    // given
+    final PositionIndex index = PositionIndex.open(file);
+
+    // when
+    final boolean recovered = index.recover(12);
+
+    // then
+    assertThat(recovered).isFalse();
+  }
+
+  @Test
+  public void shouldReplaceEntriesWithGreaterIndex() {
+    // given
+    final PositionIndex index = PositionIndex.inMemory();
+    index.put(5, 20);
+    index.put(10, 45);
+    index.put(15, 70);
+
+    // when
+    index.put(10, 50);
+
+    // then
+    assertThat(index.lookupIndex(49)).isEqualTo(5);
+    assertThat(index.lookupIndex(100)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldTruncateAndCompact() {
+    // given
+    final PositionIndex index = PositionIndex.inMemory();
+    index.put(5, 20);
+    index.put(10, 45);
+    index.put(15, 70);
+
+    // when
+    index.truncate(14);
+    index.compact(11);
+
+    // then
+    assertThat(index.lookupIndex(100)).isEqualTo(10);
+    assertThat(index.lookupIndex(44)).isEqualTo(-1);
+  }
+}
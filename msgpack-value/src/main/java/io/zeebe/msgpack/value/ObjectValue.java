@@ -14,6 +14,7 @@ import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
@@ -22,8 +23,13 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing hash table of the indexes of the declared properties, by their keys; an index
+  // is stored plus one, so that zero marks an empty slot; built on the first read
+  private int[] declaredPropertyIndexes;
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    declaredPropertyIndexes = null;
     return this;
   }
 
@@ -86,23 +92,25 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    // the properties are usually written in the order of their declaration
+    int expectedIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
+      final int index;
+      if (expectedIndex < declaredProperties.size()
+          && declaredProperties.get(expectedIndex).getKey().equals(decodedKey)) {
+        index = expectedIndex;
+      } else {
+        index = findDeclaredProperty(decodedKey);
       }
 
-      if (prop == null) {
+      final BaseProperty<? extends BaseValue> prop;
+      if (index >= 0) {
+        prop = declaredProperties.get(index);
+        expectedIndex = index + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
@@ -123,6 +131,60 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private int findDeclaredProperty(final StringValue key) {
+    if (declaredPropertyIndexes == null) {
+      declaredPropertyIndexes = createDeclaredPropertyIndexes();
+    }
+
+    final int mask = declaredPropertyIndexes.length - 1;
+    int slot = hashKey(key) & mask;
+    int indexPlusOne;
+    while ((indexPlusOne = declaredPropertyIndexes[slot]) != 0) {
+      final int index = indexPlusOne - 1;
+      if (declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return -1;
+  }
+
+  private int[] createDeclaredPropertyIndexes() {
+    // at most half of the slots are used, to keep the probe sequences short
+    final int[] indexes = new int[Integer.highestOneBit(declaredProperties.size() * 2 + 1) << 1];
+    final int mask = indexes.length - 1;
+
+    for (int i = 0; i < declaredProperties.size(); i++) {
+      int slot = hashKey(declaredProperties.get(i).getKey()) & mask;
+      while (indexes[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      indexes[slot] = i + 1;
+    }
+
+    return indexes;
+  }
+
+  /**
+   * A cheap hash of the key, which only considers its length and its first, middle and last byte.
+   * This distinguishes the keys of a single object well enough, and collisions are resolved by
+   * comparing the keys.
+   */
+  private static int hashKey(final StringValue key) {
+    final int length = key.getLength();
+    if (length == 0) {
+      return 0;
+    }
+
+    final DirectBuffer bytes = key.getValue();
+    int hash = length;
+    hash = 31 * hash + bytes.getByte(0);
+    hash = 31 * hash + bytes.getByte(length >> 1);
+    hash = 31 * hash + bytes.getByte(length - 1);
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
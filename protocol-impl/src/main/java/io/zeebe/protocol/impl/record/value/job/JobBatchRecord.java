@@ -28,7 +28,8 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public final class JobBatchRecord extends UnifiedRecordValue implements JobBatchRecordValue {
 
-  private final StringProperty typeProp = new StringProperty("type");
+  // a batch of completed jobs may contain jobs of different types
+  private final StringProperty typeProp = new StringProperty("type", "");
   private final StringProperty workerProp = new StringProperty("worker", "");
   private final LongProperty timeoutProp = new LongProperty("timeout", -1);
   private final IntegerProperty maxJobsToActivateProp =
@@ -39,6 +40,8 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
   private final ArrayProperty<StringValue> variablesProp =
       new ArrayProperty<>("variables", new StringValue());
   private final BooleanProperty truncatedProp = new BooleanProperty("truncated", false);
+  private final ArrayProperty<JobCompletionResult> completionResultsProp =
+      new ArrayProperty<>("completionResults", new JobCompletionResult());
 
   public JobBatchRecord() {
     declareProperty(typeProp)
@@ -48,7 +51,8 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
         .declareProperty(jobKeysProp)
         .declareProperty(jobsProp)
         .declareProperty(variablesProp)
-        .declareProperty(truncatedProp);
+        .declareProperty(truncatedProp)
+        .declareProperty(completionResultsProp);
   }
 
   public JobBatchRecord setType(final DirectBuffer buf, final int offset, final int length) {
@@ -73,6 +77,14 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
     return variablesProp;
   }
 
+  /**
+   * The results of a completed job batch, one for each job key of the {@code COMPLETE} command in
+   * the same order.
+   */
+  public ValueArray<JobCompletionResult> completionResults() {
+    return completionResultsProp;
+  }
+
   public boolean getTruncated() {
     return truncatedProp.getValue();
   }
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.record.value.job;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.EnumProperty;
+import io.zeebe.msgpack.property.LongProperty;
+import io.zeebe.msgpack.property.StringProperty;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.util.buffer.BufferUtil;
+
+/**
+ * The result of completing a single job of a job batch. If the job could not be completed, the
+ * result contains the type and the reason of the rejection.
+ */
+public final class JobCompletionResult extends UnpackedObject {
+
+  private final LongProperty jobKeyProp = new LongProperty("jobKey", -1);
+  private final EnumProperty<RejectionType> rejectionTypeProp =
+      new EnumProperty<>("rejectionType", RejectionType.class, RejectionType.NULL_VAL);
+  private final StringProperty rejectionReasonProp = new StringProperty("rejectionReason", "");
+
+  public JobCompletionResult() {
+    declareProperty(jobKeyProp)
+        .declareProperty(rejectionTypeProp)
+        .declareProperty(rejectionReasonProp);
+  }
+
+  public long getJobKey() {
+    return jobKeyProp.getValue();
+  }
+
+  public JobCompletionResult setJobKey(final long jobKey) {
+    jobKeyProp.setValue(jobKey);
+    return this;
+  }
+
+  public boolean isCompleted() {
+    return getRejectionType() == RejectionType.NULL_VAL;
+  }
+
+  public RejectionType getRejectionType() {
+    return rejectionTypeProp.getValue();
+  }
+
+  public String getRejectionReason() {
+    return BufferUtil.bufferAsString(rejectionReasonProp.getValue());
+  }
+
+  public JobCompletionResult setRejection(
+      final RejectionType rejectionType, final String rejectionReason) {
+    rejectionTypeProp.setValue(rejectionType);
+    rejectionReasonProp.setValue(rejectionReason);
+    return this;
+  }
+}
@@ -17,7 +17,9 @@ package io.zeebe.protocol.record.intent;
 
 public enum JobBatchIntent implements Intent {
   ACTIVATE((short) 0),
-  ACTIVATED((short) 1);
+  ACTIVATED((short) 1),
+  COMPLETE((short) 2),
+  COMPLETED((short) 3);
 
   private final short value;
 
@@ -35,6 +37,10 @@ public enum JobBatchIntent implements Intent {
         return ACTIVATE;
       case 1:
         return ACTIVATED;
+      case 2:
+        return COMPLETE;
+      case 3:
+        return COMPLETED;
       default:
         return Intent.UNKNOWN;
     }
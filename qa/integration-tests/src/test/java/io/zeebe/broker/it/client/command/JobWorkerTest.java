@@ -10,6 +10,7 @@ package io.zeebe.broker.it.client.command;
 import static io.zeebe.test.util.TestUtil.waitUntil;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.zeebe.broker.it.util.GrpcClientRule;
 import io.zeebe.broker.it.util.RecordingJobHandler;
@@ -133,4 +134,51 @@ public final class JobWorkerTest {
     final ActivatedJob job = jobHandler.getHandledJobs().get(0);
     assertThat(job.getVariablesAsMap().keySet()).containsOnlyElementsOf(fetchVariables);
   }
+
+  @Test
+  public void shouldStreamAvailableJob() {
+    // given
+    final long jobKey = CLIENT_RULE.createSingleJob(jobType);
+
+    // when
+    final RecordingJobHandler jobHandler = new RecordingJobHandler();
+    CLIENT_RULE
+        .getClient()
+        .newWorker()
+        .jobType(jobType)
+        .handler(jobHandler)
+        .name("test")
+        .streamEnabled(true)
+        .open();
+
+    waitUntil(() -> jobHandler.getHandledJobs().size() >= 1);
+
+    // then
+    assertThat(jobHandler.getHandledJobs())
+        .hasSize(1)
+        .extracting(ActivatedJob::getKey, ActivatedJob::getWorker)
+        .containsExactly(tuple(jobKey, "test"));
+  }
+
+  @Test
+  public void shouldStreamJobCreatedAfterStreamWasOpened() {
+    // given
+    final RecordingJobHandler jobHandler = new RecordingJobHandler();
+    CLIENT_RULE
+        .getClient()
+        .newWorker()
+        .jobType(jobType)
+        .handler(jobHandler)
+        .streamEnabled(true)
+        .open();
+
+    // when
+    final long jobKey = CLIENT_RULE.createSingleJob(jobType);
+
+    // then
+    waitUntil(() -> jobHandler.getHandledJobs().size() >= 1);
+    assertThat(jobHandler.getHandledJobs())
+        .extracting(ActivatedJob::getKey)
+        .containsExactly(jobKey);
+  }
 }
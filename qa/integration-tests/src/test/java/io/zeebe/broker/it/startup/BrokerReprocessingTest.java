@@ -29,7 +29,6 @@ import io.zeebe.client.api.response.ActivatedJob;
 import io.zeebe.client.api.response.DeploymentEvent;
 import io.zeebe.client.api.response.WorkflowInstanceEvent;
 import io.zeebe.client.api.worker.JobWorker;
-import io.zeebe.engine.processing.job.JobTimeoutTrigger;
 import io.zeebe.model.bpmn.Bpmn;
 import io.zeebe.model.bpmn.BpmnModelInstance;
 import io.zeebe.protocol.record.Record;
@@ -735,7 +734,7 @@ public final class BrokerReprocessingTest {
 
     final ControlledActorClock clock = brokerRule.getClock();
     final Duration pollingInterval =
-        JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL
+        defaultJobTimeout
             // this shouldn't be needed but is caused by the fact hat on reprocessing without
             // a snapshot a new deadline is set for the job
             // https://github.com/zeebe-io/zeebe/issues/1800
@@ -25,8 +25,8 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
-import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
@@ -42,6 +42,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private final FileBasedSnapshotMetadata metadata;
   private long expectedSnapshotChecksum;
   private int expectedTotalCount;
+  private Path verifiedReferencedFile;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotMetadata metadata,
@@ -61,7 +62,20 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   @Override
   public boolean containsChunk(final ByteBuffer chunkId) {
-    return Files.exists(directory.resolve(getFile(chunkId)));
+    final var id = FileBasedSnapshotChunkReader.decodeChunkId(chunkId);
+    final var separatorIndex = id.lastIndexOf(FileBasedSnapshotChunkReader.ID_POSITION_SEPARATOR);
+    if (separatorIndex < 0) {
+      return Files.exists(directory.resolve(id));
+    }
+
+    // the blocks of a file are applied in order, so the block is contained if the file is larger
+    final var file = directory.resolve(id.substring(0, separatorIndex));
+    final var position = Long.parseLong(id.substring(separatorIndex + 1));
+    try {
+      return Files.exists(file) && Files.size(file) > position;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   @Override
@@ -78,6 +92,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     expectedId = nextChunkId;
   }
 
+  @Override
+  public boolean hasReferencedContent(final SnapshotChunk chunk) {
+    return findReferencedFile(chunk).isPresent();
+  }
+
   @Override
   public boolean apply(final SnapshotChunk snapshotChunk) throws IOException {
     final var currentSnapshotChecksum = snapshotChunk.getSnapshotChecksum();
@@ -106,6 +125,10 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return SUCCESS;
     }
 
+    if (snapshotChunk.isContentReference()) {
+      return linkReferencedSnapshotChunk(snapshotChunk);
+    }
+
     final long expectedChecksum = snapshotChunk.getChecksum();
     final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
 
@@ -123,13 +146,33 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
-      LOGGER.debug("Received a snapshot snapshotChunk which already exist '{}'.", snapshotFile);
+    final var fileBlockPosition = snapshotChunk.getFileBlockPosition();
+    if (fileBlockPosition == 0) {
+      if (Files.exists(snapshotFile)) {
+        LOGGER.debug("Received a snapshot snapshotChunk which already exist '{}'.", snapshotFile);
+        return FAILED;
+      }
+
+      LOGGER.debug("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+      return writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    }
+
+    if (!Files.exists(snapshotFile) || Files.size(snapshotFile) != fileBlockPosition) {
+      LOGGER.warn(
+          "Expected to append snapshot chunk {} ({}) at position {}, but the file doesn't have this size",
+          chunkName,
+          snapshotId,
+          fileBlockPosition);
       return FAILED;
     }
 
-    LOGGER.debug("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    return writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    LOGGER.debug(
+        "Consume snapshot snapshotChunk {} at position {} of snapshot {}",
+        chunkName,
+        fileBlockPosition,
+        snapshotId);
+    Files.write(snapshotFile, snapshotChunk.getContent(), StandardOpenOption.APPEND);
+    return SUCCESS;
   }
 
   private boolean isSnapshotChecksumInvalid(final long currentSnapshotChecksum) {
@@ -177,6 +220,59 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     return SUCCESS;
   }
 
+  private boolean linkReferencedSnapshotChunk(final SnapshotChunk snapshotChunk)
+      throws IOException {
+    final var referencedFile = findReferencedFile(snapshotChunk);
+    if (referencedFile.isEmpty()) {
+      LOGGER.warn(
+          "Expected to find referenced file of snapshot chunk {} ({}) with checksum {} in the latest snapshot, but it was not found",
+          snapshotChunk.getChunkName(),
+          snapshotChunk.getSnapshotId(),
+          snapshotChunk.getChecksum());
+      return FAILED;
+    }
+
+    FileUtil.ensureDirectoryExists(directory);
+
+    final var snapshotFile = directory.resolve(snapshotChunk.getChunkName());
+    if (Files.exists(snapshotFile)) {
+      LOGGER.debug("Received a snapshot snapshotChunk which already exist '{}'.", snapshotFile);
+      return FAILED;
+    }
+
+    // the files of a persisted snapshot are never modified, so the file can be shared
+    Files.createLink(snapshotFile, referencedFile.get());
+    LOGGER.trace("Linked referenced snapshot chunk {} to file {}", referencedFile, snapshotFile);
+    return SUCCESS;
+  }
+
+  private Optional<Path> findReferencedFile(final SnapshotChunk snapshotChunk) {
+    final var chunkName = snapshotChunk.getChunkName();
+    if (verifiedReferencedFile != null
+        && verifiedReferencedFile.getFileName().toString().equals(chunkName)) {
+      return Optional.of(verifiedReferencedFile);
+    }
+
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final var file = latestSnapshot.get().getPath().resolve(chunkName);
+    try {
+      if (!Files.exists(file) || ChecksumUtil.createChecksum(file) != snapshotChunk.getChecksum()) {
+        return Optional.empty();
+      }
+    } catch (final IOException e) {
+      LOGGER.debug("Failed to calculate checksum of referenced file {}", file, e);
+      return Optional.empty();
+    }
+
+    // remember the verified file, since it is usually looked up twice for the same chunk
+    verifiedReferencedFile = file;
+    return Optional.of(file);
+  }
+
   @Override
   public void abort() {
     try {
@@ -232,11 +328,6 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     return directory;
   }
 
-  private String getFile(final ByteBuffer chunkId) {
-    final var view = new UnsafeBuffer(chunkId);
-    return view.getStringWithoutLengthAscii(0, chunkId.remaining());
-  }
-
   @Override
   public String toString() {
     return "FileBasedReceivedSnapshot{"
@@ -18,37 +18,59 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
-import org.agrona.AsciiSequenceView;
-import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader where each chunk is a file in a root directory. If file blocks are
+ * enabled, files which are larger than the max chunk size are split into several chunks, such that
+ * the memory which is needed to replicate a snapshot is bounded by the chunk size and not by the
+ * file size. Chunks are ordered lexicographically by file name and then by their position in the
+ * file, and the files are assumed to be immutable, i.e. no more are added to the directory once
+ * this is created.
+ *
+ * <p>The ID of the first chunk of a file is the file name, the ID of the following chunks is the
+ * file name and the position of the chunk in the file, separated by {@link #ID_POSITION_SEPARATOR}.
+ *
+ * <p>If content references are enabled, the immutable SST files of RocksDB are read as references
+ * which contain only the name and the checksum of the file, since the receiver most likely has them
+ * already from a previous snapshot. Only if the receiver doesn't have a file, it is read again with
+ * its content.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  static final char ID_POSITION_SEPARATOR = '/';
+  static final int DEFAULT_MAX_CHUNK_SIZE = 1024 * 1024;
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
 
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
-  private final CharSequenceView chunkIdView;
+  private final Set<String> chunksWithContent = new HashSet<>();
 
   private NavigableSet<CharSequence> chunksView;
+  private long nextChunkPosition;
+  private final int maxChunkSize;
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private boolean contentReferencesEnabled;
+  private boolean fileBlocksEnabled;
 
   FileBasedSnapshotChunkReader(final Path directory) throws IOException {
+    this(directory, DEFAULT_MAX_CHUNK_SIZE);
+  }
+
+  FileBasedSnapshotChunkReader(final Path directory, final int maxChunkSize) throws IOException {
     this.directory = directory;
+    this.maxChunkSize = maxChunkSize;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
-    chunkIdView = new CharSequenceView();
 
     try (final var fileStream = Files.list(directory).sorted()) {
       snapshotChecksum =
@@ -72,8 +94,33 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = chunks.tailSet(path, true);
+    final var chunkId = decodeChunkId(id);
+    final var separatorIndex = chunkId.lastIndexOf(ID_POSITION_SEPARATOR);
+    if (separatorIndex < 0) {
+      chunksView = chunks.tailSet(chunkId, true);
+      nextChunkPosition = 0;
+    } else {
+      chunksView = chunks.tailSet(chunkId.substring(0, separatorIndex), true);
+      nextChunkPosition = Long.parseLong(chunkId.substring(separatorIndex + 1));
+    }
+  }
+
+  @Override
+  public void seekWithContent(final ByteBuffer id) {
+    seek(id);
+    if (!chunksView.isEmpty()) {
+      chunksWithContent.add(chunksView.first().toString());
+    }
+  }
+
+  @Override
+  public void enableContentReferences() {
+    contentReferencesEnabled = true;
+  }
+
+  @Override
+  public void enableFileBlocks() {
+    fileBlocksEnabled = true;
   }
 
   @Override
@@ -82,13 +129,14 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return encodeChunkId(chunksView.first(), nextChunkPosition);
   }
 
   @Override
   public void close() {
     chunks.clear();
     chunksView.clear();
+    chunksWithContent.clear();
   }
 
   @Override
@@ -98,36 +146,63 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
+    if (chunksView.isEmpty()) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(chunkName.toString());
+    final var chunkName = chunksView.first();
+    final var fileName = chunkName.toString();
+    final var path = directory.resolve(fileName);
 
     try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path.toFile(), snapshotID, totalCount, snapshotChecksum);
+      if (nextChunkPosition == 0 && shouldReadAsReference(fileName)) {
+        seekToNextFile(chunkName);
+        return SnapshotChunkUtil.createReferenceChunkFromFile(
+            path.toFile(), snapshotID, totalCount, snapshotChecksum);
+      }
+
+      final var chunk =
+          SnapshotChunkUtil.createSnapshotChunkFromFileBlock(
+              path,
+              snapshotID,
+              totalCount,
+              snapshotChecksum,
+              nextChunkPosition,
+              fileBlocksEnabled ? maxChunkSize : Integer.MAX_VALUE);
+
+      final var nextPosition = nextChunkPosition + chunk.getContent().length;
+      if (nextPosition < chunk.getTotalFileSize()) {
+        nextChunkPosition = nextPosition;
+      } else {
+        seekToNextFile(chunkName);
+      }
+
+      return chunk;
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  private void seekToNextFile(final CharSequence chunkName) {
+    // don't remove the chunk from the set, since it may be read again after seeking back to it
+    chunksView = chunks.tailSet(chunkName, false);
+    nextChunkPosition = 0;
   }
 
-  private CharSequence decodeChunkId(final ByteBuffer id) {
-    return chunkIdView.wrap(id);
+  private boolean shouldReadAsReference(final String fileName) {
+    return contentReferencesEnabled
+        && fileName.endsWith(IMMUTABLE_FILE_SUFFIX)
+        && !chunksWithContent.contains(fileName);
   }
 
-  private static final class CharSequenceView {
-    private final DirectBuffer wrapper = new UnsafeBuffer();
-    private final AsciiSequenceView view = new AsciiSequenceView();
+  private ByteBuffer encodeChunkId(final CharSequence path, final long position) {
+    final var chunkId =
+        position == 0 ? path.toString() : path.toString() + ID_POSITION_SEPARATOR + position;
+    return ByteBuffer.wrap(chunkId.getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  }
 
-    private CharSequence wrap(final ByteBuffer buffer) {
-      wrapper.wrap(buffer);
-      return view.wrap(wrapper, 0, wrapper.capacity());
-    }
+  static String decodeChunkId(final ByteBuffer id) {
+    final var view = new UnsafeBuffer(id);
+    return view.getStringWithoutLengthAscii(0, id.remaining());
   }
 }
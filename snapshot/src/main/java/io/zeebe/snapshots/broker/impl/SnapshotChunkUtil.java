@@ -8,9 +8,14 @@
 package io.zeebe.snapshots.broker.impl;
 
 import io.zeebe.snapshots.raft.SnapshotChunk;
+import io.zeebe.util.ChecksumUtil;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32;
 
 final class SnapshotChunkUtil {
@@ -23,17 +28,58 @@ final class SnapshotChunkUtil {
     return crc32.getValue();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
+  static SnapshotChunk createSnapshotChunkFromFileBlock(
+      final Path snapshotChunkFile,
+      final String snapshotId,
+      final int totalCount,
+      final long snapshotChecksum,
+      final long position,
+      final int maxLength)
+      throws IOException {
+    try (final var channel = FileChannel.open(snapshotChunkFile, StandardOpenOption.READ)) {
+      final long fileSize = channel.size();
+      final var content = new byte[(int) Math.min(maxLength, fileSize - position)];
+      final var buffer = ByteBuffer.wrap(content);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          throw new EOFException(
+              String.format(
+                  "Expected to read %d bytes from %s at position %d, but reached end of file",
+                  content.length, snapshotChunkFile, position));
+        }
+      }
+
+      final long checksum = createChecksum(content);
+      return new SnapshotChunkImpl(
+          snapshotId,
+          totalCount,
+          snapshotChunkFile.getFileName().toString(),
+          checksum,
+          content,
+          snapshotChecksum,
+          false,
+          position,
+          fileSize);
+    }
+  }
+
+  static SnapshotChunk createReferenceChunkFromFile(
       final File snapshotChunkFile,
       final String snapshotId,
       final int totalCount,
       final long snapshotChecksum)
       throws IOException {
-    final byte[] content;
-    content = Files.readAllBytes(snapshotChunkFile.toPath());
-    final long checksum = createChecksum(content);
+    final long checksum = ChecksumUtil.createChecksum(snapshotChunkFile.toPath());
     return new SnapshotChunkImpl(
-        snapshotId, totalCount, snapshotChunkFile.getName(), checksum, content, snapshotChecksum);
+        snapshotId,
+        totalCount,
+        snapshotChunkFile.getName(),
+        checksum,
+        new byte[0],
+        snapshotChecksum,
+        true,
+        0,
+        snapshotChunkFile.length());
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -43,6 +89,9 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final boolean contentReference;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -50,13 +99,19 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final boolean contentReference,
+        final long fileBlockPosition,
+        final long totalFileSize) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.contentReference = contentReference;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
     }
 
     @Override
@@ -88,5 +143,20 @@ final class SnapshotChunkUtil {
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public boolean isContentReference() {
+      return contentReference;
+    }
+
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
   }
 }
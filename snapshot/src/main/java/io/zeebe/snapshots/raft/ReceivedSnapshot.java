@@ -46,6 +46,16 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    */
   void setNextExpected(ByteBuffer nextChunkId);
 
+  /**
+   * Returns true if the content which is referenced by the given chunk is available locally, i.e.
+   * the chunk can be applied without its content. If not, the chunk must be sent again with its
+   * content.
+   *
+   * @param chunk a chunk which is a {@link SnapshotChunk#isContentReference() content reference}
+   * @return true if the referenced content is available, false otherwise
+   */
+  boolean hasReferencedContent(SnapshotChunk chunk);
+
   /**
    * Applies the next {@link SnapshotChunk} to the snapshot. Based on the implementation the chunk
    * can be validated before applied to the snapshot.
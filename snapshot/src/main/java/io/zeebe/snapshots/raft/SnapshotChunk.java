@@ -27,4 +27,18 @@ public interface SnapshotChunk {
 
   /** @return the checksum of the entire snapshot */
   long getSnapshotChecksum();
+
+  /**
+   * @return true if the chunk carries no content, but only references a file with the same name and
+   *     checksum which the receiver may already have from a previous snapshot
+   */
+  boolean isContentReference();
+
+  /**
+   * @return the position of the content in the file, since a file can be split into several chunks
+   */
+  long getFileBlockPosition();
+
+  /** @return the total size of the file which the content belongs to */
+  long getTotalFileSize();
 }
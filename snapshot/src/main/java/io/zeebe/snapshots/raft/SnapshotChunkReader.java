@@ -25,6 +25,29 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    */
   void seek(ByteBuffer id);
 
+  /**
+   * Seeks to the chunk with the given ID, such that it is the next chunk, and makes sure that it is
+   * read with its content, i.e. not as a {@link SnapshotChunk#isContentReference() reference}. Is
+   * used when the receiver doesn't have the referenced content.
+   *
+   * @param id the chunk ID to resend with its content
+   */
+  void seekWithContent(ByteBuffer id);
+
+  /**
+   * Enables reading immutable chunks as {@link SnapshotChunk#isContentReference() references}, i.e.
+   * without their content. This should only be enabled if the receiver can request the content of a
+   * chunk it doesn't have via {@link #seekWithContent(ByteBuffer)}.
+   */
+  void enableContentReferences();
+
+  /**
+   * Enables splitting chunks which are larger than the max chunk size into several blocks, whose
+   * IDs contain the position of the block in the chunk. This should only be enabled if the receiver
+   * can assemble a chunk from its blocks; otherwise each chunk is read as a whole.
+   */
+  void enableFileBlocks();
+
   /**
    * Returns the next chunk ID; if {@link #hasNext()} should return false, then this will return
    * null.
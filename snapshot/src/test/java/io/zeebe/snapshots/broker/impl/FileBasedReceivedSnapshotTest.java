@@ -587,6 +587,126 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldLinkReferencedChunkFromLatestSnapshot() throws Exception {
+    // given
+    final var fileNames = List.of("CURRENT", "file1.sst");
+    receiveSnapshot(takeSnapshot(1L, fileNames, List.of("current-1", "sst content"))).persist();
+    final var persistedSnapshot = takeSnapshot(2L, fileNames, List.of("current-2", "sst content"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.enableContentReferences();
+      final var currentChunk = snapshotChunkReader.next();
+      final var sstChunk = snapshotChunkReader.next();
+
+      assertThat(currentChunk.isContentReference()).isFalse();
+      assertThat(sstChunk.isContentReference()).isTrue();
+      assertThat(sstChunk.getContent()).isEmpty();
+      assertThat(receivedSnapshot.hasReferencedContent(sstChunk)).isTrue();
+
+      assertThat(receivedSnapshot.apply(currentChunk)).isTrue();
+      assertThat(receivedSnapshot.apply(sstChunk)).isTrue();
+    }
+    final var snapshot = receivedSnapshot.persist();
+
+    // then
+    assertThat(snapshot.getIndex()).isEqualTo(2L);
+    assertThat(snapshot.getPath().resolve("file1.sst")).hasContent("sst content");
+    assertThat(snapshot.getPath().resolve("CURRENT")).hasContent("current-2");
+  }
+
+  @Test
+  public void shouldNotHaveReferencedContentIfChecksumDiffers() throws Exception {
+    // given
+    final var fileNames = List.of("file1.sst");
+    receiveSnapshot(takeSnapshot(1L, fileNames, List.of("sst content"))).persist();
+    final var persistedSnapshot = takeSnapshot(2L, fileNames, List.of("other sst content"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.enableContentReferences();
+      final var sstChunk = snapshotChunkReader.next();
+
+      // when
+      final var hasReferencedContent = receivedSnapshot.hasReferencedContent(sstChunk);
+
+      // then
+      assertThat(hasReferencedContent).isFalse();
+      assertThat(receivedSnapshot.apply(sstChunk)).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldNotHaveReferencedContentWithoutLatestSnapshot() throws Exception {
+    // given
+    final var persistedSnapshot = takeSnapshot(1L, List.of("file1.sst"), List.of("sst content"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.enableContentReferences();
+      final var sstChunk = snapshotChunkReader.next();
+
+      // when
+      final var hasReferencedContent = receivedSnapshot.hasReferencedContent(sstChunk);
+
+      // then
+      assertThat(hasReferencedContent).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldReceiveFileSplitIntoSeveralChunks() throws Exception {
+    // given
+    final var persistedSnapshot =
+        takeSnapshot(1L, List.of("file1.txt", "file2.txt"), List.of("0123456789", "01"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(persistedSnapshot.getPath(), 4)) {
+      snapshotChunkReader.enableFileBlocks();
+      while (snapshotChunkReader.hasNext()) {
+        final var chunkId = snapshotChunkReader.nextId();
+        assertThat(receivedSnapshot.containsChunk(chunkId)).isFalse();
+        assertThat(receivedSnapshot.apply(snapshotChunkReader.next())).isTrue();
+        assertThat(receivedSnapshot.containsChunk(chunkId)).isTrue();
+      }
+    }
+    final var snapshot = receivedSnapshot.persist();
+
+    // then
+    assertThat(snapshot.getPath().resolve("file1.txt")).hasContent("0123456789");
+    assertThat(snapshot.getPath().resolve("file2.txt")).hasContent("01");
+  }
+
+  @Test
+  public void shouldReturnFalseOnConsumingChunkOutOfOrder() throws Exception {
+    // given
+    final var persistedSnapshot = takeSnapshot(1L, List.of("file1.txt"), List.of("0123456789"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(persistedSnapshot.getPath(), 4)) {
+      snapshotChunkReader.enableFileBlocks();
+      receivedSnapshot.apply(snapshotChunkReader.next());
+      snapshotChunkReader.next();
+      final var thirdChunk = snapshotChunkReader.next();
+
+      // when
+      final var success = receivedSnapshot.apply(thirdChunk);
+
+      // then
+      assertThat(success).isFalse();
+    }
+  }
+
   private ReceivedSnapshot takeAndReceiveSnapshot(final long index, final long term)
       throws IOException {
     final PersistedSnapshot persistedSnapshot = takeSnapshot(index, term);
@@ -601,6 +721,14 @@ public class FileBasedReceivedSnapshotTest {
     return transientSnapshot.persist();
   }
 
+  private PersistedSnapshot takeSnapshot(
+      final long index, final List<String> fileNames, final List<String> fileContents) {
+    final var transientSnapshot =
+        senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).orElseThrow();
+    transientSnapshot.take(path -> takeSnapshot(path, fileNames, fileContents));
+    return transientSnapshot.persist();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot)
       throws IOException {
     final var receivedSnapshot =
@@ -70,6 +70,112 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(reader.hasNext()).isFalse();
   }
 
+  @Test
+  public void shouldReadImmutableChunksAsReferenceIfEnabled() {
+    // given
+    final var reader = newReader(chunksOf("CURRENT", "1.sst"));
+
+    // when
+    reader.enableContentReferences();
+
+    // then
+    final var sstChunk = reader.next();
+    assertThat(sstChunk.getChunkName()).isEqualTo("1.sst");
+    assertThat(sstChunk.isContentReference()).isTrue();
+    assertThat(reader.next().isContentReference()).isFalse();
+  }
+
+  @Test
+  public void shouldNotReadChunksAsReferenceByDefault() {
+    // given
+    final var reader = newReader(chunksOf("CURRENT", "1.sst"));
+
+    // when - then
+    assertThat(reader.next().isContentReference()).isFalse();
+    assertThat(reader.next().isContentReference()).isFalse();
+  }
+
+  @Test
+  public void shouldSeekToChunkWithContent() {
+    // given
+    final var reader = newReader(chunksOf("1.sst", "2.sst"));
+    reader.enableContentReferences();
+    reader.next();
+
+    // when
+    reader.seekWithContent(asBuffer("1.sst"));
+
+    // then
+    final var chunk = reader.next();
+    assertThat(chunk.getChunkName()).isEqualTo("1.sst");
+    assertThat(chunk.isContentReference()).isFalse();
+    assertThat(reader.next().isContentReference()).isTrue();
+  }
+
+  @Test
+  public void shouldSplitLargeFileIntoChunks() throws IOException {
+    // given
+    Files.write(temporaryFolder.getRoot().toPath().resolve("a"), "0123456789".getBytes());
+    Files.write(temporaryFolder.getRoot().toPath().resolve("b"), "01".getBytes());
+    final var reader = new FileBasedSnapshotChunkReader(temporaryFolder.getRoot().toPath(), 4);
+    reader.enableFileBlocks();
+
+    // when
+    final var ids = new ArrayList<ByteBuffer>();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    while (reader.hasNext()) {
+      ids.add(reader.nextId());
+      chunks.add(reader.next());
+    }
+
+    // then
+    assertThat(ids).containsExactly(asBuffer("a"), asBuffer("a/4"), asBuffer("a/8"), asBuffer("b"));
+    assertThat(chunks).extracting(SnapshotChunk::getChunkName).containsExactly("a", "a", "a", "b");
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getFileBlockPosition)
+        .containsExactly(0L, 4L, 8L, 0L);
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getTotalFileSize)
+        .containsExactly(10L, 10L, 10L, 2L);
+    assertThat(chunks)
+        .extracting(chunk -> new String(chunk.getContent()))
+        .containsExactly("0123", "4567", "89", "01");
+    assertThat(chunks).extracting(SnapshotChunk::getTotalCount).containsOnly(2);
+  }
+
+  @Test
+  public void shouldReadWholeFileIfFileBlocksAreNotEnabled() throws IOException {
+    // given
+    Files.write(temporaryFolder.getRoot().toPath().resolve("a"), "0123456789".getBytes());
+    final var reader = new FileBasedSnapshotChunkReader(temporaryFolder.getRoot().toPath(), 4);
+
+    // when
+    final var id = reader.nextId();
+    final var chunk = reader.next();
+
+    // then
+    assertThat(id).isEqualTo(asBuffer("a"));
+    assertThat(chunk.getContent()).isEqualTo("0123456789".getBytes());
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  public void shouldSeekToChunkInFile() throws IOException {
+    // given
+    Files.write(temporaryFolder.getRoot().toPath().resolve("a"), "0123456789".getBytes());
+    final var reader = new FileBasedSnapshotChunkReader(temporaryFolder.getRoot().toPath(), 4);
+    reader.enableFileBlocks();
+
+    // when
+    reader.seek(asBuffer("a/4"));
+
+    // then
+    final var chunk = reader.next();
+    assertThat(chunk.getFileBlockPosition()).isEqualTo(4L);
+    assertThat(chunk.getContent()).isEqualTo("4567".getBytes());
+    assertThat(reader.nextId()).isEqualTo(asBuffer("a/8"));
+  }
+
   private ByteBuffer asBuffer(final CharSequence chunk) {
     return ByteBuffer.wrap(chunk.toString().getBytes(FileBasedSnapshotChunkReader.ID_CHARSET));
   }
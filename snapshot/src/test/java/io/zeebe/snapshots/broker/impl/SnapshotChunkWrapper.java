@@ -91,4 +91,19 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
     }
     return snapshotChecksum;
   }
+
+  @Override
+  public boolean isContentReference() {
+    return wrappedChunk.isContentReference();
+  }
+
+  @Override
+  public long getFileBlockPosition() {
+    return wrappedChunk.getFileBlockPosition();
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return wrappedChunk.getTotalFileSize();
+  }
 }
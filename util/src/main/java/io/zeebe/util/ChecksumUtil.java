@@ -8,12 +8,14 @@
 package io.zeebe.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 public final class ChecksumUtil {
 
@@ -25,13 +27,19 @@ public final class ChecksumUtil {
     final List<Long> chunkChecksum = new ArrayList<>();
 
     for (final var path : paths) {
-      checksumGenerator.update(Files.readAllBytes(path));
-      chunkChecksum.add(checksumGenerator.getValue());
-      checksumGenerator.reset();
+      chunkChecksum.add(createChecksum(path));
     }
 
     chunkChecksum.forEach(
         c -> checksumGenerator.update(ByteBuffer.allocate(Long.BYTES).putLong(0, c)));
     return checksumGenerator.getValue();
   }
+
+  /** computes the checksum of the file, without reading the whole file into memory */
+  public static long createChecksum(final Path path) throws IOException {
+    try (final var input = new CheckedInputStream(Files.newInputStream(path), new CRC32())) {
+      input.transferTo(OutputStream.nullOutputStream());
+      return input.getChecksum().getValue();
+    }
+  }
 }
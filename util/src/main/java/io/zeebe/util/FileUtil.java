@@ -118,17 +118,34 @@ public final class FileUtil {
 
   public static void copySnapshot(final Path runtimeDirectory, final Path snapshotDirectory)
       throws Exception {
-    Files.walkFileTree(snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory));
+    Files.walkFileTree(
+        snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory, null));
+  }
+
+  /**
+   * Copies the snapshot into the runtime directory like {@link #copySnapshot(Path, Path)}, but
+   * creates hard links to the immutable files with the given suffix instead of copying them, like
+   * RocksDB does for checkpoints. If a file can't be linked, e.g. because the directories are on
+   * different file systems, then it is copied.
+   */
+  public static void linkSnapshot(
+      final Path runtimeDirectory, final Path snapshotDirectory, final String immutableFileSuffix)
+      throws Exception {
+    Files.walkFileTree(
+        snapshotDirectory,
+        new SnapshotCopier(snapshotDirectory, runtimeDirectory, immutableFileSuffix));
   }
 
   public static final class SnapshotCopier extends SimpleFileVisitor<Path> {
 
     private final Path targetPath;
     private final Path sourcePath;
+    private final String immutableFileSuffix;
 
-    SnapshotCopier(final Path sourcePath, final Path targetPath) {
+    SnapshotCopier(final Path sourcePath, final Path targetPath, final String immutableFileSuffix) {
       this.sourcePath = sourcePath;
       this.targetPath = targetPath;
+      this.immutableFileSuffix = immutableFileSuffix;
     }
 
     @Override
@@ -149,6 +166,10 @@ public final class FileUtil {
     public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
       final Path newFile = targetPath.resolve(sourcePath.relativize(file));
 
+      if (isImmutable(file) && tryLink(file, newFile)) {
+        return CONTINUE;
+      }
+
       try {
         Files.copy(file, newFile);
       } catch (final IOException ioException) {
@@ -158,6 +179,21 @@ public final class FileUtil {
       return CONTINUE;
     }
 
+    private boolean isImmutable(final Path file) {
+      return immutableFileSuffix != null
+          && file.getFileName().toString().endsWith(immutableFileSuffix);
+    }
+
+    private boolean tryLink(final Path file, final Path newFile) {
+      try {
+        Files.createLink(newFile, file);
+        return true;
+      } catch (final IOException | UnsupportedOperationException e) {
+        LOG.debug("Failed to link {} to {}, copy it instead.", file, newFile, e);
+        return false;
+      }
+    }
+
     @Override
     public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
       LOG.error("Problem on copying snapshot to runtime.", exc);
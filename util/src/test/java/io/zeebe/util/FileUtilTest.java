@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import org.junit.Rule;
 import org.junit.Test;
@@ -73,4 +74,28 @@ public final class FileUtilTest {
     assertThat(filesInFolder).hasSize(1);
     assertThat(filesInFolder[0]).hasName(fileToCreate);
   }
+
+  @Test
+  public void shouldLinkImmutableFilesOfSnapshot() throws Exception {
+    // given
+    final var snapshotDirectory = tempFolder.newFolder("snapshot").toPath();
+    final var runtimeDirectory = tempFolder.getRoot().toPath().resolve("runtime");
+    Files.write(snapshotDirectory.resolve("000001.sst"), "sst".getBytes());
+    Files.write(snapshotDirectory.resolve("CURRENT"), "current".getBytes());
+
+    // when
+    FileUtil.linkSnapshot(runtimeDirectory, snapshotDirectory, ".sst");
+
+    // then
+    assertThat(runtimeDirectory.resolve("000001.sst")).hasContent("sst");
+    assertThat(runtimeDirectory.resolve("CURRENT")).hasContent("current");
+    assertThat(
+            Files.isSameFile(
+                runtimeDirectory.resolve("000001.sst"), snapshotDirectory.resolve("000001.sst")))
+        .isTrue();
+    assertThat(
+            Files.isSameFile(
+                runtimeDirectory.resolve("CURRENT"), snapshotDirectory.resolve("CURRENT")))
+        .isFalse();
+  }
 }
@@ -109,6 +109,19 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
       KeyType key,
       ValueType value);
 
+  /**
+   * Visits the key-value pairs, which are stored in the column family, starting at the given key.
+   * If the key doesn't exist, the iteration starts at the next greater key. The ordering depends on
+   * the key. The visitor can indicate via the return value, whether the iteration should continue
+   * or not. This means if the visitor returns false the iteration will stop.
+   *
+   * <p>Similar to {@link #whileTrue(KeyValuePairVisitor)}.
+   *
+   * @param startAtKey the key at which the iteration starts
+   * @param visitor the visitor which visits the key-value pairs
+   */
+  void whileTrue(KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the key-value pairs, which are stored in the column family and which have the same
    * common prefix. The ordering depends on the key.
@@ -71,6 +71,15 @@ public interface DbContext {
    */
   void withPrefixKeyBuffer(Consumer<ExpandableArrayBuffer> prefixKeyBufferConsumer);
 
+  /**
+   * Runs a consumer with a shared iterator entry, into which the entries of an iterator can be read
+   * without allocating new arrays for each key and value. Nested iterations get different entries,
+   * such that the entry of an outer iteration is not overwritten.
+   *
+   * @param iteratorEntryConsumer consumer of the shared iterator entry
+   */
+  void withIteratorEntry(Consumer<IteratorEntry> iteratorEntryConsumer);
+
   /**
    * Create a new iterator on the shared transaction
    *
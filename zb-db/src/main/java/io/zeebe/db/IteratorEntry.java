@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db;
+
+import java.nio.ByteBuffer;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.RocksIterator;
+
+/**
+ * Holds the key and value of the current entry of a {@link RocksIterator}. The entry is read into
+ * reusable direct buffers, instead of copying it into new arrays, and is only valid until the
+ * iterator is moved or the next entry is read.
+ */
+public final class IteratorEntry {
+
+  private static final int INITIAL_KEY_CAPACITY = 256;
+  private static final int INITIAL_VALUE_CAPACITY = 4 * 1024;
+
+  private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer valueView = new UnsafeBuffer(0, 0);
+
+  private ByteBuffer keyBuffer = ByteBuffer.allocateDirect(INITIAL_KEY_CAPACITY);
+  private ByteBuffer valueBuffer = ByteBuffer.allocateDirect(INITIAL_VALUE_CAPACITY);
+
+  /**
+   * Reads the key of the current entry of the given iterator.
+   *
+   * @param iterator the iterator, which must be positioned on a valid entry
+   */
+  public void readKey(final RocksIterator iterator) {
+    keyBuffer.clear();
+    int keyLength = iterator.key(keyBuffer);
+
+    if (keyLength > keyBuffer.capacity()) {
+      keyBuffer = ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(keyLength));
+      keyLength = iterator.key(keyBuffer);
+    }
+
+    keyView.wrap(keyBuffer, 0, keyLength);
+  }
+
+  /**
+   * Reads the value of the current entry of the given iterator.
+   *
+   * @param iterator the iterator, which must be positioned on a valid entry
+   */
+  public void readValue(final RocksIterator iterator) {
+    valueBuffer.clear();
+    int valueLength = iterator.value(valueBuffer);
+
+    if (valueLength > valueBuffer.capacity()) {
+      valueBuffer = ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(valueLength));
+      valueLength = iterator.value(valueBuffer);
+    }
+
+    valueView.wrap(valueBuffer, 0, valueLength);
+  }
+
+  /** @return a view of the last read key, with a capacity equal to the key length */
+  public DirectBuffer getKey() {
+    return keyView;
+  }
+
+  /** @return a view of the last read value, with a capacity equal to the value length */
+  public DirectBuffer getValue() {
+    return valueView;
+  }
+
+  /** @return true if the last read key starts with the given prefix, false otherwise */
+  public boolean keyStartsWith(final byte[] prefix, final int prefixLength) {
+    if (keyView.capacity() < prefixLength) {
+      return false;
+    }
+
+    for (int i = 0; i < prefixLength; i++) {
+      if (keyView.getByte(i) != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
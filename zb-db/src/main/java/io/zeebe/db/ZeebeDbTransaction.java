@@ -38,4 +38,24 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Records the current state of the transaction as a save point. Changes made after this call can
+   * be discarded via {@link #rollbackToSavePoint()}, without losing the changes made before. Save
+   * points are cleared on commit and rollback.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Discards all changes which were made since the last {@link #setSavePoint()} and removes that
+   * save point. The transaction itself stays open.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, e.g. if no
+   *     save point was set
+   */
+  void rollbackToSavePoint() throws Exception;
 }
@@ -9,6 +9,7 @@ package io.zeebe.db.impl.rocksdb;
 
 import io.prometheus.client.Gauge;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import io.zeebe.util.ZbLogger;
 import java.util.Objects;
 import org.slf4j.Logger;
@@ -74,6 +75,18 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
 
+  private static final String CACHE_METRICS_HELP =
+      "Statistics of the caches of cached column families per column family and partition";
+  private static final String CACHE_METRICS_PREFIX = "db";
+  private static final RocksDBMetric[] CACHE_METRICS = {
+    new RocksDBMetric(
+        ZeebeTransactionDb.PROPERTY_CACHE_HITS, CACHE_METRICS_PREFIX, CACHE_METRICS_HELP),
+    new RocksDBMetric(
+        ZeebeTransactionDb.PROPERTY_CACHE_MISSES, CACHE_METRICS_PREFIX, CACHE_METRICS_HELP),
+    new RocksDBMetric(
+        ZeebeTransactionDb.PROPERTY_CACHE_SIZE, CACHE_METRICS_PREFIX, CACHE_METRICS_HELP),
+  };
+
   private final String partition;
   private final ZeebeDb<ColumnFamilyType> database;
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
@@ -95,6 +108,7 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
       exportMetrics(columnFamilyName, LIVE_METRICS);
       exportMetrics(columnFamilyName, SST_METRICS);
       exportMetrics(columnFamilyName, WRITE_METRICS);
+      exportMetrics(columnFamilyName, CACHE_METRICS);
     }
 
     final long elapsedTime = System.currentTimeMillis() - startTime;
@@ -13,12 +13,17 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.stream.Collectors;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.Filter;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -29,52 +34,168 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     RocksDB.loadLibrary();
   }
 
+  // the block cache is shared by all column families; by default it is as large as the RocksDB
+  // default caches, which each column family had on its own before, together
+  static final long DEFAULT_BLOCK_CACHE_SIZE_PER_COLUMN_FAMILY = 8 * 1024 * 1024L;
+  private static final double BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+
+  private static final String TABLE_FACTORY_OPTION = "block_based_table_factory";
+  private static final String PREFIX_EXTRACTOR_OPTION = "prefix_extractor";
+
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
   private final Properties userProvidedColumnFamilyOptions;
+  private final Map<ColumnFamilyType, Integer> columnFamilyCacheSizes;
+  private final Map<ColumnFamilyType, Integer> columnFamilyPrefixLengths;
+  private final long blockCacheSize;
 
   private ZeebeRocksDbFactory(
       final Class<ColumnFamilyType> columnFamilyTypeClass,
-      final Properties userProvidedColumnFamilyOptions) {
+      final Properties userProvidedColumnFamilyOptions,
+      final Map<ColumnFamilyType, Integer> columnFamilyCacheSizes,
+      final Map<ColumnFamilyType, Integer> columnFamilyPrefixLengths,
+      final long blockCacheSize) {
     this.columnFamilyTypeClass = columnFamilyTypeClass;
     this.userProvidedColumnFamilyOptions = Objects.requireNonNull(userProvidedColumnFamilyOptions);
+    this.columnFamilyCacheSizes = Objects.requireNonNull(columnFamilyCacheSizes);
+    this.columnFamilyPrefixLengths = Objects.requireNonNull(columnFamilyPrefixLengths);
+    this.blockCacheSize = blockCacheSize;
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass) {
     final var columnFamilyOptions = new Properties();
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, columnFamilyOptions);
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass, columnFamilyOptions, Map.of(), Map.of(), 0);
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass,
           final Properties userProvidedColumnFamilyOptions) {
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, userProvidedColumnFamilyOptions);
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass, userProvidedColumnFamilyOptions, Map.of(), Map.of(), 0);
+  }
+
+  /**
+   * Creates a factory for databases which cache the values of the given column families. Such a
+   * database keeps a write-through LRU cache with the given count of entries per column family,
+   * which is used by the context that writes the column family and invalidated when its transaction
+   * is rolled back. A cached column family must be written through one context only; a write
+   * through another context is rejected with an {@link IllegalStateException}. Other contexts read
+   * the column family without the cache.
+   *
+   * @param columnFamilyTypeClass the enum class, which contains the column family names
+   * @param userProvidedColumnFamilyOptions additional column family options
+   * @param columnFamilyCacheSizes the maximum count of cached entries, by column family
+   * @return the created factory
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final Properties userProvidedColumnFamilyOptions,
+          final Map<ColumnFamilyType, Integer> columnFamilyCacheSizes) {
+    return newFactory(
+        columnFamilyTypeClass, userProvidedColumnFamilyOptions, columnFamilyCacheSizes, Map.of());
+  }
+
+  /**
+   * Creates a factory for databases which cache the values of the given column families and which
+   * know the key prefixes of the given column families. A column family with a prefix length uses a
+   * fixed length prefix extractor, with a prefix bloom filter in the memtable and in the SST files,
+   * so that prefix iterations can skip the files and blocks which don't contain the prefix. All
+   * prefix iterations over such a column family should use a prefix of at least this length;
+   * shorter prefixes fall back to a total order iteration.
+   *
+   * @param columnFamilyTypeClass the enum class, which contains the column family names
+   * @param userProvidedColumnFamilyOptions additional column family options
+   * @param columnFamilyCacheSizes the maximum count of cached entries, by column family
+   * @param columnFamilyPrefixLengths the length of the common key prefix, by column family
+   * @return the created factory
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final Properties userProvidedColumnFamilyOptions,
+          final Map<ColumnFamilyType, Integer> columnFamilyCacheSizes,
+          final Map<ColumnFamilyType, Integer> columnFamilyPrefixLengths) {
+    return newFactory(
+        columnFamilyTypeClass,
+        userProvidedColumnFamilyOptions,
+        columnFamilyCacheSizes,
+        columnFamilyPrefixLengths,
+        0);
+  }
+
+  /**
+   * Creates a factory like {@link #newFactory(Class, Properties, Map, Map)}, whose databases use a
+   * block cache of the given size. The block cache is shared by all column families of a database.
+   * If the size is zero, it is {@link #DEFAULT_BLOCK_CACHE_SIZE_PER_COLUMN_FAMILY} times the count
+   * of column families, i.e. as large as the default caches of RocksDB together.
+   *
+   * @param columnFamilyTypeClass the enum class, which contains the column family names
+   * @param userProvidedColumnFamilyOptions additional column family options
+   * @param columnFamilyCacheSizes the maximum count of cached entries, by column family
+   * @param columnFamilyPrefixLengths the length of the common key prefix, by column family
+   * @param blockCacheSize the size of the shared block cache in bytes, or zero for the default
+   * @return the created factory
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final Properties userProvidedColumnFamilyOptions,
+          final Map<ColumnFamilyType, Integer> columnFamilyCacheSizes,
+          final Map<ColumnFamilyType, Integer> columnFamilyPrefixLengths,
+          final long blockCacheSize) {
+    ensureAllPositive(columnFamilyCacheSizes, "cache size");
+    ensureAllPositive(columnFamilyPrefixLengths, "prefix length");
+    if (blockCacheSize < 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected block cache size to be at least 0, but was %d", blockCacheSize));
+    }
+
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass,
+        userProvidedColumnFamilyOptions,
+        columnFamilyCacheSizes,
+        columnFamilyPrefixLengths,
+        blockCacheSize);
+  }
+
+  private static <ColumnFamilyType extends Enum<ColumnFamilyType>> void ensureAllPositive(
+      final Map<ColumnFamilyType, Integer> valuesByColumnFamily, final String valueName) {
+    valuesByColumnFamily.forEach(
+        (columnFamily, value) -> {
+          if (value < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Expected %s of column family %s to be at least 1, but was %d",
+                    valueName, columnFamily, value));
+          }
+        });
   }
 
   @Override
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
-    return open(
-        pathName,
-        Arrays.stream(columnFamilyTypeClass.getEnumConstants())
-            .map(c -> c.name().toLowerCase().getBytes())
-            .collect(Collectors.toList()));
+    return open(pathName, Arrays.asList(columnFamilyTypeClass.getEnumConstants()));
   }
 
   private ZeebeTransactionDb<ColumnFamilyType> open(
-      final File dbDirectory, final List<byte[]> columnFamilyNames) {
+      final File dbDirectory, final List<ColumnFamilyType> columnFamilies) {
 
     final ZeebeTransactionDb<ColumnFamilyType> db;
     try {
       final List<AutoCloseable> closeables = new ArrayList<>();
 
-      // column family options have to be closed as last
-      final ColumnFamilyOptions columnFamilyOptions = createColumnFamilyOptions();
-      closeables.add(columnFamilyOptions);
+      // column family options and the resources they share have to be closed as last
+      final Cache blockCache = new LRUCache(getBlockCacheSize(columnFamilies.size()));
+      closeables.add(blockCache);
+      final Filter bloomFilter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+      closeables.add(bloomFilter);
 
       final List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          createFamilyDescriptors(columnFamilyNames, columnFamilyOptions);
+          createFamilyDescriptors(columnFamilies, blockCache, bloomFilter, closeables);
       final DBOptions dbOptions =
           new DBOptions()
               .setCreateMissingColumnFamilies(true)
@@ -89,7 +210,9 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
               dbDirectory.getAbsolutePath(),
               columnFamilyDescriptors,
               closeables,
-              columnFamilyTypeClass);
+              columnFamilyTypeClass,
+              columnFamilyCacheSizes,
+              columnFamilyPrefixLengths);
 
     } catch (final RocksDBException e) {
       throw new RuntimeException("Unexpected error occurred trying to open the database", e);
@@ -97,21 +220,69 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     return db;
   }
 
+  long getBlockCacheSize(final int columnFamilyCount) {
+    return blockCacheSize > 0
+        ? blockCacheSize
+        : DEFAULT_BLOCK_CACHE_SIZE_PER_COLUMN_FAMILY * columnFamilyCount;
+  }
+
   private List<ColumnFamilyDescriptor> createFamilyDescriptors(
-      final List<byte[]> columnFamilyNames, final ColumnFamilyOptions columnFamilyOptions) {
+      final List<ColumnFamilyType> columnFamilies,
+      final Cache blockCache,
+      final Filter bloomFilter,
+      final List<AutoCloseable> closeables) {
     final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
 
-    if (columnFamilyNames != null && !columnFamilyNames.isEmpty()) {
-      for (final byte[] name : columnFamilyNames) {
-        final ColumnFamilyDescriptor columnFamilyDescriptor =
-            new ColumnFamilyDescriptor(name, columnFamilyOptions);
-        columnFamilyDescriptors.add(columnFamilyDescriptor);
-      }
+    for (final ColumnFamilyType columnFamily : columnFamilies) {
+      final ColumnFamilyOptions columnFamilyOptions =
+          createColumnFamilyOptions(columnFamily, blockCache, bloomFilter);
+      closeables.add(columnFamilyOptions);
+
+      final ColumnFamilyDescriptor columnFamilyDescriptor =
+          new ColumnFamilyDescriptor(
+              columnFamily.name().toLowerCase().getBytes(), columnFamilyOptions);
+      columnFamilyDescriptors.add(columnFamilyDescriptor);
     }
     return columnFamilyDescriptors;
   }
 
-  /** @return Options which are used on all column families */
+  /**
+   * Creates the options of the given column family, based on the {@link
+   * #createColumnFamilyOptions() common options}. Each column family uses a bloom filter and the
+   * shared block cache, unless the user provided their own table options. Column families with a
+   * known key prefix get a fixed length prefix extractor and a memtable prefix bloom filter, unless
+   * the user provided their own prefix extractor.
+   *
+   * @param columnFamily the column family to create the options for
+   * @param blockCache the block cache, which is shared by all column families
+   * @param bloomFilter the bloom filter policy, which is shared by all column families
+   * @return the options of the given column family
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final ColumnFamilyType columnFamily, final Cache blockCache, final Filter bloomFilter) {
+    final ColumnFamilyOptions columnFamilyOptions = createColumnFamilyOptions();
+
+    if (!userProvidedColumnFamilyOptions.containsKey(TABLE_FACTORY_OPTION)) {
+      final BlockBasedTableConfig tableConfig =
+          new BlockBasedTableConfig()
+              .setBlockCache(blockCache)
+              .setFilterPolicy(bloomFilter)
+              .setWholeKeyFiltering(true);
+      columnFamilyOptions.setTableFormatConfig(tableConfig);
+    }
+
+    final Integer prefixLength = columnFamilyPrefixLengths.get(columnFamily);
+    if (prefixLength != null
+        && !userProvidedColumnFamilyOptions.containsKey(PREFIX_EXTRACTOR_OPTION)) {
+      columnFamilyOptions
+          .useFixedLengthPrefixExtractor(prefixLength)
+          .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+    }
+
+    return columnFamilyOptions;
+  }
+
+  /** @return Options which are common to all column families */
   public ColumnFamilyOptions createColumnFamilyOptions() {
     // start with some defaults
     final var columnFamilyOptionProps = new Properties();
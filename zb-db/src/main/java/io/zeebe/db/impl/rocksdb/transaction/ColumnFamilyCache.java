@@ -0,0 +1,161 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A size-bounded LRU cache of the key-value pairs of one column family of a database, as seen by
+ * the transaction which writes the column family. The cache is write-through: values which are put
+ * or deleted in the transaction are updated in the cache, such that subsequent reads of the same
+ * transaction don't need to go to the database.
+ *
+ * <p>A cached column family must be written by a single transaction only, i.e. through one context.
+ * The first transaction which writes the column family becomes its writer; a write through another
+ * transaction is rejected, since it would make the cached values stale. Only the writer reads from
+ * the cache, other transactions read the database directly, because the cache contains the
+ * uncommitted changes of the writer.
+ *
+ * <p>Since the cached values may contain uncommitted changes, the cache is cleared if the writer is
+ * rolled back after it modified the column family.
+ */
+final class ColumnFamilyCache {
+
+  private static final byte[] MISSING_VALUE = new byte[0];
+  private static final String ERROR_MESSAGE_OTHER_WRITER =
+      "Expected the cached column family '%s' to be written through one context only, but it was written through another context";
+
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+  private final LinkedHashMap<DirectBuffer, byte[]> entries;
+  private final String columnFamilyName;
+  private final ColumnFamilyCacheStatistics statistics;
+
+  // the writer is read by the transactions of other contexts, which may run on other threads
+  private volatile ZeebeTransaction writer;
+  private boolean hasUncommittedChanges;
+
+  ColumnFamilyCache(
+      final int capacity,
+      final String columnFamilyName,
+      final ColumnFamilyCacheStatistics statistics) {
+    this.columnFamilyName = columnFamilyName;
+    this.statistics = statistics;
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Entry<DirectBuffer, byte[]> eldest) {
+            if (size() > capacity) {
+              statistics.onSizeChanged(-1);
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Claims the column family for the given transaction, which is about to write it.
+   *
+   * @throws IllegalStateException if the column family is already written by another transaction
+   */
+  void claimWriter(final ZeebeTransaction transaction) {
+    if (writer == transaction) {
+      return;
+    }
+
+    synchronized (this) {
+      if (writer == null) {
+        writer = transaction;
+      } else if (writer != transaction) {
+        throw new IllegalStateException(
+            String.format(ERROR_MESSAGE_OTHER_WRITER, columnFamilyName));
+      }
+    }
+  }
+
+  /** @return {@code true} if the given transaction writes the column family and uses the cache */
+  boolean isWriter(final ZeebeTransaction transaction) {
+    return writer == transaction;
+  }
+
+  /**
+   * @return the cached value of the given key, {@link #MISSING_VALUE} if the key is known to not
+   *     exist, or {@code null} if the key is not cached
+   */
+  byte[] get(final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, 0, keyLength);
+    final byte[] value = entries.get(lookupKey);
+
+    if (value != null) {
+      statistics.onHit();
+    } else {
+      statistics.onMiss();
+    }
+    return value;
+  }
+
+  /** Caches the value which was read from the database; the value may be {@code null}. */
+  void putReadValue(final byte[] key, final int keyLength, final byte[] value) {
+    put(key, keyLength, value != null ? value : MISSING_VALUE);
+  }
+
+  void putWrittenValue(
+      final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+    put(key, keyLength, Arrays.copyOf(value, valueLength));
+    hasUncommittedChanges = true;
+  }
+
+  void putDeletedValue(final byte[] key, final int keyLength) {
+    put(key, keyLength, MISSING_VALUE);
+    hasUncommittedChanges = true;
+  }
+
+  void onCommit() {
+    hasUncommittedChanges = false;
+  }
+
+  void onRollback() {
+    if (hasUncommittedChanges) {
+      clear();
+      hasUncommittedChanges = false;
+    }
+  }
+
+  void onRollbackToSavePoint() {
+    // the changes before the save point are still uncommitted and may be cached again
+    if (hasUncommittedChanges) {
+      clear();
+    }
+  }
+
+  static boolean isMissing(final byte[] value) {
+    return value == MISSING_VALUE;
+  }
+
+  private void put(final byte[] key, final int keyLength, final byte[] value) {
+    lookupKey.wrap(key, 0, keyLength);
+    final byte[] previousValue = entries.get(lookupKey);
+
+    if (previousValue != null) {
+      // the lookup key is equal to the existing key, which can be kept
+      entries.put(lookupKey, value);
+    } else {
+      entries.put(new UnsafeBuffer(Arrays.copyOf(key, keyLength)), value);
+      statistics.onSizeChanged(1);
+    }
+  }
+
+  private void clear() {
+    statistics.onSizeChanged(-entries.size());
+    entries.clear();
+  }
+}
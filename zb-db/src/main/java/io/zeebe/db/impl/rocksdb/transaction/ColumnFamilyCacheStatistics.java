@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the statistics of the cache of one column family. The statistics are read by the metric
+ * exporter, which runs on a different thread.
+ */
+final class ColumnFamilyCacheStatistics {
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong size = new AtomicLong();
+
+  void onHit() {
+    hits.incrementAndGet();
+  }
+
+  void onMiss() {
+    misses.incrementAndGet();
+  }
+
+  void onSizeChanged(final int delta) {
+    size.addAndGet(delta);
+  }
+
+  long getHits() {
+    return hits.get();
+  }
+
+  long getMisses() {
+    return misses.get();
+  }
+
+  long getSize() {
+    return size.get();
+  }
+}
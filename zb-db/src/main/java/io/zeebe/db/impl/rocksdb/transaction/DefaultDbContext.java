@@ -12,6 +12,7 @@ import static io.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.RECOVERABLE_E
 import io.zeebe.db.DbContext;
 import io.zeebe.db.DbKey;
 import io.zeebe.db.DbValue;
+import io.zeebe.db.IteratorEntry;
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.ZeebeDbTransaction;
@@ -41,6 +42,7 @@ public final class DefaultDbContext implements DbContext {
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
 
   private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
+  private final Queue<IteratorEntry> iteratorEntries = new ArrayDeque<>();
 
   DefaultDbContext(final ZeebeTransaction transaction) {
     this.transaction = transaction;
@@ -121,6 +123,21 @@ public final class DefaultDbContext implements DbContext {
     }
   }
 
+  @Override
+  public void withIteratorEntry(final Consumer<IteratorEntry> iteratorEntryConsumer) {
+    IteratorEntry iteratorEntry = iteratorEntries.poll();
+    if (iteratorEntry == null) {
+      // the entries of nested iterations must not overwrite each other
+      iteratorEntry = new IteratorEntry();
+    }
+
+    try {
+      iteratorEntryConsumer.accept(iteratorEntry);
+    } finally {
+      iteratorEntries.add(iteratorEntry);
+    }
+  }
+
   @Override
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.newIterator(options, handle);
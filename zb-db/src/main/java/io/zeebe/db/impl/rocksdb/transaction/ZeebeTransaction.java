@@ -12,6 +12,8 @@ import static io.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExce
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.ZeebeDbTransaction;
+import java.util.function.Consumer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
@@ -22,10 +24,22 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final Transaction transaction;
   private final long nativeHandle;
+  private final Long2ObjectHashMap<ColumnFamilyCache> caches;
   private boolean inCurrentTransaction;
 
   public ZeebeTransaction(final Transaction transaction) {
+    this(transaction, new Long2ObjectHashMap<>());
+  }
+
+  /**
+   * @param transaction the RocksDB transaction
+   * @param caches the caches of the column families which should be cached, by column family
+   *     handle; the caches are shared by the transactions of all contexts of the database
+   */
+  ZeebeTransaction(
+      final Transaction transaction, final Long2ObjectHashMap<ColumnFamilyCache> caches) {
     this.transaction = transaction;
+    this.caches = caches;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
     } catch (final Exception ex) {
@@ -40,8 +54,17 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
+    final ColumnFamilyCache cache = caches.get(columnFamilyHandle);
+    if (cache != null) {
+      cache.claimWriter(this);
+    }
+
     RocksDbInternal.putWithHandle.invoke(
         transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+
+    if (cache != null) {
+      cache.putWrittenValue(key, keyLength, value, valueLength);
+    }
   }
 
   public byte[] get(
@@ -50,6 +73,27 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] key,
       final int keyLength)
       throws Exception {
+    final ColumnFamilyCache cache = caches.get(columnFamilyHandle);
+    if (cache == null || !cache.isWriter(this)) {
+      return getFromDb(columnFamilyHandle, readOptionsHandle, key, keyLength);
+    }
+
+    final byte[] cachedValue = cache.get(key, keyLength);
+    if (cachedValue != null) {
+      return ColumnFamilyCache.isMissing(cachedValue) ? null : cachedValue;
+    }
+
+    final byte[] value = getFromDb(columnFamilyHandle, readOptionsHandle, key, keyLength);
+    cache.putReadValue(key, keyLength, value);
+    return value;
+  }
+
+  private byte[] getFromDb(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
     return (byte[])
         RocksDbInternal.getWithHandle.invoke(
             transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
@@ -57,8 +101,17 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
+    final ColumnFamilyCache cache = caches.get(columnFamilyHandle);
+    if (cache != null) {
+      cache.claimWriter(this);
+    }
+
     RocksDbInternal.removeWithHandle.invoke(
         transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+
+    if (cache != null) {
+      cache.putDeletedValue(key, keyLength);
+    }
   }
 
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
@@ -112,16 +165,54 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavePoint() throws RocksDBException {
+    try {
+      transaction.setSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred during RocksDB set save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavePoint() throws RocksDBException {
+    try {
+      transaction.rollbackToSavePoint();
+      forEachWrittenCache(ColumnFamilyCache::onRollbackToSavePoint);
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    forEachWrittenCache(ColumnFamilyCache::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    forEachWrittenCache(ColumnFamilyCache::onRollback);
     transaction.rollback();
   }
 
+  private void forEachWrittenCache(final Consumer<ColumnFamilyCache> action) {
+    for (final ColumnFamilyCache cache : caches.values()) {
+      if (cache.isWriter(this)) {
+        action.accept(cache);
+      }
+    }
+  }
+
   public void close() {
     transaction.close();
   }
@@ -7,12 +7,11 @@
  */
 package io.zeebe.db.impl.rocksdb.transaction;
 
-import static io.zeebe.util.buffer.BufferUtil.startsWith;
-
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.DbContext;
 import io.zeebe.db.DbKey;
 import io.zeebe.db.DbValue;
+import io.zeebe.db.IteratorEntry;
 import io.zeebe.db.KeyValuePairVisitor;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbException;
@@ -21,12 +20,15 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -44,6 +46,14 @@ import org.slf4j.Logger;
 public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames>>
     implements ZeebeDb<ColumnFamilyNames> {
 
+  /** Custom property of cached column families, the count of reads which were served by a cache */
+  public static final String PROPERTY_CACHE_HITS = "zeebe.cache-hits";
+  /** Custom property of cached column families, the count of reads which had to read the db */
+  public static final String PROPERTY_CACHE_MISSES = "zeebe.cache-misses";
+  /** Custom property of cached column families, the count of cached entries of all contexts */
+  public static final String PROPERTY_CACHE_SIZE = "zeebe.cache-size";
+
+  private static final String CUSTOM_PROPERTY_PREFIX = "zeebe.";
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
@@ -54,20 +64,39 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
+  private final Map<ColumnFamilyNames, ColumnFamilyCacheStatistics> cacheStatistics =
+      new HashMap<>();
+  // one cache per column family, which is shared by all contexts but used by its writer only
+  private final Long2ObjectHashMap<ColumnFamilyCache> caches = new Long2ObjectHashMap<>();
+  private final Long2LongHashMap prefixLengths = new Long2LongHashMap(0);
 
   protected ZeebeTransactionDb(
       final OptimisticTransactionDB optimisticTransactionDB,
       final EnumMap<ColumnFamilyNames, Long> columnFamilyMap,
       final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap,
-      final List<AutoCloseable> closables) {
+      final List<AutoCloseable> closables,
+      final Map<ColumnFamilyNames, Integer> columnFamilyCacheSizes,
+      final Map<ColumnFamilyNames, Integer> columnFamilyPrefixLengths) {
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.columnFamilyMap = columnFamilyMap;
     this.handelToEnumMap = handelToEnumMap;
     this.closables = closables;
+    columnFamilyCacheSizes.forEach(
+        (columnFamily, cacheSize) -> {
+          final var statistics = new ColumnFamilyCacheStatistics();
+          cacheStatistics.put(columnFamily, statistics);
+          caches.put(
+              getColumnFamilyHandle(columnFamily),
+              new ColumnFamilyCache(cacheSize, columnFamily.name(), statistics));
+        });
+    columnFamilyPrefixLengths.forEach(
+        (columnFamily, prefixLength) ->
+            prefixLengths.put(getColumnFamilyHandle(columnFamily), prefixLength));
 
     prefixReadOptions = new ReadOptions().setPrefixSameAsStart(true).setTotalOrderSeek(false);
     closables.add(prefixReadOptions);
-    defaultReadOptions = new ReadOptions();
+    // column families with a prefix extractor are only totally ordered if requested explicitly
+    defaultReadOptions = new ReadOptions().setTotalOrderSeek(true);
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions();
     closables.add(defaultWriteOptions);
@@ -79,7 +108,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           final String path,
           final List<ColumnFamilyDescriptor> columnFamilyDescriptors,
           final List<AutoCloseable> closables,
-          final Class<ColumnFamilyNames> columnFamilyTypeClass)
+          final Class<ColumnFamilyNames> columnFamilyTypeClass,
+          final Map<ColumnFamilyNames, Integer> columnFamilyCacheSizes,
+          final Map<ColumnFamilyNames, Integer> columnFamilyPrefixLengths)
           throws RocksDBException {
     final EnumMap<ColumnFamilyNames, Long> columnFamilyMap = new EnumMap<>(columnFamilyTypeClass);
 
@@ -98,7 +129,12 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     }
 
     return new ZeebeTransactionDb<>(
-        optimisticTransactionDB, columnFamilyMap, handleToEnumMap, closables);
+        optimisticTransactionDB,
+        columnFamilyMap,
+        handleToEnumMap,
+        closables,
+        columnFamilyCacheSizes,
+        columnFamilyPrefixLengths);
   }
 
   private static long getNativeHandle(final RocksObject object) {
@@ -139,11 +175,18 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   @Override
   public DbContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction);
+    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, createCaches());
     closables.add(zeebeTransaction);
     return new DefaultDbContext(zeebeTransaction);
   }
 
+  private Long2ObjectHashMap<ColumnFamilyCache> createCaches() {
+    // each context iterates over its own map, since the iterators of the map are reused
+    final Long2ObjectHashMap<ColumnFamilyCache> contextCaches = new Long2ObjectHashMap<>();
+    contextCaches.putAll(caches);
+    return contextCaches;
+  }
+
   ////////////////////////////////////////////////////////////////////
   //////////////////////////// GET ///////////////////////////////////
   ////////////////////////////////////////////////////////////////////
@@ -200,6 +243,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   @Override
   public Optional<String> getProperty(
       final ColumnFamilyNames columnFamilyName, final String propertyName) {
+    if (propertyName.startsWith(CUSTOM_PROPERTY_PREFIX)) {
+      return getCacheProperty(columnFamilyName, propertyName);
+    }
 
     final var handle = handelToEnumMap.get(columnFamilyMap.get(columnFamilyName));
 
@@ -212,13 +258,32 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return Optional.ofNullable(propertyValue);
   }
 
+  private Optional<String> getCacheProperty(
+      final ColumnFamilyNames columnFamilyName, final String propertyName) {
+    final var statistics = cacheStatistics.get(columnFamilyName);
+    if (statistics == null) {
+      return Optional.empty();
+    }
+
+    switch (propertyName) {
+      case PROPERTY_CACHE_HITS:
+        return Optional.of(Long.toString(statistics.getHits()));
+      case PROPERTY_CACHE_MISSES:
+        return Optional.of(Long.toString(statistics.getMisses()));
+      case PROPERTY_CACHE_SIZE:
+        return Optional.of(Long.toString(statistics.getSize()));
+      default:
+        return Optional.empty();
+    }
+  }
+
   ////////////////////////////////////////////////////////////////////
   //////////////////////////// ITERATION /////////////////////////////
   ////////////////////////////////////////////////////////////////////
 
   protected boolean exists(
       final long columnFamilyHandle, final DbContext context, final DbKey key) {
-    context.wrapValueView(new byte[0]);
+    context.wrapValueView(null);
     ensureInOpenTransaction(
         context,
         transaction -> {
@@ -281,18 +346,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final long columnFamilyHandle,
       final DbContext context,
       final BiConsumer<DirectBuffer, DirectBuffer> keyValuePairConsumer) {
-    ensureInOpenTransaction(
-        context,
-        transaction -> {
-          try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
-            for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
-              context.wrapKeyView(iterator.key());
-              context.wrapValueView(iterator.value());
-              keyValuePairConsumer.accept(context.getKeyView(), context.getValueView());
-            }
-          }
-        });
+    context.withIteratorEntry(
+        entry ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  try (final RocksIterator iterator =
+                      newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+                    for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+                      entry.readKey(iterator);
+                      entry.readValue(iterator);
+                      keyValuePairConsumer.accept(entry.getKey(), entry.getValue());
+                    }
+                  }
+                }));
   }
 
   public <KeyType extends DbKey, ValueType extends DbValue> void whileTrue(
@@ -301,17 +368,61 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final KeyType keyInstance,
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> visitor) {
-    ensureInOpenTransaction(
-        context,
-        transaction -> {
-          try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
-            boolean shouldVisitNext = true;
-            for (iterator.seekToFirst(); iterator.isValid() && shouldVisitNext; iterator.next()) {
-              shouldVisitNext = visit(context, keyInstance, valueInstance, visitor, iterator);
-            }
-          }
-        });
+    context.withIteratorEntry(
+        entry ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  try (final RocksIterator iterator =
+                      newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+                    boolean shouldVisitNext = true;
+                    for (iterator.seekToFirst();
+                        iterator.isValid() && shouldVisitNext;
+                        iterator.next()) {
+                      entry.readKey(iterator);
+                      shouldVisitNext = visit(entry, keyInstance, valueInstance, visitor, iterator);
+                    }
+                  }
+                }));
+  }
+
+  /**
+   * Seeks to the given key, or the next greater key if it doesn't exist, and visits the subsequent
+   * keys in total order. The start key is written into the prefix key buffer of the context, so it
+   * may be the same instance as the given key instance.
+   */
+  public <KeyType extends DbKey, ValueType extends DbValue> void whileTrue(
+      final long columnFamilyHandle,
+      final DbContext context,
+      final DbKey startAtKey,
+      final KeyType keyInstance,
+      final ValueType valueInstance,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    context.withPrefixKeyBuffer(
+        startKeyBuffer ->
+            context.withIteratorEntry(
+                entry ->
+                    ensureInOpenTransaction(
+                        context,
+                        transaction -> {
+                          try (final RocksIterator iterator =
+                              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+                            startAtKey.write(startKeyBuffer, 0);
+
+                            boolean shouldVisitNext = true;
+                            for (RocksDbInternal.seek(
+                                    iterator,
+                                    getNativeHandle(iterator),
+                                    startKeyBuffer.byteArray(),
+                                    startAtKey.getLength());
+                                iterator.isValid() && shouldVisitNext;
+                                iterator.next()) {
+                              entry.readKey(iterator);
+                              shouldVisitNext =
+                                  visit(entry, keyInstance, valueInstance, visitor, iterator);
+                            }
+                          }
+                        })));
   }
 
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
@@ -335,12 +446,15 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   /**
    * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on iterators
-   * at the moment, so using prefixes seem to be mostly related to skipping files that do not
-   * contain keys with the given prefix (which is useful anyway), but it will still iterate over all
-   * keys contained in those files, so we still need to make sure the key actually matches the
-   * prefix.
+   * at the moment. If the column family has a fixed length prefix extractor, and the given prefix
+   * is at least as long as the extracted prefix, the iteration skips the files and blocks that do
+   * not contain keys with the extracted prefix and stops when it is exceeded. Otherwise it uses a
+   * total order iteration. In both cases the iterator may still visit keys which don't match the
+   * whole given prefix, so we still need to make sure the key actually matches the prefix.
    *
-   * <p>While iterating over subsequent keys we have to validate it.
+   * <p>While iterating over subsequent keys we have to validate it. The key and value of each entry
+   * are read into the shared iterator entry of the context, the value only if the key matches the
+   * prefix.
    */
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
       final long columnFamilyHandle,
@@ -351,53 +465,52 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final KeyValuePairVisitor<KeyType, ValueType> visitor) {
     context.withPrefixKeyBuffer(
         prefixKeyBuffer ->
-            ensureInOpenTransaction(
-                context,
-                transaction -> {
-                  try (final RocksIterator iterator =
-                      newIterator(columnFamilyHandle, context, prefixReadOptions)) {
-                    prefix.write(prefixKeyBuffer, 0);
-                    final int prefixLength = prefix.getLength();
-
-                    boolean shouldVisitNext = true;
-
-                    for (RocksDbInternal.seek(
-                            iterator,
-                            getNativeHandle(iterator),
-                            prefixKeyBuffer.byteArray(),
-                            prefixLength);
-                        iterator.isValid() && shouldVisitNext;
-                        iterator.next()) {
-                      final byte[] keyBytes = iterator.key();
-                      if (!startsWith(
-                          prefixKeyBuffer.byteArray(),
-                          0,
-                          prefix.getLength(),
-                          keyBytes,
-                          0,
-                          keyBytes.length)) {
-                        break;
-                      }
-
-                      shouldVisitNext =
-                          visit(context, keyInstance, valueInstance, visitor, iterator);
-                    }
-                  }
-                }));
+            context.withIteratorEntry(
+                entry ->
+                    ensureInOpenTransaction(
+                        context,
+                        transaction -> {
+                          final int prefixLength = prefix.getLength();
+                          final ReadOptions readOptions =
+                              prefixLength >= prefixLengths.get(columnFamilyHandle)
+                                  ? prefixReadOptions
+                                  : defaultReadOptions;
+                          try (final RocksIterator iterator =
+                              newIterator(columnFamilyHandle, context, readOptions)) {
+                            prefix.write(prefixKeyBuffer, 0);
+
+                            boolean shouldVisitNext = true;
+
+                            for (RocksDbInternal.seek(
+                                    iterator,
+                                    getNativeHandle(iterator),
+                                    prefixKeyBuffer.byteArray(),
+                                    prefixLength);
+                                iterator.isValid() && shouldVisitNext;
+                                iterator.next()) {
+                              entry.readKey(iterator);
+                              if (!entry.keyStartsWith(prefixKeyBuffer.byteArray(), prefixLength)) {
+                                break;
+                              }
+
+                              shouldVisitNext =
+                                  visit(entry, keyInstance, valueInstance, visitor, iterator);
+                            }
+                          }
+                        })));
   }
 
   private <KeyType extends DbKey, ValueType extends DbValue> boolean visit(
-      final DbContext context,
+      final IteratorEntry entry,
       final KeyType keyInstance,
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
       final RocksIterator iterator) {
-    context.wrapKeyView(iterator.key());
-    context.wrapValueView(iterator.value());
+    entry.readValue(iterator);
 
-    final DirectBuffer keyViewBuffer = context.getKeyView();
+    final DirectBuffer keyViewBuffer = entry.getKey();
     keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
-    final DirectBuffer valueViewBuffer = context.getValueView();
+    final DirectBuffer valueViewBuffer = entry.getValue();
     valueInstance.wrap(valueViewBuffer, 0, valueViewBuffer.capacity());
 
     return iteratorConsumer.visit(keyInstance, valueInstance);
@@ -455,6 +455,51 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavePoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+    transaction.setSavePoint();
+    transaction.run(() -> twoColumnFamily.put(twoKey, twoValue));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldRollbackWholeTransactionWithSavePoints() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+    transaction.setSavePoint();
+    transaction.run(() -> twoColumnFamily.put(twoKey, twoValue));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
   private enum ColumnFamilies {
     DEFAULT, // rocksDB needs a default column family
     ONE,
@@ -9,17 +9,26 @@ package io.zeebe.db.impl.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.util.ByteValue;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.LRUCache;
 
 public final class ZeebeRocksDbFactoryTest {
 
@@ -90,4 +99,148 @@ public final class ZeebeRocksDbFactoryTest {
         .extracting(ColumnFamilyOptions::writeBufferSize, ColumnFamilyOptions::compactionPriority)
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize);
   }
+
+  @Test
+  public void shouldSizeBlockCacheForAllColumnFamiliesByDefault() {
+    // given
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class);
+
+    // when
+    final long blockCacheSize = factory.getBlockCacheSize(50);
+
+    // then
+    assertThat(blockCacheSize)
+        .isEqualTo(50 * ZeebeRocksDbFactory.DEFAULT_BLOCK_CACHE_SIZE_PER_COLUMN_FAMILY);
+  }
+
+  @Test
+  public void shouldUseConfiguredBlockCacheSize() {
+    // given
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class, new Properties(), Map.of(), Map.of(), 1024L);
+
+    // when
+    final long blockCacheSize = factory.getBlockCacheSize(50);
+
+    // then
+    assertThat(blockCacheSize).isEqualTo(1024L);
+  }
+
+  @Test
+  public void shouldUsePrefixBloomFilterForPrefixedColumnFamily() {
+    // given
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                new Properties(),
+                Map.of(),
+                Map.of(DefaultColumnFamily.DEFAULT, Long.BYTES));
+
+    // when
+    try (final var blockCache = new LRUCache(1024);
+        final var bloomFilter = new BloomFilter();
+        final var options =
+            factory.createColumnFamilyOptions(
+                DefaultColumnFamily.DEFAULT, blockCache, bloomFilter)) {
+
+      // then
+      assertThat(options.memtablePrefixBloomSizeRatio()).isPositive();
+    }
+  }
+
+  @Test
+  public void shouldIterateByPrefixWithPrefixExtractor() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            DefaultColumnFamily.class,
+            new Properties(),
+            Map.of(),
+            Map.of(DefaultColumnFamily.DEFAULT, Long.BYTES));
+    final File snapshotDir = new File(temporaryFolder.newFolder(), "snapshot");
+
+    try (final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(temporaryFolder.newFolder())) {
+      final var key = new DbCompositeKey<>(new DbLong(), new DbLong());
+      final var columnFamily = createColumnFamily(db, key);
+      for (long prefix = 0; prefix < 3; prefix++) {
+        key.getFirst().wrapLong(prefix);
+        for (long suffix = 0; suffix < 3; suffix++) {
+          key.getSecond().wrapLong(suffix);
+          columnFamily.put(key, DbNil.INSTANCE);
+        }
+      }
+
+      // flushes the memtable, so that the entries are read from the SST files
+      db.createSnapshot(snapshotDir);
+    }
+
+    // when
+    try (final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(snapshotDir)) {
+      final var key = new DbCompositeKey<>(new DbLong(), new DbLong());
+      final var columnFamily = createColumnFamily(db, key);
+
+      final List<Long> suffixes = new ArrayList<>();
+      final var prefix = new DbLong();
+      prefix.wrapLong(1);
+      columnFamily.whileEqualPrefix(
+          prefix,
+          (k, v) -> {
+            suffixes.add(k.getSecond().getValue());
+          });
+
+      final List<Long> prefixes = new ArrayList<>();
+      columnFamily.forEach((k, v) -> prefixes.add(k.getFirst().getValue()));
+
+      // then
+      assertThat(suffixes).containsExactly(0L, 1L, 2L);
+      assertThat(prefixes).containsExactly(0L, 0L, 0L, 1L, 1L, 1L, 2L, 2L, 2L);
+    }
+  }
+
+  @Test
+  public void shouldIterateByShorterPrefixThanExtractedPrefix() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            DefaultColumnFamily.class,
+            new Properties(),
+            Map.of(),
+            Map.of(DefaultColumnFamily.DEFAULT, 2 * Long.BYTES));
+
+    try (final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(temporaryFolder.newFolder())) {
+      final var key = new DbCompositeKey<>(new DbLong(), new DbLong());
+      final var columnFamily = createColumnFamily(db, key);
+      for (long prefix = 0; prefix < 2; prefix++) {
+        key.getFirst().wrapLong(prefix);
+        for (long suffix = 0; suffix < 3; suffix++) {
+          key.getSecond().wrapLong(suffix);
+          columnFamily.put(key, DbNil.INSTANCE);
+        }
+      }
+
+      // when
+      final List<Long> suffixes = new ArrayList<>();
+      final var prefix = new DbLong();
+      prefix.wrapLong(1);
+      columnFamily.whileEqualPrefix(
+          prefix,
+          (k, v) -> {
+            suffixes.add(k.getSecond().getValue());
+          });
+
+      // then
+      assertThat(suffixes).containsExactly(0L, 1L, 2L);
+    }
+  }
+
+  private static ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> createColumnFamily(
+      final ZeebeDb<DefaultColumnFamily> db, final DbCompositeKey<DbLong, DbLong> key) {
+    return db.createColumnFamily(
+        DefaultColumnFamily.DEFAULT, db.createContext(), key, DbNil.INSTANCE);
+  }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ZeebeRocksDbCacheTest {
+
+  private static final int CACHE_SIZE = 2;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private DbContext dbContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @Before
+  public void setup() throws Exception {
+    zeebeDb =
+        ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                new Properties(),
+                Map.of(DefaultColumnFamily.DEFAULT, CACHE_SIZE))
+            .createDb(temporaryFolder.newFolder());
+    dbContext = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, dbContext, key, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldReadWrittenValueFromCache() {
+    // given
+    put(1, 10);
+
+    // when
+    final long readValue = get(1);
+
+    // then
+    assertThat(readValue).isEqualTo(10);
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_HITS)).isEqualTo(1);
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_MISSES)).isZero();
+  }
+
+  @Test
+  public void shouldCacheMissingValue() {
+    // given
+    put(2, 20);
+    key.wrapLong(1);
+    assertThat(columnFamily.exists(key)).isFalse();
+
+    // when
+    final boolean exists = columnFamily.exists(key);
+
+    // then
+    assertThat(exists).isFalse();
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_HITS)).isEqualTo(1);
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_MISSES)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotReadDeletedValueFromCache() {
+    // given
+    put(1, 10);
+
+    // when
+    key.wrapLong(1);
+    columnFamily.delete(key);
+
+    // then
+    assertThat(columnFamily.get(key)).isNull();
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_HITS)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedValue() {
+    // given
+    put(1, 10);
+    put(2, 20);
+    get(1);
+
+    // when
+    put(3, 30);
+
+    // then
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_SIZE)).isEqualTo(CACHE_SIZE);
+
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(3)).isEqualTo(30);
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_MISSES)).isZero();
+
+    assertThat(get(2)).isEqualTo(20);
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_MISSES)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldInvalidateCacheOnRollback() throws Exception {
+    // given
+    put(1, 10);
+
+    // when
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> put(1, 20));
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_MISSES)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldInvalidateCacheOnRollbackToSavePoint() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> put(1, 10));
+    transaction.setSavePoint();
+
+    // when
+    transaction.run(() -> put(1, 20));
+    transaction.rollbackToSavePoint();
+
+    // then
+    transaction.run(() -> assertThat(get(1)).isEqualTo(10));
+    transaction.commit();
+    assertThat(get(1)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldKeepCacheOnCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> put(1, 10));
+    transaction.commit();
+
+    // when
+    dbContext.getCurrentTransaction().rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_MISSES)).isZero();
+  }
+
+  @Test
+  public void shouldNotUseCacheInOtherContext() {
+    // given
+    put(1, 10);
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+    key.wrapLong(1);
+    assertThat(otherColumnFamily.get(key).getValue()).isEqualTo(10);
+
+    // when
+    put(1, 20);
+    key.wrapLong(1);
+    final long otherValue = otherColumnFamily.get(key).getValue();
+
+    // then
+    assertThat(otherValue).isEqualTo(20);
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_HITS)).isZero();
+    assertThat(getCacheProperty(ZeebeTransactionDb.PROPERTY_CACHE_MISSES)).isZero();
+  }
+
+  @Test
+  public void shouldRejectWriteThroughOtherContext() {
+    // given
+    put(1, 10);
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+
+    // when
+    key.wrapLong(2);
+    value.wrapLong(20);
+    final Throwable failure = catchThrowable(() -> otherColumnFamily.put(key, value));
+
+    // then
+    assertThat(failure)
+        .hasRootCauseInstanceOf(IllegalStateException.class)
+        .hasStackTraceContaining("written through one context only");
+    key.wrapLong(2);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  private void put(final long keyValue, final long valueValue) {
+    key.wrapLong(keyValue);
+    value.wrapLong(valueValue);
+    columnFamily.put(key, value);
+  }
+
+  private long get(final long keyValue) {
+    key.wrapLong(keyValue);
+    return columnFamily.get(key).getValue();
+  }
+
+  private long getCacheProperty(final String propertyName) {
+    return zeebeDb
+        .getProperty(DefaultColumnFamily.DEFAULT, propertyName)
+        .map(Long::parseLong)
+        .orElseThrow();
+  }
+}
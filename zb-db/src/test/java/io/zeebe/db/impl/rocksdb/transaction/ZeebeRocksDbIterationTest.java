@@ -7,15 +7,20 @@
  */
 package io.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
+import io.zeebe.db.impl.DbString;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -81,4 +86,68 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldIterateOverValuesLargerThanInitialBuffer() {
+    // given
+    final DbLong key = new DbLong();
+    final DbString value = new DbString();
+    final ColumnFamily<DbLong, DbString> stringColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+
+    final String smallValue = "small";
+    final String largeValue = "x".repeat(64 * 1024);
+    key.wrapLong(1);
+    value.wrapString(smallValue);
+    stringColumnFamily.put(key, value);
+    key.wrapLong(2);
+    value.wrapString(largeValue);
+    stringColumnFamily.put(key, value);
+    key.wrapLong(3);
+    value.wrapString(smallValue);
+    stringColumnFamily.put(key, value);
+
+    // when
+    final List<String> values = new ArrayList<>();
+    stringColumnFamily.forEach((k, v) -> values.add(v.toString()));
+
+    // then
+    assertThat(values).containsExactly(smallValue, largeValue, smallValue);
+  }
+
+  @Test
+  public void shouldNotOverwriteOuterEntryOnNestedIteration() {
+    // given
+    for (long prefix = 0; prefix < 2; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < 3; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.put(compositeKey, DbNil.INSTANCE);
+      }
+    }
+
+    // when
+    final List<String> visitedKeys = new ArrayList<>();
+    final DbLong innerPrefix = new DbLong();
+    firstKey.wrapLong(0);
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (outerKey, outerValue) -> {
+          final long outerPrefix = outerKey.getFirst().getValue();
+          final long outerSuffix = outerKey.getSecond().getValue();
+          innerPrefix.wrapLong(1);
+          columnFamily.whileEqualPrefix(
+              innerPrefix,
+              (innerKey, innerValue) -> {
+                visitedKeys.add(
+                    outerPrefix + "-" + outerSuffix + ":" + innerKey.getSecond().getValue());
+              });
+        });
+
+    // then - the outer iteration continues where it was interrupted by the nested one
+    assertThat(visitedKeys)
+        .containsExactly(
+            "0-0:0", "0-0:1", "0-0:2", "0-1:0", "0-1:1", "0-1:2", "0-2:0", "0-2:1", "0-2:2");
+  }
 }